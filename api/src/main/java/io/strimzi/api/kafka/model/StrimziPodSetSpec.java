@@ -23,12 +23,13 @@ import java.util.Map;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({"selector", "pods"})
+@JsonPropertyOrder({"selector", "podTemplate", "pods"})
 @EqualsAndHashCode
 public class StrimziPodSetSpec extends Spec {
     private static final long serialVersionUID = 1L;
 
     private LabelSelector selector;
+    private Map<String, Object> podTemplate;
     private List<Map<String, Object>> pods;
 
     @Description("Selector is a label query which matches all the pods managed by this `StrimziPodSet`. " +
@@ -44,6 +45,18 @@ public class StrimziPodSetSpec extends Spec {
         this.selector = selector;
     }
 
+    @Description("Pod template shared by all Pods managed by this StrimziPodSet. " +
+            "When set, each item in `pods` contains only the fields in which the Pod differs from this template, " +
+            "and it is applied to the template as a JSON merge patch.")
+    @KubeLink(group = "core", version = "v1", kind = "pods")
+    public Map<String, Object> getPodTemplate() {
+        return podTemplate;
+    }
+
+    public void setPodTemplate(Map<String, Object> podTemplate) {
+        this.podTemplate = podTemplate;
+    }
+
     @Description("The Pods managed by this StrimziPodSet.")
     @KubeLink(group = "core", version = "v1", kind = "pods")
     @JsonProperty(required = true)
@@ -50,10 +50,25 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_DNS_CACHE_TTL = "STRIMZI_DNS_CACHE_TTL";
     public static final String STRIMZI_POD_SET_RECONCILIATION_ONLY = "STRIMZI_POD_SET_RECONCILIATION_ONLY";
     public static final String STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE = "STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE";
+    public static final String STRIMZI_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS = "STRIMZI_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS";
+    public static final String STRIMZI_LIST_PAGE_SIZE = "STRIMZI_LIST_PAGE_SIZE";
+    public static final String STRIMZI_READ_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_READ_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_WAIT_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_WAIT_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_VIRTUAL_THREADS_ENABLED = "STRIMZI_VIRTUAL_THREADS_ENABLED";
+    public static final String STRIMZI_WATCH_EVENTS_QUIET_PERIOD_MS = "STRIMZI_WATCH_EVENTS_QUIET_PERIOD_MS";
+    public static final String STRIMZI_WATCH_EVENTS_MAX_DELAY_MS = "STRIMZI_WATCH_EVENTS_MAX_DELAY_MS";
+    public static final String STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS = "STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS";
+    public static final String STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS = "STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS";
+    public static final String STRIMZI_CONNECT_BUILD_MULTI_STAGE = "STRIMZI_CONNECT_BUILD_MULTI_STAGE";
+    public static final String STRIMZI_CONNECT_BUILD_CACHE_REPOSITORY = "STRIMZI_CONNECT_BUILD_CACHE_REPOSITORY";
+    public static final String STRIMZI_ZOOKEEPER_PARALLEL_ROLLING = "STRIMZI_ZOOKEEPER_PARALLEL_ROLLING";
+    public static final String STRIMZI_PVC_RESIZE_WAIT_TIMEOUT_MS = "STRIMZI_PVC_RESIZE_WAIT_TIMEOUT_MS";
+    public static final String STRIMZI_COMPRESS_REBALANCE_BROKER_LOAD = "STRIMZI_COMPRESS_REBALANCE_BROKER_LOAD";
 
     // Feature Flags
     public static final String STRIMZI_CREATE_CLUSTER_ROLES = "STRIMZI_CREATE_CLUSTER_ROLES";
     public static final String STRIMZI_NETWORK_POLICY_GENERATION = "STRIMZI_NETWORK_POLICY_GENERATION";
+    public static final String STRIMZI_POD_SET_SHARED_POD_TEMPLATE = "STRIMZI_POD_SET_SHARED_POD_TEMPLATE";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -89,6 +104,20 @@ public class ClusterOperatorConfig {
     public static final boolean DEFAULT_NETWORK_POLICY_GENERATION = true;
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
     public static final boolean DEFAULT_POD_SET_RECONCILIATION_ONLY = false;
+    public static final long DEFAULT_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS = 300_000;
+    public static final boolean DEFAULT_POD_SET_SHARED_POD_TEMPLATE = false;
+    public static final int DEFAULT_LIST_PAGE_SIZE = AbstractResourceOperator.DEFAULT_LIST_PAGE_SIZE;
+    public static final int DEFAULT_READ_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_WAIT_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final boolean DEFAULT_VIRTUAL_THREADS_ENABLED = false;
+    public static final long DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS = 0;
+    public static final long DEFAULT_WATCH_EVENTS_MAX_DELAY_MS = 5_000;
+    public static final boolean DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS = false;
+    public static final long DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS = 600_000;
+    public static final boolean DEFAULT_CONNECT_BUILD_MULTI_STAGE = false;
+    public static final boolean DEFAULT_ZOOKEEPER_PARALLEL_ROLLING = false;
+    public static final long DEFAULT_PVC_RESIZE_WAIT_TIMEOUT_MS = 0;
+    public static final boolean DEFAULT_COMPRESS_REBALANCE_BROKER_LOAD = false;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -108,6 +137,21 @@ public class ClusterOperatorConfig {
     private final int dnsCacheTtlSec;
     private final boolean podSetReconciliationOnly;
     private final int podSetControllerWorkQueueSize;
+    private final long connectorConfigVerificationIntervalMs;
+    private final boolean podSetSharedPodTemplate;
+    private final int listPageSize;
+    private final int readOperationsThreadPoolSize;
+    private final int waitOperationsThreadPoolSize;
+    private final boolean virtualThreadsEnabled;
+    private final long watchEventsQuietPeriodMs;
+    private final long watchEventsMaxDelayMs;
+    private final boolean skipUnchangedReconciliations;
+    private final long skipUnchangedReconciliationsMaxIntervalMs;
+    private final boolean connectBuildMultiStage;
+    private final String connectBuildCacheRepository;
+    private final boolean zooKeeperParallelRolling;
+    private final long pvcResizeWaitTimeoutMs;
+    private final boolean compressRebalanceBrokerLoad;
 
     /**
      * Constructor
@@ -130,6 +174,22 @@ public class ClusterOperatorConfig {
      * @param podSetReconciliationOnly Indicates whether this Cluster Operator instance should reconcile only the
      *                                 StrimziPodSet resources or not
      * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param connectorConfigVerificationIntervalMs How often should the connector configuration be verified against the
+     *                                              Kafka Connect REST API even when the desired configuration did not change
+     * @param podSetSharedPodTemplate Indicates whether the StrimziPodSets should use a shared pod template with per-pod differences
+     * @param listPageSize Number of custom resources fetched in a single page when listing all custom resources
+     * @param readOperationsThreadPoolSize Size of the thread pool used for the blocking read operations
+     * @param waitOperationsThreadPoolSize Size of the thread pool used for polling the readiness and other conditions
+     * @param virtualThreadsEnabled Use virtual threads for the blocking operations when supported by the JVM
+     * @param watchEventsQuietPeriodMs Quiet period in milliseconds used to coalesce the watch events for the same resource
+     * @param watchEventsMaxDelayMs Maximal delay in milliseconds of the reconciliation triggered by coalesced watch events
+     * @param skipUnchangedReconciliations Skip the periodic reconciliations of Kafka clusters which did not change since the last successful reconciliation
+     * @param skipUnchangedReconciliationsMaxIntervalMs Maximal interval in milliseconds between two full reconciliations of an unchanged Kafka cluster
+     * @param connectBuildMultiStage Generate the Kafka Connect build Dockerfiles with a separate build stage for each connector plugin
+     * @param connectBuildCacheRepository Container repository used by Kaniko to cache the layers of the Kafka Connect builds (null disables the caching)
+     * @param zooKeeperParallelRolling Roll the ZooKeeper followers in parallel as long as the quorum is preserved
+     * @param pvcResizeWaitTimeoutMs How long to wait in a reconciliation for the resizing PVCs (0 disables the waiting)
+     * @param compressRebalanceBrokerLoad Store the large broker load of the KafkaRebalance optimization proposals GZIP compressed
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -150,7 +210,22 @@ public class ClusterOperatorConfig {
             int zkAdminSessionTimeoutMs,
             int dnsCacheTtlSec,
             boolean podSetReconciliationOnly,
-            int podSetControllerWorkQueueSize) {
+            int podSetControllerWorkQueueSize,
+            long connectorConfigVerificationIntervalMs,
+            boolean podSetSharedPodTemplate,
+            int listPageSize,
+            int readOperationsThreadPoolSize,
+            int waitOperationsThreadPoolSize,
+            boolean virtualThreadsEnabled,
+            long watchEventsQuietPeriodMs,
+            long watchEventsMaxDelayMs,
+            boolean skipUnchangedReconciliations,
+            long skipUnchangedReconciliationsMaxIntervalMs,
+            boolean connectBuildMultiStage,
+            String connectBuildCacheRepository,
+            boolean zooKeeperParallelRolling,
+            long pvcResizeWaitTimeoutMs,
+            boolean compressRebalanceBrokerLoad) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -169,6 +244,21 @@ public class ClusterOperatorConfig {
         this.dnsCacheTtlSec = dnsCacheTtlSec;
         this.podSetReconciliationOnly = podSetReconciliationOnly;
         this.podSetControllerWorkQueueSize = podSetControllerWorkQueueSize;
+        this.connectorConfigVerificationIntervalMs = connectorConfigVerificationIntervalMs;
+        this.podSetSharedPodTemplate = podSetSharedPodTemplate;
+        this.listPageSize = listPageSize;
+        this.readOperationsThreadPoolSize = readOperationsThreadPoolSize;
+        this.waitOperationsThreadPoolSize = waitOperationsThreadPoolSize;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.watchEventsQuietPeriodMs = watchEventsQuietPeriodMs;
+        this.watchEventsMaxDelayMs = watchEventsMaxDelayMs;
+        this.skipUnchangedReconciliations = skipUnchangedReconciliations;
+        this.skipUnchangedReconciliationsMaxIntervalMs = skipUnchangedReconciliationsMaxIntervalMs;
+        this.connectBuildMultiStage = connectBuildMultiStage;
+        this.connectBuildCacheRepository = connectBuildCacheRepository;
+        this.zooKeeperParallelRolling = zooKeeperParallelRolling;
+        this.pvcResizeWaitTimeoutMs = pvcResizeWaitTimeoutMs;
+        this.compressRebalanceBrokerLoad = compressRebalanceBrokerLoad;
     }
 
     /**
@@ -225,6 +315,21 @@ public class ClusterOperatorConfig {
         int dnsCacheTtlSec = parseInt(map.get(STRIMZI_DNS_CACHE_TTL), DEFAULT_DNS_CACHE_TTL);
         boolean podSetReconciliationOnly = parseBoolean(map.get(STRIMZI_POD_SET_RECONCILIATION_ONLY), DEFAULT_POD_SET_RECONCILIATION_ONLY);
         int podSetControllerWorkQueueSize = parseInt(map.get(STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE), DEFAULT_POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
+        long connectorConfigVerificationInterval = parseTimeout(map.get(STRIMZI_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS), DEFAULT_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS);
+        boolean podSetSharedPodTemplate = parseBoolean(map.get(STRIMZI_POD_SET_SHARED_POD_TEMPLATE), DEFAULT_POD_SET_SHARED_POD_TEMPLATE);
+        int listPageSize = parseInt(map.get(STRIMZI_LIST_PAGE_SIZE), DEFAULT_LIST_PAGE_SIZE);
+        int readOperationsThreadPoolSize = parseInt(map.get(STRIMZI_READ_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_READ_OPERATIONS_THREAD_POOL_SIZE);
+        int waitOperationsThreadPoolSize = parseInt(map.get(STRIMZI_WAIT_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_WAIT_OPERATIONS_THREAD_POOL_SIZE);
+        boolean virtualThreadsEnabled = parseBoolean(map.get(STRIMZI_VIRTUAL_THREADS_ENABLED), DEFAULT_VIRTUAL_THREADS_ENABLED);
+        long watchEventsQuietPeriodMs = parseTimeout(map.get(STRIMZI_WATCH_EVENTS_QUIET_PERIOD_MS), DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS);
+        long watchEventsMaxDelayMs = parseTimeout(map.get(STRIMZI_WATCH_EVENTS_MAX_DELAY_MS), DEFAULT_WATCH_EVENTS_MAX_DELAY_MS);
+        boolean skipUnchangedReconciliations = parseBoolean(map.get(STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS), DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS);
+        long skipUnchangedReconciliationsMaxIntervalMs = parseTimeout(map.get(STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS), DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS);
+        boolean connectBuildMultiStage = parseBoolean(map.get(STRIMZI_CONNECT_BUILD_MULTI_STAGE), DEFAULT_CONNECT_BUILD_MULTI_STAGE);
+        String connectBuildCacheRepository = parseConnectBuildCacheRepository(map.get(STRIMZI_CONNECT_BUILD_CACHE_REPOSITORY));
+        boolean zooKeeperParallelRolling = parseBoolean(map.get(STRIMZI_ZOOKEEPER_PARALLEL_ROLLING), DEFAULT_ZOOKEEPER_PARALLEL_ROLLING);
+        long pvcResizeWaitTimeoutMs = parseTimeout(map.get(STRIMZI_PVC_RESIZE_WAIT_TIMEOUT_MS), DEFAULT_PVC_RESIZE_WAIT_TIMEOUT_MS);
+        boolean compressRebalanceBrokerLoad = parseBoolean(map.get(STRIMZI_COMPRESS_REBALANCE_BROKER_LOAD), DEFAULT_COMPRESS_REBALANCE_BROKER_LOAD);
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -244,7 +349,30 @@ public class ClusterOperatorConfig {
                 zkAdminSessionTimeout,
                 dnsCacheTtlSec,
                 podSetReconciliationOnly,
-                podSetControllerWorkQueueSize);
+                podSetControllerWorkQueueSize,
+                connectorConfigVerificationInterval,
+                podSetSharedPodTemplate,
+                listPageSize,
+                readOperationsThreadPoolSize,
+                waitOperationsThreadPoolSize,
+                virtualThreadsEnabled,
+                watchEventsQuietPeriodMs,
+                watchEventsMaxDelayMs,
+                skipUnchangedReconciliations,
+                skipUnchangedReconciliationsMaxIntervalMs,
+                connectBuildMultiStage,
+                connectBuildCacheRepository,
+                zooKeeperParallelRolling,
+                pvcResizeWaitTimeoutMs,
+                compressRebalanceBrokerLoad);
+    }
+
+    private static String parseConnectBuildCacheRepository(String cacheRepository) {
+        if (cacheRepository == null || cacheRepository.trim().isEmpty()) {
+            return null;
+        } else {
+            return cacheRepository.trim();
+        }
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -519,6 +647,112 @@ public class ClusterOperatorConfig {
         return podSetControllerWorkQueueSize;
     }
 
+    /**
+     * @return  How many milliseconds can pass before the configuration of an unchanged connector is verified again
+     *          against the Kafka Connect REST API. Zero disables the caching of connector configurations.
+     */
+    public long getConnectorConfigVerificationIntervalMs() {
+        return connectorConfigVerificationIntervalMs;
+    }
+
+    /**
+     * @return Indicates whether the StrimziPodSets should use a shared pod template with per-pod differences instead of full pod definitions
+     */
+    public boolean isPodSetSharedPodTemplate() {
+        return podSetSharedPodTemplate;
+    }
+
+    /**
+     * @return Number of custom resources fetched in a single page when listing all custom resources during the periodic reconciliation
+     */
+    public int getListPageSize() {
+        return listPageSize;
+    }
+
+    /**
+     * @return Size of the thread pool used for the blocking read operations (get, list)
+     */
+    public int getReadOperationsThreadPoolSize() {
+        return readOperationsThreadPoolSize;
+    }
+
+    /**
+     * @return Size of the thread pool used for polling the readiness and other conditions
+     */
+    public int getWaitOperationsThreadPoolSize() {
+        return waitOperationsThreadPoolSize;
+    }
+
+    /**
+     * @return Indicates whether virtual threads should be used for the blocking operations when supported by the JVM
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * @return Quiet period in milliseconds used to coalesce the watch events for the same resource (0 means no coalescing)
+     */
+    public long getWatchEventsQuietPeriodMs() {
+        return watchEventsQuietPeriodMs;
+    }
+
+    /**
+     * @return Maximal delay in milliseconds of the reconciliation triggered by coalesced watch events
+     */
+    public long getWatchEventsMaxDelayMs() {
+        return watchEventsMaxDelayMs;
+    }
+
+    /**
+     * @return Indicates whether the periodic reconciliations of unchanged Kafka clusters should be skipped
+     */
+    public boolean isSkipUnchangedReconciliations() {
+        return skipUnchangedReconciliations;
+    }
+
+    /**
+     * @return Maximal interval in milliseconds between two full reconciliations of an unchanged Kafka cluster
+     */
+    public long getSkipUnchangedReconciliationsMaxIntervalMs() {
+        return skipUnchangedReconciliationsMaxIntervalMs;
+    }
+
+    /**
+     * @return Indicates whether the Kafka Connect build Dockerfiles should use a separate build stage for each connector plugin
+     */
+    public boolean isConnectBuildMultiStage() {
+        return connectBuildMultiStage;
+    }
+
+    /**
+     * @return Container repository used by Kaniko to cache the layers of the Kafka Connect builds or null if the caching is disabled
+     */
+    public String getConnectBuildCacheRepository() {
+        return connectBuildCacheRepository;
+    }
+
+    /**
+     * @return Indicates whether the ZooKeeper followers should be rolled in parallel as long as the quorum is preserved
+     */
+    public boolean isZooKeeperParallelRolling() {
+        return zooKeeperParallelRolling;
+    }
+
+    /**
+     * @return How long to wait in a reconciliation for the resizing PVCs in milliseconds (0 means no waiting)
+     */
+    public long getPvcResizeWaitTimeoutMs() {
+        return pvcResizeWaitTimeoutMs;
+    }
+
+    /**
+     * @return True if the large broker load of the KafkaRebalance optimization proposals should be stored GZIP compressed
+     */
+    public boolean isCompressRebalanceBrokerLoad() {
+        return compressRebalanceBrokerLoad;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -539,6 +773,21 @@ public class ClusterOperatorConfig {
                 ",dnsCacheTtlSec=" + dnsCacheTtlSec +
                 ",podSetReconciliationOnly=" + podSetReconciliationOnly +
                 ",podSetControllerWorkQueueSize=" + podSetControllerWorkQueueSize +
+                ",connectorConfigVerificationIntervalMs=" + connectorConfigVerificationIntervalMs +
+                ",podSetSharedPodTemplate=" + podSetSharedPodTemplate +
+                ",listPageSize=" + listPageSize +
+                ",readOperationsThreadPoolSize=" + readOperationsThreadPoolSize +
+                ",waitOperationsThreadPoolSize=" + waitOperationsThreadPoolSize +
+                ",virtualThreadsEnabled=" + virtualThreadsEnabled +
+                ",watchEventsQuietPeriodMs=" + watchEventsQuietPeriodMs +
+                ",watchEventsMaxDelayMs=" + watchEventsMaxDelayMs +
+                ",skipUnchangedReconciliations=" + skipUnchangedReconciliations +
+                ",skipUnchangedReconciliationsMaxIntervalMs=" + skipUnchangedReconciliationsMaxIntervalMs +
+                ",connectBuildMultiStage=" + connectBuildMultiStage +
+                ",connectBuildCacheRepository=" + connectBuildCacheRepository +
+                ",zooKeeperParallelRolling=" + zooKeeperParallelRolling +
+                ",pvcResizeWaitTimeoutMs=" + pvcResizeWaitTimeoutMs +
+                ",compressRebalanceBrokerLoad=" + compressRebalanceBrokerLoad +
                 ")";
     }
 }
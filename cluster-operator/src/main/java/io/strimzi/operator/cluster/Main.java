@@ -18,6 +18,8 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -72,6 +74,10 @@ public class Main {
                 .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
 
+        // Configure the executor for the blocking operations before any of the operators uses it
+        BlockingExecutor.configure(vertx, config.getOperationsThreadPoolSize(), config.getReadOperationsThreadPoolSize(),
+                config.getWaitOperationsThreadPoolSize(), config.isVirtualThreadsEnabled(), new MicrometerMetricsProvider());
+
         // Verticle.stop() methods are not executed if you don't call Vertx.close()
         // Vertx registers a shutdown hook for that, but only if you use its Launcher as main class
         Runtime.getRuntime().addShutdownHook(new Thread(new ShutdownHook(vertx)));
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,7 +32,10 @@ public class ShutdownHook implements Runnable {
                 if (!ar.succeeded()) {
                     LOGGER.error("Failure in stopping Vertx", ar.cause());
                 }
-                latch.countDown();
+
+                // The worker pools of the blocking executor are closed only after all verticles are undeployed, so
+                // that the verticles can still use them while stopping
+                BlockingExecutor.close(vertx).onComplete(closed -> latch.countDown());
             });
             try {
                 if (!latch.await(2, TimeUnit.MINUTES)) {
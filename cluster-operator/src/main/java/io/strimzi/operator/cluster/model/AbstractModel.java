@@ -1149,6 +1149,10 @@ public abstract class AbstractModel {
     /**
      * Creates the StrimziPodSet with the Pods which currently correspond to the existing StatefulSet pods.
      *
+     * The affinity, the containers, the image pull secrets and some of the volumes are the same objects in all pods.
+     * They must not be modified while the pods are generated. Each pod is converted into a Map right after it is
+     * generated, so the shared objects are not exposed outside this method.
+     *
      * @param replicas                  Defines how many pods should be generated and stored in this StrimziPodSet
      * @param setAnnotations            Map with annotations which should be set on the StrimziPodSet
      * @param podAnnotationsProvider    Function which provides annotation map for a specific Pod. A function is used
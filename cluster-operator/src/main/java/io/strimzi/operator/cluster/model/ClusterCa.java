@@ -51,12 +51,25 @@ public class ClusterCa extends Ca {
                      int renewalDays,
                      boolean generateCa,
                      CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, clusterName, clusterCaCert, clusterCaKey, validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    public ClusterCa(Reconciliation reconciliation, CertManager certManager,
+                     PasswordGenerator passwordGenerator,
+                     String clusterName,
+                     Secret clusterCaCert,
+                     Secret clusterCaKey,
+                     int validityDays,
+                     int renewalDays,
+                     boolean generateCa,
+                     CertificateExpirationPolicy policy,
+                     CertificateCache certificateCache) {
         super(reconciliation, certManager, passwordGenerator,
                 "cluster-ca",
                 AbstractModel.clusterCaCertSecretName(clusterName),
                 forceRenewal(clusterCaCert, clusterCaKey, "cluster-ca.key"),
                 AbstractModel.clusterCaKeySecretName(clusterName),
-                adapt060ClusterCaSecret(clusterCaKey), validityDays, renewalDays, generateCa, policy);
+                adapt060ClusterCaSecret(clusterCaKey), validityDays, renewalDays, generateCa, policy, certificateCache);
         this.clusterName = clusterName;
     }
 
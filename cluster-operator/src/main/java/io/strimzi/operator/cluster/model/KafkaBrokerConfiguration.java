@@ -0,0 +1,265 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.operator.common.model.OrderedProperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Structured Kafka broker configuration generated by the KafkaBrokerConfigurationBuilder. It keeps the configuration
+ * both as the rendered configuration file (used in the configuration ConfigMaps) and as a map of configuration options
+ * (used to diff the desired configuration with the current broker configuration). Both are created only once, so the
+ * configuration does not need to be parsed again when comparing it with the broker configuration.
+ *
+ * The shared configuration uses placeholders for the values which differ for each broker (the broker ID and the
+ * advertised hostnames and ports). The per-broker configurations are created from the shared configuration by
+ * replacing the placeholders only in the lines which contain them. The rest of the configuration is rendered only
+ * once and shared by all brokers. The placeholders are replaced only in the options generated by the operator, the
+ * configuration provided by the user is kept as it is.
+ */
+public class KafkaBrokerConfiguration {
+    private static final String PLACEHOLDER_PREFIX = "${";
+    private static final String PLACEHOLDER_SUFFIX = "}";
+    private static final String BROKER_ID_VARIABLE = "STRIMZI_BROKER_ID";
+    private static final String BROKER_ID_PLACEHOLDER = PLACEHOLDER_PREFIX + BROKER_ID_VARIABLE + PLACEHOLDER_SUFFIX;
+    private static final String ADVERTISED_ADDRESS_VARIABLE_PREFIX = "STRIMZI_";
+    private static final String ADVERTISED_HOSTNAME_VARIABLE_SUFFIX = "_ADVERTISED_HOSTNAME";
+    private static final String ADVERTISED_PORT_VARIABLE_SUFFIX = "_ADVERTISED_PORT";
+
+    private final String configuration;
+    private final List<String> lines;
+    private final List<Integer> placeholderLines;
+    private final Map<String, String> properties;
+    private final List<String> placeholderKeys;
+
+    /**
+     * Constructs the structured broker configuration from the configuration generated by the builder
+     *
+     * @param configuration                 The broker configuration file
+     * @param userConfigurationRanges       Ranges of characters in the configuration file which contain the user
+     *                                      provided configuration. Each range is an array with the index of the first
+     *                                      character and the index after the last character.
+     */
+    /* test */ KafkaBrokerConfiguration(String configuration, List<int[]> userConfigurationRanges) {
+        this.configuration = configuration;
+        this.lines = new ArrayList<>();
+        this.placeholderLines = new ArrayList<>();
+
+        int lineStart = 0;
+        while (lineStart <= configuration.length()) {
+            int lineEnd = configuration.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = configuration.length();
+            }
+
+            String line = configuration.substring(lineStart, lineEnd);
+            if (line.contains(PLACEHOLDER_PREFIX) && !isInRanges(lineStart, userConfigurationRanges)) {
+                placeholderLines.add(lines.size());
+            }
+
+            lines.add(line);
+            lineStart = lineEnd + 1;
+        }
+
+        this.properties = Collections.unmodifiableMap(new OrderedProperties().addStringPairs(configuration).asMap());
+
+        OrderedProperties userProperties = new OrderedProperties();
+        for (int[] range : userConfigurationRanges) {
+            userProperties.addStringPairs(configuration.substring(range[0], Math.min(range[1], configuration.length())));
+        }
+
+        this.placeholderKeys = placeholderKeys(properties, userProperties.asMap().keySet());
+    }
+
+    /**
+     * Constructs the per-broker configuration with already replaced placeholders
+     *
+     * @param configuration     The broker configuration file
+     * @param lines             Lines of the broker configuration file
+     * @param properties        Map with the configuration options
+     */
+    private KafkaBrokerConfiguration(String configuration, List<String> lines, Map<String, String> properties) {
+        this.configuration = configuration;
+        this.lines = lines;
+        this.placeholderLines = List.of();
+        this.properties = Collections.unmodifiableMap(properties);
+        this.placeholderKeys = List.of();
+    }
+
+    /**
+     * Creates the structured configuration from an existing configuration file. All options in the configuration file
+     * are considered to be generated by the operator.
+     *
+     * @param configuration     The broker configuration file
+     *
+     * @return  Structured broker configuration
+     */
+    public static KafkaBrokerConfiguration parse(String configuration) {
+        return new KafkaBrokerConfiguration(configuration, List.of());
+    }
+
+    /**
+     * Creates the configuration of a single broker from this shared configuration. The broker ID and advertised
+     * address placeholders are replaced in the lines which contain them. All other lines are shared with this
+     * configuration.
+     *
+     * @param brokerId              ID of the broker
+     * @param advertisedHostnames   Map with advertised hostnames of this broker for the different listeners
+     * @param advertisedPorts       Map with advertised ports of this broker for the different listeners
+     *
+     * @return  Configuration of the broker
+     */
+    public KafkaBrokerConfiguration forBroker(int brokerId, Map<String, String> advertisedHostnames, Map<String, String> advertisedPorts) {
+        Function<String, String> resolver = variable -> brokerVariable(variable, brokerId, advertisedHostnames, advertisedPorts);
+
+        List<String> brokerLines = new ArrayList<>(lines);
+        for (int index : placeholderLines) {
+            brokerLines.set(index, replacePlaceholders(lines.get(index), resolver));
+        }
+
+        Map<String, String> brokerProperties = new LinkedHashMap<>(properties);
+        for (String key : placeholderKeys) {
+            brokerProperties.put(key, replacePlaceholders(properties.get(key), resolver));
+        }
+
+        return new KafkaBrokerConfiguration(String.join("\n", brokerLines), brokerLines, brokerProperties);
+    }
+
+    /**
+     * @return  The broker configuration file
+     */
+    public String asString() {
+        return configuration;
+    }
+
+    /**
+     * @return  Unmodifiable map with the configuration options
+     */
+    public Map<String, String> asMap() {
+        return properties;
+    }
+
+    /**
+     * Returns the configuration options with the broker ID placeholder replaced with the actual broker ID in all
+     * options. This corresponds to the configuration used by the broker after the placeholders are replaced in the
+     * container.
+     *
+     * @param brokerId  ID of the broker
+     *
+     * @return  Map with the configuration options of the broker
+     */
+    public Map<String, String> asMapForBroker(int brokerId) {
+        String brokerIdValue = String.valueOf(brokerId);
+        Map<String, String> brokerProperties = null;
+
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            if (entry.getValue() != null && entry.getValue().contains(BROKER_ID_PLACEHOLDER)) {
+                if (brokerProperties == null) {
+                    brokerProperties = new LinkedHashMap<>(properties);
+                }
+
+                brokerProperties.put(entry.getKey(), entry.getValue().replace(BROKER_ID_PLACEHOLDER, brokerIdValue));
+            }
+        }
+
+        return brokerProperties != null ? brokerProperties : properties;
+    }
+
+    @Override
+    public String toString() {
+        return configuration;
+    }
+
+    /**
+     * Resolves the per-broker variables
+     *
+     * @param variable              Name of the variable
+     * @param brokerId              ID of the broker
+     * @param advertisedHostnames   Map with advertised hostnames of this broker for the different listeners
+     * @param advertisedPorts       Map with advertised ports of this broker for the different listeners
+     *
+     * @return  Value of the variable or null if it is not a per-broker variable
+     */
+    private static String brokerVariable(String variable, int brokerId, Map<String, String> advertisedHostnames, Map<String, String> advertisedPorts) {
+        if (BROKER_ID_VARIABLE.equals(variable)) {
+            return String.valueOf(brokerId);
+        } else if (variable.startsWith(ADVERTISED_ADDRESS_VARIABLE_PREFIX) && variable.endsWith(ADVERTISED_HOSTNAME_VARIABLE_SUFFIX)) {
+            String listenerId = variable.substring(ADVERTISED_ADDRESS_VARIABLE_PREFIX.length(), variable.length() - ADVERTISED_HOSTNAME_VARIABLE_SUFFIX.length());
+            return String.valueOf(advertisedHostnames != null ? advertisedHostnames.get(listenerId) : null);
+        } else if (variable.startsWith(ADVERTISED_ADDRESS_VARIABLE_PREFIX) && variable.endsWith(ADVERTISED_PORT_VARIABLE_SUFFIX)) {
+            String listenerId = variable.substring(ADVERTISED_ADDRESS_VARIABLE_PREFIX.length(), variable.length() - ADVERTISED_PORT_VARIABLE_SUFFIX.length());
+            return String.valueOf(advertisedPorts != null ? advertisedPorts.get(listenerId) : null);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the placeholders in a single pass. The values inserted in place of the placeholders are not searched
+     * for other placeholders again.
+     *
+     * @param value     Value with placeholders
+     * @param resolver  Function resolving the variables. Returns null for variables which should be kept.
+     *
+     * @return  Value with replaced placeholders
+     */
+    /* test */ static String replacePlaceholders(String value, Function<String, String> resolver) {
+        StringBuilder sb = new StringBuilder(value.length());
+        int position = 0;
+
+        while (position < value.length()) {
+            int start = value.indexOf(PLACEHOLDER_PREFIX, position);
+            int end = start >= 0 ? value.indexOf(PLACEHOLDER_SUFFIX, start + PLACEHOLDER_PREFIX.length()) : -1;
+
+            if (start < 0 || end < 0) {
+                break;
+            }
+
+            String replacement = resolver.apply(value.substring(start + PLACEHOLDER_PREFIX.length(), end));
+
+            sb.append(value, position, start);
+            if (replacement != null) {
+                sb.append(replacement);
+            } else {
+                sb.append(value, start, end + PLACEHOLDER_SUFFIX.length());
+            }
+
+            position = end + PLACEHOLDER_SUFFIX.length();
+        }
+
+        sb.append(value, Math.min(position, value.length()), value.length());
+
+        return sb.toString();
+    }
+
+    private static List<String> placeholderKeys(Map<String, String> properties, Set<String> userKeys) {
+        List<String> keys = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            if (!userKeys.contains(entry.getKey()) && entry.getValue() != null && entry.getValue().contains(PLACEHOLDER_PREFIX)) {
+                keys.add(entry.getKey());
+            }
+        }
+
+        return keys;
+    }
+
+    private static boolean isInRanges(int position, List<int[]> ranges) {
+        for (int[] range : ranges) {
+            if (position >= range[0] && position < range[1]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -40,7 +40,8 @@ import java.util.stream.Collectors;
  * This class is used to generate the broker configuration template. The template is later passed using a config map to
  * the broker pods. The scripts in the container images will fill in the variables in the template and use the
  * configuration file. This class is using the builder pattern to make it easy to test the different parts etc. To
- * generate the configuration file, it is using the PrintWriter.
+ * generate the configuration file, it is using the PrintWriter. The generated configuration can be returned either as
+ * a String or as a structured KafkaBrokerConfiguration which can be shared by multiple brokers.
  */
 public class KafkaBrokerConfigurationBuilder {
     // Names of environment variables placeholders replaced only in the running container
@@ -68,6 +69,7 @@ public class KafkaBrokerConfigurationBuilder {
     private final StringWriter stringWriter = new StringWriter();
     private final PrintWriter writer = new PrintWriter(stringWriter);
     private final Reconciliation reconciliation;
+    private final List<int[]> userConfigurationRanges = new ArrayList<>(1);
 
     private String brokerId = PLACEHOLDER_BROKER_ID;
 
@@ -652,7 +654,9 @@ public class KafkaBrokerConfigurationBuilder {
     public KafkaBrokerConfigurationBuilder withUserConfiguration(AbstractConfiguration userConfig)  {
         if (userConfig != null && !userConfig.getConfiguration().isEmpty()) {
             printSectionHeader("User provided configuration");
+            int start = stringWriter.getBuffer().length();
             writer.println(userConfig.getConfiguration());
+            userConfigurationRanges.add(new int[] {start, stringWriter.getBuffer().length()});
             writer.println();
         }
 
@@ -712,4 +716,14 @@ public class KafkaBrokerConfigurationBuilder {
     public String build()  {
         return stringWriter.toString();
     }
+
+    /**
+     * Generates the structured broker configuration. The configuration file is trimmed in the same way as when it is
+     * stored in the ConfigMap.
+     *
+     * @return  Structured Kafka broker configuration
+     */
+    public KafkaBrokerConfiguration buildConfiguration()  {
+        return new KafkaBrokerConfiguration(build().trim(), userConfigurationRanges);
+    }
 }
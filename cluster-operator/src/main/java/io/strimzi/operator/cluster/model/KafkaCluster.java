@@ -90,7 +90,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -115,6 +117,8 @@ public class KafkaCluster extends AbstractModel {
     protected static final String REPLICATION_PORT_NAME = "tcp-replication";
     public static final int CONTROLPLANE_PORT = 9090;
     protected static final String CONTROLPLANE_PORT_NAME = "tcp-ctrlplane"; // port name is up to 15 characters
+    // Port of the HTTP server of the Kafka Agent which reports the broker state to the Cluster Operator
+    public static final int KAFKA_AGENT_PORT = 8080;
 
     // Ingress and Route listeners advertise port 443 regardless what port is used in Kafka, so we store them here
     public static final int ROUTE_PORT = 443;
@@ -189,6 +193,11 @@ public class KafkaCluster extends AbstractModel {
     private boolean isJmxEnabled;
     private boolean isJmxAuthenticated;
 
+    // Memoized broker configurations. The model is created for each reconciliation, so the configurations are reused
+    // only within a single reconciliation where they are otherwise generated several times for each broker.
+    private final Map<Boolean, KafkaBrokerConfiguration> sharedBrokerConfigurations = new ConcurrentHashMap<>(2);
+    private final Map<Integer, MemoizedBrokerConfiguration> perBrokerConfigurations = new ConcurrentHashMap<>();
+
     // Templates
     protected Map<String, String> templateExternalBootstrapServiceLabels;
     protected Map<String, String> templateExternalBootstrapServiceAnnotations;
@@ -1224,11 +1233,16 @@ public class KafkaCluster extends AbstractModel {
                                         ImagePullPolicy imagePullPolicy,
                                         List<LocalObjectReference> imagePullSecrets,
                                         Function<Integer, Map<String, String>> podAnnotationsProvider) {
+        // The volumes which do not depend on the pod are generated only once and shared by all pods. They are not
+        // modified anywhere and the pods are converted into Maps right after they are generated (see createPodSet).
+        List<Volume> certificateVolumes = getCertificateVolumes(isOpenShift);
+        List<Volume> listenerVolumes = getListenerVolumes(isOpenShift);
+
         return createPodSet(
                 replicas,
                 prepareControllerAnnotations(),
                 podAnnotationsProvider,
-                podName -> getPodSetVolumes(podName, isOpenShift),
+                podName -> getPodSetVolumes(podName, certificateVolumes, listenerVolumes),
                 getMergedAffinity(),
                 getInitContainers(imagePullPolicy),
                 getContainers(imagePullPolicy),
@@ -1321,7 +1335,48 @@ public class KafkaCluster extends AbstractModel {
      * @return                          List of non-data volumes used by the ZooKeeper pods
      */
     private List<Volume> getNonDataVolumes(boolean isOpenShift, boolean perBrokerConfiguration, String podName) {
-        List<Volume> volumeList = new ArrayList<>();
+        return getNonDataVolumes(getCertificateVolumes(isOpenShift), getListenerVolumes(isOpenShift), perBrokerConfiguration, podName);
+    }
+
+    /**
+     * Generates list of non-data volumes used by Kafka Pods from the volumes which are the same for all pods and the
+     * configuration ConfigMap volume which might differ for each pod. This allows to generate the volumes which are
+     * the same for all pods only once when generating many pods.
+     *
+     * @param certificateVolumes        Volumes with the temporary directory and the certificates
+     * @param listenerVolumes           Volumes used by the listeners and authorization
+     * @param perBrokerConfiguration    Indicates whether the shared configuration ConfigMap or the per-broker ConfigMap
+     *                                  should be mounted.
+     * @param podName                   The name of the Pod for which are these volumes generated
+     *
+     * @return                          List of non-data volumes used by the Kafka pods
+     */
+    private List<Volume> getNonDataVolumes(List<Volume> certificateVolumes, List<Volume> listenerVolumes, boolean perBrokerConfiguration, String podName) {
+        List<Volume> volumeList = new ArrayList<>(certificateVolumes.size() + listenerVolumes.size() + 1);
+
+        volumeList.addAll(certificateVolumes);
+
+        if (perBrokerConfiguration) {
+            volumeList.add(VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, podName));
+        } else {
+            volumeList.add(VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, ancillaryConfigMapName));
+        }
+
+        volumeList.addAll(listenerVolumes);
+
+        return volumeList;
+    }
+
+    /**
+     * Generates the volumes with the init and temporary directories and with the certificates. These volumes are the
+     * same for all pods.
+     *
+     * @param isOpenShift   Indicates whether we are on OpenShift or not
+     *
+     * @return              List of volumes
+     */
+    private List<Volume> getCertificateVolumes(boolean isOpenShift) {
+        List<Volume> volumeList = new ArrayList<>(5);
 
         if (rack != null || isExposedWithNodePort()) {
             volumeList.add(VolumeUtils.createEmptyDirVolume(INIT_VOLUME_NAME, "1Mi", "Memory"));
@@ -1332,11 +1387,19 @@ public class KafkaCluster extends AbstractModel {
         volumeList.add(VolumeUtils.createSecretVolume(BROKER_CERTS_VOLUME, KafkaResources.kafkaSecretName(cluster), isOpenShift));
         volumeList.add(VolumeUtils.createSecretVolume(CLIENT_CA_CERTS_VOLUME, KafkaResources.clientsCaCertificateSecretName(cluster), isOpenShift));
 
-        if (perBrokerConfiguration) {
-            volumeList.add(VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, podName));
-        } else {
-            volumeList.add(VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, ancillaryConfigMapName));
-        }
+        return volumeList;
+    }
+
+    /**
+     * Generates the volumes used by the listeners (custom certificates, OAuth and custom authentication) and by the
+     * authorization. These volumes are the same for all pods.
+     *
+     * @param isOpenShift   Indicates whether we are on OpenShift or not
+     *
+     * @return              List of volumes
+     */
+    private List<Volume> getListenerVolumes(boolean isOpenShift) {
+        List<Volume> volumeList = new ArrayList<>();
 
         volumeList.add(VolumeUtils.createEmptyDirVolume("ready-files", "1Ki", "Memory"));
 
@@ -1400,16 +1463,18 @@ public class KafkaCluster extends AbstractModel {
      * Generates a list of volumes used by PodSets. For StrimziPodSet, it needs to include also all persistent claim
      * volumes which StatefulSet would generate on its own.
      *
-     * @param podName       Name of the pod used to name the volumes
-     * @param isOpenShift   Flag whether we are on OpenShift or not
+     * @param podName               Name of the pod used to name the volumes
+     * @param certificateVolumes    Volumes with the temporary directory and the certificates which are the same for
+     *                              all pods
+     * @param listenerVolumes       Volumes used by the listeners and authorization which are the same for all pods
      *
-     * @return              List of volumes to be included in the StrimziPodSet pod
+     * @return                      List of volumes to be included in the StrimziPodSet pod
      */
-    private List<Volume> getPodSetVolumes(String podName, boolean isOpenShift) {
+    private List<Volume> getPodSetVolumes(String podName, List<Volume> certificateVolumes, List<Volume> listenerVolumes) {
         List<Volume> volumeList = new ArrayList<>();
 
         volumeList.addAll(VolumeUtils.createPodSetVolumes(podName, storage, false));
-        volumeList.addAll(getNonDataVolumes(isOpenShift, true, podName));
+        volumeList.addAll(getNonDataVolumes(certificateVolumes, listenerVolumes, true, podName));
 
         return volumeList;
     }
@@ -1681,8 +1746,8 @@ public class KafkaCluster extends AbstractModel {
                 .build();
 
         // List of network policy rules for all ports
-        // Default size is number of listeners configured by the user + 4 (Control Plane listener, replication listener, metrics and JMX)
-        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 4);
+        // Default size is number of listeners configured by the user + 5 (Control Plane listener, replication listener, Kafka Agent, metrics and JMX)
+        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 5);
 
         // Control Plane rule covers the control plane listener.
         // Control plane listener is used by Kafka for internal coordination only
@@ -1708,6 +1773,18 @@ public class KafkaCluster extends AbstractModel {
         replicationRule.setFrom(List.of(clusterOperatorPeer, kafkaClusterPeer, entityOperatorPeer, kafkaExporterPeer, cruiseControlPeer));
         rules.add(replicationRule);
 
+        // Kafka Agent rule covers the HTTP server of the Kafka Agent.
+        // It is used only by the Cluster Operator to get the broker state during rolling updates
+        NetworkPolicyIngressRule kafkaAgentRule = new NetworkPolicyIngressRuleBuilder()
+                .addNewPort()
+                    .withNewPort(KAFKA_AGENT_PORT)
+                    .withProtocol("TCP")
+                .endPort()
+                .build();
+
+        kafkaAgentRule.setFrom(List.of(clusterOperatorPeer));
+        rules.add(kafkaAgentRule);
+
         // User-configured listeners are by default open for all.
         // But users can pass peers in the Kafka CR
         for (GenericKafkaListener listener : listeners) {
@@ -1899,6 +1976,23 @@ public class KafkaCluster extends AbstractModel {
      * @return                      The Kafka broker configuration as a String
      */
     public String generateSharedBrokerConfiguration(boolean controlPlaneListener)   {
+        return sharedBrokerConfiguration(controlPlaneListener).asString();
+    }
+
+    /**
+     * Generates the structured shared Kafka broker configuration. It is generated only once and used both for the
+     * shared configuration ConfigMap and as the base for the per-broker configurations.
+     *
+     * @param controlPlaneListener  Indicates whether the Control Plane Listener feature gate is enabled or not and
+     *                              whether a separate control plan and replication listeners should be used.
+     *
+     * @return                      The structured Kafka broker configuration
+     */
+    public KafkaBrokerConfiguration sharedBrokerConfiguration(boolean controlPlaneListener)   {
+        return sharedBrokerConfigurations.computeIfAbsent(controlPlaneListener, this::buildSharedBrokerConfiguration);
+    }
+
+    private KafkaBrokerConfiguration buildSharedBrokerConfiguration(boolean controlPlaneListener)   {
         return new KafkaBrokerConfigurationBuilder(reconciliation)
                 .withBrokerId()
                 .withRackId(rack)
@@ -1908,7 +2002,7 @@ public class KafkaCluster extends AbstractModel {
                 .withAuthorization(cluster, authorization)
                 .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
                 .withUserConfiguration(configuration)
-                .build().trim();
+                .buildConfiguration();
     }
 
     /**
@@ -1987,22 +2081,35 @@ public class KafkaCluster extends AbstractModel {
      * @return                      The Kafka broker configuration as a String
      */
     public String generatePerBrokerBrokerConfiguration(int brokerId, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts, boolean controlPlaneListener)   {
-        return new KafkaBrokerConfigurationBuilder(reconciliation)
-                .withBrokerId(String.valueOf(brokerId))
-                .withRackId(rack)
-                .withZookeeper(cluster)
-                .withLogDirs(VolumeUtils.createVolumeMounts(storage, mountPath, false))
-                .withListeners(cluster,
-                        namespace,
-                        listeners,
-                        () -> getPodName(brokerId),
-                        listenerId -> advertisedHostnames.get(brokerId).get(listenerId),
-                        listenerId -> advertisedPorts.get(brokerId).get(listenerId),
-                        controlPlaneListener)
-                .withAuthorization(cluster, authorization)
-                .withCruiseControl(cluster, cruiseControlSpec, ccNumPartitions, ccReplicationFactor, ccMinInSyncReplicas)
-                .withUserConfiguration(configuration)
-                .build().trim();
+        return perBrokerBrokerConfiguration(brokerId, advertisedHostnames, advertisedPorts, controlPlaneListener).asString();
+    }
+
+    /**
+     * Generates the structured individual Kafka broker configuration. The configuration is created from the shared
+     * configuration by filling in the values specific for given broker. So the common part of the configuration is
+     * generated only once for all brokers.
+     *
+     * @param brokerId              ID of the broker for which is this configuration generated
+     * @param advertisedHostnames   Map with advertised hostnames for different listeners
+     * @param advertisedPorts       Map with advertised ports for different listeners
+     * @param controlPlaneListener  Indicates whether the Control Plane Listener feature gate is enabled or not and
+     *                              whether a separate control plan and replication listeners should be used.
+     *
+     * @return                      The structured Kafka broker configuration
+     */
+    public KafkaBrokerConfiguration perBrokerBrokerConfiguration(int brokerId, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts, boolean controlPlaneListener)   {
+        Map<String, String> brokerHostnames = advertisedHostnames.get(brokerId);
+        Map<String, String> brokerPorts = advertisedPorts.get(brokerId);
+        MemoizedBrokerConfiguration memoized = perBrokerConfigurations.get(brokerId);
+
+        if (memoized != null && memoized.matches(brokerHostnames, brokerPorts, controlPlaneListener)) {
+            return memoized.configuration;
+        }
+
+        KafkaBrokerConfiguration configuration = sharedBrokerConfiguration(controlPlaneListener).forBroker(brokerId, brokerHostnames, brokerPorts);
+        perBrokerConfigurations.put(brokerId, new MemoizedBrokerConfiguration(brokerHostnames, brokerPorts, controlPlaneListener, configuration));
+
+        return configuration;
     }
 
     /**
@@ -2056,6 +2163,7 @@ public class KafkaCluster extends AbstractModel {
 
     public void setLogMessageFormatVersion(String logMessageFormatVersion) {
         configuration.setConfigOption(KafkaConfiguration.LOG_MESSAGE_FORMAT_VERSION, logMessageFormatVersion);
+        clearBrokerConfigurations();
     }
 
     public String getInterBrokerProtocolVersion() {
@@ -2064,5 +2172,38 @@ public class KafkaCluster extends AbstractModel {
 
     public void setInterBrokerProtocolVersion(String interBrokerProtocolVersion) {
         configuration.setConfigOption(KafkaConfiguration.INTERBROKER_PROTOCOL_VERSION, interBrokerProtocolVersion);
+        clearBrokerConfigurations();
+    }
+
+    /**
+     * Clears the memoized broker configurations. This has to be called whenever the model changes in a way which
+     * affects the broker configuration.
+     */
+    private void clearBrokerConfigurations() {
+        sharedBrokerConfigurations.clear();
+        perBrokerConfigurations.clear();
+    }
+
+    /**
+     * Memoized per-broker configuration together with the advertised addresses it was generated for
+     */
+    private static class MemoizedBrokerConfiguration {
+        private final Map<String, String> advertisedHostnames;
+        private final Map<String, String> advertisedPorts;
+        private final boolean controlPlaneListener;
+        private final KafkaBrokerConfiguration configuration;
+
+        MemoizedBrokerConfiguration(Map<String, String> advertisedHostnames, Map<String, String> advertisedPorts, boolean controlPlaneListener, KafkaBrokerConfiguration configuration) {
+            this.advertisedHostnames = advertisedHostnames != null ? new HashMap<>(advertisedHostnames) : null;
+            this.advertisedPorts = advertisedPorts != null ? new HashMap<>(advertisedPorts) : null;
+            this.controlPlaneListener = controlPlaneListener;
+            this.configuration = configuration;
+        }
+
+        boolean matches(Map<String, String> advertisedHostnames, Map<String, String> advertisedPorts, boolean controlPlaneListener) {
+            return this.controlPlaneListener == controlPlaneListener
+                    && Objects.equals(this.advertisedHostnames, advertisedHostnames)
+                    && Objects.equals(this.advertisedPorts, advertisedPorts);
+        }
     }
 }
@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -38,6 +39,10 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    // Config models and read-only options cached by the Kafka version
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+    private static final Map<String, Set<String>> READ_ONLY_OPTIONS = new ConcurrentHashMap<>();
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -105,12 +110,30 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config model is read from the classpath only
+     * once for each version and cached.
      * @param kafkaVersion The broker version.
-     * @return The config model for that broker version.
+     * @return The unmodifiable config model for that broker version.
      */
-    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> Collections.unmodifiableMap(loadConfigModel(kafkaVersion)));
+    }
+
+    /**
+     * Gets the names of the read-only options from the config model for the given version of the Kafka broker. The
+     * names are collected only once for each version and cached.
+     * @param kafkaVersion The broker version.
+     * @return The unmodifiable set of read-only options for that broker version.
+     */
+    public static Set<String> readOnlyConfigModelOptions(KafkaVersion kafkaVersion) {
+        return READ_ONLY_OPTIONS.computeIfAbsent(kafkaVersion.version(), version -> Collections.unmodifiableSet(readConfigModel(kafkaVersion).entrySet().stream()
+                .filter(config -> Scope.READ_ONLY.equals(config.getValue().getScope()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet())));
+    }
+
+    @SuppressFBWarnings({"RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE"})
+    private static Map<String, ConfigModel> loadConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
@@ -237,7 +237,18 @@ public class KafkaConnectBuild extends AbstractModel {
      * @return  Instance of the KafkaConnectDockerfile class with the prepared Dockerfile
      */
     public KafkaConnectDockerfile generateDockerfile()  {
-        return new KafkaConnectDockerfile(baseImage, build);
+        return generateDockerfile(false);
+    }
+
+    /**
+     * Generates the Dockerfile based on the Kafka Connect build configuration.
+     *
+     * @param multiStage    Flag indicating whether each connector plugin should be prepared in its own build stage
+     *
+     * @return  Instance of the KafkaConnectDockerfile class with the prepared Dockerfile
+     */
+    public KafkaConnectDockerfile generateDockerfile(boolean multiStage)  {
+        return new KafkaConnectDockerfile(baseImage, build, multiStage);
     }
 
     /**
@@ -251,12 +262,27 @@ public class KafkaConnectBuild extends AbstractModel {
      * @return  Pod which will build the new container image
      */
     public Pod generateBuilderPod(boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, String newBuildRevision) {
+        return generateBuilderPod(isOpenShift, imagePullPolicy, imagePullSecrets, newBuildRevision, null);
+    }
+
+    /**
+     * Generates builder Pod for building a new KafkaConnect container image with additional connector plugins
+     *
+     * @param isOpenShift       Flag defining whether we are running on OpenShift
+     * @param imagePullPolicy   Image pull policy
+     * @param imagePullSecrets  Image pull secrets
+     * @param newBuildRevision  Revision of the build which will be build used for annotation
+     * @param cacheRepository   Container repository used by Kaniko to cache the layers or null if caching is disabled
+     *
+     * @return  Pod which will build the new container image
+     */
+    public Pod generateBuilderPod(boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, String newBuildRevision, String cacheRepository) {
         return createPod(
                 KafkaConnectResources.buildPodName(cluster),
                 Collections.singletonMap(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, newBuildRevision),
                 getVolumes(isOpenShift),
                 null,
-                getContainers(imagePullPolicy),
+                getContainers(imagePullPolicy, cacheRepository),
                 imagePullSecrets,
                 isOpenShift
         );
@@ -334,13 +360,31 @@ public class KafkaConnectBuild extends AbstractModel {
      */
     @Override
     protected List<Container> getContainers(ImagePullPolicy imagePullPolicy) {
+        return getContainers(imagePullPolicy, null);
+    }
+
+    /**
+     * Generates the builder container with the Kaniko executor
+     *
+     * @param imagePullPolicy   Image pull policy
+     * @param cacheRepository   Container repository used by Kaniko to cache the layers or null if caching is disabled
+     *
+     * @return  Builder container definition which will be used in the Pod
+     */
+    private List<Container> getContainers(ImagePullPolicy imagePullPolicy, String cacheRepository) {
         List<Container> containers = new ArrayList<>(1);
 
-        List<String> args = additionalKanikoOptions != null ? new ArrayList<>(4 + additionalKanikoOptions.size()) : new ArrayList<>(4);
+        List<String> args = additionalKanikoOptions != null ? new ArrayList<>(6 + additionalKanikoOptions.size()) : new ArrayList<>(6);
         args.add("--dockerfile=/dockerfile/Dockerfile");
         args.add("--image-name-with-digest-file=/dev/termination-log");
         args.add("--destination=" + build.getOutput().getImage());
 
+        if (cacheRepository != null) {
+            // The layers of the individual build stages are pushed to the cache repository and reused by the next builds
+            args.add("--cache=true");
+            args.add("--cache-repo=" + cacheRepository);
+        }
+
         if (additionalKanikoOptions != null) {
             args.addAll(additionalKanikoOptions);
         }
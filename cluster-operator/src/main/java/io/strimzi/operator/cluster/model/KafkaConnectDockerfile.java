@@ -34,6 +34,7 @@ public class KafkaConnectDockerfile {
     private static final String BASE_PLUGIN_PATH = "/opt/kafka/plugins/";
     private static final String ROOT_USER = "root:root";
     private static final String NON_PRIVILEGED_USER = "1001";
+    private static final String DEFAULT_MAVEN_STAGE = "downloadArtifacts";
 
     private static final String ENV_VAR_HTTP_PROXY = "HTTP_PROXY";
     private static final String ENV_VAR_HTTPS_PROXY = "HTTPS_PROXY";
@@ -120,16 +121,36 @@ public class KafkaConnectDockerfile {
      * @param connectBuild  The Build definition from the API
      */
     public KafkaConnectDockerfile(String fromImage, Build connectBuild) {
+        this(fromImage, connectBuild, false);
+    }
+
+    /**
+     * Broker configuration template constructor
+     *
+     * @param fromImage     Image which should be used as a base image in the FROM statement
+     * @param connectBuild  The Build definition from the API
+     * @param multiStage    Flag indicating whether each connector plugin should be prepared in its own build stage
+     */
+    public KafkaConnectDockerfile(String fromImage, Build connectBuild, boolean multiStage) {
         this.mavenBuilder = System.getenv().getOrDefault(ClusterOperatorConfig.STRIMZI_DEFAULT_MAVEN_BUILDER, DEFAULT_MAVEN_IMAGE);
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
 
         printHeader(writer); // Print initial comment
-        connectorPluginsPreStage(writer, connectBuild.getPlugins());
-        from(writer, fromImage); // Create FROM statement
-        user(writer, ROOT_USER); // Switch to root user to be able to add plugins
-        proxy(writer); // Configures proxy environment variables
-        connectorPlugins(writer, connectBuild.getPlugins());
+
+        if (multiStage) {
+            connectorPluginStages(writer, fromImage, connectBuild.getPlugins());
+            from(writer, fromImage); // Create FROM statement of the final stage
+            user(writer, ROOT_USER); // Switch to root user to be able to add plugins
+            copyConnectorPlugins(writer, connectBuild.getPlugins());
+        } else {
+            connectorPluginsPreStage(writer, connectBuild.getPlugins());
+            from(writer, fromImage); // Create FROM statement
+            user(writer, ROOT_USER); // Switch to root user to be able to add plugins
+            proxy(writer); // Configures proxy environment variables
+            connectorPlugins(writer, connectBuild.getPlugins());
+        }
+
         user(writer, NON_PRIVILEGED_USER); // Switch back to the regular unprivileged user
 
         dockerfile = stringWriter.toString();
@@ -144,30 +165,120 @@ public class KafkaConnectDockerfile {
      */
     private void connectorPluginsPreStage(PrintWriter writer, List<Plugin> plugins) {
         Map<String, List<MavenArtifact>> artifactMap = plugins.stream().collect(Collectors.toMap(plugin -> plugin.getName(),
-            plugin -> plugin.getArtifacts().stream().filter(artifact -> artifact instanceof MavenArtifact).map(artifact -> (MavenArtifact) artifact).collect(Collectors.toList())));
+            plugin -> mavenArtifacts(plugin)));
         artifactMap.entrySet().removeIf(plugin -> plugin.getValue().isEmpty());
 
         if (artifactMap.size() > 0) {
-            writer.println("FROM " + mavenBuilder + " AS downloadArtifacts");
-            artifactMap.entrySet().forEach(plugin -> {
-                plugin.getValue().forEach(mvn -> {
-                    String repo = mvn.getRepository() == null ? MavenArtifact.DEFAULT_REPOSITORY : maybeAppendSlash(mvn.getRepository());
-                    String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
-                    String artifactDir = plugin.getKey() + "/" + artifactHash;
-
-                    Cmd cmd = run("curl", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
-                            .andRun("mvn", "dependency:copy-dependencies",
-                                    "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-f", "/tmp/" + artifactDir + "/pom.xml")
-                            .andRun("curl", "-L", "--create-dirs", "--output",
-                                    "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
-                                    assembleResourceUrl(repo, mvn, "jar"));
-                    writer.append("RUN ").println(cmd);
-                    writer.println();
-                });
-            });
+            writer.println("FROM " + mavenBuilder + " AS " + DEFAULT_MAVEN_STAGE);
+            artifactMap.entrySet().forEach(plugin -> plugin.getValue().forEach(mvn -> downloadMavenArtifact(writer, plugin.getKey(), mvn)));
+        }
+    }
+
+    /**
+     * Generates separate build stages for every connector plugin. Each plugin is downloaded in its own stage based on
+     * the Kafka Connect image (and - when it uses Maven artifacts - in its own Maven builder stage). The stages do not
+     * depend on each other, so builders which support it can run them in parallel. And because the cached layers of
+     * each stage depend only on the artifacts of given plugin, changing one plugin does not invalidate the cached
+     * layers of the other plugins.
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param fromImage     Base image which should be used
+     * @param plugins       List of plugins which should be added to the container image
+     */
+    private void connectorPluginStages(PrintWriter writer, String fromImage, List<Plugin> plugins) {
+        for (Plugin plugin : plugins)   {
+            if (plugin.getArtifacts().isEmpty())    {
+                continue;
+            }
+
+            printSectionHeader(writer, "Connector plugin " + plugin.getName());
+
+            List<MavenArtifact> mavenArtifacts = mavenArtifacts(plugin);
+            if (!mavenArtifacts.isEmpty()) {
+                from(writer, mavenBuilder, mavenStageName(plugin));
+                proxy(writer);
+                mavenArtifacts.forEach(mvn -> downloadMavenArtifact(writer, plugin.getName(), mvn));
+            }
+
+            from(writer, fromImage, pluginStageName(plugin));
+            user(writer, ROOT_USER);
+            proxy(writer);
+            addPluginArtifacts(writer, plugin, mavenStageName(plugin));
+        }
+    }
+
+    /**
+     * Copies the connector plugins prepared in the separate build stages into the final image
+     *
+     * @param writer    Writer for printing the Docker commands
+     * @param plugins   List of plugins which should be added to the container image
+     */
+    private void copyConnectorPlugins(PrintWriter writer, List<Plugin> plugins) {
+        for (Plugin plugin : plugins)   {
+            if (!plugin.getArtifacts().isEmpty())    {
+                String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+
+                writer.append("COPY --from=" + pluginStageName(plugin) + " ").println(run(connectorPath, connectorPath));
+                writer.println();
+            }
         }
     }
 
+    /**
+     * @param plugin    Connector plugin
+     *
+     * @return  Name of the build stage with the Maven artifacts of the plugin
+     */
+    private static String mavenStageName(Plugin plugin) {
+        return "maven-" + plugin.getName();
+    }
+
+    /**
+     * @param plugin    Connector plugin
+     *
+     * @return  Name of the build stage with the connector plugin
+     */
+    private static String pluginStageName(Plugin plugin) {
+        return "plugin-" + plugin.getName();
+    }
+
+    /**
+     * @param plugin    Connector plugin
+     *
+     * @return  List of the Maven artifacts used by the plugin
+     */
+    private static List<MavenArtifact> mavenArtifacts(Plugin plugin) {
+        return plugin.getArtifacts().stream()
+                .filter(artifact -> artifact instanceof MavenArtifact)
+                .map(artifact -> (MavenArtifact) artifact)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds the command for downloading the Maven artifact and its dependencies in the Maven builder stage. The
+     * directory of the artifact is keyed by the hash of its coordinates, so the layer can be reused from the cache as
+     * long as the artifact does not change.
+     *
+     * @param writer            Writer for printing the Docker commands
+     * @param connectorName     Name of the connector to which this artifact belongs
+     * @param mvn               The maven artifact
+     */
+    private void downloadMavenArtifact(PrintWriter writer, String connectorName, MavenArtifact mvn) {
+        checkGavIsPresent(mvn);
+        String repo = mvn.getRepository() == null ? MavenArtifact.DEFAULT_REPOSITORY : maybeAppendSlash(mvn.getRepository());
+        String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
+        String artifactDir = connectorName + "/" + artifactHash;
+
+        Cmd cmd = run("curl", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
+                .andRun("mvn", "dependency:copy-dependencies",
+                        "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-f", "/tmp/" + artifactDir + "/pom.xml")
+                .andRun("curl", "-L", "--create-dirs", "--output",
+                        "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
+                        assembleResourceUrl(repo, mvn, "jar"));
+        writer.append("RUN ").println(cmd);
+        writer.println();
+    }
+
     private String assembleResourceUrl(String repo, MavenArtifact mvn, String extension) {
         return String.format("%s%s/%s/%s/%s-%s.%s",
                 repo,
@@ -190,6 +301,18 @@ public class KafkaConnectDockerfile {
         writer.println();
     }
 
+    /**
+     * Generates the FROM statement of a named build stage
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param fromImage     Base image which should be used
+     * @param stageName     Name of the build stage
+     */
+    private void from(PrintWriter writer, String fromImage, String stageName) {
+        writer.println("FROM " + fromImage + " AS " + stageName);
+        writer.println();
+    }
+
     /**
      * Generates proxy arguments if set in the operator
      *
@@ -244,7 +367,17 @@ public class KafkaConnectDockerfile {
      */
     private void addPlugin(PrintWriter writer, Plugin plugin)    {
         printSectionHeader(writer, "Connector plugin " + plugin.getName());
+        addPluginArtifacts(writer, plugin, DEFAULT_MAVEN_STAGE);
+    }
 
+    /**
+     * Adds the artifacts of a particular connector plugin one by one depending on their type.
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param plugin        A single plugin which should be added to the new container image
+     * @param mavenStage    Name of the build stage from which the Maven artifacts should be copied
+     */
+    private void addPluginArtifacts(PrintWriter writer, Plugin plugin, String mavenStage)    {
         String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
 
         for (Artifact art : plugin.getArtifacts())  {
@@ -255,7 +388,7 @@ public class KafkaConnectDockerfile {
             } else if (art instanceof ZipArtifact) {
                 addZipArtifact(writer, connectorPath, (ZipArtifact) art);
             } else if (art instanceof MavenArtifact) {
-                addMavenArtifact(writer, plugin.getName(), (MavenArtifact) art);
+                addMavenArtifact(writer, plugin.getName(), (MavenArtifact) art, mavenStage);
             } else if (art instanceof OtherArtifact) {
                 addOtherArtifact(writer, connectorPath, (OtherArtifact) art);
             } else {
@@ -413,13 +546,14 @@ public class KafkaConnectDockerfile {
      * @param writer            Writer for printing the Docker commands
      * @param connectorName     Name of the connector to which this artifact belongs should be downloaded
      * @param mvn               The maven artifact
+     * @param mavenStage        Name of the build stage from which the Maven artifact should be copied
      */
-    private void addMavenArtifact(PrintWriter writer, String connectorName, MavenArtifact mvn) {
+    private void addMavenArtifact(PrintWriter writer, String connectorName, MavenArtifact mvn, String mavenStage) {
         checkGavIsPresent(mvn);
         String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
 
         Cmd run = run("/tmp/artifacts/" + connectorName + "/" + artifactHash, BASE_PLUGIN_PATH + connectorName + "/" + artifactHash);
-        writer.append("COPY --from=downloadArtifacts ").println(run);
+        writer.append("COPY --from=" + mavenStage + " ").println(run);
         writer.println();
     }
 
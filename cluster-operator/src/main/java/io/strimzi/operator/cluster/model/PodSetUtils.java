@@ -8,9 +8,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -76,4 +81,164 @@ public class PodSetUtils {
     public static List<Pod> mapsToPods(List<Map<String, Object>> maps)  {
         return maps.stream().map(m -> mapToPod(m)).collect(Collectors.toList());
     }
+
+    /**
+     * Converts the Map from the StrimziPodSet to a Pod. When the StrimziPodSet uses a shared pod template, the Map
+     * contains only the differences from the template and is applied to it as a JSON merge patch.
+     *
+     * @param template  Shared pod template or null if the StrimziPodSet does not use it
+     * @param map       Pod or the differences from the shared pod template represented as Map
+     *
+     * @return      Pod object decoded from the template and the map
+     */
+    public static Pod mapToPod(Map<String, Object> template, Map<String, Object> map) {
+        if (template == null) {
+            return mapToPod(map);
+        } else {
+            return mapToPod(applyMergePatch(template, map));
+        }
+    }
+
+    /**
+     * Decodes all Pods from the StrimziPodSet. This works for StrimziPodSets with and without the shared pod template.
+     *
+     * @param podSet    StrimziPodSet with the Pods
+     *
+     * @return      List with the Pods
+     */
+    public static List<Pod> podSetToPods(StrimziPodSet podSet) {
+        Map<String, Object> template = podSet.getSpec().getPodTemplate();
+
+        return podSet.getSpec().getPods().stream().map(m -> mapToPod(template, m)).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts the StrimziPodSet to use a shared pod template. The template contains all fields which are the same in
+     * all Pods (for example the containers, affinity etc.) and each Pod keeps only the fields in which it differs from
+     * the template (for example the name, revision or volumes). This makes the StrimziPodSet with many Pods
+     * significantly smaller. StrimziPodSets which already use the shared pod template or which have no Pods are
+     * returned unchanged.
+     *
+     * @param podSet    StrimziPodSet with full Pod definitions
+     *
+     * @return      StrimziPodSet with the shared pod template
+     */
+    public static StrimziPodSet withSharedPodTemplate(StrimziPodSet podSet) {
+        List<Map<String, Object>> pods = podSet.getSpec().getPods();
+
+        if (podSet.getSpec().getPodTemplate() != null || pods == null || pods.isEmpty()) {
+            return podSet;
+        }
+
+        Map<String, Object> template = pods.get(0);
+        for (Map<String, Object> pod : pods.subList(1, pods.size())) {
+            template = intersection(template, pod);
+        }
+
+        List<Map<String, Object>> overrides = new ArrayList<>(pods.size());
+        for (Map<String, Object> pod : pods) {
+            overrides.add(mergePatchDiff(template, pod));
+        }
+
+        return new StrimziPodSetBuilder(podSet)
+                .editSpec()
+                    .withPodTemplate(template)
+                    .withPods(overrides)
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Finds the fields which have the same value in both maps. Nested maps are compared recursively. Lists and other
+     * values have to be equal to be included.
+     *
+     * @param a     First map
+     * @param b     Second map
+     *
+     * @return      New map with the fields which are the same in both maps
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> intersection(Map<String, Object> a, Map<String, Object> b) {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Object> entry : a.entrySet()) {
+            if (b.containsKey(entry.getKey())) {
+                Object valueA = entry.getValue();
+                Object valueB = b.get(entry.getKey());
+
+                if (valueA instanceof Map && valueB instanceof Map) {
+                    result.put(entry.getKey(), intersection((Map<String, Object>) valueA, (Map<String, Object>) valueB));
+                } else if (valueA != null && Objects.equals(valueA, valueB)) {
+                    result.put(entry.getKey(), valueA);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a JSON merge patch (RFC 7386) which transforms the source map into the target map
+     *
+     * @param source    Source map
+     * @param target    Target map
+     *
+     * @return      JSON merge patch represented as Map
+     */
+    @SuppressWarnings("unchecked")
+    /* test */ static Map<String, Object> mergePatchDiff(Map<String, Object> source, Map<String, Object> target) {
+        Map<String, Object> patch = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Object> entry : target.entrySet()) {
+            Object sourceValue = source.get(entry.getKey());
+            Object targetValue = entry.getValue();
+
+            if (sourceValue instanceof Map && targetValue instanceof Map) {
+                Map<String, Object> nestedPatch = mergePatchDiff((Map<String, Object>) sourceValue, (Map<String, Object>) targetValue);
+
+                if (!nestedPatch.isEmpty()) {
+                    patch.put(entry.getKey(), nestedPatch);
+                }
+            } else if (!source.containsKey(entry.getKey()) || !Objects.equals(sourceValue, targetValue)) {
+                patch.put(entry.getKey(), targetValue);
+            }
+        }
+
+        for (String key : source.keySet()) {
+            if (!target.containsKey(key)) {
+                patch.put(key, null);
+            }
+        }
+
+        return patch;
+    }
+
+    /**
+     * Applies JSON merge patch (RFC 7386) to the source map. The source map is not modified.
+     *
+     * @param source    Source map
+     * @param patch     JSON merge patch represented as Map
+     *
+     * @return      New map with the patch applied
+     */
+    @SuppressWarnings("unchecked")
+    /* test */ static Map<String, Object> applyMergePatch(Map<String, Object> source, Map<String, Object> patch) {
+        Map<String, Object> result = new LinkedHashMap<>(source);
+
+        for (Map.Entry<String, Object> entry : patch.entrySet()) {
+            Object sourceValue = result.get(entry.getKey());
+            Object patchValue = entry.getValue();
+
+            if (patchValue == null) {
+                result.remove(entry.getKey());
+            } else if (patchValue instanceof Map) {
+                Map<String, Object> nestedSource = sourceValue instanceof Map ? (Map<String, Object>) sourceValue : Map.of();
+                result.put(entry.getKey(), applyMergePatch(nestedSource, (Map<String, Object>) patchValue));
+            } else {
+                result.put(entry.getKey(), patchValue);
+            }
+        }
+
+        return result;
+    }
 }
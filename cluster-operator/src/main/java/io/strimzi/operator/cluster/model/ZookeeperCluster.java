@@ -444,11 +444,16 @@ public class ZookeeperCluster extends AbstractModel {
                                         ImagePullPolicy imagePullPolicy,
                                         List<LocalObjectReference> imagePullSecrets,
                                         Map<String, String> podAnnotations) {
+        // The non-data volumes are the same for all pods, so they are generated only once and shared by all pods.
+        // They are not modified anywhere and the pods are converted into Maps right after they are generated (see
+        // createPodSet).
+        List<Volume> nonDataVolumes = getNonDataVolumes(isOpenShift);
+
         return createPodSet(
             replicas,
             Collections.singletonMap(ANNO_STRIMZI_IO_STORAGE, ModelUtils.encodeStorageToJson(storage)),
             (brokerId) -> podAnnotations,
-            podName -> getPodSetVolumes(podName, isOpenShift),
+            podName -> getPodSetVolumes(podName, nonDataVolumes),
             getMergedAffinity(),
             getInitContainers(imagePullPolicy),
             getContainers(imagePullPolicy),
@@ -607,16 +612,16 @@ public class ZookeeperCluster extends AbstractModel {
      * Generates a list of volumes used by PodSets. For StrimziPodSet, it needs to include also all persistent claim
      * volumes which StatefulSet would generate on its own.
      *
-     * @param podName       Name of the pod used to name the volumes
-     * @param isOpenShift   Flag whether we are on OpenShift or not
+     * @param podName           Name of the pod used to name the volumes
+     * @param nonDataVolumes    Non-data volumes which are the same for all pods
      *
-     * @return              List of volumes to be included in the StrimziPodSet pod
+     * @return                  List of volumes to be included in the StrimziPodSet pod
      */
-    private List<Volume> getPodSetVolumes(String podName, boolean isOpenShift) {
+    private List<Volume> getPodSetVolumes(String podName, List<Volume> nonDataVolumes) {
         List<Volume> volumeList = new ArrayList<>(5);
 
         volumeList.addAll(VolumeUtils.createPodSetVolumes(podName, storage, false));
-        volumeList.addAll(getNonDataVolumes(isOpenShift));
+        volumeList.addAll(nonDataVolumes);
 
         return volumeList;
     }
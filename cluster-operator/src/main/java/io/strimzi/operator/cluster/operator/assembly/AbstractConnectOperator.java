@@ -53,6 +53,7 @@ import io.strimzi.operator.common.Operator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.WatchEventCoalescer;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.strimzi.operator.common.model.ResourceVisitor;
@@ -119,10 +120,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final PlatformFeaturesAvailability pfa;
     protected final ServiceAccountOperator serviceAccountOperations;
     private final int port;
+    private final ConnectorConfigCache connectorConfigCache;
 
     private Map<String, Counter> connectorsReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Counter> connectorsFailedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Counter> connectorsSuccessfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private Map<String, Counter> connectorsCoalescedEventsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, AtomicInteger> connectorsResourceCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Timer> connectorsReconciliationsTimerMap = new ConcurrentHashMap<>(1);
 
@@ -131,7 +134,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, supplier.metricsProvider, config.getCustomResourceSelector(), config.getListPageSize(),
+                config.getWatchEventsQuietPeriodMs(), config.getWatchEventsMaxDelayMs());
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
         this.connectorOperator = supplier.kafkaConnectorOperator;
         this.connectClientProvider = connectClientProvider;
@@ -150,6 +154,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.pfa = pfa;
         this.port = port;
+        this.connectorConfigCache = new ConnectorConfigCache(config.getConnectorConfigVerificationIntervalMs());
     }
 
     @Override
@@ -183,6 +188,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                     String watchNamespaceOrWildcard, Labels selectorLabels) {
         Optional<LabelSelector> selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
 
+        WatchEventCoalescer coalescer = connectOperator.createWatchEventCoalescer();
+
         return Util.async(connectOperator.vertx, () -> {
             connectOperator.connectorOperator.watch(watchNamespaceOrWildcard, new Watcher<KafkaConnector>() {
                 @Override
@@ -199,7 +206,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         case MODIFIED:
                             if (connectName != null) {
                                 // Check whether a KafkaConnect exists
-                                connectOperator.resourceOperator.getAsync(connectNamespace, connectName)
+                                boolean coalesced = coalescer.submit(connectorNamespace + "/" + connectorName, () -> connectOperator.resourceOperator.getAsync(connectNamespace, connectName)
                                         .compose(connect -> {
                                             KafkaConnectApi apiClient = connectOperator.connectClientProvider.apply(connectOperator.vertx);
                                             if (connect == null) {
@@ -235,7 +242,13 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                                     }));
                                                 }
                                             }
-                                        });
+                                        }));
+
+                                if (coalesced) {
+                                    LOGGER.debugCr(new Reconciliation("connector-watch", connectorKind, connectorNamespace, connectorName),
+                                            "Event was coalesced with an earlier event which was not reconciled yet");
+                                    connectOperator.connectorsCoalescedEventsCounter(connectorNamespace).increment();
+                                }
                             } else {
                                 updateStatus(new Reconciliation("connector-watch", connectOperator.kind(),
                                         kafkaConnector.getMetadata().getNamespace(), null),
@@ -450,6 +463,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
         if (connector == null) {
+            connectorConfigCache.invalidate(ConnectorConfigCache.key(reconciliation, connectorName));
+
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
                 return apiClient.delete(reconciliation, host, port, connectorName).mapEmpty();
@@ -475,7 +490,9 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      * Try to get the current connector config. If the connector does not exist, or its config differs from the 
      * {@code connectorSpec}'s, then call
      * {@link #createOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, KafkaConnectorConfiguration)}
-     * otherwise, just return the connectors current state.
+     * otherwise, just return the connectors current state. When the desired config did not change since it was last
+     * verified against the Connect REST API and the verification interval did not expire yet, fetching the current
+     * config is skipped.
      * @param reconciliation The reconciliation.
      * @param host The REST API host.
      * @param apiClient The client instance.
@@ -487,27 +504,33 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+        Map<String, String> desiredConfigMap = desiredConnectorConfig(connectorName, connectorSpec, desiredConfig);
+        String cacheKey = ConnectorConfigCache.key(reconciliation, connectorName);
+        Long generation = resource.getMetadata().getGeneration();
+
+        if (connectorConfigCache.isUnchanged(cacheKey, generation, desiredConfigMap)) {
+            LOGGER.debugCr(reconciliation, "Connector {} config did not change since the last verification, skipping the config check", connectorName);
+            return updateUnchangedConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource)
+                    .onFailure(error -> connectorConfigCache.invalidate(cacheKey));
+        }
 
         return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
             currentConfig -> {
-                if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return apiClient.status(reconciliation, host, port, connectorName)
-                        .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                if (!needsReconfiguring(reconciliation, connectorName, desiredConfigMap, currentConfig)) {
+                    LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfigMap, currentConfig);
+                    connectorConfigCache.verified(cacheKey, generation, desiredConfigMap);
+                    return updateUnchangedConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource);
                 } else {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
+                    LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfigMap, currentConfig);
+                    connectorConfigCache.invalidate(cacheKey);
                     return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
                         .compose(createConnectorStatusAndConditions())
                         .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
                 }
             },
             error -> {
+                connectorConfigCache.invalidate(cacheKey);
+
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
                     LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
@@ -520,18 +543,42 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             });
     }
 
-    private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
-                                       KafkaConnectorSpec connectorSpec,
-                                       Map<String, String> desiredConfig,
-                                       Map<String, String> actualConfig) {
+    /**
+     * Reconciles a connector which already has the desired configuration. It handles pausing and resuming the
+     * connector, restarting the connector or its tasks and collects its status.
+     */
+    private Future<ConnectorStatusAndConditions> updateUnchangedConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                          String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return apiClient.status(reconciliation, host, port, connectorName)
+            .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
+            .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
+            .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+            .compose(conditions ->
+                apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                    .compose(createConnectorStatusAndConditions(conditions)))
+            .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+    }
+
+    /**
+     * Builds the desired connector configuration in the same shape as returned by the Connect REST API.
+     */
+    private Map<String, String> desiredConnectorConfig(String connectorName, KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig) {
+        Map<String, String> desiredConfigMap = desiredConfig.asOrderedProperties().asMap();
+
         // The actual which comes from Connect API includes tasks.max, connector.class and name,
         // which connectorSpec.getConfig() does not
         if (connectorSpec.getTasksMax() != null) {
-            desiredConfig.put("tasks.max", connectorSpec.getTasksMax().toString());
+            desiredConfigMap.put("tasks.max", connectorSpec.getTasksMax().toString());
         }
-        desiredConfig.put("name", connectorName);
-        desiredConfig.put("connector.class", connectorSpec.getClassName());
+        desiredConfigMap.put("name", connectorName);
+        desiredConfigMap.put("connector.class", connectorSpec.getClassName());
+
+        return desiredConfigMap;
+    }
 
+    private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
+                                       Map<String, String> desiredConfig,
+                                       Map<String, String> actualConfig) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugCr(reconciliation, "Desired configuration for connector {}: {}", connectorName, new TreeMap<>(desiredConfig));
             LOGGER.debugCr(reconciliation, "Actual configuration for connector {}:  {}", connectorName, new TreeMap<>(actualConfig));
@@ -880,6 +927,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 "Number of reconciliations done by the operator for individual resources which were successful");
     }
 
+    public Counter connectorsCoalescedEventsCounter(String namespace) {
+        return Operator.getCounter(namespace, KafkaConnector.RESOURCE_KIND, METRICS_PREFIX + "reconciliations.coalesced", metrics, null, connectorsCoalescedEventsCounterMap,
+                "Number of watch events which did not trigger a separate reconciliation because they were coalesced with other events for the same resource");
+    }
+
     public AtomicInteger connectorsResourceCounter(String namespace) {
         return Operator.getGauge(namespace, KafkaConnector.RESOURCE_KIND, METRICS_PREFIX + "resources",
                 metrics, null, connectorsResourceCounterMap,
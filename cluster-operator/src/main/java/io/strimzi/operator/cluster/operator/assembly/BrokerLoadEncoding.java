@@ -0,0 +1,154 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.vertx.core.json.JsonObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes the broker load (before and after the optimization proposal) stored in the ConfigMap which is created for
+ * every KafkaRebalance resource. By default, the load is always stored as plain JSON under the {@code brokerLoad.json}
+ * key so that existing tools reading it keep working. When the compression is enabled in the Cluster Operator
+ * configuration and the JSON exceeds the compression threshold, which happens with around 50 brokers, the same JSON is
+ * stored GZIP compressed under the {@code brokerLoad.json.gz} key in the binary data of the ConfigMap instead. The JSON
+ * repeats the same parameter names for every broker, so it compresses very well and the ConfigMap stays far from the
+ * 1 MiB limit even for large clusters.
+ *
+ * The compression output is deterministic, so the same proposal always results in the same ConfigMap and unchanged
+ * ConfigMaps are not patched again.
+ */
+final class BrokerLoadEncoding {
+    /**
+     * Key under which the plain JSON broker load is stored in the ConfigMap data
+     */
+    static final String BROKER_LOAD_KEY = "brokerLoad.json";
+
+    /**
+     * Key under which the compressed JSON broker load is stored in the ConfigMap binary data
+     */
+    static final String BROKER_LOAD_COMPRESSED_KEY = "brokerLoad.json.gz";
+
+    /**
+     * Size of the JSON in bytes above which the broker load is compressed
+     */
+    static final int COMPRESSION_THRESHOLD_BYTES = 32 * 1024;
+
+    private BrokerLoadEncoding() { }
+
+    /**
+     * Encodes the broker load into the ConfigMap data
+     *
+     * @param brokerLoad            Broker load JSON
+     * @param compressionEnabled    Whether broker load above the compression threshold should be compressed
+     *
+     * @return  Encoded broker load
+     */
+    static EncodedBrokerLoad encode(JsonObject brokerLoad, boolean compressionEnabled) {
+        byte[] json = brokerLoad.encode().getBytes(StandardCharsets.UTF_8);
+
+        if (compressionEnabled && json.length > COMPRESSION_THRESHOLD_BYTES) {
+            byte[] compressed = compress(json);
+            return new EncodedBrokerLoad(null, Collections.singletonMap(BROKER_LOAD_COMPRESSED_KEY, Base64.getEncoder().encodeToString(compressed)), compressed.length);
+        } else {
+            return new EncodedBrokerLoad(Collections.singletonMap(BROKER_LOAD_KEY, new String(json, StandardCharsets.UTF_8)), null, json.length);
+        }
+    }
+
+    /**
+     * Decodes the broker load from the ConfigMap. Both the plain and the compressed format are supported. The operator
+     * itself never reads the broker load back, so this is used only in tests.
+     *
+     * @param configMap     ConfigMap with the broker load
+     *
+     * @return  Broker load JSON or null if the ConfigMap does not contain the broker load
+     */
+    /* test */ static JsonObject decode(ConfigMap configMap) {
+        if (configMap == null) {
+            return null;
+        } else if (configMap.getBinaryData() != null && configMap.getBinaryData().containsKey(BROKER_LOAD_COMPRESSED_KEY)) {
+            byte[] compressed = Base64.getDecoder().decode(configMap.getBinaryData().get(BROKER_LOAD_COMPRESSED_KEY));
+            return new JsonObject(new String(decompress(compressed), StandardCharsets.UTF_8));
+        } else if (configMap.getData() != null && configMap.getData().containsKey(BROKER_LOAD_KEY)) {
+            return new JsonObject(configMap.getData().get(BROKER_LOAD_KEY));
+        } else {
+            return null;
+        }
+    }
+
+    /* test */ static byte[] compress(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 8);
+
+        // GZIPOutputStream does not write any timestamp to the header, so the output is deterministic
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress the broker load", e);
+        }
+
+        return out.toByteArray();
+    }
+
+    /* test */ static byte[] decompress(byte[] data) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress the broker load", e);
+        }
+    }
+
+    /**
+     * Broker load encoded into the ConfigMap data or binary data
+     */
+    static class EncodedBrokerLoad {
+        private final Map<String, String> data;
+        private final Map<String, String> binaryData;
+        private final int size;
+
+        private EncodedBrokerLoad(Map<String, String> data, Map<String, String> binaryData, int size) {
+            this.data = data;
+            this.binaryData = binaryData;
+            this.size = size;
+        }
+
+        /**
+         * @return  ConfigMap data with the plain broker load or null when the broker load is compressed
+         */
+        Map<String, String> getData() {
+            return data;
+        }
+
+        /**
+         * @return  ConfigMap binary data with the compressed broker load or null when the broker load is not compressed
+         */
+        Map<String, String> getBinaryData() {
+            return binaryData;
+        }
+
+        /**
+         * @return  True if the broker load is compressed. False otherwise.
+         */
+        boolean isCompressed() {
+            return binaryData != null;
+        }
+
+        /**
+         * @return  Size of the stored broker load in bytes (before the Base64 encoding of the binary data)
+         */
+        int getSize() {
+            return size;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.openshift.api.model.Build;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
@@ -18,7 +20,9 @@ import io.strimzi.operator.cluster.model.KafkaConnectBuild;
 import io.strimzi.operator.cluster.model.KafkaConnectBuildUtils;
 import io.strimzi.operator.cluster.model.KafkaConnectDockerfile;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -31,22 +35,32 @@ import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.vertx.core.Future;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class ConnectBuildOperator {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ConnectBuildOperator.class.getName());
 
+    /* test */ static final String METRICS_BUILD_STAGE_DURATION = AbstractOperator.METRICS_PREFIX + "connect.build.stage.duration";
+    /* test */ static final String STAGE_START = "start";
+    /* test */ static final String STAGE_BUILD = "build";
+    /* test */ static final String STAGE_CLEANUP = "cleanup";
+
     private final DeploymentOperator deploymentOperations;
     private final PodOperator podOperator;
     private final ConfigMapOperator configMapOperations;
     private final ServiceAccountOperator serviceAccountOperations;
     private final BuildConfigOperator buildConfigOperator;
     private final BuildOperator buildOperator;
+    private final MetricsProvider metricsProvider;
 
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
     private final long connectBuildTimeoutMs;
+    private final boolean multiStage;
+    private final String cacheRepository;
     private final PlatformFeaturesAvailability pfa;
 
     public ConnectBuildOperator(PlatformFeaturesAvailability pfa, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
@@ -56,10 +70,13 @@ public class ConnectBuildOperator {
         this.serviceAccountOperations = supplier.serviceAccountOperations;
         this.buildConfigOperator = supplier.buildConfigOperations;
         this.buildOperator = supplier.buildOperations;
+        this.metricsProvider = supplier.metricsProvider;
 
         this.imagePullPolicy = config.getImagePullPolicy();
         this.imagePullSecrets = config.getImagePullSecrets();
         this.connectBuildTimeoutMs = config.getConnectBuildTimeoutMs();
+        this.multiStage = config.isConnectBuildMultiStage();
+        this.cacheRepository = config.getConnectBuildCacheRepository();
         this.pfa = pfa;
     }
 
@@ -109,7 +126,7 @@ public class ConnectBuildOperator {
             forceRebuild = Annotations.hasAnnotation(deployment, Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD);
         }
 
-        KafkaConnectDockerfile dockerfile = connectBuild.generateDockerfile();
+        KafkaConnectDockerfile dockerfile = connectBuild.generateDockerfile(multiStage);
         String newBuildRevision = dockerfile.hashStub() + Util.hashStub(connectBuild.getBuild().getOutput().getImage());
         ConfigMap dockerFileConfigMap = connectBuild.generateDockerfileConfigMap(dockerfile);
 
@@ -158,20 +175,20 @@ public class ConnectBuildOperator {
                         } else {
                             // Pod exists, but it either failed or is for different Dockerfile => start new build
                             LOGGER.infoCr(reconciliation, "Previous build exists, but uses different Dockerfile or failed. New build will be started.");
-                            return podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null)
-                                    .compose(ignore -> kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerFileConfigMap, newBuildRevision));
+                            return timed(reconciliation, STAGE_START, () -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null)
+                                    .compose(ignore -> kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerFileConfigMap, newBuildRevision)));
                         }
                     } else {
                         // Pod does not exist => Start new build
-                        return kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerFileConfigMap, newBuildRevision);
+                        return timed(reconciliation, STAGE_START, () -> kubernetesBuildStart(reconciliation, namespace, connectBuild, dockerFileConfigMap, newBuildRevision));
                     }
                 })
-                .compose(ignore -> kubernetesBuildWaitForFinish(reconciliation, namespace, connectBuild))
+                .compose(ignore -> timed(reconciliation, STAGE_BUILD, () -> kubernetesBuildWaitForFinish(reconciliation, namespace, connectBuild)))
                 .compose(image -> {
                     buildImage.set(image);
-                    return podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null);
+                    return timed(reconciliation, STAGE_CLEANUP, () -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null)
+                            .compose(ignore -> pfa.supportsS2I() ? buildConfigOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildConfigName(connectBuild.getCluster()), null) : Future.succeededFuture()));
                 })
-                .compose(ignore -> pfa.supportsS2I() ? buildConfigOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildConfigName(connectBuild.getCluster()), null) : Future.succeededFuture())
                 .map(ignore -> buildImage.get());
     }
 
@@ -190,7 +207,7 @@ public class ConnectBuildOperator {
     private Future<Void> kubernetesBuildStart(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, ConfigMap dockerFileConfigMap, String newBuildRevision)  {
         return configMapOperations.reconcile(reconciliation, namespace, KafkaConnectResources.dockerFileConfigMapName(connectBuild.getCluster()), dockerFileConfigMap)
                 .compose(ignore -> serviceAccountOperations.reconcile(reconciliation, namespace, KafkaConnectResources.buildServiceAccountName(connectBuild.getCluster()), connectBuild.generateServiceAccount()))
-                .compose(ignore -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), connectBuild.generateBuilderPod(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, newBuildRevision)))
+                .compose(ignore -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), connectBuild.generateBuilderPod(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, newBuildRevision, cacheRepository)))
                 .mapEmpty();
     }
 
@@ -271,16 +288,16 @@ public class ConnectBuildOperator {
                             return Future.succeededFuture(build.getMetadata().getName());
                         } else {
                             // Build exists, but it either failed or is for different Dockerfile => start new build
-                            return openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, newBuildRevision);
+                            return timed(reconciliation, STAGE_START, () -> openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, newBuildRevision));
                         }
                     } else {
-                        return openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, newBuildRevision);
+                        return timed(reconciliation, STAGE_START, () -> openShiftBuildStart(reconciliation, namespace, connectBuild, dockerfile, newBuildRevision));
                     }
                 })
-                .compose(buildName -> openShiftBuildWaitForFinish(reconciliation, namespace, buildName))
+                .compose(buildName -> timed(reconciliation, STAGE_BUILD, () -> openShiftBuildWaitForFinish(reconciliation, namespace, buildName)))
                 .compose(image -> {
                     buildImage.set(image);
-                    return podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null);
+                    return timed(reconciliation, STAGE_CLEANUP, () -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null));
                 }).map(ignore -> buildImage.get());
     }
 
@@ -359,6 +376,33 @@ public class ConnectBuildOperator {
                 });
     }
 
+    /**
+     * Runs one stage of the Kafka Connect build and records how long it took. The durations are recorded for both the
+     * successful and failed stages and can be used to find out where the build time is spent.
+     *
+     * @param reconciliation    The reconciliation
+     * @param stage             Name of the build stage
+     * @param operation         Supplier of the Future running the stage
+     * @param <T>               Type of the result of the stage
+     *
+     * @return                  Future which completes with the result of the stage
+     */
+    private <T> Future<T> timed(Reconciliation reconciliation, String stage, Supplier<Future<T>> operation)  {
+        long startTime = System.nanoTime();
+
+        return operation.get()
+                .onComplete(res -> {
+                    Tags tags = Tags.of(Tag.of("kind", reconciliation.kind()),
+                            Tag.of("namespace", reconciliation.namespace()),
+                            Tag.of("type", pfa.supportsS2I() ? "openshift" : "kubernetes"),
+                            Tag.of("stage", stage),
+                            Tag.of("result", res.succeeded() ? "success" : "failure"));
+
+                    metricsProvider.timer(METRICS_BUILD_STAGE_DURATION, "Duration of the individual stages of the Kafka Connect builds", tags)
+                            .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                });
+    }
+
     /**
      * Utility class to return the information about the Kafka Connect Build.
      */
@@ -0,0 +1,37 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.http.HttpClientResponse;
+
+/**
+ * Error response of the Kafka Connect REST API.
+ */
+public class ConnectRestException extends RuntimeException {
+    private final int statusCode;
+
+    public ConnectRestException(String method, String path, int statusCode, String statusMessage, String message) {
+        super(method + " " + path + " returned " + statusCode + " (" + statusMessage + "): " + message);
+        this.statusCode = statusCode;
+    }
+
+    public ConnectRestException(HttpClientResponse response, String message) {
+        this(response.request().getMethod().toString(), response.request().path(), response.statusCode(), response.statusMessage(), message);
+    }
+
+    ConnectRestException(String method, String path, int statusCode, String statusMessage, String message, Throwable cause) {
+        super(method + " " + path + " returned " + statusCode + " (" + statusMessage + "): " + message, cause);
+        this.statusCode = statusCode;
+    }
+
+    public ConnectRestException(HttpClientResponse response, String message, Throwable cause) {
+        this(response.request().getMethod().toString(), response.request().path(), response.statusCode(), response.statusMessage(), message, cause);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
+
@@ -0,0 +1,156 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers the connector configurations which were verified to be applied in the Kafka Connect cluster. It is used to
+ * avoid fetching the configuration of every connector from the Connect REST API in every reconciliation. A connector
+ * is considered unchanged when the hash of its desired configuration and the generation of the custom resource defining
+ * it match the last verified values and the last verification against the Connect REST API is not older than the
+ * verification interval. Once the interval expires, the configuration is fetched and compared again, so that changes
+ * done directly through the Connect REST API are still detected and corrected.
+ */
+class ConnectorConfigCache {
+    private final long verificationIntervalMs;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the connector configuration cache
+     *
+     * @param verificationIntervalMs    Interval in milliseconds after which the configuration has to be verified against
+     *                                  the Connect REST API again. Zero or negative value disables the cache.
+     */
+    ConnectorConfigCache(long verificationIntervalMs) {
+        this(verificationIntervalMs, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs the connector configuration cache with a custom clock. This is used in tests.
+     *
+     * @param verificationIntervalMs    Interval in milliseconds after which the configuration has to be verified against
+     *                                  the Connect REST API again. Zero or negative value disables the cache.
+     * @param clock                     Supplier of the current time in milliseconds
+     */
+    /* test */ ConnectorConfigCache(long verificationIntervalMs, LongSupplier clock) {
+        this.verificationIntervalMs = verificationIntervalMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Builds the cache key for a connector. The key includes the kind and name of the resource which owns the Connect
+     * cluster to distinguish between KafkaConnect and KafkaMirrorMaker2 clusters with the same name.
+     *
+     * @param reconciliation    Reconciliation of the Connect cluster
+     * @param connectorName     Name of the connector
+     *
+     * @return  Key identifying the connector in the cache
+     */
+    static String key(Reconciliation reconciliation, String connectorName) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name() + "/" + connectorName;
+    }
+
+    /**
+     * Checks whether the desired configuration is the same as the configuration which was verified to be applied in
+     * Kafka Connect and whether the verification is still valid.
+     *
+     * @param key               Key of the connector
+     * @param generation        Generation of the custom resource defining the connector
+     * @param desiredConfig     Desired configuration of the connector
+     *
+     * @return  True if the connector configuration does not need to be verified against the Connect REST API. False otherwise.
+     */
+    boolean isUnchanged(String key, Long generation, Map<String, String> desiredConfig) {
+        if (verificationIntervalMs <= 0) {
+            return false;
+        }
+
+        Entry entry = entries.get(key);
+
+        return entry != null
+                && Objects.equals(entry.generation, generation)
+                && clock.getAsLong() - entry.verifiedAt < verificationIntervalMs
+                && entry.configHash.equals(hash(desiredConfig));
+    }
+
+    /**
+     * Records that the desired configuration was verified to be applied in Kafka Connect.
+     *
+     * @param key               Key of the connector
+     * @param generation        Generation of the custom resource defining the connector
+     * @param desiredConfig     Configuration of the connector verified against the Connect REST API
+     */
+    void verified(String key, Long generation, Map<String, String> desiredConfig) {
+        if (verificationIntervalMs > 0) {
+            entries.put(key, new Entry(generation, hash(desiredConfig), clock.getAsLong()));
+        }
+    }
+
+    /**
+     * Removes the connector from the cache. This should be called when the connector is deleted or when its
+     * reconciliation fails, so that the configuration is verified against the Connect REST API next time.
+     *
+     * @param key   Key of the connector
+     */
+    void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * @return  Number of connectors in the cache
+     */
+    /* test */ int size() {
+        return entries.size();
+    }
+
+    /**
+     * Hashes the connector configuration. The configuration is sorted first to make the hash independent of the order
+     * of the configuration options.
+     *
+     * @param config    Connector configuration
+     *
+     * @return  SHA-256 hash of the configuration
+     */
+    /* test */ static String hash(Map<String, String> config) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            for (Map.Entry<String, String> option : new TreeMap<>(config).entrySet()) {
+                digest.update(option.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(String.valueOf(option.getValue()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get SHA-256 hash", e);
+        }
+    }
+
+    private static class Entry {
+        private final Long generation;
+        private final String configHash;
+        private final long verifiedAt;
+
+        private Entry(Long generation, String configHash, long verifiedAt) {
+            this.generation = generation;
+            this.configHash = configHash;
+            this.verifiedAt = verifiedAt;
+        }
+    }
+}
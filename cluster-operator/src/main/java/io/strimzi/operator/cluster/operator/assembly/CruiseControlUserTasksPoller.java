@@ -0,0 +1,255 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Polls the user tasks of a single Cruise Control instance on behalf of all KafkaRebalance resources which are waiting
+ * for a rebalance proposal or for a rebalance to finish. Instead of every KafkaRebalance running its own timer and
+ * querying Cruise Control separately, the states of all tracked user tasks are fetched with a single request to the
+ * user_tasks endpoint and the results are distributed to the waiting subscribers.
+ *
+ * The polling interval adapts to the progress of the tasks. It starts at the minimal interval and it is doubled (up
+ * to the maximal interval) every time a poll finds all tracked tasks in execution with no state change since the
+ * previous poll. Any state change, any task still computing its proposal, any failure or a new subscription resets it
+ * back to the minimal interval.
+ *
+ * The next poll is scheduled only once all subscribers handled the results of the previous one, so subscribers never
+ * process two polls concurrently.
+ */
+class CruiseControlUserTasksPoller {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlUserTasksPoller.class.getName());
+
+    private final Vertx vertx;
+    private final String host;
+    private final int port;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+
+    private final Map<Long, Subscription> subscriptions = new LinkedHashMap<>();
+    private final Map<String, String> lastTaskStatuses = new HashMap<>();
+    private CruiseControlApi apiClient;
+    private long nextSubscriptionId = 0;
+    private long intervalMs;
+    private boolean scheduled = false;
+
+    /**
+     * Constructs the poller
+     *
+     * @param vertx             Vert.x instance
+     * @param host              Cruise Control host
+     * @param port              Cruise Control REST API port
+     * @param minIntervalMs     Minimal interval between two polls
+     * @param maxIntervalMs     Maximal interval between two polls
+     */
+    CruiseControlUserTasksPoller(Vertx vertx, String host, int port, long minIntervalMs, long maxIntervalMs) {
+        this.vertx = vertx;
+        this.host = host;
+        this.port = port;
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.intervalMs = minIntervalMs;
+    }
+
+    /**
+     * Subscribes to the state of a Cruise Control user task. The handler is called after every poll with the state of
+     * the task, or with a failure when the state could not be retrieved or the task is unknown to Cruise Control. The
+     * handler keeps being called until the subscription is cancelled.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param apiClient         Cruise Control API client. The most recently provided client is used for the polls.
+     * @param userTaskId        ID of the user task. Can be null when the task ID is not known, in which case the
+     *                          handler is only called with a failure to trigger its own handling.
+     * @param handler           Handler called with the state of the task. The next poll does not start before the
+     *                          future returned by the handler completes.
+     *
+     * @return  ID of the subscription which should be used to cancel it
+     */
+    synchronized long subscribe(Reconciliation reconciliation, CruiseControlApi apiClient, String userTaskId,
+                                Function<AsyncResult<CruiseControlResponse>, Future<Void>> handler) {
+        long id = nextSubscriptionId++;
+        LOGGER.debugCr(reconciliation, "Subscribing to Cruise Control user task {} on {}", userTaskId, host);
+
+        this.apiClient = apiClient;
+        this.subscriptions.put(id, new Subscription(userTaskId, handler));
+        this.intervalMs = minIntervalMs;
+
+        if (!scheduled) {
+            scheduled = true;
+            vertx.setTimer(intervalMs, t -> poll());
+        }
+
+        return id;
+    }
+
+    /**
+     * Cancels the subscription. The handler will not be called anymore after the subscription is cancelled.
+     *
+     * @param subscriptionId    ID of the subscription
+     */
+    synchronized void unsubscribe(long subscriptionId) {
+        Subscription subscription = subscriptions.remove(subscriptionId);
+
+        if (subscription != null && subscription.userTaskId != null
+                && subscriptions.values().stream().noneMatch(s -> subscription.userTaskId.equals(s.userTaskId))) {
+            lastTaskStatuses.remove(subscription.userTaskId);
+        }
+    }
+
+    /**
+     * Stops the poller. All subscriptions are cancelled and no further polls are done.
+     */
+    synchronized void close() {
+        subscriptions.clear();
+        lastTaskStatuses.clear();
+    }
+
+    /**
+     * @return  Number of active subscriptions
+     */
+    /* test */ synchronized int subscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * @return  The current polling interval
+     */
+    /* test */ synchronized long intervalMs() {
+        return intervalMs;
+    }
+
+    private void poll() {
+        Map<Long, Subscription> currentSubscriptions;
+        CruiseControlApi currentApiClient;
+
+        synchronized (this) {
+            if (subscriptions.isEmpty()) {
+                scheduled = false;
+                return;
+            }
+
+            currentSubscriptions = new LinkedHashMap<>(subscriptions);
+            currentApiClient = apiClient;
+        }
+
+        Set<String> userTaskIds = new TreeSet<>();
+        for (Subscription subscription : currentSubscriptions.values()) {
+            if (subscription.userTaskId != null) {
+                userTaskIds.add(subscription.userTaskId);
+            }
+        }
+
+        LOGGER.debugOp("Polling the status of Cruise Control user tasks {} on {}", userTaskIds, host);
+
+        Future<Map<String, CruiseControlResponse>> statusesFuture;
+        try {
+            statusesFuture = userTaskIds.isEmpty() ? Future.succeededFuture(Map.of()) : currentApiClient.getUserTasksStatus(host, port, userTaskIds);
+        } catch (RuntimeException e) {
+            statusesFuture = Future.failedFuture(e);
+        }
+
+        statusesFuture.onComplete(statuses -> {
+            updateInterval(statuses, userTaskIds);
+
+            List<Future> handled = new ArrayList<>(currentSubscriptions.size());
+            for (Map.Entry<Long, Subscription> entry : currentSubscriptions.entrySet()) {
+                if (isSubscribed(entry.getKey())) {
+                    handled.add(deliver(entry.getValue(), statuses));
+                }
+            }
+
+            CompositeFuture.join(handled).onComplete(ignore -> scheduleNextPoll());
+        });
+    }
+
+    private Future<Void> deliver(Subscription subscription, AsyncResult<Map<String, CruiseControlResponse>> statuses) {
+        Future<CruiseControlResponse> result;
+
+        if (statuses.failed()) {
+            result = Future.failedFuture(statuses.cause());
+        } else if (subscription.userTaskId == null || !statuses.result().containsKey(subscription.userTaskId)) {
+            result = Future.failedFuture(new UnknownUserTaskException("Cruise Control user task " + subscription.userTaskId + " is unknown"));
+        } else {
+            result = Future.succeededFuture(statuses.result().get(subscription.userTaskId));
+        }
+
+        try {
+            Future<Void> handled = subscription.handler.apply(result);
+            return handled != null ? handled : Future.succeededFuture();
+        } catch (RuntimeException e) {
+            LOGGER.warnOp("Cruise Control user task handler failed", e);
+            return Future.succeededFuture();
+        }
+    }
+
+    private synchronized boolean isSubscribed(long subscriptionId) {
+        return subscriptions.containsKey(subscriptionId);
+    }
+
+    private synchronized void updateInterval(AsyncResult<Map<String, CruiseControlResponse>> statuses, Set<String> userTaskIds) {
+        boolean slowProgress = statuses.succeeded() && !userTaskIds.isEmpty();
+
+        if (statuses.succeeded()) {
+            for (String userTaskId : userTaskIds) {
+                CruiseControlResponse response = statuses.result().get(userTaskId);
+                String status = response != null ? response.getJson().getString("Status") : null;
+                String previousStatus = lastTaskStatuses.put(userTaskId, status);
+
+                if (status == null
+                        || !status.equals(previousStatus)
+                        || CruiseControlUserTaskStatus.lookup(status) != CruiseControlUserTaskStatus.IN_EXECUTION) {
+                    slowProgress = false;
+                }
+            }
+        }
+
+        intervalMs = slowProgress ? Math.min(intervalMs * 2, maxIntervalMs) : minIntervalMs;
+    }
+
+    private synchronized void scheduleNextPoll() {
+        if (subscriptions.isEmpty()) {
+            scheduled = false;
+        } else {
+            vertx.setTimer(intervalMs, t -> poll());
+        }
+    }
+
+    /**
+     * Indicates that Cruise Control did not return any state for the user task
+     */
+    static class UnknownUserTaskException extends RuntimeException {
+        UnknownUserTaskException(String message) {
+            super(message);
+        }
+    }
+
+    private static class Subscription {
+        private final String userTaskId;
+        private final Function<AsyncResult<CruiseControlResponse>, Future<Void>> handler;
+
+        private Subscription(String userTaskId, Function<AsyncResult<CruiseControlResponse>, Future<Void>> handler) {
+            this.userTaskId = userTaskId;
+            this.handler = handler;
+        }
+    }
+}
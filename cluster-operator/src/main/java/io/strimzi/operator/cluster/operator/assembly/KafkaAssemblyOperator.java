@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.Counter;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Node;
@@ -54,6 +55,7 @@ import io.strimzi.operator.cluster.FeatureGates;
 import io.strimzi.operator.cluster.KafkaUpgradeException;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.model.Ca;
+import io.strimzi.operator.cluster.model.CertificateCache;
 import io.strimzi.operator.cluster.model.ClientsCa;
 import io.strimzi.operator.cluster.model.ClusterCa;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
@@ -79,8 +81,10 @@ import io.strimzi.operator.cluster.operator.resource.ZookeeperScalerProvider;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.MetricsAndLogging;
+import io.strimzi.operator.common.Operator;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
@@ -120,6 +124,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -150,6 +156,17 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final Labels operatorNamespaceLabels;
     private final FeatureGates featureGates;
     private final boolean isNetworkPolicyGeneration;
+    private final boolean podSetSharedPodTemplate;
+    private final boolean zooKeeperParallelRolling;
+    private final long pvcResizeWaitTimeoutMs;
+    private final boolean skipUnchangedReconciliations;
+    private final long skipUnchangedReconciliationsMaxIntervalMs;
+    private final Labels customResourceSelector;
+    private final String operatorVersion = String.valueOf(KafkaAssemblyOperator.class.getPackage().getImplementationVersion());
+
+    private final Map<String, KafkaReconciliationFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final Map<String, Counter> skippedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> fullReconciliationsCounterMap = new ConcurrentHashMap<>(1);
 
     private final StatefulSetOperator stsOperations;
     private final RouteOperator routeOperations;
@@ -167,6 +184,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
     private final ZookeeperLeaderFinder zookeeperLeaderFinder;
+    private final CertificateCache certificateCache;
 
     /**
      * @param vertx The Vertx instance
@@ -187,6 +205,12 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
         this.featureGates = config.featureGates();
+        this.podSetSharedPodTemplate = config.isPodSetSharedPodTemplate();
+        this.zooKeeperParallelRolling = config.isZooKeeperParallelRolling();
+        this.pvcResizeWaitTimeoutMs = config.getPvcResizeWaitTimeoutMs();
+        this.skipUnchangedReconciliations = config.isSkipUnchangedReconciliations();
+        this.skipUnchangedReconciliationsMaxIntervalMs = config.getSkipUnchangedReconciliationsMaxIntervalMs();
+        this.customResourceSelector = config.getCustomResourceSelector();
         this.routeOperations = supplier.routeOperations;
         this.stsOperations = supplier.stsOperations;
         this.pvcOperations = supplier.pvcOperations;
@@ -203,10 +227,159 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
         this.zookeeperLeaderFinder = supplier.zookeeperLeaderFinder;
+        this.certificateCache = supplier.certificateCache;
     }
 
     @Override
     public Future<KafkaStatus> createOrUpdate(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        if (!skipUnchangedReconciliations) {
+            return fullReconciliation(reconciliation, kafkaAssembly);
+        }
+
+        String key = reconciliation.namespace() + "/" + reconciliation.name();
+
+        return reconciliationInputs(reconciliation, kafkaAssembly)
+                .otherwise(error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to calculate the fingerprint of the reconciliation inputs", error);
+                    return null;
+                })
+                .compose(inputs -> {
+                    KafkaReconciliationFingerprint fingerprint = fingerprints.get(key);
+
+                    if (inputs != null
+                            && fingerprint != null
+                            && ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER.equals(reconciliation.trigger())
+                            && fingerprint.matchesInputs(inputs, System.currentTimeMillis(), skipUnchangedReconciliationsMaxIntervalMs)) {
+                        // Inputs did not change => check that nobody else changed the resources we manage
+                        return ownedResourceVersions(reconciliation)
+                                .otherwise(error -> {
+                                    LOGGER.warnCr(reconciliation, "Failed to get the resource versions of the resources owned by the Kafka cluster", error);
+                                    return null;
+                                })
+                                .compose(resourceVersions -> {
+                                    if (resourceVersions != null && fingerprint.matchesOwnedResources(resourceVersions)) {
+                                        LOGGER.infoCr(reconciliation, "Kafka cluster did not change since the last successful reconciliation and the full reconciliation will be skipped");
+                                        skippedReconciliationsCounter(reconciliation.namespace()).increment();
+                                        return Future.succeededFuture(fingerprint.status());
+                                    } else {
+                                        LOGGER.debugCr(reconciliation, "Resources owned by the Kafka cluster changed since the last successful reconciliation");
+                                        return fullReconciliationWithFingerprint(reconciliation, kafkaAssembly, key, inputs);
+                                    }
+                                });
+                    } else {
+                        return fullReconciliationWithFingerprint(reconciliation, kafkaAssembly, key, inputs);
+                    }
+                });
+    }
+
+    /**
+     * Runs the full reconciliation and stores its fingerprint when it succeeds. The fingerprint is used to skip the
+     * next periodic reconciliation if nothing changes in the meantime.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaAssembly     Kafka custom resource
+     * @param key               Key under which the fingerprint is stored
+     * @param inputs            Hash of the reconciliation inputs or null if it could not be calculated
+     *
+     * @return  Future with the status of the Kafka cluster
+     */
+    private Future<KafkaStatus> fullReconciliationWithFingerprint(Reconciliation reconciliation, Kafka kafkaAssembly, String key, String inputs) {
+        fingerprints.remove(key);
+        fullReconciliationsCounter(reconciliation.namespace()).increment();
+
+        return fullReconciliation(reconciliation, kafkaAssembly)
+                .compose(status -> {
+                    if (inputs == null) {
+                        return Future.succeededFuture(status);
+                    }
+
+                    return ownedResourceVersions(reconciliation)
+                            .map(resourceVersions -> {
+                                fingerprints.put(key, new KafkaReconciliationFingerprint(inputs, resourceVersions, status, System.currentTimeMillis()));
+                                return status;
+                            })
+                            .otherwise(error -> {
+                                LOGGER.warnCr(reconciliation, "Failed to get the resource versions of the resources owned by the Kafka cluster", error);
+                                return status;
+                            });
+                });
+    }
+
+    /**
+     * Calculates the hash of the inputs of the reconciliation. Apart from the Kafka custom resource itself, it includes
+     * the resource versions of the Secrets and ConfigMaps referenced from the Kafka custom resource.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaAssembly     Kafka custom resource
+     *
+     * @return  Future with the hash of the reconciliation inputs
+     */
+    @SuppressWarnings({"rawtypes"})
+    /* test */ Future<String> reconciliationInputs(Reconciliation reconciliation, Kafka kafkaAssembly) {
+        Map<String, String> referencedResourceVersions = new ConcurrentHashMap<>();
+        List<Future> futures = new ArrayList<>();
+
+        for (String secretName : KafkaReconciliationFingerprint.referencedSecrets(kafkaAssembly)) {
+            futures.add(secretOperations.getAsync(reconciliation.namespace(), secretName)
+                    .map(secret -> referencedResourceVersions.put("Secret/" + secretName, secret != null ? String.valueOf(secret.getMetadata().getResourceVersion()) : "")));
+        }
+
+        for (String configMapName : KafkaReconciliationFingerprint.referencedConfigMaps(kafkaAssembly)) {
+            futures.add(configMapOperations.getAsync(reconciliation.namespace(), configMapName)
+                    .map(cm -> referencedResourceVersions.put("ConfigMap/" + configMapName, cm != null ? String.valueOf(cm.getMetadata().getResourceVersion()) : "")));
+        }
+
+        return CompositeFuture.join(futures)
+                .map(i -> KafkaReconciliationFingerprint.inputs(kafkaAssembly, operatorVersion, featureGates.toString(), referencedResourceVersions));
+    }
+
+    /**
+     * Collects the versions of the resources owned by the Kafka cluster. It is used to detect whether any of them was
+     * changed since the last successful reconciliation. Only the kinds of resources managed by the operator are
+     * listed and only those with the {@code strimzi.io/kind=Kafka} label, so that the Secrets of the KafkaUsers (which
+     * share the {@code strimzi.io/cluster} label) are not included. The Pods are not included either as they change
+     * all the time (and are owned by the StatefulSets or StrimziPodSets which are included).
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  Future with map with the resource versions
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    /* test */ Future<Map<String, String>> ownedResourceVersions(Reconciliation reconciliation) {
+        String namespace = reconciliation.namespace();
+        Labels selector = Labels.forStrimziCluster(reconciliation.name()).withStrimziKind(Kafka.RESOURCE_KIND);
+
+        List<Future> futures = new ArrayList<>(6);
+        futures.add(featureGates.useStrimziPodSetsEnabled()
+                ? strimziPodSetOperator.listAsync(namespace, selector)
+                : stsOperations.listAsync(namespace, selector));
+        futures.add(deploymentOperations.listAsync(namespace, selector));
+        futures.add(serviceOperations.listAsync(namespace, selector));
+        futures.add(configMapOperations.listAsync(namespace, selector));
+        futures.add(secretOperations.listAsync(namespace, selector));
+        futures.add(pvcOperations.listAsync(namespace, selector));
+
+        return CompositeFuture.join(futures)
+                .map(i -> {
+                    Map<String, String> resourceVersions = new TreeMap<>();
+
+                    for (Future future : futures) {
+                        KafkaReconciliationFingerprint.addResourceVersions(resourceVersions, (List<? extends HasMetadata>) future.result());
+                    }
+
+                    return resourceVersions;
+                });
+    }
+
+    /**
+     * Runs the full reconciliation of the Kafka cluster
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaAssembly     Kafka custom resource
+     *
+     * @return  Future with the status of the Kafka cluster
+     */
+    private Future<KafkaStatus> fullReconciliation(Reconciliation reconciliation, Kafka kafkaAssembly) {
         Promise<KafkaStatus> createOrUpdatePromise = Promise.promise();
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
 
@@ -507,8 +680,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         Future<ReconciliationState> reconcileCas(Supplier<Date> dateSupplier) {
             Labels selectorLabels = Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name());
             Labels caLabels = Labels.generateDefaultLabels(kafkaAssembly, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
-            Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            return BlockingExecutor.get(vertx).<ReconciliationState>executeBlocking(BlockingExecutor.Bulkhead.WRITE, true,
                 future -> {
                     try {
                         String clusterCaCertName = AbstractModel.clusterCaCertSecretName(name);
@@ -564,7 +736,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 clusterCaKeySecret,
                                 ModelUtils.getCertificateValidity(clusterCaConfig),
                                 ModelUtils.getRenewalDays(clusterCaConfig),
-                                clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                                clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null,
+                                certificateCache);
                         this.clusterCa.initCaSecrets(clusterSecrets);
                         clusterCa.createRenewOrReplace(
                                 reconciliation.namespace(), reconciliation.name(), caLabels.toMap(),
@@ -583,7 +756,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 clientsCaKeySecret,
                                 ModelUtils.getCertificateValidity(clientsCaConfig),
                                 ModelUtils.getRenewalDays(clientsCaConfig),
-                                clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority(), clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null);
+                                clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority(), clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null,
+                                certificateCache);
                         this.clientsCa.initBrokerSecret(brokersSecret);
                         clientsCa.createRenewOrReplace(reconciliation.namespace(), reconciliation.name(),
                                 caLabels.toMap(), emptyMap(), emptyMap(),
@@ -614,10 +788,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     } catch (Throwable e) {
                         future.fail(e);
                     }
-                }, true,
-                resultPromise
+                }
             );
-            return resultPromise.future();
         }
 
         /**
@@ -702,7 +874,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                             .withStrimziName(KafkaResources.zookeeperStatefulSetName(name))
                             .strimziSelectorLabels();
 
-                    zkRollFuture = new ZooKeeperRoller(podOperations, zookeeperLeaderFinder, operationTimeoutMs)
+                    zkRollFuture = new ZooKeeperRoller(podOperations, zookeeperLeaderFinder, operationTimeoutMs, zooKeeperParallelRolling, metrics)
                             .maybeRollingUpdate(reconciliation, zkSelectorLabels, rollPodAndLogReason, clusterCa.caCertSecret(), oldCoSecret);
                 } else {
                     zkRollFuture = Future.succeededFuture();
@@ -745,7 +917,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                         brokerId -> null,
                                         null,
                                         kafkaCluster.getKafkaVersion(),
-                                        true
+                                        true,
+                                        metrics
                                 ).rollingRestart(rollPodAndLogReason))
                         .compose(i -> {
                             if (this.clusterCa.keyReplaced()) {
@@ -1029,14 +1202,15 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                     adminClientProvider,
                                     brokerId -> {
                                         if (featureGates.useStrimziPodSetsEnabled()) {
-                                            return kafkaCluster.generatePerBrokerBrokerConfiguration(brokerId, kafkaAdvertisedHostnames, kafkaAdvertisedPorts, featureGates.controlPlaneListenerEnabled());
+                                            return kafkaCluster.perBrokerBrokerConfiguration(brokerId, kafkaAdvertisedHostnames, kafkaAdvertisedPorts, featureGates.controlPlaneListenerEnabled());
                                         } else {
-                                            return kafkaCluster.generateSharedBrokerConfiguration(featureGates.controlPlaneListenerEnabled());
+                                            return kafkaCluster.sharedBrokerConfiguration(featureGates.controlPlaneListenerEnabled());
                                         }
                                     },
                                     kafkaLogging,
                                     kafkaCluster.getKafkaVersion(),
-                                    allowReconfiguration
+                                    allowReconfiguration,
+                                    metrics
                             ).rollingRestart(podNeedsRestart));
         }
 
@@ -1264,7 +1438,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                     return Future.succeededFuture();
                                 } else {
                                     List<Map<String, Object>> desiredPods = podSet.getSpec().getPods().stream()
-                                            .filter(pod -> desiredPodNames.contains(PodSetUtils.mapToPod(pod).getMetadata().getName()))
+                                            .filter(pod -> desiredPodNames.contains(PodSetUtils.mapToPod(podSet.getSpec().getPodTemplate(), pod).getMetadata().getName()))
                                             .collect(Collectors.toList());
                                     
                                     StrimziPodSet scaledDownPodSet = new StrimziPodSetBuilder(podSet)
@@ -1476,8 +1650,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return ReconcilerUtils.clientSecrets(reconciliation, secretOperations)
                     .compose(compositeFuture -> {
                         LOGGER.debugCr(reconciliation, "Attempt to get clusterId");
-                        Promise<ReconciliationState> resultPromise = Promise.promise();
-                        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+                        return BlockingExecutor.get(vertx).<ReconciliationState>executeBlocking(BlockingExecutor.Bulkhead.READ, true,
                                 future -> {
                                     Admin kafkaAdmin = null;
 
@@ -1499,10 +1672,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                     }
 
                                     future.complete(this);
-                                },
-                                true,
-                                resultPromise);
-                        return resultPromise.future();
+                                });
                     });
         }
 
@@ -2085,8 +2255,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         Future<ReconciliationState> kafkaGenerateCertificates(Supplier<Date> dateSupplier) {
-            Promise<ReconciliationState> resultPromise = Promise.promise();
-            vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<ReconciliationState>executeBlocking(
+            return BlockingExecutor.get(vertx).<ReconciliationState>executeBlocking(BlockingExecutor.Bulkhead.WRITE, true,
                 future -> {
                     try {
                         kafkaCluster.generateCertificates(kafkaAssembly,
@@ -2096,10 +2265,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     } catch (Throwable e) {
                         future.fail(e);
                     }
-                },
-                true,
-                resultPromise);
-            return resultPromise.future();
+                });
         }
 
         Future<ReconciliationState> customListenerCertificates() {
@@ -2178,7 +2344,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          */
         String getCertificateThumbprint(Secret certSecret, CertAndKeySecretSource customCertSecret)   {
             try {
-                X509Certificate cert = Ca.cert(certSecret, customCertSecret.getCertificate());
+                X509Certificate cert = Ca.cert(certSecret, customCertSecret.getCertificate(), certificateCache);
                 return Util.hashStub(cert.getEncoded());
             } catch (CertificateEncodingException e) {
                 throw new RuntimeException("Failed to get certificate hashStub of " + customCertSecret.getCertificate() + " from Secret " + certSecret.getMetadata().getName(), e);
@@ -2418,10 +2584,18 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         Future<ReconciliationState> kafkaPvcs() {
             List<PersistentVolumeClaim> pvcs = kafkaCluster.generatePersistentVolumeClaims(kafkaCluster.getStorage());
 
-            return new PvcReconciler(reconciliation, pvcOperations, storageClassOperator)
+            PvcReconciler pvcReconciler = new PvcReconciler(reconciliation, pvcOperations, storageClassOperator, pvcResizeWaitTimeoutMs);
+
+            return pvcReconciler
                     .resizeAndReconcilePvcs(podIndex -> KafkaResources.kafkaPodName(name, podIndex), pvcs)
                     .compose(podsToRestart -> {
                         fsResizingRestartRequest.addAll(podsToRestart);
+
+                        Condition resizingCondition = pvcReconciler.resizingCondition("Kafka");
+                        if (resizingCondition != null) {
+                            kafkaStatus.addCondition(resizingCondition);
+                        }
+
                         return Future.succeededFuture(this);
                     });
         }
@@ -2617,7 +2791,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     replicas = kafkaCluster.getReplicas();
                 }
 
-                StrimziPodSet kafkaPodSet = kafkaCluster.generatePodSet(replicas, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, brokerId -> kafkaPodAnnotations(brokerId, false));
+                StrimziPodSet kafkaPodSet = generateKafkaPodSet(replicas);
                 return withKafkaPodSetDiff(strimziPodSetOperator.reconcile(reconciliation, namespace, KafkaResources.kafkaStatefulSetName(name), kafkaPodSet));
             } else {
                 // PodSets are disabled => delete the StrimziPodSet for Kafka
@@ -2632,6 +2806,20 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             }
         }
 
+        /**
+         * Generates the StrimziPodSet for the Kafka cluster. When enabled, the StrimziPodSet uses the shared pod
+         * template to keep it small.
+         *
+         * @param replicas  Number of replicas which the PodSet should use
+         *
+         * @return  StrimziPodSet for the Kafka cluster
+         */
+        private StrimziPodSet generateKafkaPodSet(int replicas) {
+            StrimziPodSet kafkaPodSet = kafkaCluster.generatePodSet(replicas, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, brokerId -> kafkaPodAnnotations(brokerId, false));
+
+            return podSetSharedPodTemplate ? PodSetUtils.withSharedPodTemplate(kafkaPodSet) : kafkaPodSet;
+        }
+
         Future<ReconciliationState> kafkaRollingUpdate() {
             if (featureGates.useStrimziPodSetsEnabled())   {
                 return withVoid(maybeRollKafka(kafkaPodSetDiffs.resource().getSpec().getPods().size(), pod ->
@@ -2651,7 +2839,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 LOGGER.infoCr(reconciliation, "Scaling Kafka up from {} to {} replicas", kafkaCurrentReplicas, kafkaCluster.getReplicas());
                 
                 if (featureGates.useStrimziPodSetsEnabled())   {
-                    StrimziPodSet kafkaPodSet = kafkaCluster.generatePodSet(kafkaCluster.getReplicas(), pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, brokerId -> kafkaPodAnnotations(brokerId, false));
+                    StrimziPodSet kafkaPodSet = generateKafkaPodSet(kafkaCluster.getReplicas());
                     return withVoid(strimziPodSetOperator.reconcile(reconciliation, namespace, kafkaCluster.getName(), kafkaPodSet));
                 } else {
                     return withVoid(stsOperations.scaleUp(reconciliation, namespace, kafkaCluster.getName(), kafkaCluster.getReplicas()));
@@ -2924,6 +3112,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 zkAdminSessionTimeoutMs,
                                 imagePullPolicy,
                                 imagePullSecrets,
+                                podSetSharedPodTemplate,
+                                zooKeeperParallelRolling,
+                                pvcResizeWaitTimeoutMs,
 
                                 stsOperations,
                                 strimziPodSetOperator,
@@ -2939,7 +3130,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 podOperations,
 
                                 zkScalerProvider,
-                                zookeeperLeaderFinder
+                                zookeeperLeaderFinder,
+                                metrics
                         );
 
                         return Future.succeededFuture(reconciler);
@@ -3090,6 +3282,16 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
     }
 
+    public Counter skippedReconciliationsCounter(String namespace) {
+        return Operator.getCounter(namespace, kind(), METRICS_PREFIX + "reconciliations.skipped", metrics, customResourceSelector, skippedReconciliationsCounterMap,
+                "Number of periodic reconciliations which were skipped because the resource did not change since the last successful reconciliation");
+    }
+
+    public Counter fullReconciliationsCounter(String namespace) {
+        return Operator.getCounter(namespace, kind(), METRICS_PREFIX + "reconciliations.full", metrics, customResourceSelector, fullReconciliationsCounterMap,
+                "Number of full reconciliations done while skipping of the unchanged resources is enabled");
+    }
+
     /* test */ Date dateSupplier() {
         return new Date();
     }
@@ -3107,6 +3309,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        fingerprints.remove(reconciliation.namespace() + "/" + reconciliation.name());
+
         return withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
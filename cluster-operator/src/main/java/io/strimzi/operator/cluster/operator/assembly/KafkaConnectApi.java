@@ -9,7 +9,6 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.vertx.core.Future;
-import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.json.JsonObject;
 import java.util.List;
 import java.util.Map;
@@ -189,30 +188,3 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName);
 }
-
-class ConnectRestException extends RuntimeException {
-    private final int statusCode;
-
-    ConnectRestException(String method, String path, int statusCode, String statusMessage, String message) {
-        super(method + " " + path + " returned " + statusCode + " (" + statusMessage + "): " + message);
-        this.statusCode = statusCode;
-    }
-
-    public ConnectRestException(HttpClientResponse response, String message) {
-        this(response.request().getMethod().toString(), response.request().path(), response.statusCode(), response.statusMessage(), message);
-    }
-
-    ConnectRestException(String method, String path, int statusCode, String statusMessage, String message, Throwable cause) {
-        super(method + " " + path + " returned " + statusCode + " (" + statusMessage + "): " + message, cause);
-        this.statusCode = statusCode;
-    }
-
-    public ConnectRestException(HttpClientResponse response, String message, Throwable cause) {
-        this(response.request().getMethod().toString(), response.request().path(), response.statusCode(), response.statusMessage(), message, cause);
-    }
-
-    public int getStatusCode() {
-        return statusCode;
-    }
-}
-
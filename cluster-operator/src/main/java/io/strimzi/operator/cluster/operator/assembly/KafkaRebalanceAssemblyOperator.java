@@ -64,11 +64,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -148,16 +152,23 @@ public class KafkaRebalanceAssemblyOperator
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRebalanceAssemblyOperator.class.getName());
 
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
+    private static final long MAX_REBALANCE_POLLING_TIMER_MS = 30_000;
+    // Replaced Cruise Control API clients are closed only after this delay to let the in-flight requests finish
+    private static final long CRUISE_CONTROL_CLIENT_CLOSE_DELAY_MS = 300_000;
     private static final int MAX_API_RETRIES = 5;
-    protected static final String BROKER_LOAD_KEY = "brokerLoad.json";
+    protected static final String BROKER_LOAD_KEY = BrokerLoadEncoding.BROKER_LOAD_KEY;
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final SecretOperator secretOperations;
     private final PlatformFeaturesAvailability pfa;
     private final Optional<LabelSelector> kafkaSelector;
+    private final boolean compressBrokerLoad;
     private boolean usingJbodStorage;
 
     private final ConfigMapOperator configMapOperator;
+    private final Map<String, CruiseControlUserTasksPoller> userTasksPollers = new ConcurrentHashMap<>();
+    private final Map<String, CachedCruiseControlClient> cruiseControlClients = new ConcurrentHashMap<>();
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -166,13 +177,15 @@ public class KafkaRebalanceAssemblyOperator
      */
     public KafkaRebalanceAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                           ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
-        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null);
+        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null, config.getListPageSize(),
+                config.getWatchEventsQuietPeriodMs(), config.getWatchEventsMaxDelayMs());
         this.kafkaSelector = (config.getCustomResourceSelector() == null || config.getCustomResourceSelector().toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, config.getCustomResourceSelector().toMap()));
         this.pfa = pfa;
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.kafkaOperator = supplier.kafkaOperator;
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
+        this.compressBrokerLoad = config.isCompressRebalanceBrokerLoad();
     }
 
     /**
@@ -186,7 +199,106 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, true);
+    }
+
+    /**
+     * Returns the Cruise Control API client for given Cruise Control instance. The client is reused across
+     * reconciliations as long as the Cruise Control secrets and the API configuration do not change, so that the HTTP
+     * connections can be pooled. When they change, a new client is created using
+     * {@link #cruiseControlClientProvider(Secret, Secret, boolean, boolean)} and the old client is closed after a delay.
+     *
+     * @param host Cruise Control host
+     * @param namespace Namespace of the Kafka cluster
+     * @param ccSecret Cruise Control secret
+     * @param ccApiSecret Cruise Control API secret
+     * @param apiAuthEnabled if enabled, configures auth
+     * @param apiSslEnabled if enabled, configures SSL
+     * @return Cruise Control API client instance
+     */
+    private CruiseControlApi cruiseControlClient(String host, String namespace, Secret ccSecret, Secret ccApiSecret, boolean apiAuthEnabled, boolean apiSslEnabled) {
+        String version = ccSecret.getMetadata().getResourceVersion() + "/" + ccApiSecret.getMetadata().getResourceVersion()
+                + "/" + apiAuthEnabled + "/" + apiSslEnabled;
+        AtomicReference<CachedCruiseControlClient> replaced = new AtomicReference<>();
+
+        CachedCruiseControlClient cached = cruiseControlClients.compute(host, (key, current) -> {
+            if (current != null && current.version.equals(version)) {
+                return current;
+            } else {
+                replaced.set(current);
+                return new CachedCruiseControlClient(namespace, version, cruiseControlClientProvider(ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled));
+            }
+        });
+
+        if (replaced.get() != null) {
+            closeCruiseControlClientLater(replaced.get());
+        }
+
+        return cached.client;
+    }
+
+    /**
+     * Returns the poller which tracks the Cruise Control user tasks on the given host
+     *
+     * @param host Cruise Control host
+     * @return Poller of the Cruise Control user tasks
+     */
+    private CruiseControlUserTasksPoller userTasksPoller(String host) {
+        return userTasksPollers.computeIfAbsent(host,
+            key -> new CruiseControlUserTasksPoller(vertx, host, CruiseControl.REST_API_PORT, REBALANCE_POLLING_TIMER_MS, MAX_REBALANCE_POLLING_TIMER_MS));
+    }
+
+    /**
+     * Closes the Cruise Control API client after a delay to let the in-flight requests finish
+     *
+     * @param cached    Cached Cruise Control API client which should be closed
+     */
+    private void closeCruiseControlClientLater(CachedCruiseControlClient cached) {
+        vertx.setTimer(CRUISE_CONTROL_CLIENT_CLOSE_DELAY_MS, t -> cached.client.close());
+    }
+
+    /**
+     * Removes the Cruise Control API clients and user task pollers of the Cruise Control instances in given namespace
+     * which are not used by any KafkaRebalance resource anymore. The removed clients are closed and the removed
+     * pollers are stopped. It is called when a KafkaRebalance resource is deleted.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the deleted KafkaRebalance resource
+     *
+     * @return  Future which completes when the unused clients and pollers are removed
+     */
+    private Future<Void> removeUnusedCruiseControlClients(Reconciliation reconciliation, String namespace) {
+        return kafkaRebalanceOperator.listAsync(namespace, Optional.empty())
+                .map(rebalances -> {
+                    Set<String> usedHosts = new HashSet<>();
+                    for (KafkaRebalance rebalance : rebalances) {
+                        String clusterName = rebalance.getMetadata().getLabels() == null ? null : rebalance.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
+
+                        if (clusterName != null) {
+                            usedHosts.add(cruiseControlHost(clusterName, namespace));
+                        }
+                    }
+
+                    for (Map.Entry<String, CachedCruiseControlClient> entry : cruiseControlClients.entrySet()) {
+                        if (namespace.equals(entry.getValue().namespace)
+                                && !usedHosts.contains(entry.getKey())
+                                && cruiseControlClients.remove(entry.getKey(), entry.getValue())) {
+                            LOGGER.debugCr(reconciliation, "Closing Cruise Control API client for {} which is not used anymore", entry.getKey());
+                            closeCruiseControlClientLater(entry.getValue());
+
+                            CruiseControlUserTasksPoller poller = userTasksPollers.remove(entry.getKey());
+                            if (poller != null) {
+                                poller.close();
+                            }
+                        }
+                    }
+
+                    return (Void) null;
+                })
+                .otherwise(error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to remove the unused Cruise Control API clients", error);
+                    return null;
+                });
     }
 
     /**
@@ -638,9 +750,10 @@ public class KafkaRebalanceAssemblyOperator
      * load map.
      *
      * @param  proposalJson The JSONObject representing the response from the Cruise Control rebalance endpoint.
+     * @param  compressBrokerLoad Whether large broker load should be stored compressed in the binary data of the ConfigMap
      * @return A wrapper class containing the proposal summary map and a config map containing broker load.
      */
-    protected static MapAndStatus<ConfigMap, Map<String, Object>> processOptimizationProposal(KafkaRebalance kafkaRebalance, JsonObject proposalJson) {
+    protected static MapAndStatus<ConfigMap, Map<String, Object>> processOptimizationProposal(KafkaRebalance kafkaRebalance, JsonObject proposalJson, boolean compressBrokerLoad) {
 
         JsonArray brokerLoadBeforeOptimization;
         JsonArray brokerLoadAfterOptimization;
@@ -659,6 +772,8 @@ public class KafkaRebalanceAssemblyOperator
         JsonObject beforeAndAfterBrokerLoad = parseLoadStats(
                 brokerLoadBeforeOptimization, brokerLoadAfterOptimization);
 
+        BrokerLoadEncoding.EncodedBrokerLoad encodedBrokerLoad = BrokerLoadEncoding.encode(beforeAndAfterBrokerLoad, compressBrokerLoad);
+
         ConfigMap rebalanceMap = new ConfigMapBuilder()
                 .withNewMetadata()
                     .withNamespace(kafkaRebalance.getMetadata().getNamespace())
@@ -666,7 +781,8 @@ public class KafkaRebalanceAssemblyOperator
                     .withLabels(Collections.singletonMap("app", "strimzi"))
                     .withOwnerReferences(ModelUtils.createOwnerReference(kafkaRebalance))
                 .endMetadata()
-                .withData(Collections.singletonMap(BROKER_LOAD_KEY, beforeAndAfterBrokerLoad.encode()))
+                .withData(encodedBrokerLoad.getData())
+                .withBinaryData(encodedBrokerLoad.getBinaryData())
                 .build();
 
         proposalJson.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()).getMap().put("afterBeforeLoadConfigMap", rebalanceMap.getMetadata().getName());
@@ -677,7 +793,7 @@ public class KafkaRebalanceAssemblyOperator
         List<Condition> conditions = new ArrayList<>();
         conditions.add(StatusUtils.buildRebalanceCondition(cruiseControlState.toString()));
         conditions.addAll(validation);
-        MapAndStatus<ConfigMap, Map<String, Object>> optimizationProposalMapAndStatus = processOptimizationProposal(kafkaRebalance, proposalJson);
+        MapAndStatus<ConfigMap, Map<String, Object>> optimizationProposalMapAndStatus = processOptimizationProposal(kafkaRebalance, proposalJson, compressBrokerLoad);
         return new MapAndStatus<>(optimizationProposalMapAndStatus.getLoadMap(), new KafkaRebalanceStatusBuilder()
                 .withSessionId(sessionID)
                 .withConditions(conditions)
@@ -759,9 +875,11 @@ public class KafkaRebalanceAssemblyOperator
         Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
             LOGGER.debugCr(reconciliation, "Starting Cruise Control rebalance proposal request timer");
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t ->
+            CruiseControlUserTasksPoller poller = userTasksPoller(host);
+            AtomicLong subscription = new AtomicLong();
+            subscription.set(poller.subscribe(reconciliation, apiClient, kafkaRebalance.getStatus().getSessionId(), taskStatus ->
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
+                    .compose(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
@@ -769,20 +887,25 @@ public class KafkaRebalanceAssemblyOperator
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.PendingProposal) {
                                 if (rebalanceAnnotation(reconciliation, currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control proposal request timer");
-                                    vertx.cancelTimer(t);
-                                    p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(reconciliation, currentKafkaRebalance)));
+                                    poller.unsubscribe(subscription.get());
+                                    p.tryComplete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(reconciliation, currentKafkaRebalance)));
+                                    return Future.succeededFuture();
+                                } else if (taskStatus.succeeded()
+                                        && CruiseControlUserTaskStatus.lookup(taskStatus.result().getJson().getString("Status")) == CruiseControlUserTaskStatus.ACTIVE) {
+                                    // The proposal is still being computed => no need to ask Cruise Control for it yet
+                                    LOGGER.debugCr(reconciliation, "Waiting for optimization proposal to be ready");
+                                    return Future.succeededFuture();
                                 } else {
-
-                                    requestRebalance(reconciliation, host, apiClient, kafkaRebalance, true, rebalanceOptionsBuilder,
+                                    return requestRebalance(reconciliation, host, apiClient, kafkaRebalance, true, rebalanceOptionsBuilder,
                                             currentKafkaRebalance.getStatus().getSessionId())
                                         .onSuccess(rebalanceMapAndStatus -> {
                                             // If the returned status has an optimization result then the rebalance proposal
                                             // is ready, so stop the polling
                                             if (rebalanceMapAndStatus.getStatus().getOptimizationResult() != null &&
                                                     !rebalanceMapAndStatus.getStatus().getOptimizationResult().isEmpty()) {
-                                                vertx.cancelTimer(t);
+                                                poller.unsubscribe(subscription.get());
                                                 LOGGER.debugCr(reconciliation, "Optimization proposal ready");
-                                                p.complete(rebalanceMapAndStatus);
+                                                p.tryComplete(rebalanceMapAndStatus);
                                             } else {
                                                 // The rebalance proposal is still not ready yet, keep the timer for polling
                                                 LOGGER.debugCr(reconciliation, "Waiting for optimization proposal to be ready");
@@ -790,25 +913,30 @@ public class KafkaRebalanceAssemblyOperator
                                         })
                                         .onFailure(e -> {
                                             LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance proposal failed", e.getCause());
-                                            vertx.cancelTimer(t);
-                                            p.fail(e.getCause());
-                                        });
+                                            poller.unsubscribe(subscription.get());
+                                            p.tryFail(e.getCause());
+                                        })
+                                        .<Void>mapEmpty()
+                                        .recover(e -> Future.succeededFuture());
                                 }
                             } else {
-                                p.complete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
+                                poller.unsubscribe(subscription.get());
+                                p.tryComplete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
+                                return Future.succeededFuture();
                             }
                         } else {
                             LOGGER.debugCr(reconciliation, "Rebalance resource was deleted, stopping the request time");
-                            vertx.cancelTimer(t);
-                            p.complete();
+                            poller.unsubscribe(subscription.get());
+                            p.tryComplete();
+                            return Future.succeededFuture();
                         }
-                    })
-                    .onFailure(e -> {
+                    }, e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
+                        poller.unsubscribe(subscription.get());
+                        p.tryFail(e.getCause());
+                        return Future.succeededFuture();
                     })
-            );
+            ));
         } else {
             p.complete(new MapAndStatus<>(null, kafkaRebalance.getStatus()));
         }
@@ -879,14 +1007,17 @@ public class KafkaRebalanceAssemblyOperator
             LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status timer");
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
+            CruiseControlUserTasksPoller poller = userTasksPoller(host);
+            AtomicLong subscription = new AtomicLong();
+            subscription.set(poller.subscribe(reconciliation, apiClient, sessionId, taskStatus -> {
                 // Check that we have not already failed to contact the API beyond the allowed number of times.
                 if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
-                    p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                    poller.unsubscribe(subscription.get());
+                    p.tryFail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                    return Future.succeededFuture();
                 }
-                kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
-                    .onSuccess(currentKafkaRebalance -> {
+                return kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
+                    .compose(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
                         if (currentKafkaRebalance != null) {
                             // Check resource is in the right state as previous execution might have set the status and completed the future
@@ -894,95 +1025,114 @@ public class KafkaRebalanceAssemblyOperator
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(reconciliation, currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task");
-                                    vertx.cancelTimer(t);
-                                    apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
-                                        .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(reconciliation, kafkaRebalance))))
+                                    poller.unsubscribe(subscription.get());
+                                    return apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
+                                        .onSuccess(r -> p.tryComplete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(reconciliation, kafkaRebalance))))
                                         .onFailure(e -> {
                                             LOGGER.errorCr(reconciliation, "Cruise Control stopping execution failed", e.getCause());
-                                            p.fail(e.getCause());
-                                        });
-                                } else {
-                                    LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
-                                        .onSuccess(cruiseControlResponse -> {
-                                            JsonObject taskStatusJson = cruiseControlResponse.getJson();
-                                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
-                                            switch (taskStatus) {
-                                                case COMPLETED:
-                                                    vertx.cancelTimer(t);
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
-                                                    p.complete(buildRebalanceStatus(
-                                                            kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, validate(reconciliation, kafkaRebalance)));
-                                                    break;
-                                                case COMPLETED_WITH_ERROR:
-                                                    // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
-                                                    //       We may need to propose an upstream PR for this.
-                                                    // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
-                                                    //       details of any issues while rebalancing.
-                                                    LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
-                                                    vertx.cancelTimer(t);
-                                                    p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, validate(reconciliation, kafkaRebalance)));
-                                                    break;
-                                                case IN_EXECUTION: // Rebalance is still in progress
-                                                    // We need to check that the status has been updated with the ongoing optimisation proposal
-                                                    // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
-                                                    // proposal was still being prepared (in progress). In that case the rebalance will start when
-                                                    // the proposal is complete but the optimisation proposal summary will be missing.
-                                                    if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
-                                                            currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
-                                                        LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
-                                                        // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
-                                                        p.complete(buildRebalanceStatus(
-                                                                kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, validate(reconciliation, kafkaRebalance)));
-                                                    }
-                                                    ccApiErrorCount.set(0);
-                                                    // TODO: Find out if there is any way to check the progress of a rebalance.
-                                                    //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
-                                                    //       We can then update the status at this point.
-                                                    break;
-                                                case ACTIVE: // Rebalance proposal is still being calculated
-                                                    // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
-                                                    // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
-                                                    // check that the optimisation proposal is added to the status on the next reconcile.
-                                                    LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
-                                                    ccApiErrorCount.set(0);
-                                                    break;
-                                                default:
-                                                    LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
-                                                    vertx.cancelTimer(t);
-                                                    p.fail("Unexpected state " + taskStatus);
-                                                    break;
-                                            }
+                                            p.tryFail(e.getCause());
                                         })
-                                        .onFailure(e -> {
-                                            LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", e.getCause());
-                                            // To make sure this error is not just a temporary problem with the network we retry several times.
-                                            // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
-                                            ccApiErrorCount.getAndIncrement();
-                                        });
+                                        .<Void>mapEmpty()
+                                        .recover(e -> Future.succeededFuture());
+                                } else if (taskStatus.succeeded()) {
+                                    LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
+                                    onRebalancingUserTaskStatus(reconciliation, kafkaRebalance, currentKafkaRebalance, sessionId,
+                                            taskStatus.result().getJson(), ccApiErrorCount, p, () -> poller.unsubscribe(subscription.get()));
+                                } else {
+                                    LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", taskStatus.cause());
+                                    // To make sure this error is not just a temporary problem with the network we retry several times.
+                                    // If the number of errors pass the MAX_API_ERRORS limit then the period method will fail the promise.
+                                    ccApiErrorCount.getAndIncrement();
                                 }
                             } else {
-                                p.complete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
+                                poller.unsubscribe(subscription.get());
+                                p.tryComplete(new MapAndStatus<>(null, currentKafkaRebalance.getStatus()));
                             }
                         } else {
                             LOGGER.debugCr(reconciliation, "Rebalance resource was deleted, stopping the request time");
-                            vertx.cancelTimer(t);
-                            p.complete();
+                            poller.unsubscribe(subscription.get());
+                            p.tryComplete();
                         }
-                    })
-                    .onFailure(e -> {
+
+                        return Future.<Void>succeededFuture();
+                    }, e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
-                        p.fail(e.getCause());
+                        poller.unsubscribe(subscription.get());
+                        p.tryFail(e.getCause());
+                        return Future.succeededFuture();
                     });
-            });
+            }));
         } else {
             p.complete(new MapAndStatus<>(null, kafkaRebalance.getStatus()));
         }
         return p.future();
     }
 
+    /**
+     * Handles the status of the Cruise Control user task of a rebalance which is in the {@code Rebalancing} state.
+     *
+     * @param reconciliation Reconciliation information
+     * @param kafkaRebalance {@code KafkaRebalance} resource which started the rebalancing
+     * @param currentKafkaRebalance Current {@code KafkaRebalance} resource
+     * @param sessionId ID of the Cruise Control user task executing the rebalance
+     * @param taskStatusJson Status of the Cruise Control user task
+     * @param ccApiErrorCount Counter of the failed Cruise Control API requests
+     * @param p Promise which is completed when the rebalance is finished
+     * @param stopPolling Stops polling for the status of the user task
+     */
+    private void onRebalancingUserTaskStatus(Reconciliation reconciliation, KafkaRebalance kafkaRebalance, KafkaRebalance currentKafkaRebalance,
+                                             String sessionId, JsonObject taskStatusJson, AtomicInteger ccApiErrorCount,
+                                             Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p, Runnable stopPolling) {
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
+        switch (taskStatus) {
+            case COMPLETED:
+                stopPolling.run();
+                LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
+                p.tryComplete(buildRebalanceStatus(
+                        kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, validate(reconciliation, kafkaRebalance)));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // TODO: There doesn't seem to be a way to retrieve the actual error message from the user tasks endpoint?
+                //       We may need to propose an upstream PR for this.
+                // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
+                //       details of any issues while rebalancing.
+                LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
+                stopPolling.run();
+                p.tryComplete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, validate(reconciliation, kafkaRebalance)));
+                break;
+            case IN_EXECUTION: // Rebalance is still in progress
+                // We need to check that the status has been updated with the ongoing optimisation proposal
+                // The proposal field can be empty if a rebalance(dryrun=false) was called and the optimisation
+                // proposal was still being prepared (in progress). In that case the rebalance will start when
+                // the proposal is complete but the optimisation proposal summary will be missing.
+                if (currentKafkaRebalance.getStatus().getOptimizationResult() == null ||
+                        currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
+                    LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
+                    // Stop polling so that the status is returned and updated.
+                    stopPolling.run();
+                    p.tryComplete(buildRebalanceStatus(
+                            kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, validate(reconciliation, kafkaRebalance)));
+                }
+                ccApiErrorCount.set(0);
+                // TODO: Find out if there is any way to check the progress of a rebalance.
+                //       We could parse the verbose proposal for total number of reassignments and compare to number completed (if available)?
+                //       We can then update the status at this point.
+                break;
+            case ACTIVE: // Rebalance proposal is still being calculated
+                // If a rebalance(dryrun=false) was called and the proposal is still being prepared then the task
+                // will be in an ACTIVE state. When the proposal is ready it will shift to IN_EXECUTION and we will
+                // check that the optimisation proposal is added to the status on the next reconcile.
+                LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is still being prepared", sessionId);
+                ccApiErrorCount.set(0);
+                break;
+            default:
+                LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
+                stopPolling.run();
+                p.tryFail("Unexpected state " + taskStatus);
+                break;
+        }
+    }
+
     /**
      * This method handles the transition from {@code Stopped} state.
      * If the user set strimzi.io/rebalance=refresh annotation, it calls the Cruise Control API for requesting a new rebalance proposal.
@@ -1041,7 +1191,7 @@ public class KafkaRebalanceAssemblyOperator
     /* test */ Future<Void> reconcileRebalance(Reconciliation reconciliation, KafkaRebalance kafkaRebalance) {
         if (kafkaRebalance == null) {
             LOGGER.infoCr(reconciliation, "Rebalance resource deleted");
-            return Future.succeededFuture();
+            return removeUnusedCruiseControlClients(reconciliation, reconciliation.namespace());
         }
 
         String clusterName = kafkaRebalance.getMetadata().getLabels() == null ? null : kafkaRebalance.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
@@ -1100,7 +1250,7 @@ public class KafkaRebalanceAssemblyOperator
                                 CruiseControlConfiguration ccConfig = new CruiseControlConfiguration(reconciliation, kafka.getSpec().getCruiseControl().getConfig().entrySet());
                                 boolean apiAuthEnabled = ccConfig.isApiAuthEnabled();
                                 boolean apiSslEnabled = ccConfig.isApiSslEnabled();
-                                CruiseControlApi apiClient = cruiseControlClientProvider(ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+                                CruiseControlApi apiClient = cruiseControlClient(cruiseControlHost(clusterName, clusterNamespace), clusterNamespace, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
 
                                 // get latest KafkaRebalance state as it may have changed
                                 return kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
@@ -1252,4 +1402,20 @@ public class KafkaRebalanceAssemblyOperator
     protected KafkaRebalanceStatus createStatus() {
         return new KafkaRebalanceStatus();
     }
+
+    /**
+     * Cruise Control API client together with the namespace of the Kafka cluster and the version of the configuration it
+     * was created for
+     */
+    private static class CachedCruiseControlClient {
+        private final String namespace;
+        private final String version;
+        private final CruiseControlApi client;
+
+        private CachedCruiseControlClient(String namespace, String version, CruiseControlApi client) {
+            this.namespace = namespace;
+            this.version = version;
+            this.client = client;
+        }
+    }
 }
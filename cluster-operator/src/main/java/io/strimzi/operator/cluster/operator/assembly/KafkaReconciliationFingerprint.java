@@ -0,0 +1,209 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Fingerprint of a successful reconciliation of a Kafka cluster. It is used to skip the periodic reconciliations of
+ * Kafka clusters which did not change since the last successful reconciliation.
+ *
+ * The fingerprint consists of two parts:
+ * <ul>
+ *     <li>A hash of the inputs of the reconciliation: the generation, labels and annotations of the Kafka custom
+ *     resource, the resource versions of the Secrets and ConfigMaps referenced from the Kafka custom resource, the
+ *     operator version and the feature gates. It is calculated before the reconciliation starts.</li>
+ *     <li>Versions of the resources owned by the Kafka cluster (resources with the {@code strimzi.io/cluster} label and
+ *     the {@code strimzi.io/kind=Kafka} label). They are collected after the reconciliation finishes and used to detect
+ *     changes done to the owned resources by other actors (drift). The generation is used for resources which have
+ *     one, so that status updates (for example of the StrimziPodSets) do not count as a change. Pods and the Secrets
+ *     of the KafkaUsers are not included.</li>
+ * </ul>
+ *
+ * A fingerprint is valid only for a limited time. Some parts of the reconciliation depend on the time (for example the
+ * renewal of the CA certificates or the maintenance time windows), so a full reconciliation is done regularly even
+ * when nothing changed.
+ */
+class KafkaReconciliationFingerprint {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String inputs;
+    private final Map<String, String> ownedResourceVersions;
+    private final KafkaStatus status;
+    private final long createdMs;
+
+    /**
+     * Constructs the fingerprint of a successful reconciliation
+     *
+     * @param inputs                    Hash of the reconciliation inputs
+     * @param ownedResourceVersions     Resource versions of the owned resources after the reconciliation
+     * @param status                    Status of the Kafka cluster produced by the reconciliation
+     * @param createdMs                 Time when the reconciliation finished
+     */
+    KafkaReconciliationFingerprint(String inputs, Map<String, String> ownedResourceVersions, KafkaStatus status, long createdMs) {
+        this.inputs = inputs;
+        this.ownedResourceVersions = ownedResourceVersions;
+        this.status = new KafkaStatusBuilder(status).build();
+        this.createdMs = createdMs;
+    }
+
+    /**
+     * Checks whether the inputs did not change and the fingerprint is still valid
+     *
+     * @param currentInputs     Hash of the current reconciliation inputs
+     * @param nowMs             Current time
+     * @param maxAgeMs          Maximal age of the fingerprint after which a full reconciliation has to be done
+     *
+     * @return  True if the inputs match and the fingerprint did not expire. False otherwise.
+     */
+    boolean matchesInputs(String currentInputs, long nowMs, long maxAgeMs) {
+        return inputs.equals(currentInputs) && nowMs - createdMs < maxAgeMs;
+    }
+
+    /**
+     * Checks whether the owned resources did not change since the last reconciliation
+     *
+     * @param currentOwnedResourceVersions  Current resource versions of the owned resources
+     *
+     * @return  True if none of the owned resources was created, modified or deleted. False otherwise.
+     */
+    boolean matchesOwnedResources(Map<String, String> currentOwnedResourceVersions) {
+        return ownedResourceVersions.equals(currentOwnedResourceVersions);
+    }
+
+    /**
+     * @return  Copy of the status produced by the last successful reconciliation
+     */
+    KafkaStatus status() {
+        return new KafkaStatusBuilder(status).build();
+    }
+
+    /**
+     * Calculates the hash of the reconciliation inputs
+     *
+     * @param kafka                         Kafka custom resource
+     * @param operatorVersion               Version of the operator
+     * @param featureGates                  Configured feature gates
+     * @param referencedResourceVersions    Resource versions of the referenced Secrets and ConfigMaps
+     *
+     * @return  Hash of the reconciliation inputs
+     */
+    static String inputs(Kafka kafka, String operatorVersion, String featureGates, Map<String, String> referencedResourceVersions) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("generation=").append(kafka.getMetadata().getGeneration()).append('\n');
+        sb.append("labels=").append(sorted(kafka.getMetadata().getLabels())).append('\n');
+        sb.append("annotations=").append(sorted(kafka.getMetadata().getAnnotations())).append('\n');
+        sb.append("operatorVersion=").append(operatorVersion).append('\n');
+        sb.append("featureGates=").append(featureGates).append('\n');
+        sb.append("referenced=").append(sorted(referencedResourceVersions)).append('\n');
+
+        return sha256(sb.toString());
+    }
+
+    /**
+     * Adds the versions of the resources to the map. The key is the kind and name of the resource. The value is the
+     * generation of the resource if it has one (for example StatefulSets, Deployments or StrimziPodSets) or the
+     * resource version otherwise (for example Secrets or ConfigMaps which have no generation).
+     *
+     * @param resourceVersions  Map with the resource versions
+     * @param resources         Resources which should be added
+     */
+    static void addResourceVersions(Map<String, String> resourceVersions, List<? extends HasMetadata> resources) {
+        if (resources != null) {
+            for (HasMetadata resource : resources) {
+                Long generation = resource.getMetadata().getGeneration();
+
+                resourceVersions.put(resource.getKind() + "/" + resource.getMetadata().getName(),
+                        generation != null ? "generation=" + generation : resource.getMetadata().getResourceVersion());
+            }
+        }
+    }
+
+    /**
+     * Finds the names of the Secrets referenced from the Kafka custom resource. It looks for the {@code secretName}
+     * fields and the {@code secretKeyRef} selectors anywhere in the spec.
+     *
+     * @param kafka     Kafka custom resource
+     *
+     * @return  Set with names of the referenced Secrets
+     */
+    static Set<String> referencedSecrets(Kafka kafka) {
+        Set<String> names = new TreeSet<>();
+        collectReferences(MAPPER.valueToTree(kafka.getSpec()), names, "secretKeyRef", "secretName");
+        return names;
+    }
+
+    /**
+     * Finds the names of the ConfigMaps referenced from the Kafka custom resource. It looks for the
+     * {@code configMapKeyRef} selectors anywhere in the spec (for example in the logging and metrics configuration).
+     *
+     * @param kafka     Kafka custom resource
+     *
+     * @return  Set with names of the referenced ConfigMaps
+     */
+    static Set<String> referencedConfigMaps(Kafka kafka) {
+        Set<String> names = new TreeSet<>();
+        collectReferences(MAPPER.valueToTree(kafka.getSpec()), names, "configMapKeyRef", null);
+        return names;
+    }
+
+    private static void collectReferences(JsonNode node, Set<String> names, String selectorField, String nameField) {
+        if (node == null) {
+            return;
+        }
+
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+
+                if (field.getKey().equals(nameField) && field.getValue().isTextual()) {
+                    names.add(field.getValue().asText());
+                } else if (field.getKey().equals(selectorField) && field.getValue().path("name").isTextual()) {
+                    names.add(field.getValue().path("name").asText());
+                } else {
+                    collectReferences(field.getValue(), names, selectorField, nameField);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                collectReferences(element, names, selectorField, nameField);
+            }
+        }
+    }
+
+    private static Map<String, String> sorted(Map<String, String> map) {
+        return map != null ? new TreeMap<>(map) : Map.of();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] digest = sha256.digest(value.getBytes(StandardCharsets.UTF_8));
+
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get SHA-256 hash", e);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.operator.cluster.model.ModelUtils;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.cluster.operator.resource.PodRevision;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Caches the desired Pods materialized from the StrimziPodSets by the StrimziPodSet controller. Converting the Maps
+ * stored in the StrimziPodSet to Pod objects is relatively expensive, so the controller should not do it for all Pods
+ * every time one of the Pods changes. The cached Pods are kept as long as the generation (and UID) of the StrimziPodSet
+ * does not change. When the generation changes, the individual Pods are still reused if their revision and their
+ * definition in the StrimziPodSet did not change. So a change to a single Pod materializes only that Pod again.
+ *
+ * The cached Pods are shared and must not be modified by the users of this cache.
+ *
+ * The cache is not thread-safe and is expected to be used only from the StrimziPodSet controller thread.
+ */
+class MaterializedPodCache {
+    private final Map<String, CachedPodSet> cache = new HashMap<>();
+
+    /**
+     * Returns the cached Pods for the StrimziPodSet if they were materialized from the same generation of this
+     * StrimziPodSet.
+     *
+     * @param podSet    StrimziPodSet
+     *
+     * @return  Cached Pods or null if they are not cached or are outdated
+     */
+    CachedPodSet getIfCurrent(StrimziPodSet podSet) {
+        CachedPodSet cached = cache.get(key(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+
+        return cached != null && cached.isFrom(podSet) ? cached : null;
+    }
+
+    /**
+     * Returns the Pods for the StrimziPodSet. Pods which did not change since they were last materialized are reused
+     * from the cache, all other Pods are materialized from the StrimziPodSet. The per-Pod states are not carried over
+     * when the StrimziPodSet generation changes.
+     *
+     * @param podSet    StrimziPodSet
+     *
+     * @return  Cached Pods for the current generation of the StrimziPodSet
+     */
+    CachedPodSet get(StrimziPodSet podSet) {
+        String key = key(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName());
+        CachedPodSet previous = cache.get(key);
+
+        if (previous != null && previous.isFrom(podSet)) {
+            return previous;
+        }
+
+        Map<String, Object> template = podSet.getSpec().getPodTemplate();
+        Map<String, CachedPod> pods = new LinkedHashMap<>(podSet.getSpec().getPods().size());
+        int materialized = 0;
+
+        for (Map<String, Object> podMap : podSet.getSpec().getPods()) {
+            CachedPod reused = previous != null ? previous.findReusable(template, podMap) : null;
+
+            if (reused != null) {
+                pods.put(reused.pod.getMetadata().getName(), reused);
+            } else {
+                Pod pod = PodSetUtils.mapToPod(template, podMap);
+                pods.put(pod.getMetadata().getName(), new CachedPod(template, podMap, pod));
+                materialized++;
+            }
+        }
+
+        CachedPodSet cached = new CachedPodSet(podSet.getMetadata().getUid(), podSet.getMetadata().getGeneration(), ModelUtils.createOwnerReference(podSet), pods, materialized);
+        cache.put(key, cached);
+
+        return cached;
+    }
+
+    /**
+     * Removes the StrimziPodSet from the cache. This should be called when the StrimziPodSet is deleted or when the
+     * cached state cannot be trusted anymore (for example after a failed reconciliation).
+     *
+     * @param namespace     Namespace of the StrimziPodSet
+     * @param name          Name of the StrimziPodSet
+     */
+    void remove(String namespace, String name) {
+        cache.remove(key(namespace, name));
+    }
+
+    /**
+     * @return  Number of cached StrimziPodSets
+     */
+    /* test */ int size() {
+        return cache.size();
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Pods materialized from a single generation of a StrimziPodSet together with the state of the Pods observed in
+     * the last reconciliation.
+     */
+    static class CachedPodSet {
+        private final String uid;
+        private final Long generation;
+        private final OwnerReference owner;
+        private final Map<String, CachedPod> pods;
+        private final Map<String, Pod> desiredPods;
+        private final int materialized;
+        private final Set<String> readyPods = new HashSet<>();
+        private final Set<String> currentPods = new HashSet<>();
+
+        private CachedPodSet(String uid, Long generation, OwnerReference owner, Map<String, CachedPod> pods, int materialized) {
+            this.uid = uid;
+            this.generation = generation;
+            this.owner = owner;
+            this.pods = pods;
+            this.materialized = materialized;
+
+            Map<String, Pod> desiredPods = new LinkedHashMap<>(pods.size());
+            for (Map.Entry<String, CachedPod> pod : pods.entrySet()) {
+                desiredPods.put(pod.getKey(), pod.getValue().pod);
+            }
+            this.desiredPods = Collections.unmodifiableMap(desiredPods);
+        }
+
+        private boolean isFrom(StrimziPodSet podSet) {
+            return Objects.equals(uid, podSet.getMetadata().getUid())
+                    && generation != null
+                    && generation.equals(podSet.getMetadata().getGeneration());
+        }
+
+        private CachedPod findReusable(Map<String, Object> template, Map<String, Object> podMap) {
+            CachedPod cachedPod = pods.get(name(template, podMap));
+
+            return cachedPod != null && cachedPod.matches(template, podMap) ? cachedPod : null;
+        }
+
+        /**
+         * @return  The owner reference pointing to the StrimziPodSet
+         */
+        OwnerReference getOwner() {
+            return owner;
+        }
+
+        /**
+         * @return  Map with the desired Pods indexed by their names. The Pods must not be modified.
+         */
+        Map<String, Pod> getDesiredPods() {
+            return desiredPods;
+        }
+
+        /**
+         * @return  Number of Pods which had to be materialized when this generation was cached
+         */
+        int getMaterialized() {
+            return materialized;
+        }
+
+        /**
+         * Records the state of a Pod observed during the reconciliation
+         *
+         * @param podName   Name of the Pod
+         * @param ready     Indicates whether the Pod is ready
+         * @param current   Indicates whether the Pod has the current revision
+         */
+        void updatePodState(String podName, boolean ready, boolean current) {
+            if (ready) {
+                readyPods.add(podName);
+            } else {
+                readyPods.remove(podName);
+            }
+
+            if (current) {
+                currentPods.add(podName);
+            } else {
+                currentPods.remove(podName);
+            }
+        }
+
+        /**
+         * Clears the recorded Pod states. This is used before all Pods are reconciled.
+         */
+        void clearPodStates() {
+            readyPods.clear();
+            currentPods.clear();
+        }
+
+        /**
+         * @return  Number of ready desired Pods
+         */
+        int readyPods() {
+            return readyPods.size();
+        }
+
+        /**
+         * @return  Number of desired Pods with the current revision
+         */
+        int currentPods() {
+            return currentPods.size();
+        }
+    }
+
+    /**
+     * Single materialized Pod together with the template and the Map from which it was materialized
+     */
+    private static class CachedPod {
+        private final Map<String, Object> template;
+        private final Map<String, Object> podMap;
+        private final String revision;
+        private final Pod pod;
+
+        private CachedPod(Map<String, Object> template, Map<String, Object> podMap, Pod pod) {
+            this.template = template;
+            this.podMap = podMap;
+            this.revision = pod.getMetadata().getAnnotations() != null ? pod.getMetadata().getAnnotations().get(PodRevision.STRIMZI_REVISION_ANNOTATION) : null;
+            this.pod = pod;
+        }
+
+        private boolean matches(Map<String, Object> template, Map<String, Object> podMap) {
+            return Objects.equals(revision, revision(template, podMap))
+                    && Objects.equals(this.template, template)
+                    && this.podMap.equals(podMap);
+        }
+    }
+
+    /**
+     * Finds the name of the Pod in the Pod Map without materializing the Pod.
+     *
+     * @param template  Shared pod template or null
+     * @param podMap    Pod Map
+     *
+     * @return  The name or null if not set
+     */
+    /* test */ static String name(Map<String, Object> template, Map<String, Object> podMap) {
+        return lookup(template, podMap, "metadata", "name");
+    }
+
+    /**
+     * Finds the revision annotation in the Pod Map without materializing the Pod.
+     *
+     * @param template  Shared pod template or null
+     * @param podMap    Pod Map
+     *
+     * @return  The revision or null if not set
+     */
+    /* test */ static String revision(Map<String, Object> template, Map<String, Object> podMap) {
+        return lookup(template, podMap, "metadata", "annotations", PodRevision.STRIMZI_REVISION_ANNOTATION);
+    }
+
+    /**
+     * Looks up a value in the Pod Map. When the StrimziPodSet uses the shared pod template, the Pod Map is a merge
+     * patch against the template, so the value is taken from the template when the Pod Map does not contain it.
+     *
+     * @param template  Shared pod template or null
+     * @param podMap    Pod Map
+     * @param path      Path to the value
+     *
+     * @return  The value as String or null if not set
+     */
+    @SuppressWarnings("unchecked")
+    private static String lookup(Map<String, Object> template, Map<String, Object> podMap, String... path) {
+        Object current = podMap;
+
+        for (String key : path) {
+            if (current instanceof Map && ((Map<String, Object>) current).containsKey(key)) {
+                current = ((Map<String, Object>) current).get(key);
+            } else {
+                return template != null ? lookup(null, template, path) : null;
+            }
+        }
+
+        return current != null ? current.toString() : null;
+    }
+}
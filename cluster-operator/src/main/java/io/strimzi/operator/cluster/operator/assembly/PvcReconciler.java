@@ -5,13 +5,18 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.storage.StorageClass;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
+import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -19,35 +24,63 @@ import io.vertx.core.Promise;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * This class reconciles the PVCs for the Kafka and ZooKeeper clusters. It has two public methods:
  *   - resizeAndReconcilePvcs for creating, updating and resizing PVCs which are needed by the cluster
  *   - deletePersistentClaims method for deleting PVCs not needed anymore and marked for deletion
+ *
+ * The PVCs are reconciled in parallel, but at most MAX_CONCURRENT_PVC_OPERATIONS of them at the same time. When a
+ * resize timeout is configured, it waits for the resizing PVCs using a single watch until they are resized or until
+ * they wait for the restart of the pod to resize the file system. The progress of the resizing is available as a
+ * condition for the custom resource status.
  */
 public class PvcReconciler {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PvcReconciler.class.getName());
 
+    /* test */ static final int MAX_CONCURRENT_PVC_OPERATIONS = 20;
+    /* test */ static final String RESIZING_CONDITION_TYPE_SUFFIX = "VolumeResizing";
+
     private final Reconciliation reconciliation;
     private final PvcOperator pvcOperator;
     private final StorageClassOperator storageClassOperator;
+    private final long resizeTimeoutMs;
+
+    private final Set<String> resizingPvcs = ConcurrentHashMap.newKeySet();
+    private final Set<String> fileSystemResizePendingPvcs = ConcurrentHashMap.newKeySet();
+    private int totalPvcs = 0;
 
     /**
-     * Constructs the PVC Reconciler
+     * Constructs the PVC Reconciler which does not wait for the resizing of the PVCs
      *
      * @param reconciliation        Reconciliation marker
      * @param pvcOperator           The Persistent Volume Claim operator for working with Kubernetes PVC
      * @param storageClassOperator  The Storage Class operator for working with Kubernetes Storage Classes
      */
     public PvcReconciler(Reconciliation reconciliation, PvcOperator pvcOperator, StorageClassOperator storageClassOperator) {
+        this(reconciliation, pvcOperator, storageClassOperator, 0L);
+    }
+
+    /**
+     * Constructs the PVC Reconciler
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param pvcOperator           The Persistent Volume Claim operator for working with Kubernetes PVC
+     * @param storageClassOperator  The Storage Class operator for working with Kubernetes Storage Classes
+     * @param resizeTimeoutMs       How long to wait for the resizing PVCs (0 disables the waiting)
+     */
+    public PvcReconciler(Reconciliation reconciliation, PvcOperator pvcOperator, StorageClassOperator storageClassOperator, long resizeTimeoutMs) {
         this.reconciliation = reconciliation;
         this.pvcOperator = pvcOperator;
         this.storageClassOperator = storageClassOperator;
+        this.resizeTimeoutMs = resizeTimeoutMs;
     }
 
     /**
@@ -62,57 +95,211 @@ public class PvcReconciler {
      * @return                  Future with list of pod names which should be restarted to complete the filesystem resizing
      */
     public Future<Collection<String>> resizeAndReconcilePvcs(Function<Integer, String> podNameProvider, List<PersistentVolumeClaim> pvcs) {
-        Set<String> podsToRestart = new HashSet<>();
+        Set<String> podsToRestart = ConcurrentHashMap.newKeySet();
+        totalPvcs = pvcs.size();
+
+        return inWindow(pvcs, desiredPvc -> reconcilePvc(podNameProvider, desiredPvc, podsToRestart))
+                .compose(i -> waitForResizing(podNameProvider, podsToRestart))
+                .map(i -> {
+                    if (!resizingPvcs.isEmpty() || !fileSystemResizePendingPvcs.isEmpty()) {
+                        LOGGER.infoCr(reconciliation, "{} of {} PVCs are resizing and {} PVCs are waiting for the restart of their pods to resize the file system",
+                                resizingPvcs.size(), totalPvcs, fileSystemResizePendingPvcs.size());
+                    }
+
+                    return podsToRestart;
+                });
+    }
+
+    /**
+     * Applies the operation to the PVCs with at most MAX_CONCURRENT_PVC_OPERATIONS operations running at the same time.
+     * Each of the parallel chains takes the next PVC when the operation on its previous PVC completes.
+     *
+     * @param pvcs          List of the PVCs
+     * @param operation     Operation which should be applied to each PVC
+     *
+     * @return  Future which completes when the operation completed for all PVCs
+     */
+    private Future<Void> inWindow(List<PersistentVolumeClaim> pvcs, Function<PersistentVolumeClaim, Future<Void>> operation) {
+        Iterator<PersistentVolumeClaim> iterator = pvcs.iterator();
         @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
-        List<Future> futures = new ArrayList<>(pvcs.size());
+        List<Future> futures = new ArrayList<>(MAX_CONCURRENT_PVC_OPERATIONS);
+
+        for (int i = 0; i < Math.min(MAX_CONCURRENT_PVC_OPERATIONS, pvcs.size()); i++)  {
+            futures.add(nextInWindow(iterator, operation));
+        }
 
-        for (PersistentVolumeClaim desiredPvc : pvcs)  {
-            Promise<Void> resultPromise = Promise.promise();
+        return CompositeFuture.all(futures)
+                .map((Void) null);
+    }
 
-            pvcOperator.getAsync(reconciliation.namespace(), desiredPvc.getMetadata().getName()).onComplete(res -> {
-                if (res.succeeded())    {
-                    PersistentVolumeClaim currentPvc = res.result();
+    private Future<Void> nextInWindow(Iterator<PersistentVolumeClaim> iterator, Function<PersistentVolumeClaim, Future<Void>> operation) {
+        PersistentVolumeClaim next;
+
+        synchronized (iterator) {
+            if (!iterator.hasNext()) {
+                return Future.succeededFuture();
+            }
+
+            next = iterator.next();
+        }
+
+        return operation.apply(next)
+                .compose(i -> nextInWindow(iterator, operation));
+    }
+
+    /**
+     * Reconciles a single PVC
+     *
+     * @param podNameProvider   Function to generate a pod name from its index
+     * @param desiredPvc        The desired PVC
+     * @param podsToRestart     Set where the pods which need to be restarted to complete the filesystem resizing are added
+     *
+     * @return  Future which completes when the PVC is reconciled
+     */
+    private Future<Void> reconcilePvc(Function<Integer, String> podNameProvider, PersistentVolumeClaim desiredPvc, Set<String> podsToRestart) {
+        Promise<Void> resultPromise = Promise.promise();
+
+        pvcOperator.getAsync(reconciliation.namespace(), desiredPvc.getMetadata().getName()).onComplete(res -> {
+            if (res.succeeded())    {
+                PersistentVolumeClaim currentPvc = res.result();
+
+                if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
+                    // This branch handles the following conditions:
+                    // * The PVC doesn't exist yet, we should create it
+                    // * The PVC is not Bound, we should reconcile it
+                    pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desiredPvc.getMetadata().getName(), desiredPvc)
+                            .onComplete(r -> resultPromise.complete());
+                } else if (hasCondition(currentPvc, "Resizing"))  {
+                    // The PVC is Bound, but it is already resizing => Nothing to do, we should let it resize
+                    LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
+                    resizingPvcs.add(desiredPvc.getMetadata().getName());
+                    resultPromise.complete();
+                } else if (hasCondition(currentPvc, "FileSystemResizePending"))  {
+                    // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
+                    String podName = podNameProvider.apply(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
+                    podsToRestart.add(podName);
+                    fileSystemResizePendingPvcs.add(desiredPvc.getMetadata().getName());
+                    LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
+                    resultPromise.complete();
+                } else {
+                    // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
+                    Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
+                    Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
 
-                    if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
-                        // This branch handles the following conditions:
-                        // * The PVC doesn't exist yet, we should create it
-                        // * The PVC is not Bound, we should reconcile it
+                    if (!currentSize.equals(desiredSize))   {
+                        // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
+                        resizePvc(currentPvc, desiredPvc).onComplete(resultPromise);
+                    } else  {
+                        // size didn't change, just reconcile
                         pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desiredPvc.getMetadata().getName(), desiredPvc)
                                 .onComplete(r -> resultPromise.complete());
-                    } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                        // The PVC is Bound, but it is already resizing => Nothing to do, we should let it resize
-                        LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
-                        resultPromise.complete();
-                    } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                        // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
-                        String podName = podNameProvider.apply(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
-                        podsToRestart.add(podName);
-                        LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
-                        resultPromise.complete();
-                    } else {
-                        // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
-                        Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
-                        Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
-
-                        if (!currentSize.equals(desiredSize))   {
-                            // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
-                            resizePvc(currentPvc, desiredPvc).onComplete(resultPromise);
-                        } else  {
-                            // size didn't change, just reconcile
-                            pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desiredPvc.getMetadata().getName(), desiredPvc)
-                                    .onComplete(r -> resultPromise.complete());
-                        }
                     }
-                } else {
-                    resultPromise.fail(res.cause());
                 }
-            });
+            } else {
+                resultPromise.fail(res.cause());
+            }
+        });
 
-            futures.add(resultPromise.future());
+        return resultPromise.future();
+    }
+
+    /**
+     * Waits for the PVCs which are resizing until they are resized or until they wait for the file system resizing. It
+     * uses a single watch for all of them instead of polling them one by one. The PVCs which do not finish within the
+     * timeout are left for the next reconciliation.
+     *
+     * @param podNameProvider   Function to generate a pod name from its index
+     * @param podsToRestart     Set where the pods which need to be restarted to complete the filesystem resizing are added
+     *
+     * @return  Future which completes when the resizing PVCs are resized, wait for the file system resizing or when
+     *          the timeout expires
+     */
+    private Future<Void> waitForResizing(Function<Integer, String> podNameProvider, Set<String> podsToRestart) {
+        if (resizeTimeoutMs <= 0 || resizingPvcs.isEmpty()) {
+            return Future.succeededFuture();
         }
 
-        return CompositeFuture.all(futures)
-                .map(podsToRestart);
+        LOGGER.debugCr(reconciliation, "Waiting for the resizing of {} PVCs", resizingPvcs.size());
+
+        return pvcOperator.waitForAll(reconciliation, reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name()), Set.copyOf(resizingPvcs), resizeTimeoutMs, PvcReconciler::isResizeFinished)
+                .map(latest -> {
+                    for (Map.Entry<String, PersistentVolumeClaim> entry : latest.entrySet()) {
+                        String pvcName = entry.getKey();
+
+                        if (hasCondition(entry.getValue(), "FileSystemResizePending")) {
+                            String podName = podNameProvider.apply(getPodIndexFromPvcName(pvcName));
+                            podsToRestart.add(podName);
+                            resizingPvcs.remove(pvcName);
+                            fileSystemResizePendingPvcs.add(pvcName);
+                            LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", pvcName, podName);
+                        } else if (isResizeFinished(entry.getValue())) {
+                            LOGGER.infoCr(reconciliation, "The PVC {} is resized", pvcName);
+                            resizingPvcs.remove(pvcName);
+                        }
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * Checks whether the PVC is resized or whether it waits for the file system resizing which needs the pod restart.
+     *
+     * @param pvc   The PVC
+     *
+     * @return  True if the resizing of the PVC does not need to be waited for anymore. False otherwise.
+     */
+    /* test */ static boolean isResizeFinished(PersistentVolumeClaim pvc)  {
+        if (hasCondition(pvc, "FileSystemResizePending")) {
+            return true;
+        } else if (hasCondition(pvc, "Resizing")
+                || pvc.getSpec() == null
+                || pvc.getSpec().getResources() == null
+                || pvc.getSpec().getResources().getRequests() == null
+                || pvc.getStatus() == null
+                || pvc.getStatus().getCapacity() == null)  {
+            return false;
+        } else {
+            Quantity requested = pvc.getSpec().getResources().getRequests().get("storage");
+            Quantity capacity = pvc.getStatus().getCapacity().get("storage");
+
+            return requested != null
+                    && capacity != null
+                    && StorageUtils.parseMemory(capacity) >= StorageUtils.parseMemory(requested);
+        }
+    }
+
+    private static boolean hasCondition(PersistentVolumeClaim pvc, String type)  {
+        return pvc.getStatus() != null
+                && pvc.getStatus().getConditions() != null
+                && pvc.getStatus().getConditions().stream().anyMatch(cond -> type.equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * Builds the condition which describes the progress of the PVC resizing. It should be called only after the
+     * resizeAndReconcilePvcs method completes. The type of the condition is prefixed with the component name (e.g.
+     * KafkaVolumeResizing), so that the conditions of the different components of the same custom resource do not
+     * collide.
+     *
+     * @param component     Name of the component which uses the PVCs (e.g. Kafka or ZooKeeper) used in the type and
+     *                      message
+     *
+     * @return  Condition with the progress of the resizing or null if no PVCs are resizing or waiting for the file
+     *          system resizing
+     */
+    public Condition resizingCondition(String component) {
+        if (resizingPvcs.isEmpty() && fileSystemResizePendingPvcs.isEmpty()) {
+            return null;
+        }
+
+        return new ConditionBuilder()
+                .withLastTransitionTime(StatusUtils.iso8601Now())
+                .withType(component + RESIZING_CONDITION_TYPE_SUFFIX)
+                .withStatus("True")
+                .withReason(resizingPvcs.isEmpty() ? "FileSystemResizePending" : "Resizing")
+                .withMessage(resizingPvcs.size() + " of " + totalPvcs + " " + component + " PersistentVolumeClaims are resizing and "
+                        + fileSystemResizePendingPvcs.size() + " are waiting for the restart of their pods to resize the file system")
+                .build();
     }
 
     /**
@@ -146,6 +333,7 @@ public class PvcReconciler {
                         LOGGER.infoCr(reconciliation, "Resizing PVC {} from {} to {}.", desired.getMetadata().getName(), current.getStatus().getCapacity().get("storage").getAmount(), desired.getSpec().getResources().getRequests().get("storage").getAmount());
                         pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desired.getMetadata().getName(), desired).onComplete(pvcRes -> {
                             if (pvcRes.succeeded()) {
+                                resizingPvcs.add(desired.getMetadata().getName());
                                 resultPromise.complete();
                             } else {
                                 resultPromise.fail(pvcRes.cause());
@@ -15,6 +15,8 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Lister;
 import io.fabric8.kubernetes.client.internal.readiness.Readiness;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.KafkaList;
 import io.strimzi.api.kafka.StrimziPodSetList;
 import io.strimzi.api.kafka.model.Kafka;
@@ -22,9 +24,10 @@ import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
 import io.strimzi.api.kafka.model.status.StrimziPodSetStatus;
 import io.strimzi.operator.cluster.model.ModelUtils;
-import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.PodRevision;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -37,14 +40,22 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * StrimziPodSet controller is responsible for managing the StrimziPodSets and the pods which belong to them
+ *
+ * The desired pods are materialized from the StrimziPodSet only when the StrimziPodSet generation changes and are
+ * cached in between. Events about individual pods are tracked together with the enqueued StrimziPodSet. When the
+ * StrimziPodSet did not change since the last reconciliation, only the pods affected by these events are reconciled
+ * and the state of the other pods is taken from the previous reconciliation.
  */
 public class StrimziPodSetController implements Runnable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
@@ -59,6 +70,9 @@ public class StrimziPodSetController implements Runnable {
     private final String watchedNamespace;
 
     private final BlockingQueue<SimplifiedReconciliation> workQueue;
+    private final Map<SimplifiedReconciliation, PendingEvents> pendingEvents = new ConcurrentHashMap<>();
+    private final MaterializedPodCache podCache = new MaterializedPodCache();
+    private final MetricsProvider metrics;
     private final SharedIndexInformer<Pod> podInformer;
     private final SharedIndexInformer<StrimziPodSet> strimziPodSetInformer;
     private final SharedIndexInformer<Kafka> kafkaInformer;
@@ -77,10 +91,12 @@ public class StrimziPodSetController implements Runnable {
      * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
      *                                      their status etc.
      * @param podOperator                   Pod operator for managing pods
+     * @param metrics                       Metrics provider used for the reconciliation metrics
      * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
      */
-    public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator, PodOperator podOperator, int podSetControllerWorkQueueSize) {
+    public StrimziPodSetController(String watchedNamespace, Labels crSelectorLabels, CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator, CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator, PodOperator podOperator, MetricsProvider metrics, int podSetControllerWorkQueueSize) {
         this.podOperator = podOperator;
+        this.metrics = metrics;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, crSelectorLabels.toMap()));
         this.watchedNamespace = watchedNamespace;
@@ -96,18 +112,23 @@ public class StrimziPodSetController implements Runnable {
         this.strimziPodSetInformer.addEventHandlerWithResyncPeriod(new ResourceEventHandler<>() {
             @Override
             public void onAdd(StrimziPodSet podSet) {
-                enqueueStrimziPodSet(podSet, "ADDED");
+                enqueueStrimziPodSet(podSet, "ADDED", true);
             }
 
             @Override
             public void onUpdate(StrimziPodSet oldPodSet, StrimziPodSet newPodSet) {
-                enqueueStrimziPodSet(newPodSet, "MODIFIED");
+                // Updates which do not change the generation (such as our own status updates) do not need all pods to
+                // be reconciled again. Periodic resyncs (with unchanged resource version) still reconcile all pods.
+                boolean specChanged = Objects.equals(oldPodSet.getMetadata().getResourceVersion(), newPodSet.getMetadata().getResourceVersion())
+                        || !Objects.equals(oldPodSet.getMetadata().getGeneration(), newPodSet.getMetadata().getGeneration());
+                enqueueStrimziPodSet(newPodSet, "MODIFIED", specChanged);
             }
 
             @Override
             public void onDelete(StrimziPodSet podSet, boolean deletedFinalStateUnknown) {
                 LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
-                // Nothing to do => garbage collection should take care of things
+                // Nothing to do => garbage collection should take care of things. The cached pods are removed in the
+                // next reconciliation of this StrimziPodSet (if any) => the cache is accessed only from the controller thread.
             }
         }, 10 * 60 * 1000);
 
@@ -138,14 +159,16 @@ public class StrimziPodSetController implements Runnable {
      * Checks if the StrimziPodSet which should be enqueued matches the CR selector. If it does, it will enqueue the
      * reconciliation. This is used to enqueue reconciliations based on StrimziPodSet events.
      *
-     * @param podSet    StrimziPodSet which should be checked and possibly enqueued
-     * @param action    The action from the event which triggered this
+     * @param podSet        StrimziPodSet which should be checked and possibly enqueued
+     * @param action        The action from the event which triggered this
+     * @param specChanged   Indicates whether the event might have changed the StrimziPodSet spec and all pods should
+     *                      be reconciled
      */
-    private void enqueueStrimziPodSet(StrimziPodSet podSet, String action)   {
+    private void enqueueStrimziPodSet(StrimziPodSet podSet, String action, boolean specChanged)   {
         LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
 
         if (matchesCrSelector(podSet)) {
-            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()), null, specChanged);
         } else {
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
         }
@@ -157,6 +180,8 @@ public class StrimziPodSetController implements Runnable {
      * to enqueue reconciliations based on Pod events.
      *
      * Note: The reconciliation is enqueued per StrimziPodSet to which the pod belongs and not based on the Pod itself.
+     * The name of the pod is recorded with the enqueued reconciliation so that only the affected pods can be
+     * reconciled when the StrimziPodSet itself did not change.
      *
      * @param pod      Pod which should be checked and possibly enqueued
      * @param action   The action from the event which triggered this
@@ -174,7 +199,7 @@ public class StrimziPodSetController implements Runnable {
 
         if (parentPodSet != null) {
             if (matchesCrSelector(parentPodSet)) {
-                enqueue(new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()));
+                enqueue(new SimplifiedReconciliation(parentPodSet.getMetadata().getNamespace(), parentPodSet.getMetadata().getName()), pod.getMetadata().getName(), false);
             } else {
                 LOGGER.debugOp("Pod {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", pod.getMetadata().getName(), pod.getMetadata().getNamespace(), action);
             }
@@ -227,24 +252,39 @@ public class StrimziPodSetController implements Runnable {
      * The main reconciliation logic which handles the reconciliations.
      *
      * @param reconciliation    Reconciliation identifier used for logging
+     * @param events            Events which triggered this reconciliation
      */
-    private void reconcile(Reconciliation reconciliation)    {
+    private void reconcile(Reconciliation reconciliation, PendingEvents events)    {
         String name = reconciliation.name();
         String namespace = reconciliation.namespace();
         StrimziPodSet podSet = strimziPodSetLister.namespace(namespace).get(name);
 
         if (podSet == null) {
             LOGGER.debugCr(reconciliation, "StrimziPodSet is null => nothing to do");
+            podCache.remove(namespace, name);
         } else if (!matchesCrSelector(podSet))    {
             LOGGER.debugCr(reconciliation, "StrimziPodSet doesn't match the selector => nothing to do");
+            podCache.remove(namespace, name);
         } else if (isDeleting(podSet))    {
             // When the PodSet is deleted, the pod deletion is done by Kubernetes Garbage Collection. When the PodSet
             // deletion is non-cascading, Kubernetes will remove the owner references. In order to avoid setting the
             // owner reference again, we need to check if the PodSet is being deleted and if it is, we leave it to
             // Kubernetes.
             LOGGER.infoCr(reconciliation, "StrimziPodSet is deleting => nothing to do");
+            podCache.remove(namespace, name);
         } else {
-            LOGGER.infoCr(reconciliation, "StrimziPodSet will be reconciled");
+            long startNanos = System.nanoTime();
+
+            // Only the pods affected by the events are reconciled when the StrimziPodSet did not change since it was
+            // last reconciled. Otherwise, all pods are reconciled.
+            MaterializedPodCache.CachedPodSet cachedPodSet = events.isPodSetEvent() ? null : podCache.getIfCurrent(podSet);
+            boolean partial = cachedPodSet != null;
+
+            if (partial) {
+                LOGGER.debugCr(reconciliation, "StrimziPodSet will be reconciled for pods {}", events.getPods());
+            } else {
+                LOGGER.infoCr(reconciliation, "StrimziPodSet will be reconciled");
+            }
 
             StrimziPodSetStatus status = new StrimziPodSetStatus();
             status.setObservedGeneration(podSet.getMetadata().getGeneration());
@@ -255,20 +295,27 @@ public class StrimziPodSetController implements Runnable {
                 // 2) Modify changed pods if needed (patch owner reference)
                 // 3) Delete scaled down pods
 
-                // Will be used later to find out if any pod needs to be deleted
-                Set<String> desiredPods = new HashSet<>(podSet.getSpec().getPods().size());
-                PodCounter podCounter = new PodCounter();
-                podCounter.pods = podSet.getSpec().getPods().size();
+                if (!partial) {
+                    cachedPodSet = podCache.get(podSet);
+                    cachedPodSet.clearPodStates();
+                    LOGGER.debugCr(reconciliation, "{} of {} pods were materialized from the StrimziPodSet", cachedPodSet.getMaterialized(), cachedPodSet.getDesiredPods().size());
+                }
 
-                for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                    Pod pod = PodSetUtils.mapToPod(desiredPod);
-                    desiredPods.add(pod.getMetadata().getName());
+                Map<String, Pod> desiredPods = cachedPodSet.getDesiredPods();
+                PodCounter podCounter = new PodCounter();
+                podCounter.pods = desiredPods.size();
 
-                    maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet), podCounter);
+                for (Pod pod : desiredPods.values()) {
+                    if (!partial || events.getPods().contains(pod.getMetadata().getName())) {
+                        maybeCreateOrPatchPod(reconciliation, pod, cachedPodSet);
+                    }
                 }
 
                 // Check if any pods needs to be deleted
-                removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
+                removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods.keySet(), partial ? events.getPods() : null, podCounter);
+
+                podCounter.readyPods = cachedPodSet.readyPods();
+                podCounter.currentPods = cachedPodSet.currentPods();
 
                 status.setPods(podCounter.pods);
                 status.setReadyPods(podCounter.readyPods);
@@ -276,13 +323,39 @@ public class StrimziPodSetController implements Runnable {
             } catch (Exception e) {
                 LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
                 status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
+
+                // The cached pod states cannot be trusted anymore => the next reconciliation will reconcile all pods
+                podCache.remove(namespace, name);
             } finally {
                 maybeUpdateStatus(reconciliation, podSet, status);
+                recordReconciliation(namespace, partial, startNanos, events.getFirstEventNanos());
                 LOGGER.infoCr(reconciliation, "reconciled");
             }
         }
     }
 
+    /**
+     * Records the metrics about the reconciliation. The reconciliation duration covers only the reconciliation itself.
+     * The event latency covers the time from the first event which triggered this reconciliation until the
+     * reconciliation completed, including the time spent waiting in the work queue.
+     *
+     * @param namespace         Namespace of the StrimziPodSet
+     * @param partial           Indicates whether only the pods affected by the events were reconciled
+     * @param startNanos        Time when the reconciliation started
+     * @param firstEventNanos   Time when the first event which triggered the reconciliation was received
+     */
+    private void recordReconciliation(String namespace, boolean partial, long startNanos, long firstEventNanos) {
+        long endNanos = System.nanoTime();
+        Tags tags = Tags.of(Tag.of("kind", StrimziPodSet.RESOURCE_KIND), Tag.of("namespace", namespace), Tag.of("type", partial ? "pods" : "full"));
+
+        metrics.timer(AbstractOperator.METRICS_PREFIX + "podset.reconciliations.duration",
+                "The time the StrimziPodSet reconciliation takes to complete", tags)
+                .record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+        metrics.timer(AbstractOperator.METRICS_PREFIX + "podset.events.latency",
+                "The time from receiving an event about a StrimziPodSet or its pods until the reconciliation handling it completes", tags)
+                .record(endNanos - firstEventNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Updates the status of the StrimziPodSet. The status will be updated only when it changed since last time.
      *
@@ -316,18 +389,25 @@ public class StrimziPodSetController implements Runnable {
      * needed adds it to the Pod.
      *
      * @param reconciliation    Reconciliation in which this is executed
-     * @param pod               Pod which should be checked and created if needed
-     * @param owner             The OwnerReference which should be set to the pod
-     * @param podCounter        Pod Counter used to count pods for the status
+     * @param pod               Pod which should be checked and created if needed. The pod is shared with the cache
+     *                          and must not be modified.
+     * @param cachedPodSet      Cached StrimziPodSet with the OwnerReference which should be set to the pod and used
+     *                          to record the state of the pod for the status
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
+    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, MaterializedPodCache.CachedPodSet cachedPodSet)    {
         Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
+        OwnerReference owner = cachedPodSet.getOwner();
 
         if (currentPod == null) {
             // Pod does not exist => we create it
             LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
-            pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).create(pod);
+            Pod podWithOwnerReference = new PodBuilder(pod)
+                    .editMetadata()
+                        .withOwnerReferences(owner)
+                    .endMetadata()
+                    .build();
+            podOperator.client().inNamespace(reconciliation.namespace()).create(podWithOwnerReference);
+            cachedPodSet.updatePodState(pod.getMetadata().getName(), false, false);
         } else {
             if (ModelUtils.hasOwnerReference(currentPod, owner))    {
                 LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", pod.getMetadata().getName(), reconciliation.namespace());
@@ -345,13 +425,7 @@ public class StrimziPodSetController implements Runnable {
                 podOperator.client().inNamespace(reconciliation.namespace()).patch(podWithOwnerReference);
             }
 
-            if (Readiness.isPodReady(currentPod))   {
-                podCounter.readyPods++;
-            }
-
-            if (!PodRevision.hasChanged(currentPod, pod))    {
-                podCounter.currentPods++;
-            }
+            cachedPodSet.updatePodState(pod.getMetadata().getName(), Readiness.isPodReady(currentPod), !PodRevision.hasChanged(currentPod, pod));
 
             // TODO: Add patching of exiting pods => to be done in the future to handle selected changes to the Pods
             //  which might not require rolling updates
@@ -364,13 +438,16 @@ public class StrimziPodSetController implements Runnable {
      * @param reconciliation    Reconciliation in which this is executed
      * @param selector          LabelSelector to match the pods belonging to this StrimziPodSet
      * @param desiredPodNames   Collection with names of the pods which are still desired
+     * @param affectedPodNames  Collection with names of the pods affected by the events which triggered this
+     *                          reconciliation or null if all pods should be checked
      * @param podCounter        Pod Counter used to count pods for the status
      */
-    private void removeDeletedPods(Reconciliation reconciliation, LabelSelector selector, Collection<String> desiredPodNames, PodCounter podCounter) {
+    private void removeDeletedPods(Reconciliation reconciliation, LabelSelector selector, Collection<String> desiredPodNames, Collection<String> affectedPodNames, PodCounter podCounter) {
         Set<String> toBeDeleted = podLister
                 .namespace(reconciliation.namespace())
                 .list()
                 .stream()
+                .filter(pod -> affectedPodNames == null || affectedPodNames.contains(pod.getMetadata().getName()))
                 .filter(pod -> Util.matchesSelector(Optional.of(selector), pod))
                 .map(pod -> pod.getMetadata().getName())
                 .collect(Collectors.toSet());
@@ -385,11 +462,18 @@ public class StrimziPodSetController implements Runnable {
 
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * the queue and enqueues the new event only if it is not there yet. The event itself is always recorded so that
+     * the reconciliation knows which pods it needs to handle.
      *
      * @param reconciliation    Reconciliation identifier
+     * @param podName           Name of the pod which triggered the event or null if it was triggered by the
+     *                          StrimziPodSet itself
+     * @param specChanged       Indicates whether the event might have changed the StrimziPodSet spec and all pods
+     *                          should be reconciled
      */
-    private void enqueue(SimplifiedReconciliation reconciliation)    {
+    private void enqueue(SimplifiedReconciliation reconciliation, String podName, boolean specChanged)    {
+        pendingEvents.compute(reconciliation, (key, events) -> (events == null ? new PendingEvents() : events).add(podName, specChanged));
+
         if (!workQueue.contains(reconciliation)) {
             LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
             workQueue.add(reconciliation);
@@ -415,8 +499,17 @@ public class StrimziPodSetController implements Runnable {
         while (!stop) {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
-                Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                SimplifiedReconciliation simplifiedReconciliation = workQueue.take();
+                PendingEvents events = pendingEvents.remove(simplifiedReconciliation);
+
+                if (events != null) {
+                    reconcile(simplifiedReconciliation.toReconciliation(), events);
+                } else {
+                    // The events were already handled by the previous reconciliation of the same StrimziPodSet. This
+                    // happens when an event arrives after the reconciliation was taken from the queue but before its
+                    // events were collected.
+                    LOGGER.debugOp("StrimziPodSet {} in namespace {} has no pending events => ignoring", simplifiedReconciliation.name, simplifiedReconciliation.namespace);
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
@@ -458,6 +551,59 @@ public class StrimziPodSetController implements Runnable {
         int currentPods = 0;
     }
 
+    /**
+     * Helper class to collect the events received for a StrimziPodSet while it is waiting in the work queue. It tracks
+     * whether any event might have changed the StrimziPodSet spec (in which case all pods have to be reconciled) and
+     * which pods were affected by the events. It is always accessed under the lock of the pending events map.
+     */
+    static class PendingEvents  {
+        private final long firstEventNanos = System.nanoTime();
+        private final Set<String> pods = new HashSet<>();
+        private boolean podSetEvent = false;
+
+        /**
+         * Records new event
+         *
+         * @param podName       Name of the pod to which the event belongs or null if the event is about the
+         *                      StrimziPodSet
+         * @param specChanged   Indicates whether the event might have changed the StrimziPodSet spec
+         *
+         * @return  This instance
+         */
+        PendingEvents add(String podName, boolean specChanged) {
+            if (podName != null) {
+                pods.add(podName);
+            }
+
+            if (specChanged) {
+                podSetEvent = true;
+            }
+
+            return this;
+        }
+
+        /**
+         * @return  True if any of the events might have changed the StrimziPodSet spec. False otherwise.
+         */
+        boolean isPodSetEvent() {
+            return podSetEvent;
+        }
+
+        /**
+         * @return  Names of the pods affected by the events
+         */
+        Set<String> getPods() {
+            return pods;
+        }
+
+        /**
+         * @return  The time when the first event was received
+         */
+        long getFirstEventNanos() {
+            return firstEventNanos;
+        }
+    }
+
     /**
      * Helper class to track the pod counts during reconciliation and to pass through different methods. This simplified
      * class is used initially instead of the regular Reconciliation class. It also has a custom equals implementation
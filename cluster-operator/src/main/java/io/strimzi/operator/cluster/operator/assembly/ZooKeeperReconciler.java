@@ -17,6 +17,7 @@ import io.strimzi.api.kafka.StrimziPodSetList;
 import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.KafkaStatus;
 import io.strimzi.api.kafka.model.storage.Storage;
 import io.strimzi.operator.PlatformFeaturesAvailability;
@@ -29,6 +30,7 @@ import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.KafkaVersionChange;
 import io.strimzi.operator.cluster.model.ModelUtils;
+import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.StatefulSetOperator;
@@ -37,6 +39,7 @@ import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScaler;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperScalerProvider;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -94,6 +97,9 @@ public class ZooKeeperReconciler {
     private final int adminSessionTimeoutMs;
     private final ImagePullPolicy imagePullPolicy;
     private final List<LocalObjectReference> imagePullSecrets;
+    private final boolean podSetSharedPodTemplate;
+    private final boolean zooKeeperParallelRolling;
+    private final long pvcResizeWaitTimeoutMs;
 
     private final StatefulSetOperator stsOperator;
     private final CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator;
@@ -110,6 +116,7 @@ public class ZooKeeperReconciler {
 
     private final ZookeeperScalerProvider zooScalerProvider;
     private final ZookeeperLeaderFinder zooLeaderFinder;
+    private final MetricsProvider metricsProvider;
 
     private final Integer currentReplicas;
 
@@ -161,6 +168,9 @@ public class ZooKeeperReconciler {
         this.adminSessionTimeoutMs = config.getZkAdminSessionTimeoutMs();
         this.imagePullPolicy = config.getImagePullPolicy();
         this.imagePullSecrets = config.getImagePullSecrets();
+        this.podSetSharedPodTemplate = config.isPodSetSharedPodTemplate();
+        this.zooKeeperParallelRolling = config.isZooKeeperParallelRolling();
+        this.pvcResizeWaitTimeoutMs = config.getPvcResizeWaitTimeoutMs();
 
         this.stsOperator = supplier.stsOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -177,6 +187,7 @@ public class ZooKeeperReconciler {
 
         this.zooScalerProvider = supplier.zkScalerProvider;
         this.zooLeaderFinder = supplier.zookeeperLeaderFinder;
+        this.metricsProvider = supplier.metricsProvider;
     }
 
     /**
@@ -199,6 +210,9 @@ public class ZooKeeperReconciler {
      * @param adminSessionTimeoutMs                 Timeout for the ZooKeeper client
      * @param imagePullPolicy                       Policy for pulling images
      * @param imagePullSecrets                      Secret for pulling images
+     * @param podSetSharedPodTemplate               Indicates whether the StrimziPodSet should use a shared pod template
+     * @param zooKeeperParallelRolling              Indicates whether the ZooKeeper followers should be rolled in parallel
+     * @param pvcResizeWaitTimeoutMs                How long to wait for the resizing PVCs (0 disables the waiting)
      * @param stsOperator                           The StatefulSet operator for working with Kubernetes StatefulSets
      * @param strimziPodSetOperator                 Operator for StrimziPodSets
      * @param secretOperator                        The Secret operator for working with Kubernetes Secrets
@@ -213,6 +227,7 @@ public class ZooKeeperReconciler {
      * @param podOperator                           Pod operator
      * @param zooScalerProvider                     Provider of the ZooKeeper Scaler instance
      * @param zooLeaderFinder                       Provider of the ZooKeeper Leader Finder instance
+     * @param metricsProvider                       Metrics provider used to record the duration of the rolling updates
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ZooKeeperReconciler(
@@ -233,6 +248,9 @@ public class ZooKeeperReconciler {
             int adminSessionTimeoutMs,
             ImagePullPolicy imagePullPolicy,
             List<LocalObjectReference> imagePullSecrets,
+            boolean podSetSharedPodTemplate,
+            boolean zooKeeperParallelRolling,
+            long pvcResizeWaitTimeoutMs,
 
             StatefulSetOperator stsOperator,
             CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator,
@@ -248,7 +266,8 @@ public class ZooKeeperReconciler {
             PodOperator podOperator,
 
             ZookeeperScalerProvider zooScalerProvider,
-            ZookeeperLeaderFinder zooLeaderFinder
+            ZookeeperLeaderFinder zooLeaderFinder,
+            MetricsProvider metricsProvider
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
@@ -266,6 +285,9 @@ public class ZooKeeperReconciler {
         this.adminSessionTimeoutMs = adminSessionTimeoutMs;
         this.imagePullPolicy = imagePullPolicy;
         this.imagePullSecrets = imagePullSecrets;
+        this.podSetSharedPodTemplate = podSetSharedPodTemplate;
+        this.zooKeeperParallelRolling = zooKeeperParallelRolling;
+        this.pvcResizeWaitTimeoutMs = pvcResizeWaitTimeoutMs;
 
         this.stsOperator = stsOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
@@ -282,6 +304,7 @@ public class ZooKeeperReconciler {
 
         this.zooScalerProvider = zooScalerProvider;
         this.zooLeaderFinder = zooLeaderFinder;
+        this.metricsProvider = metricsProvider;
     }
 
     /**
@@ -301,7 +324,7 @@ public class ZooKeeperReconciler {
                 .compose(i -> manualRollingUpdate())
                 .compose(i -> logVersionChange())
                 .compose(i -> serviceAccount())
-                .compose(i -> pvcs())
+                .compose(i -> pvcs(kafkaStatus))
                 .compose(i -> service())
                 .compose(i -> headlessService())
                 .compose(i -> certificateSecret(dateSupplier))
@@ -508,15 +531,24 @@ public class ZooKeeperReconciler {
      * Manages the PVCs needed by the ZooKeeper cluster. This method only creates or updates the PVCs. Deletion of PVCs
      * after scale-down happens only at the end of the reconciliation when they are not used anymore.
      *
+     * @param kafkaStatus   The Kafka Status where the progress of the PVC resizing will be added
+     *
      * @return  Completes when the PVCs were successfully created or updated
      */
-    Future<Void> pvcs() {
+    Future<Void> pvcs(KafkaStatus kafkaStatus) {
         List<PersistentVolumeClaim> pvcs = zk.generatePersistentVolumeClaims();
+        PvcReconciler pvcReconciler = new PvcReconciler(reconciliation, pvcOperator, storageClassOperator, pvcResizeWaitTimeoutMs);
 
-        return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator)
+        return pvcReconciler
                 .resizeAndReconcilePvcs(podIndex -> KafkaResources.zookeeperPodName(reconciliation.name(), podIndex), pvcs)
                 .compose(podsToRestart -> {
                     fsResizingRestartRequest.addAll(podsToRestart);
+
+                    Condition resizingCondition = pvcReconciler.resizingCondition("ZooKeeper");
+                    if (resizingCondition != null) {
+                        kafkaStatus.addCondition(resizingCondition);
+                    }
+
                     return Future.succeededFuture();
                 });
     }
@@ -682,6 +714,11 @@ public class ZooKeeperReconciler {
             podAnnotations.put(Annotations.ANNO_STRIMZI_LOGGING_HASH, loggingHash);
 
             StrimziPodSet zkPodSet = zk.generatePodSet(replicas, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, podAnnotations);
+
+            if (podSetSharedPodTemplate) {
+                zkPodSet = PodSetUtils.withSharedPodTemplate(zkPodSet);
+            }
+
             return strimziPodSetOperator.reconcile(reconciliation, reconciliation.namespace(), KafkaResources.zookeeperStatefulSetName(reconciliation.name()), zkPodSet)
                     .compose(rr -> {
                         podSetDiff = rr;
@@ -882,7 +919,7 @@ public class ZooKeeperReconciler {
      * @return                      Future which completes when any of the ZooKeeper pods which need rolling is rolled
      */
     Future<Void> maybeRollZooKeeper(Function<Pod, List<String>> podNeedsRestart, Secret clusterCaCertSecret, Secret coKeySecret) {
-        return new ZooKeeperRoller(podOperator, zooLeaderFinder, operationTimeoutMs)
+        return new ZooKeeperRoller(podOperator, zooLeaderFinder, operationTimeoutMs, zooKeeperParallelRolling, metricsProvider)
                 .maybeRollingUpdate(reconciliation, zk.getSelectorLabels(), podNeedsRestart, clusterCaCertSecret, coKeySecret);
     }
 
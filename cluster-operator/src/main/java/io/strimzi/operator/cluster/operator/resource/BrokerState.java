@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * State of the Kafka broker as reported by the Kafka Agent. The codes correspond to the values of the
+ * {@code kafka.server:type=KafkaServer,name=BrokerState} metric. While the broker recovers its logs, the state also
+ * contains the number of logs and segments which remain to be recovered (when the Kafka version provides them).
+ */
+public class BrokerState {
+    /**
+     * The broker is recovering its logs after an unclean shutdown
+     */
+    public static final int RECOVERY = 2;
+
+    /**
+     * The broker is running and ready to serve clients
+     */
+    public static final int RUNNING = 3;
+
+    /**
+     * The broker state could not be determined (for example because the Kafka Agent is not reachable)
+     */
+    public static final BrokerState UNKNOWN = new BrokerState(-1, null);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int code;
+    private final String podName;
+    private final long remainingLogsToRecover;
+    private final long remainingSegmentsToRecover;
+
+    /**
+     * Constructor
+     *
+     * @param code      Code of the broker state
+     * @param podName   Name of the pod which reported the state
+     */
+    public BrokerState(int code, String podName) {
+        this(code, podName, -1, -1);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param code                          Code of the broker state
+     * @param podName                       Name of the pod which reported the state
+     * @param remainingLogsToRecover        Number of logs which remain to be recovered or -1 if not known
+     * @param remainingSegmentsToRecover    Number of segments which remain to be recovered or -1 if not known
+     */
+    public BrokerState(int code, String podName, long remainingLogsToRecover, long remainingSegmentsToRecover) {
+        this.code = code;
+        this.podName = podName;
+        this.remainingLogsToRecover = remainingLogsToRecover;
+        this.remainingSegmentsToRecover = remainingSegmentsToRecover;
+    }
+
+    /**
+     * Parses the broker state from the JSON response of the Kafka Agent
+     *
+     * @param json  The JSON response
+     *
+     * @return  The broker state
+     */
+    static BrokerState fromJson(String json) {
+        try {
+            JsonNode node = MAPPER.readTree(json);
+            JsonNode podName = node.path("podName");
+            JsonNode recoveryState = node.path("recoveryState");
+
+            return new BrokerState(node.path("brokerState").asInt(-1),
+                    podName.isTextual() ? podName.asText() : null,
+                    recoveryState.path("remainingLogsToRecover").asLong(-1),
+                    recoveryState.path("remainingSegmentsToRecover").asLong(-1));
+        } catch (JsonProcessingException e) {
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * @return  Code of the broker state
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * @return  Name of the pod which reported the state or null if not known
+     */
+    public String podName() {
+        return podName;
+    }
+
+    /**
+     * @return  Number of logs which remain to be recovered or -1 if not known
+     */
+    public long remainingLogsToRecover() {
+        return remainingLogsToRecover;
+    }
+
+    /**
+     * @return  Number of segments which remain to be recovered or -1 if not known
+     */
+    public long remainingSegmentsToRecover() {
+        return remainingSegmentsToRecover;
+    }
+
+    /**
+     * @return  True if the broker is running. False otherwise.
+     */
+    public boolean isRunning() {
+        return code == RUNNING;
+    }
+
+    /**
+     * @return  True if the broker is recovering its logs. False otherwise.
+     */
+    public boolean isRecovering() {
+        return code == RECOVERY;
+    }
+
+    /**
+     * Checks whether the log recovery made progress since the previous state. The progress can be determined only
+     * when both states contain the number of logs or segments which remain to be recovered.
+     *
+     * @param previous  The previous state of the same broker
+     *
+     * @return  True if the broker is still recovering and fewer logs or segments remain to be recovered than in the
+     *          previous state. False otherwise.
+     */
+    public boolean recoveryProgressedSince(BrokerState previous) {
+        if (!isRecovering() || !previous.isRecovering()) {
+            return false;
+        }
+
+        return decreased(previous.remainingLogsToRecover, remainingLogsToRecover)
+                || decreased(previous.remainingSegmentsToRecover, remainingSegmentsToRecover);
+    }
+
+    private static boolean decreased(long previous, long current) {
+        return previous >= 0 && current >= 0 && current < previous;
+    }
+
+    @Override
+    public String toString() {
+        return "BrokerState(" +
+                "code=" + code +
+                ",podName=" + podName +
+                ",remainingLogsToRecover=" + remainingLogsToRecover +
+                ",remainingSegmentsToRecover=" + remainingSegmentsToRecover +
+                ")";
+    }
+}
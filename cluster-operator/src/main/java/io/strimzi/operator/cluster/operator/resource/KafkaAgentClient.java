@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.operator.cluster.model.DnsNameGenerator;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Client for the HTTP server of the Kafka Agent running in the Kafka broker pods. The Kafka Agent answers directly
+ * from the broker state metric, so the broker state is known without waiting for the next run of the readiness probe.
+ * Any error (e.g. when the broker uses a container image without the HTTP server) is reported as an unknown state.
+ */
+public class KafkaAgentClient {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAgentClient.class);
+
+    /* test */ static final String BROKER_STATE_PATH = "/v1/broker-state";
+    private static final long CONNECT_TIMEOUT_MS = 1_000;
+    private static final long REQUEST_TIMEOUT_MS = 2_000;
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(CONNECT_TIMEOUT_MS))
+            .build();
+
+    private final Reconciliation reconciliation;
+    private final String namespace;
+    private final String cluster;
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the Kafka cluster
+     * @param cluster           Name of the Kafka cluster
+     */
+    public KafkaAgentClient(Reconciliation reconciliation, String namespace, String cluster) {
+        this.reconciliation = reconciliation;
+        this.namespace = namespace;
+        this.cluster = cluster;
+    }
+
+    /**
+     * Gets the broker state from the Kafka Agent. This method is blocking and should not be called from the event loop.
+     *
+     * @param podName   Name of the broker pod
+     *
+     * @return  The broker state or {@link BrokerState#UNKNOWN} if it could not be determined
+     */
+    public BrokerState brokerState(String podName) {
+        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://" + host + ":" + KafkaCluster.KAFKA_AGENT_PORT + BROKER_STATE_PATH))
+                .timeout(Duration.ofMillis(REQUEST_TIMEOUT_MS))
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() == 200) {
+                BrokerState state = BrokerState.fromJson(response.body());
+
+                if (state.podName() != null && !podName.equals(state.podName())) {
+                    // The DNS name was resolved to an address which belongs to another pod (e.g. from a stale DNS cache)
+                    LOGGER.debugCr(reconciliation, "Kafka Agent at {} reported the state of pod {} instead of {}", host, state.podName(), podName);
+                    return BrokerState.UNKNOWN;
+                }
+
+                return state;
+            } else {
+                LOGGER.debugCr(reconciliation, "Kafka Agent in pod {} responded with status code {}", podName, response.statusCode());
+                return BrokerState.UNKNOWN;
+            }
+        } catch (IOException e) {
+            LOGGER.debugCr(reconciliation, "Failed to get the broker state from the Kafka Agent in pod {}: {}", podName, e.getMessage());
+            return BrokerState.UNKNOWN;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BrokerState.UNKNOWN;
+        }
+    }
+}
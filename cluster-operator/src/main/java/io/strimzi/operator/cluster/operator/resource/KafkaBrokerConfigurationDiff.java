@@ -9,44 +9,41 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.Scope;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfiguration;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
-import io.strimzi.operator.common.model.OrderedProperties;
-import io.strimzi.operator.common.operator.resource.AbstractJsonDiff;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 
-import static io.fabric8.kubernetes.client.internal.PatchUtils.patchMapper;
-
 /**
  The algorithm:
- *  1. Create a map from the supplied desired String
+ *  1. Get the map of the desired options from the supplied structured configuration (the configuration is parsed only
+ *     once when it is generated, a String is parsed into the structured configuration first)
  *  2. Fill placeholders (e.g. ${BROKER_ID}) in desired map as the broker's {@code kafka_config_generator.sh} would
- *  3a. Loop over all entries. If the entry is in IGNORABLE_PROPERTIES or entry.value from desired is equal to entry.value from current, do nothing
+ *  3a. Loop over all current entries. If the entry is in IGNORABLE_PROPERTIES or entry.value from desired is equal to entry.value from current, do nothing
  *      else add it to the diff
  *  3b. If entry was removed from desired, add it to the diff with null value.
  *  3c. If custom entry was removed, delete property
+ *  4. Loop over all desired entries and add the entries which are not in the current configuration to the diff
+ *
+ * The diff compares the maps directly. The config model (including the read-only options) is cached for each Kafka
+ * version, so it is not read again for each broker.
  */
-public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
+public class KafkaBrokerConfigurationDiff {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaBrokerConfigurationDiff.class);
-    private static final String PLACE_HOLDER = Pattern.quote("STRIMZI_BROKER_ID");
 
     private final Reconciliation reconciliation;
     private final Collection<AlterConfigOp> diff;
     private final Map<String, ConfigModel> configModel;
+    private final Set<String> readOnlyOptions;
 
     /**
      * These options are skipped because they contain placeholders
@@ -70,18 +67,27 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
             + "|broker\\.rack)$");
 
     public KafkaBrokerConfigurationDiff(Reconciliation reconciliation, Config brokerConfigs, String desired, KafkaVersion kafkaVersion, int brokerId) {
+        this(reconciliation, brokerConfigs, desired != null ? KafkaBrokerConfiguration.parse(desired) : null, kafkaVersion, brokerId);
+    }
+
+    /**
+     * Constructs the diff from the structured desired configuration. The desired configuration options are used
+     * directly without parsing the configuration file again.
+     *
+     * @param reconciliation    The reconciliation
+     * @param brokerConfigs     Current broker configuration
+     * @param desired           Desired broker configuration. May be null if the related ConfigMap does not exist yet
+     *                          or no changes are required.
+     * @param kafkaVersion      Kafka version of the broker
+     * @param brokerId          ID of the broker
+     */
+    public KafkaBrokerConfigurationDiff(Reconciliation reconciliation, Config brokerConfigs, KafkaBrokerConfiguration desired, KafkaVersion kafkaVersion, int brokerId) {
         this.reconciliation = reconciliation;
         this.configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+        this.readOnlyOptions = KafkaConfiguration.readOnlyConfigModelOptions(kafkaVersion);
         this.diff = diff(brokerId, desired, brokerConfigs, configModel);
     }
 
-    private static void fillPlaceholderValue(Map<String, String> orderedProperties, String value) {
-        orderedProperties.entrySet().forEach(entry -> {
-            String v = entry.getValue().replaceAll("\\$\\{" + PLACE_HOLDER + "}", value);
-            entry.setValue(v);
-        });
-    }
-
     public boolean canBeUpdatedDynamically() {
         boolean result = true;
         for (AlterConfigOp entry : diff) {
@@ -99,7 +105,7 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @return true if the entry is READ_ONLY
      */
     private boolean isEntryReadOnly(ConfigEntry entry) {
-        return configModel.get(entry.name()).getScope().equals(Scope.READ_ONLY);
+        return readOnlyOptions.contains(entry.name());
     }
 
     /**
@@ -129,64 +135,40 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
      * @param configModel default configuration for {@code kafkaVersion} of broker
      * @return Collection of AlterConfigOp containing all entries which were changed from current in desired configuration
      */
-    private Collection<AlterConfigOp> diff(int brokerId, String desired,
+    private Collection<AlterConfigOp> diff(int brokerId, KafkaBrokerConfiguration desired,
                                                   Config brokerConfigs,
                                                   Map<String, ConfigModel> configModel) {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
 
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
+        Map<String, String> desiredMap = desired.asMapForBroker(brokerId);
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
-
-        OrderedProperties orderedProperties = new OrderedProperties();
-        orderedProperties.addStringPairs(desired);
-        Map<String, String> desiredMap = orderedProperties.asMap();
-
-        fillPlaceholderValue(desiredMap, Integer.toString(brokerId));
-
-        JsonNode source = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(currentMap);
-        JsonNode target = patchMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
-
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
-
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
-
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry);
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE);
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE);
-                }
-            }
+        // Entries which are in the current configuration => changed or removed
+        for (ConfigEntry entry : brokerConfigs.entries()) {
+            String currentValue = entry.value() == null ? "null" : entry.value();
+            String desiredValue = desiredMap.get(entry.name());
 
-            if ("remove".equals(op)) {
+            if (desiredValue == null) {
                 // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerId, d);
-                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.traceCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerId, d);
-                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {} was removed", brokerId, entry.name());
+                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", entry.name(), currentValue);
+                removeProperty(configModel, updatedCE, entry.name(), entry);
+            } else if (!desiredValue.equals(currentValue)) {
+                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {} was changed", brokerId, entry.name());
+                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", entry.name(), currentValue);
+                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", entry.name(), desiredValue);
+                updateOrAdd(entry.name(), configModel, desiredMap, updatedCE);
+            }
+        }
+
+        // Entries which are not in the current configuration => added
+        for (Map.Entry<String, String> desiredEntry : desiredMap.entrySet()) {
+            if (brokerConfigs.get(desiredEntry.getKey()) == null) {
+                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {} was added", brokerId, desiredEntry.getKey());
+                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", desiredEntry.getKey(), desiredEntry.getValue());
+                updateOrAdd(desiredEntry.getKey(), configModel, desiredMap, updatedCE);
             }
         }
 
@@ -231,7 +213,6 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
     /**
      * @return whether the current config and the desired config are identical (thus, no update is necessary).
      */
-    @Override
     public boolean isEmpty() {
         return  diff.size() == 0;
     }
@@ -35,12 +35,18 @@ import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfiguration;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -106,6 +112,11 @@ public class KafkaRoller {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRoller.class);
 
+    /* test */ static final long KAFKA_AGENT_POLLING_INTERVAL_MS = 250;
+    /* test */ static final long KAFKA_AGENT_MAX_POLLING_INTERVAL_MS = 4_000;
+    private static final int MAX_LOG_RECOVERY_WAIT_EXTENSIONS = 10;
+    /* test */ static final String METRICS_LOG_RECOVERY_DURATION = AbstractOperator.METRICS_PREFIX + "kafka.broker.log.recovery.duration";
+
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
     protected final long operationTimeoutMs;
@@ -117,18 +128,34 @@ public class KafkaRoller {
     private final Supplier<BackOff> backoffSupplier;
     protected String namespace;
     private final AdminClientProvider adminClientProvider;
-    private final Function<Integer, String> kafkaConfigProvider;
+    private final Function<Integer, KafkaBrokerConfiguration> kafkaConfigProvider;
     private final String kafkaLogging;
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final MetricsProvider metricsProvider;
+    // The latest broker states reported by the Kafka Agents and the states in which the log recovery was last seen progressing
+    private final Map<String, BrokerState> brokerStates = new ConcurrentHashMap<>();
+    private final Map<String, BrokerState> recoveryBaselines = new ConcurrentHashMap<>();
+    private final Map<String, Long> recoveryStarts = new ConcurrentHashMap<>();
     private Admin allClient;
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, List<String> podList,
                         Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
-                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+                       Function<Integer, KafkaBrokerConfiguration> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier, podList,
+                clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfigProvider, kafkaLogging, kafkaVersion,
+                allowReconfiguration, null);
+    }
+
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, List<String> podList,
+                        Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       Function<Integer, KafkaBrokerConfiguration> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                       MetricsProvider metricsProvider) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.podList = podList;
@@ -148,6 +175,21 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * @return  Maximal number of times the wait for a restarted pod is extended while the broker recovers its logs
+     */
+    protected int maxLogRecoveryWaitExtensions() {
+        return MAX_LOG_RECOVERY_WAIT_EXTENSIONS;
+    }
+
+    /**
+     * @return  Client for getting the broker state from the Kafka Agent
+     */
+    protected KafkaAgentClient kafkaAgentClient() {
+        return new KafkaAgentClient(reconciliation, namespace, cluster);
     }
 
     /**
@@ -369,7 +411,7 @@ public class KafkaRoller {
                 // We rely on Kube to try restarting such pods.
                 LOGGER.debugCr(reconciliation, "Pod {} does not need to be restarted", podRef);
                 LOGGER.debugCr(reconciliation, "Waiting for non-restarted pod {} to become ready", podRef);
-                await(isReady(namespace, podRef.getPodName()), operationTimeoutMs, TimeUnit.MILLISECONDS, e -> new FatalProblem("Error while waiting for non-restarted pod " + podRef.getPodName() + " to become ready", e));
+                awaitReady(podRef.getPodName(), operationTimeoutMs, TimeUnit.MILLISECONDS, "Error while waiting for non-restarted pod " + podRef.getPodName() + " to become ready", false);
                 LOGGER.debugCr(reconciliation, "Pod {} is now ready", podRef);
             }
         } catch (ForceableProblem e) {
@@ -648,13 +690,105 @@ public class KafkaRoller {
         awaitReadiness(pod, timeout, unit);
     }
 
+    /**
+     * Waits for the restarted pod to become ready. When the wait times out while the broker is recovering its logs
+     * and the Kafka Agent reports that the recovery is progressing, the wait is extended by another timeout. This
+     * avoids force-restarting the broker which would only make the recovery start again. The wait is extended at most
+     * {@link #maxLogRecoveryWaitExtensions()} times, so that a slowly recovering broker does not block the rolling
+     * update (and the reconciliation) forever.
+     */
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Waiting for restarted pod {} to become ready", podName);
-        await(isReady(pod), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e));
+
+        int extensions = 0;
+        while (true) {
+            try {
+                awaitReady(podName, timeout, unit, "Error while waiting for restarted pod " + podName + " to become ready", true);
+                break;
+            } catch (FatalProblem e) {
+                BrokerState state = brokerStates.getOrDefault(podName, BrokerState.UNKNOWN);
+                BrokerState baseline = recoveryBaselines.get(podName);
+
+                if (baseline != null && state.recoveryProgressedSince(baseline)) {
+                    if (extensions >= maxLogRecoveryWaitExtensions()) {
+                        LOGGER.warnCr(reconciliation, "Pod {} is still recovering its logs ({} logs and {} segments remaining), but the wait was already extended {} times. Giving up waiting for it to become ready",
+                                podName, state.remainingLogsToRecover(), state.remainingSegmentsToRecover(), extensions);
+                        throw e;
+                    }
+
+                    extensions++;
+                    LOGGER.infoCr(reconciliation, "Pod {} is still recovering its logs ({} logs and {} segments remaining), waiting for it to become ready",
+                            podName, state.remainingLogsToRecover(), state.remainingSegmentsToRecover());
+                    recoveryBaselines.put(podName, state);
+                } else {
+                    throw e;
+                }
+            }
+        }
+
         LOGGER.debugCr(reconciliation, "Pod {} is now ready", podName);
     }
 
+    /**
+     * Block waiting for up to the given timeout for the pod to become ready. The polling of the Kafka Agent is stopped
+     * when the wait is over, so that the timed out waits do not keep polling while the next wait is running.
+     *
+     * @param podName       Name of the pod
+     * @param timeout       The timeout
+     * @param unit          The timeout unit
+     * @param errorMessage  Message of the exception thrown when the pod does not get ready
+     * @param pollKafkaAgent    Whether the Kafka Agent should be polled for the broker state
+     */
+    private void awaitReady(String podName, long timeout, TimeUnit unit, String errorMessage, boolean pollKafkaAgent) throws FatalProblem, InterruptedException {
+        Promise<Void> ready = Promise.promise();
+
+        try {
+            await(isReady(namespace, podName, ready, pollKafkaAgent), timeout, unit, e -> new FatalProblem(errorMessage, e));
+        } finally {
+            ready.tryFail("Stopped waiting for pod " + podName + " to become ready");
+        }
+    }
+
+    /**
+     * Tracks the broker states reported by the Kafka Agent to know whether the log recovery is progressing and how
+     * long it took.
+     *
+     * @param podName   Name of the pod
+     * @param state     The broker state reported by the Kafka Agent
+     */
+    private void observeBrokerState(String podName, BrokerState state) {
+        if (state.code() == BrokerState.UNKNOWN.code()) {
+            // Do not count transient errors of the Kafka Agent as the end of the recovery
+            return;
+        }
+
+        brokerStates.put(podName, state);
+
+        if (state.isRecovering()) {
+            recoveryBaselines.putIfAbsent(podName, state);
+            recoveryStarts.putIfAbsent(podName, System.nanoTime());
+        } else {
+            recoveryBaselines.remove(podName);
+            Long start = recoveryStarts.remove(podName);
+
+            if (start != null) {
+                long durationNanos = System.nanoTime() - start;
+                LOGGER.infoCr(reconciliation, "Pod {} recovered its logs in {} ms", podName, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+
+                if (metricsProvider != null) {
+                    Tags tags = Tags.of(Tag.of("kind", reconciliation.kind()),
+                            Tag.of("namespace", reconciliation.namespace()),
+                            Tag.of("cluster", cluster),
+                            Tag.of("pod", podName));
+
+                    metricsProvider.timer(METRICS_LOG_RECOVERY_DURATION, "Duration of the log recovery of the restarted Kafka brokers", tags)
+                            .record(durationNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
     /**
      * Block waiting for up to the given timeout for the given Future to complete, returning its result.
      * @param future The future to wait for.
@@ -804,16 +938,70 @@ public class KafkaRoller {
         return podToContext.toString();
     }
 
-    protected Future<Void> isReady(Pod pod) {
-        return isReady(pod.getMetadata().getNamespace(), pod.getMetadata().getName());
+    /**
+     * Waits for the pod to become ready. The pod is considered ready when it is ready in the Kubernetes sense or when
+     * the Kafka Agent reports that the broker is running. The Kafka Agent answers directly from the broker, so the
+     * rolling update can continue without waiting for the next run of the readiness probe. The Kafka Agent is polled
+     * until the {@code ready} promise is completed, so the caller can fail it to stop the polling. The Kafka Agent is
+     * polled only for the restarted pods, because the pods which were not restarted do not recover their logs.
+     *
+     * @param namespace         Namespace of the pod
+     * @param podName           Name of the pod
+     * @param ready             Promise which is completed when the pod is ready
+     * @param pollKafkaAgent    Whether the Kafka Agent should be polled for the broker state
+     *
+     * @return  Future which completes when the pod is ready
+     */
+    protected Future<Void> isReady(String namespace, String podName, Promise<Void> ready, boolean pollKafkaAgent) {
+        podOperations.readiness(reconciliation, namespace, podName, pollingIntervalMs, operationTimeoutMs)
+            .onComplete(res -> {
+                if (res.succeeded()) {
+                    ready.tryComplete();
+                } else if (!ready.future().isComplete()) {
+                    LOGGER.warnCr(reconciliation, "Error waiting for pod {}/{} to become ready: {}", namespace, podName, res.cause());
+                    ready.tryFail(res.cause());
+                }
+            });
+
+        if (pollKafkaAgent) {
+            pollKafkaAgent(kafkaAgentClient(), podName, ready, KAFKA_AGENT_POLLING_INTERVAL_MS);
+        }
+
+        return ready.future();
     }
 
-    protected Future<Void> isReady(String namespace, String podName) {
-        return podOperations.readiness(reconciliation, namespace, podName, pollingIntervalMs, operationTimeoutMs)
-            .recover(error -> {
-                LOGGER.warnCr(reconciliation, "Error waiting for pod {}/{} to become ready: {}", namespace, podName, error);
-                return Future.failedFuture(error);
-            });
+    /**
+     * Polls the Kafka Agent for the broker state until the {@code ready} promise is completed. While the Kafka Agent
+     * does not answer (e.g. before the broker starts or when the broker uses a container image without the HTTP
+     * server), the polling interval is doubled up to {@link #KAFKA_AGENT_MAX_POLLING_INTERVAL_MS}.
+     *
+     * @param agentClient   Client for the Kafka Agent
+     * @param podName       Name of the pod
+     * @param ready         Promise which is completed when the pod is ready
+     * @param delayMs       Delay before the next poll
+     */
+    private void pollKafkaAgent(KafkaAgentClient agentClient, String podName, Promise<Void> ready, long delayMs) {
+        vertx.setTimer(delayMs, id -> {
+            if (ready.future().isComplete()) {
+                return;
+            }
+
+            BlockingExecutor.get(vertx).<BrokerState>executeBlocking(BlockingExecutor.Bulkhead.WAIT,
+                promise -> promise.complete(agentClient.brokerState(podName)))
+                .onComplete(res -> {
+                    BrokerState state = res.succeeded() ? res.result() : BrokerState.UNKNOWN;
+                    observeBrokerState(podName, state);
+
+                    if (state.isRunning() && ready.tryComplete()) {
+                        LOGGER.debugCr(reconciliation, "Broker in pod {} is running according to the Kafka Agent", podName);
+                    } else if (!ready.future().isComplete()) {
+                        long nextDelayMs = state.code() == BrokerState.UNKNOWN.code()
+                                ? Math.min(2 * delayMs, KAFKA_AGENT_MAX_POLLING_INTERVAL_MS)
+                                : KAFKA_AGENT_POLLING_INTERVAL_MS;
+                        pollKafkaAgent(agentClient, podName, ready, nextDelayMs);
+                    }
+                });
+        });
     }
 
     public static class PodRef {
@@ -21,8 +21,11 @@ import io.strimzi.api.kafka.model.KafkaMirrorMaker;
 import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.KafkaRebalance;
+import io.micrometer.core.instrument.Tags;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.FeatureGates;
+import io.strimzi.operator.cluster.model.CertificateCache;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
@@ -89,21 +92,38 @@ public class ResourceOperatorSupplier {
     public final MetricsProvider metricsProvider;
     public final AdminClientProvider adminClientProvider;
     public final ZookeeperLeaderFinder zookeeperLeaderFinder;
+    public final CertificateCache certificateCache;
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
+        this(vertx, client, new MicrometerMetricsProvider(), pfa, gates, operationTimeoutMs);
+    }
+
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
+        this(vertx, client, metricsProvider, certificateCache(metricsProvider), pfa, gates, operationTimeoutMs);
+    }
+
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, CertificateCache certificateCache, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
         this(vertx, client,
-            new ZookeeperLeaderFinder(vertx,
+            new ZookeeperLeaderFinder(vertx, certificateCache,
             // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                 () -> new BackOff(5_000, 2, 4)),
                     new DefaultAdminClientProvider(),
                     new DefaultZookeeperScalerProvider(),
-                    new MicrometerMetricsProvider(),
+                    metricsProvider,
+                    certificateCache,
                     pfa, gates, operationTimeoutMs);
     }
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder zlf,
                                     AdminClientProvider adminClientProvider, ZookeeperScalerProvider zkScalerProvider,
                                     MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
+        this(vertx, client, zlf, adminClientProvider, zkScalerProvider, metricsProvider, certificateCache(metricsProvider), pfa, gates, operationTimeoutMs);
+    }
+
+    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder zlf,
+                                    AdminClientProvider adminClientProvider, ZookeeperScalerProvider zkScalerProvider,
+                                    MetricsProvider metricsProvider, CertificateCache certificateCache,
+                                    PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
         this(new ServiceOperator(vertx, client),
                 pfa.hasRoutes() ? new RouteOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
                 new StatefulSetOperator(vertx, client, operationTimeoutMs),
@@ -136,7 +156,8 @@ public class ResourceOperatorSupplier {
                 zkScalerProvider,
                 metricsProvider,
                 adminClientProvider,
-                zlf);
+                zlf,
+                certificateCache);
     }
 
     @SuppressWarnings({"checkstyle:ParameterNumber"})
@@ -173,6 +194,50 @@ public class ResourceOperatorSupplier {
                                     MetricsProvider metricsProvider,
                                     AdminClientProvider adminClientProvider,
                                     ZookeeperLeaderFinder zookeeperLeaderFinder) {
+        this(serviceOperations, routeOperations, stsOperations, configMapOperations, secretOperations, pvcOperations,
+                deploymentOperations, serviceAccountOperations, roleBindingOperations, roleOperations, clusterRoleBindingOperator,
+                networkPolicyOperator, podDisruptionBudgetOperator, podDisruptionBudgetV1Beta1Operator, podOperations,
+                ingressOperations, ingressV1Beta1Operations, buildConfigOperations, buildOperations, kafkaOperator,
+                connectOperator, mirrorMakerOperator, kafkaBridgeOperator, kafkaConnectorOperator, mirrorMaker2Operator,
+                kafkaRebalanceOperator, strimziPodSetOperator, storageClassOperator, nodeOperator, zkScalerProvider,
+                metricsProvider, adminClientProvider, zookeeperLeaderFinder, certificateCache(metricsProvider));
+    }
+
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public ResourceOperatorSupplier(ServiceOperator serviceOperations,
+                                    RouteOperator routeOperations,
+                                    StatefulSetOperator stsOperations,
+                                    ConfigMapOperator configMapOperations,
+                                    SecretOperator secretOperations,
+                                    PvcOperator pvcOperations,
+                                    DeploymentOperator deploymentOperations,
+                                    ServiceAccountOperator serviceAccountOperations,
+                                    RoleBindingOperator roleBindingOperations,
+                                    RoleOperator roleOperations,
+                                    ClusterRoleBindingOperator clusterRoleBindingOperator,
+                                    NetworkPolicyOperator networkPolicyOperator,
+                                    PodDisruptionBudgetOperator podDisruptionBudgetOperator,
+                                    PodDisruptionBudgetV1Beta1Operator podDisruptionBudgetV1Beta1Operator,
+                                    PodOperator podOperations,
+                                    IngressOperator ingressOperations,
+                                    IngressV1Beta1Operator ingressV1Beta1Operations,
+                                    BuildConfigOperator buildConfigOperations,
+                                    BuildOperator buildOperations,
+                                    CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+                                    CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> connectOperator,
+                                    CrdOperator<KubernetesClient, KafkaMirrorMaker, KafkaMirrorMakerList> mirrorMakerOperator,
+                                    CrdOperator<KubernetesClient, KafkaBridge, KafkaBridgeList> kafkaBridgeOperator,
+                                    CrdOperator<KubernetesClient, KafkaConnector, KafkaConnectorList> kafkaConnectorOperator,
+                                    CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> mirrorMaker2Operator,
+                                    CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator,
+                                    CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator,
+                                    StorageClassOperator storageClassOperator,
+                                    NodeOperator nodeOperator,
+                                    ZookeeperScalerProvider zkScalerProvider,
+                                    MetricsProvider metricsProvider,
+                                    AdminClientProvider adminClientProvider,
+                                    ZookeeperLeaderFinder zookeeperLeaderFinder,
+                                    CertificateCache certificateCache) {
         this.serviceOperations = serviceOperations;
         this.routeOperations = routeOperations;
         this.stsOperations = stsOperations;
@@ -206,5 +271,24 @@ public class ResourceOperatorSupplier {
         this.metricsProvider = metricsProvider;
         this.adminClientProvider = adminClientProvider;
         this.zookeeperLeaderFinder = zookeeperLeaderFinder;
+        this.certificateCache = certificateCache;
+    }
+
+    /**
+     * Creates the cache of the certificates parsed from the Secrets. The cache is shared by all operators using this
+     * supplier.
+     *
+     * @param metricsProvider   Metrics provider used to count the parsed certificates or null if they should not be counted
+     *
+     * @return  The certificate cache
+     */
+    private static CertificateCache certificateCache(MetricsProvider metricsProvider) {
+        if (metricsProvider == null) {
+            return new CertificateCache(null, null);
+        }
+
+        return new CertificateCache(
+                metricsProvider.counter(AbstractOperator.METRICS_PREFIX + "certificates.parsed", "Number of X.509 certificates parsed from the Secrets", Tags.empty()),
+                metricsProvider.counter(AbstractOperator.METRICS_PREFIX + "certificates.parses.avoided", "Number of X.509 certificates served from the cache instead of being parsed again", Tags.empty()));
     }
 }
@@ -6,33 +6,65 @@ package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * ZooKeeperRoller helps to roll ZooKeeper cluster. It uses the ZooKeeperLeaderFinder to find the leader which is
- * rolled first.
+ * rolled last.
+ *
+ * In the parallel mode, the followers are rolled in batches. Before each batch, the size of the batch is determined
+ * from the number of followers which are in sync with the leader (as reported by the {@code mntr} four letter word of
+ * the leader), so that the remaining synced members of the ensemble still form a quorum. When the quorum has no spare
+ * members or its state cannot be determined, the followers are rolled one by one as in the sequential mode.
  */
 public class ZooKeeperRoller {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ZooKeeperRoller.class.getName());
 
+    /* test */ static final String METRICS_ROLLING_UPDATE_DURATION = AbstractOperator.METRICS_PREFIX + "zookeeper.rolling.update.duration";
+
     private final PodOperator podOperator;
     private final ZookeeperLeaderFinder leaderFinder;
     private final long operationTimeoutMs;
+    private final boolean parallelRolling;
+    private final MetricsProvider metricsProvider;
 
     public ZooKeeperRoller(PodOperator podOperator, ZookeeperLeaderFinder leaderFinder, long operationTimeoutMs) {
+        this(podOperator, leaderFinder, operationTimeoutMs, false, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param podOperator           Pod operator
+     * @param leaderFinder          ZooKeeper leader finder
+     * @param operationTimeoutMs    Timeout for the restart and readiness of the pods
+     * @param parallelRolling       Roll the followers in parallel as long as the quorum is preserved
+     * @param metricsProvider       Metrics provider used to record the duration of the rolling updates (null disables the metrics)
+     */
+    public ZooKeeperRoller(PodOperator podOperator, ZookeeperLeaderFinder leaderFinder, long operationTimeoutMs, boolean parallelRolling, MetricsProvider metricsProvider) {
         this.podOperator = podOperator;
         this.leaderFinder = leaderFinder;
         this.operationTimeoutMs = operationTimeoutMs;
+        this.parallelRolling = parallelRolling;
+        this.metricsProvider = metricsProvider;
     }
 
     /**
@@ -78,22 +110,35 @@ public class ZooKeeperRoller {
                 }).compose(podsToRoll -> {
                     if (podsToRoll != null)  {
                         Promise<Void> promise = Promise.promise();
+                        long rollingStart = System.nanoTime();
                         Future<String> leaderFuture = leaderFinder.findZookeeperLeader(reconciliation, podsToRoll.keySet(), clusterCaSecret, coKeySecret);
 
                         leaderFuture.compose(leader -> {
                             LOGGER.debugCr(reconciliation, "Zookeeper leader is " + (ZookeeperLeaderFinder.UNKNOWN_LEADER.equals(leader) ? "unknown" : "pod " + leader));
                             Future<Void> fut = Future.succeededFuture();
 
-                            // Then roll each non-leader pod => the leader is rolled last
-                            for (Map.Entry<String, List<String>> podEntry : podsToRoll.entrySet())  {
-                                if (podEntry.getValue() != null && !podEntry.getValue().isEmpty()) {
-                                    if (!podEntry.getKey().equals(leader)) {
-                                        LOGGER.debugCr(reconciliation, "Restarting non-leader pod {}", podEntry.getKey());
-                                        // roll the pod and wait until it is ready
-                                        // this prevents rolling into faulty state (note: this applies just for ZK pods)
-                                        fut = fut.compose(ignore -> restartPod(reconciliation, podEntry.getKey(), podEntry.getValue()));
-                                    } else {
-                                        LOGGER.debugCr(reconciliation, "Deferring restart of leader {}", podEntry.getKey());
+                            if (parallelRolling && !ZookeeperLeaderFinder.UNKNOWN_LEADER.equals(leader)) {
+                                // Roll the non-leader pods in batches which preserve the quorum => the leader is rolled last
+                                List<String> followers = podsToRoll.entrySet().stream()
+                                        .filter(podEntry -> podEntry.getValue() != null && !podEntry.getValue().isEmpty() && !podEntry.getKey().equals(leader))
+                                        .map(Map.Entry::getKey)
+                                        .sorted()
+                                        .collect(Collectors.toList());
+
+                                LOGGER.debugCr(reconciliation, "Deferring restart of leader {}", leader);
+                                fut = rollFollowersInParallel(reconciliation, podsToRoll.size(), leader, followers, podsToRoll, clusterCaSecret, coKeySecret);
+                            } else {
+                                // Then roll each non-leader pod => the leader is rolled last
+                                for (Map.Entry<String, List<String>> podEntry : podsToRoll.entrySet())  {
+                                    if (podEntry.getValue() != null && !podEntry.getValue().isEmpty()) {
+                                        if (!podEntry.getKey().equals(leader)) {
+                                            LOGGER.debugCr(reconciliation, "Restarting non-leader pod {}", podEntry.getKey());
+                                            // roll the pod and wait until it is ready
+                                            // this prevents rolling into faulty state (note: this applies just for ZK pods)
+                                            fut = fut.compose(ignore -> restartPod(reconciliation, podEntry.getKey(), podEntry.getValue()));
+                                        } else {
+                                            LOGGER.debugCr(reconciliation, "Deferring restart of leader {}", podEntry.getKey());
+                                        }
                                     }
                                 }
                             }
@@ -109,7 +154,10 @@ public class ZooKeeperRoller {
                                     return restartPod(reconciliation, leader, podsToRoll.get(leader));
                                 });
                             }
-                        }).onComplete(promise);
+                        }).onComplete(res -> {
+                            recordRollingDuration(reconciliation, rollingStart, res.succeeded());
+                            promise.handle(res);
+                        });
 
                         return promise.future();
                     } else {
@@ -118,6 +166,112 @@ public class ZooKeeperRoller {
                 });
     }
 
+    /**
+     * Rolls the followers in batches. The size of each batch is determined right before it is rolled, so that the
+     * followers rolled in the previous batches which did not catch up with the leader yet are taken into account.
+     *
+     * @param reconciliation    The reconciliation
+     * @param ensembleSize      Number of the ZooKeeper nodes in the ensemble
+     * @param leader            Name of the leader pod
+     * @param followers         Names of the follower pods which need to be rolled
+     * @param podsToRoll        Map with the reasons why the pods need to be rolled
+     * @param clusterCaSecret   Secret with cluster CA certificates
+     * @param coKeySecret       Secret with the Cluster operator certificates
+     *
+     * @return  Future which completes when all followers are rolled and ready again
+     */
+    private Future<Void> rollFollowersInParallel(Reconciliation reconciliation, int ensembleSize, String leader, List<String> followers,
+                                                 Map<String, List<String>> podsToRoll, Secret clusterCaSecret, Secret coKeySecret) {
+        if (followers.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        return batchSize(reconciliation, ensembleSize, leader, clusterCaSecret, coKeySecret)
+                .compose(batchSize -> {
+                    List<String> batch = followers.subList(0, Math.min(batchSize, followers.size()));
+                    List<String> remaining = followers.subList(batch.size(), followers.size());
+
+                    LOGGER.debugCr(reconciliation, "Restarting non-leader pods {}", batch);
+                    @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+                    List<Future> restarts = new ArrayList<>(batch.size());
+                    for (String podName : batch) {
+                        restarts.add(restartPod(reconciliation, podName, podsToRoll.get(podName)));
+                    }
+
+                    return CompositeFuture.join(restarts)
+                            .compose(ignore -> rollFollowersInParallel(reconciliation, ensembleSize, leader, remaining, podsToRoll, clusterCaSecret, coKeySecret));
+                });
+    }
+
+    /**
+     * Determines how many followers can be rolled at the same time without losing the quorum. It uses the number of
+     * the followers which are in sync with the leader. When it cannot be determined or when the quorum has no spare
+     * members, a single follower is rolled at a time.
+     *
+     * @param reconciliation    The reconciliation
+     * @param ensembleSize      Number of the ZooKeeper nodes in the ensemble
+     * @param leader            Name of the leader pod
+     * @param clusterCaSecret   Secret with cluster CA certificates
+     * @param coKeySecret       Secret with the Cluster operator certificates
+     *
+     * @return  Future with the number of followers which can be rolled at the same time
+     */
+    /* test */ Future<Integer> batchSize(Reconciliation reconciliation, int ensembleSize, String leader, Secret clusterCaSecret, Secret coKeySecret) {
+        int quorum = ensembleSize / 2 + 1;
+
+        return leaderFinder.monitoringData(reconciliation, leader, clusterCaSecret, coKeySecret)
+                .map(data -> {
+                    if (!"leader".equals(data.get("zk_server_state"))) {
+                        LOGGER.warnCr(reconciliation, "Pod {} is not the ZooKeeper leader anymore => rolling one pod at a time", leader);
+                        return 1;
+                    }
+
+                    int syncedFollowers;
+                    try {
+                        syncedFollowers = Integer.parseInt(data.get("zk_synced_followers"));
+                    } catch (NumberFormatException e) {
+                        LOGGER.warnCr(reconciliation, "Failed to get the number of synced followers from pod {} => rolling one pod at a time", leader);
+                        return 1;
+                    }
+
+                    // The leader and the synced followers which are not rolled have to form a quorum
+                    int batchSize = Math.min(syncedFollowers + 1 - quorum, ensembleSize - quorum);
+
+                    if (batchSize < 1) {
+                        LOGGER.warnCr(reconciliation, "ZooKeeper quorum has no spare members ({} of {} followers are synced) => rolling one pod at a time",
+                                syncedFollowers, ensembleSize - 1);
+                        return 1;
+                    } else {
+                        LOGGER.debugCr(reconciliation, "{} of {} ZooKeeper followers are synced => rolling up to {} pods at a time", syncedFollowers, ensembleSize - 1, batchSize);
+                        return batchSize;
+                    }
+                })
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Failed to get the ZooKeeper quorum state from pod {} => rolling one pod at a time", leader, error);
+                    return Future.succeededFuture(1);
+                });
+    }
+
+    /**
+     * Records the duration of the rolling update
+     *
+     * @param reconciliation    The reconciliation
+     * @param startNanos        Start of the rolling update as returned by {@link System#nanoTime()}
+     * @param success           Indicates whether the rolling update succeeded
+     */
+    private void recordRollingDuration(Reconciliation reconciliation, long startNanos, boolean success) {
+        if (metricsProvider != null) {
+            Tags tags = Tags.of(Tag.of("kind", reconciliation.kind()),
+                    Tag.of("namespace", reconciliation.namespace()),
+                    Tag.of("cluster", reconciliation.name()),
+                    Tag.of("mode", parallelRolling ? "parallel" : "sequential"),
+                    Tag.of("result", success ? "success" : "failure"));
+
+            metricsProvider.timer(METRICS_ROLLING_UPDATE_DURATION, "Duration of the rolling updates of the ZooKeeper clusters", tags)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
     /**
      * Restarts the Pod => deletes it, waits until it is really deleted and until the new pod starts and gets ready.
      *
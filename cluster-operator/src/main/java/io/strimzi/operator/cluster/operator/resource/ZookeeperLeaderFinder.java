@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.operator.cluster.model.Ca;
+import io.strimzi.operator.cluster.model.CertificateCache;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.common.BackOff;
@@ -24,10 +25,9 @@ import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 
-import java.io.ByteArrayInputStream;
 import java.security.cert.CertificateException;
-import java.security.cert.CertificateFactory;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -46,9 +46,22 @@ public class ZookeeperLeaderFinder {
 
     private final Vertx vertx;
     private final Supplier<BackOff> backOffSupplier;
+    private final CertificateCache certificateCache;
 
     public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier) {
+        this(vertx, new CertificateCache(null, null), backOffSupplier);
+    }
+
+    /**
+     * Constructs the ZooKeeper leader finder
+     *
+     * @param vertx             Vert.x instance
+     * @param certificateCache  Cache of the certificates parsed from the Secrets
+     * @param backOffSupplier   Supplier of the back-off used when looking for the leader
+     */
+    public ZookeeperLeaderFinder(Vertx vertx, CertificateCache certificateCache, Supplier<BackOff> backOffSupplier) {
         this.vertx = vertx;
+        this.certificateCache = certificateCache;
         this.backOffSupplier = backOffSupplier;
     }
 
@@ -61,23 +74,12 @@ public class ZookeeperLeaderFinder {
                 .setPemTrustOptions(trustOptions(reconciliation, clusterCaCertificateSecret));
     }
 
-    private CertificateFactory x509Factory() {
-        CertificateFactory x509;
-        try {
-            x509 = CertificateFactory.getInstance("X.509");
-        } catch (CertificateException e) {
-            throw new RuntimeException("No security provider supports X.509");
-        }
-        return x509;
-    }
-
     /**
      * Validate the cluster CA certificate(s) passed in the given Secret
      * and return the PemTrustOptions for trusting them.
      */
     protected PemTrustOptions trustOptions(Reconciliation reconciliation, Secret clusterCaCertificateSecret) {
         Base64.Decoder decoder = Base64.getDecoder();
-        CertificateFactory x509 = x509Factory();
         PemTrustOptions pto = new PemTrustOptions();
         for (Map.Entry<String, String> entry : clusterCaCertificateSecret.getData().entrySet()) {
             String entryName = entry.getKey();
@@ -85,7 +87,7 @@ public class ZookeeperLeaderFinder {
                 LOGGER.debugCr(reconciliation, "Trusting certificate {} from Secret {}", entryName, clusterCaCertificateSecret.getMetadata().getName());
                 byte[] certBytes = decoder.decode(entry.getValue());
                 try {
-                    x509.generateCertificate(new ByteArrayInputStream(certBytes));
+                    certificateCache.x509Certificate(clusterCaCertificateSecret, entryName, entry.getValue());
                 } catch (CertificateException e) {
                     throw corruptCertificate(clusterCaCertificateSecret, entryName, e);
                 }
@@ -113,9 +115,8 @@ public class ZookeeperLeaderFinder {
         if (coCertKey == null) {
             throw Util.missingSecretException(coCertKeySecret.getMetadata().getNamespace(), coCertKeySecret.getMetadata().getName());
         }
-        CertificateFactory x509 = x509Factory();
         try {
-            x509.generateCertificate(new ByteArrayInputStream(coCertKey.cert()));
+            certificateCache.x509Certificate(coCertKeySecret, "cluster-operator.crt", coCertKeySecret.getData().get("cluster-operator.crt"));
         } catch (CertificateException e) {
             throw corruptCertificate(coCertKeySecret, "cluster-operator.crt", e);
         }
@@ -228,8 +229,78 @@ public class ZookeeperLeaderFinder {
      * Returns whether the given pod is the zookeeper leader.
      */
     protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions netClientOptions) {
+        String host = host(reconciliation, podName);
+        int port = port(podName);
 
-        Promise<Boolean> promise = Promise.promise();
+        return fourLetterWord(reconciliation, podName, netClientOptions, "stat")
+                .map(response -> {
+                    Matcher matcher = LEADER_MODE_PATTERN.matcher(response);
+                    boolean isLeader = matcher.find();
+                    LOGGER.debugCr(reconciliation, "ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
+                    return isLeader;
+                })
+                .recover(error -> {
+                    LOGGER.debugOp("ZK {}:{}: Error trying to determine leader ({}) => not leader", host, port, error);
+                    return Future.succeededFuture(Boolean.FALSE);
+                });
+    }
+
+    /**
+     * Returns a Future which completes with the monitoring data of the ZooKeeper node in the given pod as reported by
+     * the {@code mntr} four letter word. The keys are for example {@code zk_server_state} or (on the leader only)
+     * {@code zk_synced_followers}. The Future fails when the monitoring data cannot be obtained.
+     *
+     * @param reconciliation    The reconciliation
+     * @param podName           Name of the ZooKeeper pod
+     * @param clusterCaSecret   Secret with the Cluster CA certificates
+     * @param coKeySecret       Secret with the Cluster Operator certificates
+     *
+     * @return  Future with the monitoring data of the ZooKeeper node
+     */
+    Future<Map<String, String>> monitoringData(Reconciliation reconciliation, String podName, Secret clusterCaSecret, Secret coKeySecret) {
+        try {
+            NetClientOptions netClientOptions = clientOptions(reconciliation, coKeySecret, clusterCaSecret);
+            return fourLetterWord(reconciliation, podName, netClientOptions, "mntr")
+                    .map(ZookeeperLeaderFinder::parseMonitoringData);
+        } catch (Throwable e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    /**
+     * Parses the response of the {@code mntr} four letter word which has one tab separated key and value per line.
+     *
+     * @param response  Response of the ZooKeeper node
+     *
+     * @return  Map with the monitoring data
+     */
+    /*test*/ static Map<String, String> parseMonitoringData(String response) {
+        Map<String, String> data = new HashMap<>();
+
+        for (String line : response.split("\\r?\\n")) {
+            int separator = line.indexOf('\t');
+
+            if (separator > 0) {
+                data.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Sends the four letter word command to the ZooKeeper node in the given pod and collects the response until the
+     * node closes the connection.
+     *
+     * @param reconciliation    The reconciliation
+     * @param podName           Name of the ZooKeeper pod
+     * @param netClientOptions  Options used to connect to the ZooKeeper node
+     * @param command           The four letter word command (e.g. {@code stat} or {@code mntr})
+     *
+     * @return  Future with the response of the ZooKeeper node
+     */
+    protected Future<String> fourLetterWord(Reconciliation reconciliation, String podName, NetClientOptions netClientOptions, String command) {
+        Promise<String> promise = Promise.promise();
         String host = host(reconciliation, podName);
         int port = port(podName);
         LOGGER.debugCr(reconciliation, "Connecting to zookeeper on {}:{}", host, port);
@@ -243,8 +314,8 @@ public class ZookeeperLeaderFinder {
                     NetSocket socket = ar.result();
                     socket.exceptionHandler(ex -> {
                         if (!promise.tryFail(ex)) {
-                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring error, since leader status of pod {} is already known: {}",
-                                    host, port, podName, ex);
+                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring error, since the response of pod {} to {} is already known: {}",
+                                    host, port, podName, command, ex);
                         }
                     });
                     StringBuilder sb = new StringBuilder();
@@ -257,12 +328,9 @@ public class ZookeeperLeaderFinder {
                     });
                     socket.closeHandler(v -> {
                         vertx.cancelTimer(timerId);
-                        Matcher matcher = LEADER_MODE_PATTERN.matcher(sb);
-                        boolean isLeader = matcher.find();
-                        LOGGER.debugCr(reconciliation, "ZK {}:{}: {} leader", host, port, isLeader ? "is" : "is not");
-                        if (!promise.tryComplete(isLeader)) {
-                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring leader result: Future is already complete",
-                                    host, port);
+                        if (!promise.tryComplete(sb.toString())) {
+                            LOGGER.debugCr(reconciliation, "ZK {}:{}: Ignoring {} response: Future is already complete",
+                                    host, port, command);
                         }
                     });
                     LOGGER.debugCr(reconciliation, "ZK {}:{}: upgrading to TLS", host, port);
@@ -270,16 +338,13 @@ public class ZookeeperLeaderFinder {
                         LOGGER.traceCr(reconciliation, "buffer: {}", buffer);
                         sb.append(buffer.toString());
                     });
-                    LOGGER.debugCr(reconciliation, "ZK {}:{}: sending stat", host, port);
-                    socket.write("stat");
+                    LOGGER.debugCr(reconciliation, "ZK {}:{}: sending {}", host, port, command);
+                    socket.write(command);
                 }
 
             });
 
-        return promise.future().recover(error -> {
-            LOGGER.debugOp("ZK {}:{}: Error trying to determine leader ({}) => not leader", host, port, error);
-            return Future.succeededFuture(Boolean.FALSE);
-        });
+        return promise.future();
     }
 
     /**
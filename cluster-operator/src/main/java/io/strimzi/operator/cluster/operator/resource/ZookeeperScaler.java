@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -208,9 +209,7 @@ public class ZookeeperScaler implements AutoCloseable {
      * @return  Future containing Map with the current Zookeeper configuration
      */
     private Future<Map<String, String>> getCurrentConfig(ZooKeeperAdmin zkAdmin)    {
-        Promise<Map<String, String>> configPromise = Promise.promise();
-
-        vertx.executeBlocking(promise -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.READ, promise -> {
             try {
                 byte[] config = zkAdmin.getConfig(false, null);
                 Map<String, String> servers = parseConfig(config);
@@ -220,9 +219,7 @@ public class ZookeeperScaler implements AutoCloseable {
                 LOGGER.warnCr(reconciliation, "Failed to get current Zookeeper server configuration", e);
                 promise.fail(new ZookeeperScalingException("Failed to get current Zookeeper server configuration", e));
             }
-        }, false, configPromise);
-
-        return configPromise.future();
+        });
     }
 
     /**
@@ -232,9 +229,7 @@ public class ZookeeperScaler implements AutoCloseable {
      * @return              Future with the updated configuration
      */
     private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers)    {
-        Promise<Map<String, String>> configPromise = Promise.promise();
-
-        vertx.executeBlocking(promise -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, promise -> {
             try {
                 LOGGER.debugCr(reconciliation, "Updating Zookeeper configuration to {}", newServers);
                 byte[] newConfig = zkAdmin.reconfigure(null, null, serversMapToList(newServers), -1, null);
@@ -246,19 +241,15 @@ public class ZookeeperScaler implements AutoCloseable {
                 LOGGER.warnCr(reconciliation, "Failed to update Zookeeper server configuration", e);
                 promise.fail(new ZookeeperScalingException("Failed to update Zookeeper server configuration", e));
             }
-        }, false, configPromise);
-
-        return configPromise.future();
+        });
     }
 
     /**
      * Closes the Zookeeper connection
      */
     private Future<Void> closeConnection(ZooKeeperAdmin zkAdmin) {
-        Promise<Void> closePromise = Promise.promise();
-
         if (zkAdmin != null) {
-            vertx.executeBlocking(promise -> {
+            return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, promise -> {
                 try {
                     zkAdmin.close((int) operationTimeoutMs);
                     promise.complete();
@@ -266,12 +257,10 @@ public class ZookeeperScaler implements AutoCloseable {
                     LOGGER.warnCr(reconciliation, "Failed to close the ZooKeeperAdmin", e);
                     promise.fail(e);
                 }
-            }, false, closePromise);
+            });
         } else {
-            closePromise.complete();
+            return Future.succeededFuture();
         }
-
-        return closePromise.future();
     }
 
     /**
@@ -280,9 +269,7 @@ public class ZookeeperScaler implements AutoCloseable {
      * @return
      */
     private Future<ZKClientConfig> getClientConfig()  {
-        Promise<ZKClientConfig> configPromise = Promise.promise();
-
-        vertx.executeBlocking(promise -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.READ, promise -> {
             try {
                 ZKClientConfig clientConfig = new ZKClientConfig();
 
@@ -302,9 +289,7 @@ public class ZookeeperScaler implements AutoCloseable {
                 LOGGER.warnCr(reconciliation, "Failed to create Zookeeper client configuration", e);
                 promise.fail(new ZookeeperScalingException("Failed to create Zookeeper client configuration", e));
             }
-        }, false, configPromise);
-
-        return configPromise.future();
+        });
     }
 
     /**
@@ -4,8 +4,15 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Cruise Control REST API interface definition
  */
@@ -49,6 +56,36 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskID);
 
+    /**
+     *  Get the state of multiple tasks (e.g. rebalances) from the Cruise Control server. Implementations should fetch the
+     *  states in a single request. The default implementation requests the state of each task separately.
+     *
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIDs The unique IDs of the tasks whose state should be retrieved.
+     * @return A future for the map of the task IDs to their states. Tasks which are not known to the Cruise Control
+     *         server are not included in the map.
+     */
+    default Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Collection<String> userTaskIDs) {
+        List<String> ids = new ArrayList<>(userTaskIDs);
+        List<Future> futures = new ArrayList<>(ids.size());
+
+        for (String id : ids) {
+            futures.add(getUserTaskStatus(host, port, id));
+        }
+
+        return CompositeFuture.join(futures)
+                .map(result -> {
+                    Map<String, CruiseControlResponse> statuses = new HashMap<>(ids.size());
+
+                    for (int i = 0; i < ids.size(); i++) {
+                        statuses.put(ids.get(i), result.resultAt(i));
+                    }
+
+                    return statuses;
+                });
+    }
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
@@ -59,5 +96,13 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> stopExecution(String host, int port);
 
+    /**
+     *  Releases any resources (e.g. pooled HTTP connections) held by the client. The client should not be used after
+     *  it was closed.
+     */
+    default void close() {
+        // Nothing to release by default
+    }
+
 }
 
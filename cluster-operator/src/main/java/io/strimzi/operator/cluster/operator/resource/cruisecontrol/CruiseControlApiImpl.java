@@ -13,33 +13,87 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 public class CruiseControlApiImpl implements CruiseControlApi {
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
     private final Vertx vertx;
     private final long idleTimeout;
     private boolean apiSslEnabled;
     private HTTPHeader authHttpHeader;
     private PemTrustOptions pto;
+    private final boolean pooled;
+    private HttpClient pooledHttpClient;
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this(vertx, idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, false);
+    }
+
+    /**
+     * Constructs the Cruise Control API client
+     *
+     * @param vertx             Vert.x instance
+     * @param idleTimeout       Idle timeout of the HTTP requests in seconds
+     * @param ccSecret          Cruise Control secret with the certificate of the Cruise Control REST API
+     * @param ccApiSecret       Cruise Control API secret with the API credentials
+     * @param apiAuthEnabled    Indicates whether the API authentication is enabled
+     * @param apiSslEnabled     Indicates whether the API uses TLS
+     * @param pooled            When true, a single HTTP client with keep-alive connections is used for all requests
+     *                          until the client is closed. Otherwise, a new HTTP client is created for every request.
+     */
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled, boolean pooled) {
         this.vertx = vertx;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
         this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeFromSecret(ccSecret, "cruise-control.crt")));
+        this.pooled = pooled;
+    }
+
+    private <T> Future<T> withHttpClient(HttpClientOptions options, BiConsumer<HttpClient, Promise<T>> operation) {
+        if (pooled) {
+            Promise<T> promise = Promise.promise();
+            operation.accept(pooledHttpClient(options), promise);
+            return promise.future();
+        } else {
+            return HttpClientUtils.withHttpClient(vertx, options, operation);
+        }
+    }
+
+    private synchronized HttpClient pooledHttpClient(HttpClientOptions options) {
+        if (pooledHttpClient == null) {
+            pooledHttpClient = vertx.createHttpClient(options.setKeepAlive(true));
+        }
+
+        return pooledHttpClient;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (pooledHttpClient != null) {
+            pooledHttpClient.close();
+            pooledHttpClient = null;
+        }
     }
 
     @Override
@@ -89,7 +143,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(options, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -152,7 +206,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(options, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
@@ -230,7 +284,6 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     }
 
     @Override
-    @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskId) {
 
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
@@ -243,9 +296,77 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
+        return getUserTasks(host, port, path, (response, result) -> {
+            String userTaskID = response.getHeader(CC_REST_API_USER_ID_HEADER);
+            response.bodyHandler(buffer -> {
+                JsonObject json = buffer.toJsonObject();
+                JsonObject jsonUserTask = json.getJsonArray("userTasks").getJsonObject(0);
+                // This should not be an error with a 200 status but we play it safe
+                if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+                    result.fail(new CruiseControlRestException(
+                            "Error for request: " + host + ":" + port + path + ". Server returned: " +
+                                    json.getString(CC_REST_API_ERROR_KEY)));
+                }
+                result.complete(new CruiseControlResponse(userTaskID, userTaskStatusJson(jsonUserTask)));
+            });
+        });
+    }
+
+    @Override
+    public Future<Map<String, CruiseControlResponse>> getUserTasksStatus(String host, int port, Collection<String> userTaskIds) {
+        if (userTaskIds.isEmpty()) {
+            return Future.succeededFuture(Map.of());
+        }
+
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                .addParameter(CruiseControlParameters.JSON, "true")
+                .addParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                .addParameter(CruiseControlParameters.USER_TASK_IDS, new ArrayList<>(userTaskIds))
+                .build();
+
+        return getUserTasks(host, port, path, (response, result) -> {
+            response.bodyHandler(buffer -> {
+                try {
+                    JsonArray jsonUserTasks = buffer.toJsonObject().getJsonArray("userTasks");
+                    Map<String, CruiseControlResponse> statuses = new HashMap<>(jsonUserTasks.size());
+
+                    for (int i = 0; i < jsonUserTasks.size(); i++) {
+                        JsonObject jsonUserTask = jsonUserTasks.getJsonObject(i);
+                        String userTaskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+
+                        if (userTaskId != null && userTaskIds.contains(userTaskId) && !jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+                            statuses.put(userTaskId, new CruiseControlResponse(userTaskId, userTaskStatusJson(jsonUserTask)));
+                        }
+                    }
+
+                    result.complete(statuses);
+                } catch (RuntimeException e) {
+                    result.fail(new CruiseControlRestException(
+                            "Failed to parse response for request: " + host + ":" + port + path + ". " + e.getMessage()));
+                }
+            });
+        });
+    }
+
+    /**
+     * Sends a GET request to the user tasks endpoint of Cruise Control. It handles the request itself, the
+     * authentication, the timeouts and the error responses. The successful (200 or 201) responses are passed to the
+     * handler which parses them and completes the result.
+     *
+     * @param host          Cruise Control host
+     * @param port          Cruise Control port
+     * @param path          Path of the request including the query parameters
+     * @param onSuccess     Handler called with the successful response and the promise which should be completed
+     *
+     * @param <T>   Type of the result
+     *
+     * @return  Future with the result
+     */
+    @SuppressWarnings("deprecation")
+    private <T> Future<T> getUserTasks(String host, int port, String path, BiConsumer<HttpClientResponse, Promise<T>> onSuccess) {
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(options, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -256,50 +377,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                     request.result().send(response -> {
                         if (response.succeeded()) {
                             if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
-                                String userTaskID = response.result().getHeader(CC_REST_API_USER_ID_HEADER);
-                                response.result().bodyHandler(buffer -> {
-                                    JsonObject json = buffer.toJsonObject();
-                                    JsonObject jsonUserTask = json.getJsonArray("userTasks").getJsonObject(0);
-                                    // This should not be an error with a 200 status but we play it safe
-                                    if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
-                                        result.fail(new CruiseControlRestException(
-                                                "Error for request: " + host + ":" + port + path + ". Server returned: " +
-                                                        json.getString(CC_REST_API_ERROR_KEY)));
-                                    }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                            // Extract the load before/after information for the brokers
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                    }
-                                    result.complete(new CruiseControlResponse(userTaskID, statusJson));
-                                });
+                                onSuccess.accept(response.result(), result);
                             } else if (response.result().statusCode() == 500) {
                                 response.result().bodyHandler(buffer -> {
                                     JsonObject json = buffer.toJsonObject();
@@ -333,6 +411,51 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    /**
+     * Extracts the task status and, depending on the status, the rebalance summary and the broker load from a single
+     * entry of the Cruise Control user tasks response.
+     *
+     * @param jsonUserTask  User task entry from the user tasks response
+     *
+     * @return  JSON object with the task status and the details of the rebalance
+     */
+    private static JsonObject userTaskStatusJson(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
+                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+
+        return statusJson;
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
@@ -342,7 +465,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return withHttpClient(options, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -383,7 +506,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // so we catch and raise a TimeoutException instead
@@ -67,6 +67,21 @@ public class ClusterOperatorConfigTest {
         assertThat(config.isCreateClusterRoles(), is(false));
         assertThat(config.isNetworkPolicyGeneration(), is(true));
         assertThat(config.isPodSetReconciliationOnly(), is(false));
+        assertThat(config.getConnectorConfigVerificationIntervalMs(), is(ClusterOperatorConfig.DEFAULT_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS));
+        assertThat(config.isPodSetSharedPodTemplate(), is(false));
+        assertThat(config.getListPageSize(), is(ClusterOperatorConfig.DEFAULT_LIST_PAGE_SIZE));
+        assertThat(config.getReadOperationsThreadPoolSize(), is(ClusterOperatorConfig.DEFAULT_READ_OPERATIONS_THREAD_POOL_SIZE));
+        assertThat(config.getWaitOperationsThreadPoolSize(), is(ClusterOperatorConfig.DEFAULT_WAIT_OPERATIONS_THREAD_POOL_SIZE));
+        assertThat(config.isVirtualThreadsEnabled(), is(ClusterOperatorConfig.DEFAULT_VIRTUAL_THREADS_ENABLED));
+        assertThat(config.getWatchEventsQuietPeriodMs(), is(ClusterOperatorConfig.DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS));
+        assertThat(config.getWatchEventsMaxDelayMs(), is(ClusterOperatorConfig.DEFAULT_WATCH_EVENTS_MAX_DELAY_MS));
+        assertThat(config.isSkipUnchangedReconciliations(), is(ClusterOperatorConfig.DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS));
+        assertThat(config.getSkipUnchangedReconciliationsMaxIntervalMs(), is(ClusterOperatorConfig.DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS));
+        assertThat(config.isConnectBuildMultiStage(), is(ClusterOperatorConfig.DEFAULT_CONNECT_BUILD_MULTI_STAGE));
+        assertThat(config.getConnectBuildCacheRepository(), is(nullValue()));
+        assertThat(config.isZooKeeperParallelRolling(), is(ClusterOperatorConfig.DEFAULT_ZOOKEEPER_PARALLEL_ROLLING));
+        assertThat(config.getPvcResizeWaitTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_PVC_RESIZE_WAIT_TIMEOUT_MS));
+        assertThat(config.isCompressRebalanceBrokerLoad(), is(ClusterOperatorConfig.DEFAULT_COMPRESS_REBALANCE_BROKER_LOAD));
     }
 
     @Test
@@ -89,7 +104,22 @@ public class ClusterOperatorConfigTest {
                 20_000,
                 10,
                 false,
-                1024);
+                1024,
+                300_000,
+                true,
+                100,
+                20,
+                5,
+                true,
+                500,
+                10_000,
+                true,
+                300_000,
+                true,
+                "my-registry.io/connect-cache",
+                true,
+                60_000,
+                true);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -97,6 +127,77 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getZkAdminSessionTimeoutMs(), is(20_000));
         assertThat(config.getConnectBuildTimeoutMs(), is(120_000L));
         assertThat(config.getDnsCacheTtlSec(), is(10));
+        assertThat(config.getConnectorConfigVerificationIntervalMs(), is(300_000L));
+        assertThat(config.isPodSetSharedPodTemplate(), is(true));
+        assertThat(config.getListPageSize(), is(100));
+        assertThat(config.getReadOperationsThreadPoolSize(), is(20));
+        assertThat(config.getWaitOperationsThreadPoolSize(), is(5));
+        assertThat(config.isVirtualThreadsEnabled(), is(true));
+        assertThat(config.getWatchEventsQuietPeriodMs(), is(500L));
+        assertThat(config.getWatchEventsMaxDelayMs(), is(10_000L));
+        assertThat(config.isSkipUnchangedReconciliations(), is(true));
+        assertThat(config.getSkipUnchangedReconciliationsMaxIntervalMs(), is(300_000L));
+        assertThat(config.isConnectBuildMultiStage(), is(true));
+        assertThat(config.getConnectBuildCacheRepository(), is("my-registry.io/connect-cache"));
+        assertThat(config.isZooKeeperParallelRolling(), is(true));
+        assertThat(config.getPvcResizeWaitTimeoutMs(), is(60_000L));
+        assertThat(config.isCompressRebalanceBrokerLoad(), is(true));
+    }
+
+    @Test
+    public void testConnectBuildConfiguration() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_BUILD_MULTI_STAGE, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_BUILD_CACHE_REPOSITORY, " my-registry.io/connect-cache ");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isConnectBuildMultiStage(), is(true));
+        assertThat(config.getConnectBuildCacheRepository(), is("my-registry.io/connect-cache"));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_CONNECT_BUILD_CACHE_REPOSITORY, "");
+
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getConnectBuildCacheRepository(), is(nullValue()));
+    }
+
+    @Test
+    public void testZooKeeperParallelRolling() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.STRIMZI_ZOOKEEPER_PARALLEL_ROLLING, "true");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isZooKeeperParallelRolling(), is(true));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_ZOOKEEPER_PARALLEL_ROLLING, "false");
+
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isZooKeeperParallelRolling(), is(false));
+    }
+
+    @Test
+    public void testPvcResizeWaitTimeout() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getPvcResizeWaitTimeoutMs(), is(0L));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_PVC_RESIZE_WAIT_TIMEOUT_MS, "30000");
+
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getPvcResizeWaitTimeoutMs(), is(30_000L));
+    }
+
+    @Test
+    public void testCompressRebalanceBrokerLoad() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isCompressRebalanceBrokerLoad(), is(false));
+
+        envVars.put(ClusterOperatorConfig.STRIMZI_COMPRESS_REBALANCE_BROKER_LOAD, "true");
+
+        config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isCompressRebalanceBrokerLoad(), is(true));
     }
 
     @Test
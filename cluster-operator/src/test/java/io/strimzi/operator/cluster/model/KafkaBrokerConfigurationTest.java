@@ -0,0 +1,179 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.api.kafka.model.Rack;
+import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuthBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.storage.PersistentClaimStorageBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class KafkaBrokerConfigurationTest {
+    private static final String CLUSTER = "my-cluster";
+    private static final String NAMESPACE = "my-namespace";
+    private static final List<GenericKafkaListener> LISTENERS = List.of(
+            new GenericKafkaListenerBuilder()
+                    .withName("plain")
+                    .withPort(9092)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(false)
+                    .build(),
+            new GenericKafkaListenerBuilder()
+                    .withName("tls")
+                    .withPort(9093)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(true)
+                    .build(),
+            new GenericKafkaListenerBuilder()
+                    .withName("external")
+                    .withPort(9094)
+                    .withType(KafkaListenerType.NODEPORT)
+                    .withTls(true)
+                    .build(),
+            new GenericKafkaListenerBuilder()
+                    .withName("oauth")
+                    .withPort(9095)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(false)
+                    .withAuth(new KafkaListenerAuthenticationOAuthBuilder()
+                            .withValidIssuerUri("http://valid-issuer")
+                            .withJwksEndpointUri("http://jwks-endpoint")
+                            .withClientId("my-kafka-id")
+                            .withNewClientSecret()
+                                .withSecretName("my-secret")
+                                .withKey("client-secret")
+                            .endClientSecret()
+                            .build())
+                    .build()
+    );
+    private static final KafkaConfiguration USER_CONFIGURATION = new KafkaConfiguration(Reconciliation.DUMMY_RECONCILIATION,
+            Map.<String, Object>of("auto.create.topics.enable", "false", "my.custom.option", "option-${STRIMZI_BROKER_ID}").entrySet());
+
+    private static KafkaBrokerConfigurationBuilder builderWithCommonOptions(KafkaBrokerConfigurationBuilder builder)  {
+        return builder
+                .withRackId(new Rack("topology.kubernetes.io/zone"))
+                .withZookeeper(CLUSTER)
+                .withLogDirs(VolumeUtils.createVolumeMounts(new JbodStorageBuilder()
+                        .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").build(),
+                                new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").build())
+                        .build(), "/var/lib/kafka", false));
+    }
+
+    private static KafkaBrokerConfiguration sharedConfiguration()   {
+        return builderWithCommonOptions(new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION).withBrokerId())
+                .withListeners(CLUSTER, NAMESPACE, LISTENERS, true)
+                .withUserConfiguration(USER_CONFIGURATION)
+                .buildConfiguration();
+    }
+
+    private static String perBrokerConfiguration(int brokerId, Map<String, String> advertisedHostnames, Map<String, String> advertisedPorts)   {
+        return builderWithCommonOptions(new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION).withBrokerId(String.valueOf(brokerId)))
+                .withListeners(CLUSTER,
+                        NAMESPACE,
+                        LISTENERS,
+                        () -> KafkaResources.kafkaPodName(CLUSTER, brokerId),
+                        advertisedHostnames::get,
+                        advertisedPorts::get,
+                        true)
+                .withUserConfiguration(USER_CONFIGURATION)
+                .build().trim();
+    }
+
+    @ParallelTest
+    public void testSharedConfiguration()   {
+        String expected = builderWithCommonOptions(new KafkaBrokerConfigurationBuilder(Reconciliation.DUMMY_RECONCILIATION).withBrokerId())
+                .withListeners(CLUSTER, NAMESPACE, LISTENERS, true)
+                .withUserConfiguration(USER_CONFIGURATION)
+                .build().trim();
+
+        KafkaBrokerConfiguration configuration = sharedConfiguration();
+
+        assertThat(configuration.asString(), is(expected));
+        assertThat(configuration.asMap(), is(new OrderedProperties().addStringPairs(expected).asMap()));
+    }
+
+    @ParallelTest
+    public void testPerBrokerConfigurationFromSharedConfiguration()   {
+        KafkaBrokerConfiguration shared = sharedConfiguration();
+
+        // Large cluster to check the per-broker configurations created from the shared configuration
+        for (int brokerId = 0; brokerId < 100; brokerId++) {
+            Map<String, String> advertisedHostnames = Map.of(
+                    "PLAIN_9092", "broker-" + brokerId,
+                    "TLS_9093", "broker-" + brokerId,
+                    "EXTERNAL_9094", "${STRIMZI_NODEPORT_DEFAULT_ADDRESS}",
+                    "OAUTH_9095", "broker-" + brokerId
+            );
+            Map<String, String> advertisedPorts = Map.of(
+                    "PLAIN_9092", "9092",
+                    "TLS_9093", "9093",
+                    "EXTERNAL_9094", String.valueOf(31000 + brokerId),
+                    "OAUTH_9095", "9095"
+            );
+
+            String expected = perBrokerConfiguration(brokerId, advertisedHostnames, advertisedPorts);
+            KafkaBrokerConfiguration configuration = shared.forBroker(brokerId, advertisedHostnames, advertisedPorts);
+
+            assertThat(configuration.asString(), is(expected));
+            assertThat(configuration.asMap(), is(new OrderedProperties().addStringPairs(expected).asMap()));
+        }
+    }
+
+    @ParallelTest
+    public void testUserConfigurationIsNotChanged()   {
+        KafkaBrokerConfiguration configuration = sharedConfiguration().forBroker(1, Map.of(), Map.of());
+
+        // The placeholders in the user configuration are kept in the configuration file
+        assertThat(configuration.asMap().get("my.custom.option"), is("option-${STRIMZI_BROKER_ID}"));
+        assertThat(configuration.asMap().get("broker.id"), is("1"));
+
+        // But replaced in the map used to diff the configuration with the broker configuration
+        assertThat(configuration.asMapForBroker(1).get("my.custom.option"), is("option-1"));
+    }
+
+    @ParallelTest
+    public void testAsMapForBroker()   {
+        KafkaBrokerConfiguration configuration = KafkaBrokerConfiguration.parse("broker.id=${STRIMZI_BROKER_ID}\n" +
+                "log.dirs=/var/lib/kafka/data-0/kafka-log${STRIMZI_BROKER_ID}\n" +
+                "ssl.keystore.password=${CERTS_STORE_PASSWORD}");
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("broker.id", "2");
+        expected.put("log.dirs", "/var/lib/kafka/data-0/kafka-log2");
+        expected.put("ssl.keystore.password", "${CERTS_STORE_PASSWORD}");
+
+        assertThat(configuration.asMapForBroker(2), is(expected));
+
+        // Without any placeholders, the map is used directly
+        KafkaBrokerConfiguration withoutPlaceholders = KafkaBrokerConfiguration.parse("broker.id=2");
+        assertThat(withoutPlaceholders.asMapForBroker(2), is(sameInstance(withoutPlaceholders.asMap())));
+    }
+
+    @ParallelTest
+    public void testReplacePlaceholders()   {
+        Map<String, String> values = Map.of("A", "a", "B", "${A}");
+
+        assertThat(KafkaBrokerConfiguration.replacePlaceholders("${A}-${B}-${C}", values::get), is("a-${A}-${C}"));
+        assertThat(KafkaBrokerConfiguration.replacePlaceholders("no placeholders", values::get), is("no placeholders"));
+        assertThat(KafkaBrokerConfiguration.replacePlaceholders("unfinished ${A", values::get), is("unfinished ${A"));
+        assertThat(KafkaBrokerConfiguration.replacePlaceholders("", values::get), is(""));
+    }
+}
@@ -1879,6 +1879,22 @@ public class KafkaClusterTest {
         assertThat(rules.contains(kafkaBrokersPeer), is(true));
     }
 
+    @ParallelTest
+    public void testKafkaAgentPortNetworkPolicy() {
+        Kafka kafkaAssembly = ResourceUtils.createKafka(namespace, cluster, replicas,
+                image, healthDelay, healthTimeout, jmxMetricsConfig, configuration, emptyMap());
+        KafkaCluster k = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS);
+
+        // Check Network Policies => Different namespace
+        NetworkPolicy np = k.generateNetworkPolicy("operator-namespace", null);
+
+        List<NetworkPolicyPeer> rules = np.getSpec().getIngress().stream().filter(ing -> ing.getPorts().get(0).getPort().equals(new IntOrString(KafkaCluster.KAFKA_AGENT_PORT))).map(NetworkPolicyIngressRule::getFrom).findFirst().orElseThrow();
+
+        // Only the Cluster Operator can access the Kafka Agent
+        assertThat(rules.size(), is(1));
+        assertThat(rules.get(0).getPodSelector().getMatchLabels(), is(Collections.singletonMap(Labels.STRIMZI_KIND_LABEL, "cluster-operator")));
+    }
+
     @ParallelTest
     public void testReplicationPortNetworkPolicy() {
         NetworkPolicyPeer kafkaBrokersPeer = new NetworkPolicyPeerBuilder()
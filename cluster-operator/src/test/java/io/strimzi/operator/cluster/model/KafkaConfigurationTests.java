@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Assertions;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 
@@ -105,4 +106,11 @@ public class KafkaConfigurationTests {
 
         assertThat(exc.getMessage(), containsString("Configuration model /kafka-2.6.0-config-model.json was not found"));
     }
+
+    @ParallelTest
+    public void testConfigModelIsCached() {
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(KafkaConfiguration.readConfigModel(kafkaVersion))));
+        assertThat(KafkaConfiguration.readOnlyConfigModelOptions(kafkaVersion), is(sameInstance(KafkaConfiguration.readOnlyConfigModelOptions(kafkaVersion))));
+        assertThat(KafkaConfiguration.readOnlyConfigModelOptions(kafkaVersion).contains("broker.id"), is(true));
+    }
 }
@@ -488,6 +488,38 @@ public class KafkaConnectBuildTest {
         assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(expectedArgs));
     }
 
+    @ParallelTest
+    public void testKanikoCacheRepository()   {
+        List<String> expectedArgs = new ArrayList<>(defaultArgs);
+        expectedArgs.add("--cache=true");
+        expectedArgs.add("--cache-repo=my-registry.io/connect-cache");
+        expectedArgs.add("--reproducible");
+
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(cluster)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withBootstrapServers("my-kafka:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage("my-image:latest")
+                            .withPushSecret("my-docker-credentials")
+                            .withAdditionalKanikoOptions("--reproducible")
+                        .endDockerOutput()
+                        .withPlugins(new PluginBuilder().withName("my-connector").withArtifacts(jarArtifactWithChecksum).build(),
+                                new PluginBuilder().withName("my-connector2").withArtifacts(jarArtifactNoChecksum).build())
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        KafkaConnectBuild build = KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), kc, VERSIONS);
+
+        Pod pod = build.generateBuilderPod(true, ImagePullPolicy.IFNOTPRESENT, null, null, "my-registry.io/connect-cache");
+        assertThat(pod.getSpec().getContainers().get(0).getArgs(), is(expectedArgs));
+    }
+
     @ParallelTest
     public void testInvalidKanikoOptions()   {
         KafkaConnect kc = new KafkaConnectBuilder()
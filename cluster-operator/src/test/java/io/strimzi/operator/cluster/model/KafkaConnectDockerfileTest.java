@@ -25,6 +25,7 @@ import static io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilderT
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -563,6 +564,121 @@ public class KafkaConnectDockerfileTest {
                 "\n"));
     }
 
+    @ParallelTest
+    public void testMultiStageDockerfile()   {
+        JarArtifact jar = new JarArtifactBuilder()
+                .withUrl("http://url.com/ar.jar")
+                .build();
+
+        MavenArtifact mvn = new MavenArtifactBuilder()
+                .withGroup("g1")
+                .withArtifact("a1")
+                .withVersion("v1")
+                .build();
+
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(
+                    new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jar, mvn)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("other-connector-plugin")
+                        .withArtifacts(jar)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("empty-connector-plugin")
+                        .withArtifacts(emptyList())
+                        .build())
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, true);
+
+        assertThat(df.getDockerfile(), is("##############################\n" +
+                "##############################\n" +
+                "# This file is automatically generated by the Strimzi Cluster Operator\n" +
+                "# Any changes to this file will be ignored and overwritten!\n" +
+                "##############################\n" +
+                "##############################\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin\n" +
+                "##########\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS maven-my-connector-plugin\n" +
+                "\n" +
+                "RUN 'curl' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.pom' \\\n" +
+                "      && 'mvn' 'dependency:copy-dependencies' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
+                "      && 'curl' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/64cebd9c/a1-v1.jar' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.jar'\n" +
+                "\n" +
+                "FROM myImage:latest AS plugin-my-connector-plugin\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11' \\\n" +
+                "      && 'curl' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "\n" +
+                "COPY --from=maven-my-connector-plugin '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin other-connector-plugin\n" +
+                "##########\n" +
+                "FROM myImage:latest AS plugin-other-connector-plugin\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11' \\\n" +
+                "      && 'curl' '-L' '--output' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "\n" +
+                "FROM myImage:latest\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "COPY --from=plugin-my-connector-plugin '/opt/kafka/plugins/my-connector-plugin' '/opt/kafka/plugins/my-connector-plugin'\n" +
+                "\n" +
+                "COPY --from=plugin-other-connector-plugin '/opt/kafka/plugins/other-connector-plugin' '/opt/kafka/plugins/other-connector-plugin'\n" +
+                "\n" +
+                "USER 1001\n" +
+                "\n"));
+
+        // The multi-stage Dockerfile differs from the linear one => switching between them triggers a new build
+        assertThat(df.hashStub(), is(not(new KafkaConnectDockerfile("myImage:latest", connectBuild).hashStub())));
+    }
+
+    @ParallelTest
+    public void testMultiStageDockerfileIsIndependentPerPlugin()   {
+        Build original = new BuildBuilder()
+                .withPlugins(
+                    new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactNoChecksum)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("other-connector-plugin")
+                        .withArtifacts(tgzArtifactNoChecksum)
+                        .build())
+                .build();
+
+        Build updated = new BuildBuilder()
+                .withPlugins(
+                    new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactNoChecksum)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("other-connector-plugin")
+                        .withArtifacts(tgzArtifactWithChecksum)
+                        .build())
+                .build();
+
+        String originalDockerfile = new KafkaConnectDockerfile("myImage:latest", original, true).getDockerfile();
+        String updatedDockerfile = new KafkaConnectDockerfile("myImage:latest", updated, true).getDockerfile();
+
+        // The stage of the unchanged plugin is the same => its cached layers can be reused
+        String unchangedStage = originalDockerfile.substring(0, originalDockerfile.indexOf("# Connector plugin other-connector-plugin"));
+        assertThat(updatedDockerfile.startsWith(unchangedStage), is(true));
+        assertThat(updatedDockerfile, is(not(originalDockerfile)));
+    }
+
     private static Build connectBuildFromGavAndUrl(String g, String a, String v, String url) {
         MavenArtifact mvn = new MavenArtifactBuilder()
                 .withGroup(g)
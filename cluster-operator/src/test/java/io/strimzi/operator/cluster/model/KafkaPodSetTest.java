@@ -19,6 +19,7 @@ import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.SecurityContext;
 import io.fabric8.kubernetes.api.model.SecurityContextBuilder;
 import io.fabric8.kubernetes.api.model.Toleration;
+import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.TolerationBuilder;
 import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
 import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
@@ -29,6 +30,7 @@ import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.Probe;
 import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
 import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
 import io.strimzi.api.kafka.model.storage.JbodStorageBuilder;
@@ -54,7 +56,9 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -233,6 +237,132 @@ public class KafkaPodSetTest {
         assertThat(config, containsString("advertised.listeners=CONTROLPLANE-9090://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9090,REPLICATION-9091://my-cluster-kafka-2.my-cluster-kafka-brokers.my-namespace.svc:9091,PLAIN-9092://broker-2:10002"));
     }
 
+    @ParallelTest
+    public void testMemoizedBrokerConfiguration() {
+        Map<Integer, Map<String, String>> advertisedHostnames = Map.of(
+                0, Map.of("PLAIN_9092", "broker-0"),
+                1, Map.of("PLAIN_9092", "broker-1"),
+                2, Map.of("PLAIN_9092", "broker-2")
+        );
+        Map<Integer, Map<String, String>> advertisedPorts = Map.of(
+                0, Map.of("PLAIN_9092", "10000"),
+                1, Map.of("PLAIN_9092", "10001"),
+                2, Map.of("PLAIN_9092", "10002")
+        );
+
+        KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, KAFKA, VERSIONS);
+
+        // The same inputs reuse the configuration
+        String config = kc.generatePerBrokerBrokerConfiguration(1, advertisedHostnames, advertisedPorts, true);
+        assertThat(kc.generatePerBrokerBrokerConfiguration(1, new HashMap<>(advertisedHostnames), new HashMap<>(advertisedPorts), true), is(sameInstance(config)));
+
+        String sharedConfig = kc.generateSharedBrokerConfiguration(true);
+        assertThat(kc.generateSharedBrokerConfiguration(true), is(sameInstance(sharedConfig)));
+        assertThat(kc.generateSharedBrokerConfiguration(false), is(not(sharedConfig)));
+
+        // Different advertised addresses or control plane listener generate a new configuration
+        Map<Integer, Map<String, String>> changedHostnames = new HashMap<>(advertisedHostnames);
+        changedHostnames.put(1, Map.of("PLAIN_9092", "new-broker-1"));
+        String changedConfig = kc.generatePerBrokerBrokerConfiguration(1, changedHostnames, advertisedPorts, true);
+        assertThat(changedConfig, containsString("PLAIN-9092://new-broker-1:10001"));
+
+        String withoutControlPlane = kc.generatePerBrokerBrokerConfiguration(1, changedHostnames, advertisedPorts, false);
+        assertThat(withoutControlPlane, not(containsString("control.plane.listener.name")));
+
+        // Changes to the model invalidate the memoized configurations
+        kc.setLogMessageFormatVersion("2.8");
+        assertThat(kc.generatePerBrokerBrokerConfiguration(1, changedHostnames, advertisedPorts, false), containsString("log.message.format.version=2.8"));
+        assertThat(kc.generateSharedBrokerConfiguration(true), containsString("log.message.format.version=2.8"));
+
+        kc.setInterBrokerProtocolVersion("2.8");
+        assertThat(kc.generatePerBrokerBrokerConfiguration(1, changedHostnames, advertisedPorts, false), containsString("inter.broker.protocol.version=2.8"));
+    }
+
+    /**
+     * Generates the models of a large cluster with 100 brokers, 6 listeners and JBOD storage. This is used to check
+     * that the pod independent parts of the model are generated correctly when they are shared by many pods.
+     */
+    @ParallelTest
+    public void testLargeClusterModel() {
+        int replicas = 100;
+        List<GenericKafkaListener> listeners = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            listeners.add(new GenericKafkaListenerBuilder()
+                    .withName("listener" + i)
+                    .withPort(9092 + i)
+                    .withType(KafkaListenerType.INTERNAL)
+                    .withTls(i % 2 == 1)
+                    .build());
+        }
+
+        Kafka kafka = new KafkaBuilder(KAFKA)
+                .editSpec()
+                    .editKafka()
+                        .withReplicas(replicas)
+                        .withListeners(listeners)
+                        .withNewJbodStorage()
+                            .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize("100Gi").withDeleteClaim(false).build(),
+                                    new PersistentClaimStorageBuilder().withId(1).withSize("100Gi").withDeleteClaim(false).build())
+                        .endJbodStorage()
+                    .endKafka()
+                .endSpec()
+                .build();
+
+        KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS);
+
+        Map<Integer, Map<String, String>> advertisedHostnames = new HashMap<>(replicas);
+        Map<Integer, Map<String, String>> advertisedPorts = new HashMap<>(replicas);
+
+        for (int brokerId = 0; brokerId < replicas; brokerId++) {
+            Map<String, String> hostnames = new HashMap<>();
+            Map<String, String> ports = new HashMap<>();
+
+            for (GenericKafkaListener listener : listeners) {
+                hostnames.put(ListenersUtils.envVarIdentifier(listener), "broker-" + brokerId);
+                ports.put(ListenersUtils.envVarIdentifier(listener), String.valueOf(listener.getPort()));
+            }
+
+            advertisedHostnames.put(brokerId, hostnames);
+            advertisedPorts.put(brokerId, ports);
+        }
+
+        List<ConfigMap> configMaps = kc.generatePerBrokerConfigurationConfigMaps(new MetricsAndLogging(null, null), advertisedHostnames, advertisedPorts, true);
+        assertThat(configMaps.size(), is(replicas));
+
+        for (int brokerId = 0; brokerId < replicas; brokerId++) {
+            String config = configMaps.get(brokerId).getData().get(KafkaCluster.BROKER_CONFIGURATION_FILENAME);
+
+            assertThat(config, containsString("broker.id=" + brokerId + "\n"));
+            assertThat(config, containsString("log.dirs=/var/lib/kafka/data-0/kafka-log" + brokerId + ",/var/lib/kafka/data-1/kafka-log" + brokerId));
+            assertThat(config, containsString("LISTENER0-9092://broker-" + brokerId + ":9092"));
+            // The ConfigMaps and the rolling update use the same configuration
+            assertThat(kc.generatePerBrokerBrokerConfiguration(brokerId, advertisedHostnames, advertisedPorts, true), is(sameInstance(config)));
+        }
+
+        StrimziPodSet ps = kc.generatePodSet(replicas, true, null, null, brokerId -> Map.of());
+        List<Pod> pods = PodSetUtils.mapsToPods(ps.getSpec().getPods());
+        assertThat(pods.size(), is(replicas));
+
+        List<Volume> firstPodVolumes = pods.get(0).getSpec().getVolumes();
+
+        for (Pod pod : pods) {
+            List<Volume> volumes = pod.getSpec().getVolumes();
+
+            assertThat(volumes.size(), is(8));
+            assertThat(volumes.get(0).getName(), is("data-0"));
+            assertThat(volumes.get(0).getPersistentVolumeClaim().getClaimName(), is("data-0-" + pod.getMetadata().getName()));
+            assertThat(volumes.get(1).getName(), is("data-1"));
+            assertThat(volumes.get(1).getPersistentVolumeClaim().getClaimName(), is("data-1-" + pod.getMetadata().getName()));
+            assertThat(volumes.get(6).getName(), is("kafka-metrics-and-logging"));
+            assertThat(volumes.get(6).getConfigMap().getName(), is(pod.getMetadata().getName()));
+
+            // The pod independent volumes are the same in all pods
+            assertThat(volumes.subList(2, 6), is(firstPodVolumes.subList(2, 6)));
+            assertThat(volumes.get(7), is(firstPodVolumes.get(7)));
+        }
+    }
+
     @ParallelTest
     public void testPerBrokerConfigMaps() {
         MetricsAndLogging metricsAndLogging = new MetricsAndLogging(null, null);
@@ -7,13 +7,23 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
+import io.strimzi.test.TestUtils;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
 
 @ParallelSuite
 public class PodSetUtilsTest {
@@ -40,4 +50,133 @@ public class PodSetUtilsTest {
 
         assertThat(PodSetUtils.mapToPod(PodSetUtils.podToMap(pod)), is(pod));
     }
+
+    private static Pod pod(int index) {
+        return new PodBuilder()
+                    .withNewMetadata()
+                        .withName("my-cluster-kafka-" + index)
+                        .withNamespace("my-namespace")
+                        .withLabels(Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/kind", "Kafka"))
+                        .withAnnotations(Map.of("strimzi.io/revision", "rev-" + (index % 2), "strimzi.io/broker-configuration-hash", "abcdef"))
+                    .endMetadata()
+                    .withNewSpec()
+                        .withHostname("my-cluster-kafka-" + index)
+                        .withSubdomain("my-cluster-kafka-brokers")
+                        .withContainers(new ContainerBuilder()
+                                .withName("kafka")
+                                .withImage("quay.io/strimzi/kafka:latest-kafka-3.1.0")
+                                .withCommand("/opt/kafka/kafka_run.sh")
+                                .withImagePullPolicy("IfNotPresent")
+                                .build())
+                        .withVolumes(new VolumeBuilder()
+                                        .withName("data")
+                                        .withNewPersistentVolumeClaim("data-my-cluster-kafka-" + index, false)
+                                        .build(),
+                                new VolumeBuilder()
+                                        .withName("strimzi-tmp")
+                                        .withNewEmptyDir()
+                                            .withMedium("Memory")
+                                        .endEmptyDir()
+                                        .build())
+                        .withRestartPolicy("Always")
+                        .withTerminationGracePeriodSeconds(30L)
+                    .endSpec()
+                    .build();
+    }
+
+    private static StrimziPodSet podSet(int replicas) {
+        List<Pod> pods = new ArrayList<>(replicas);
+        for (int i = 0; i < replicas; i++) {
+            pods.add(pod(i));
+        }
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-kafka")
+                    .withNamespace("my-namespace")
+                .endMetadata()
+                .withNewSpec()
+                    .withNewSelector()
+                        .withMatchLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                    .endSelector()
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+
+    @ParallelTest
+    public void testMergePatch() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("a", "b");
+        source.put("c", Map.of("d", "e", "f", "g"));
+        source.put("h", List.of("i", "j"));
+
+        Map<String, Object> target = new HashMap<>();
+        target.put("a", "z");
+        target.put("c", Map.of("d", "e"));
+        target.put("h", List.of("i"));
+        target.put("k", Map.of("l", "m"));
+
+        Map<String, Object> patch = PodSetUtils.mergePatchDiff(source, target);
+        assertThat(((Map<?, ?>) patch.get("c")).containsKey("f"), is(true));
+        assertThat(((Map<?, ?>) patch.get("c")).get("f"), is(nullValue()));
+        assertThat(((Map<?, ?>) patch.get("c")).containsKey("d"), is(false));
+        assertThat(PodSetUtils.applyMergePatch(source, patch), is(target));
+
+        assertThat(PodSetUtils.mergePatchDiff(target, target), is(Map.of()));
+        assertThat(PodSetUtils.applyMergePatch(target, Map.of()), is(target));
+    }
+
+    @ParallelTest
+    public void testSharedPodTemplate() {
+        StrimziPodSet podSet = podSet(3);
+        StrimziPodSet compacted = PodSetUtils.withSharedPodTemplate(podSet);
+
+        assertThat(podSet.getSpec().getPodTemplate(), is(nullValue()));
+        assertThat(compacted.getSpec().getPodTemplate(), is(notNullValue()));
+        assertThat(compacted.getSpec().getPods().size(), is(3));
+        assertThat(PodSetUtils.podSetToPods(compacted), is(PodSetUtils.podSetToPods(podSet)));
+        assertThat(PodSetUtils.mapToPod(compacted.getSpec().getPodTemplate(), compacted.getSpec().getPods().get(1)), is(pod(1)));
+
+        // Already compacted or empty PodSets are not changed
+        assertThat(PodSetUtils.withSharedPodTemplate(compacted), is(compacted));
+        StrimziPodSet empty = new StrimziPodSetBuilder(podSet).editSpec().withPods(List.of()).endSpec().build();
+        assertThat(PodSetUtils.withSharedPodTemplate(empty), is(empty));
+    }
+
+    @ParallelTest
+    public void testSharedPodTemplateWithSinglePod() {
+        StrimziPodSet compacted = PodSetUtils.withSharedPodTemplate(podSet(1));
+
+        assertThat(compacted.getSpec().getPods(), is(List.of(Map.of())));
+        assertThat(PodSetUtils.podSetToPods(compacted), is(List.of(pod(0))));
+    }
+
+    /**
+     * Compares the serialized size of the StrimziPodSet and the time needed to materialize its Pods with and without
+     * the shared pod template for 10, 50 and 200 Pods. With the growing number of Pods, the size of the StrimziPodSet
+     * is dominated by the per-Pod differences which are only a fraction of the full Pod definition.
+     */
+    @ParallelTest
+    public void testSharedPodTemplateSizeAndTime() {
+        for (int replicas : new int[] {10, 50, 200}) {
+            StrimziPodSet podSet = podSet(replicas);
+            StrimziPodSet compacted = PodSetUtils.withSharedPodTemplate(podSet);
+
+            int fullSize = TestUtils.toJsonString(podSet).length();
+            int compactedSize = TestUtils.toJsonString(compacted).length();
+
+            long start = System.nanoTime();
+            List<Pod> pods = PodSetUtils.podSetToPods(compacted);
+            long materializeMicros = (System.nanoTime() - start) / 1_000;
+
+            assertThat(pods.size(), is(replicas));
+            assertThat("StrimziPodSet with " + replicas + " pods and shared template (" + compactedSize + " bytes, materialized in "
+                    + materializeMicros + "us) should be smaller than the full StrimziPodSet (" + fullSize + " bytes)", compactedSize, lessThan(fullSize));
+
+            if (replicas >= 50) {
+                assertThat(compactedSize, lessThan(fullSize / 2));
+            }
+        }
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.api.kafka.model.KafkaRebalance;
+import io.strimzi.api.kafka.model.KafkaRebalanceBuilder;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlLoadParameters;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceKeys;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+@ParallelSuite
+public class BrokerLoadEncodingTest {
+    private static final KafkaRebalance KAFKA_REBALANCE = new KafkaRebalanceBuilder()
+            .withNewMetadata()
+                .withNamespace("namespace")
+                .withName("my-rebalance")
+            .endMetadata()
+            .build();
+
+    private static JsonArray brokerLoad(int brokers, Random random) {
+        JsonArray brokerLoad = new JsonArray();
+
+        for (int i = 0; i < brokers; i++) {
+            JsonObject broker = new JsonObject().put(CruiseControlRebalanceKeys.BROKER_ID.getKey(), i);
+
+            for (CruiseControlLoadParameters param : CruiseControlLoadParameters.getIntegerParameters()) {
+                broker.put(param.getCruiseControlKey(), random.nextInt(5_000));
+            }
+
+            for (CruiseControlLoadParameters param : CruiseControlLoadParameters.getDoubleParameters()) {
+                broker.put(param.getCruiseControlKey(), random.nextDouble() * 100_000);
+            }
+
+            brokerLoad.add(broker);
+        }
+
+        return brokerLoad;
+    }
+
+    private static JsonObject proposal(int brokers) {
+        Random random = new Random(brokers);
+
+        return new JsonObject()
+                .put(CruiseControlRebalanceKeys.SUMMARY.getKey(), new JsonObject())
+                .put(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(), new JsonObject().put(CruiseControlRebalanceKeys.BROKERS.getKey(), brokerLoad(brokers, random)))
+                .put(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(), new JsonObject().put(CruiseControlRebalanceKeys.BROKERS.getKey(), brokerLoad(brokers, random)));
+    }
+
+    private static JsonObject loadStats(JsonObject proposal) {
+        return KafkaRebalanceAssemblyOperator.parseLoadStats(
+                proposal.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()).getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey()),
+                proposal.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()).getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey()));
+    }
+
+    @ParallelTest
+    public void testSmallBrokerLoadIsNotCompressed() {
+        JsonObject loadStats = loadStats(proposal(3));
+        BrokerLoadEncoding.EncodedBrokerLoad encoded = BrokerLoadEncoding.encode(loadStats, true);
+
+        assertThat(encoded.isCompressed(), is(false));
+        assertThat(encoded.getBinaryData(), is(nullValue()));
+        assertThat(encoded.getData().get(BrokerLoadEncoding.BROKER_LOAD_KEY), is(loadStats.encode()));
+
+        ConfigMap cm = new ConfigMapBuilder().withData(encoded.getData()).build();
+        assertThat(BrokerLoadEncoding.decode(cm), is(loadStats));
+    }
+
+    @ParallelTest
+    public void testLargeBrokerLoadIsCompressed() {
+        JsonObject loadStats = loadStats(proposal(100));
+        BrokerLoadEncoding.EncodedBrokerLoad encoded = BrokerLoadEncoding.encode(loadStats, true);
+
+        assertThat(encoded.isCompressed(), is(true));
+        assertThat(encoded.getData(), is(nullValue()));
+        assertThat(encoded.getBinaryData().get(BrokerLoadEncoding.BROKER_LOAD_COMPRESSED_KEY), is(notNullValue()));
+
+        ConfigMap cm = new ConfigMapBuilder().withBinaryData(encoded.getBinaryData()).build();
+        assertThat(BrokerLoadEncoding.decode(cm), is(loadStats));
+    }
+
+    @ParallelTest
+    public void testLargeBrokerLoadIsNotCompressedWhenDisabled() {
+        JsonObject loadStats = loadStats(proposal(100));
+        BrokerLoadEncoding.EncodedBrokerLoad encoded = BrokerLoadEncoding.encode(loadStats, false);
+
+        assertThat(encoded.isCompressed(), is(false));
+        assertThat(encoded.getBinaryData(), is(nullValue()));
+        assertThat(encoded.getData().get(BrokerLoadEncoding.BROKER_LOAD_KEY), is(loadStats.encode()));
+    }
+
+    @ParallelTest
+    public void testEncodingIsDeterministic() {
+        JsonObject loadStats = loadStats(proposal(100));
+
+        assertThat(BrokerLoadEncoding.encode(loadStats, true).getBinaryData(), is(BrokerLoadEncoding.encode(loadStats.copy(), true).getBinaryData()));
+    }
+
+    @ParallelTest
+    public void testDecodeMissingBrokerLoad() {
+        assertThat(BrokerLoadEncoding.decode(null), is(nullValue()));
+        assertThat(BrokerLoadEncoding.decode(new ConfigMapBuilder().build()), is(nullValue()));
+    }
+
+    @ParallelTest
+    public void testProcessLargeProposal() {
+        KafkaRebalanceAssemblyOperator.MapAndStatus<ConfigMap, ?> output = KafkaRebalanceAssemblyOperator.processOptimizationProposal(KAFKA_REBALANCE, proposal(200), true);
+
+        JsonObject brokerLoad = BrokerLoadEncoding.decode(output.getLoadMap());
+        assertThat(brokerLoad.size(), is(200));
+        assertThat(brokerLoad.getJsonObject("199").getJsonObject(CruiseControlLoadParameters.REPLICAS.getKafkaRebalanceStatusKey()).containsKey("diff"), is(true));
+    }
+
+    /**
+     * Compares the size of the stored broker load for clusters with 50, 100 and 200 brokers. The plain JSON grows
+     * linearly with about 1 KiB per broker while the compressed form stays a fraction of it.
+     */
+    @ParallelTest
+    public void testEncodingSize() {
+        for (int brokers : new int[] {50, 100, 200}) {
+            JsonObject loadStats = loadStats(proposal(brokers));
+            int jsonSize = loadStats.encode().getBytes(StandardCharsets.UTF_8).length;
+            BrokerLoadEncoding.EncodedBrokerLoad encoded = BrokerLoadEncoding.encode(loadStats, true);
+
+            assertThat(encoded.isCompressed(), is(true));
+            assertThat("Compressed broker load of " + brokers + " brokers (" + encoded.getSize()
+                    + " bytes) should be less than half of the JSON (" + jsonSize + " bytes)", encoded.getSize(), lessThan(jsonSize / 2));
+            assertThat(encoded.getSize(), lessThan(1024 * 1024));
+        }
+    }
+}
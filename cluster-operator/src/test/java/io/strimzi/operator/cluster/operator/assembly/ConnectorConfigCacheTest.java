@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class ConnectorConfigCacheTest {
+    private static final Map<String, String> CONFIG = Map.of("name", "my-connector", "connector.class", "FileStreamSource", "tasks.max", "1");
+
+    @ParallelTest
+    public void testUnchangedConnector() {
+        AtomicLong clock = new AtomicLong(0);
+        ConnectorConfigCache cache = new ConnectorConfigCache(1_000, clock::get);
+
+        assertThat(cache.isUnchanged("key", 1L, CONFIG), is(false));
+
+        cache.verified("key", 1L, CONFIG);
+        assertThat(cache.isUnchanged("key", 1L, CONFIG), is(true));
+        assertThat(cache.isUnchanged("key", 1L, new LinkedHashMap<>(CONFIG)), is(true));
+        assertThat(cache.isUnchanged("other-key", 1L, CONFIG), is(false));
+    }
+
+    @ParallelTest
+    public void testChangedConnector() {
+        ConnectorConfigCache cache = new ConnectorConfigCache(1_000, () -> 0L);
+        cache.verified("key", 1L, CONFIG);
+
+        Map<String, String> changedConfig = new LinkedHashMap<>(CONFIG);
+        changedConfig.put("tasks.max", "2");
+
+        assertThat(cache.isUnchanged("key", 1L, changedConfig), is(false));
+        assertThat(cache.isUnchanged("key", 2L, CONFIG), is(false));
+    }
+
+    @ParallelTest
+    public void testVerificationInterval() {
+        AtomicLong clock = new AtomicLong(0);
+        ConnectorConfigCache cache = new ConnectorConfigCache(1_000, clock::get);
+        cache.verified("key", 1L, CONFIG);
+
+        clock.set(999);
+        assertThat(cache.isUnchanged("key", 1L, CONFIG), is(true));
+
+        clock.set(1_000);
+        assertThat(cache.isUnchanged("key", 1L, CONFIG), is(false));
+
+        cache.verified("key", 1L, CONFIG);
+        assertThat(cache.isUnchanged("key", 1L, CONFIG), is(true));
+    }
+
+    @ParallelTest
+    public void testInvalidate() {
+        ConnectorConfigCache cache = new ConnectorConfigCache(1_000, () -> 0L);
+        cache.verified("key", 1L, CONFIG);
+        cache.invalidate("key");
+
+        assertThat(cache.isUnchanged("key", 1L, CONFIG), is(false));
+        assertThat(cache.size(), is(0));
+    }
+
+    @ParallelTest
+    public void testDisabledCache() {
+        ConnectorConfigCache cache = new ConnectorConfigCache(0, () -> 0L);
+        cache.verified("key", 1L, CONFIG);
+
+        assertThat(cache.isUnchanged("key", 1L, CONFIG), is(false));
+        assertThat(cache.size(), is(0));
+    }
+
+    @ParallelTest
+    public void testKeys() {
+        String connectKey = ConnectorConfigCache.key(new Reconciliation("test", KafkaConnect.RESOURCE_KIND, "ns", "my-cluster"), "my-connector");
+        String mm2Key = ConnectorConfigCache.key(new Reconciliation("test", KafkaMirrorMaker2.RESOURCE_KIND, "ns", "my-cluster"), "my-connector");
+
+        assertThat(connectKey, is(not(mm2Key)));
+    }
+
+    @ParallelTest
+    public void testHashIsIndependentOfOrder() {
+        Map<String, String> config1 = new LinkedHashMap<>();
+        config1.put("a", "1");
+        config1.put("b", "2");
+
+        Map<String, String> config2 = new LinkedHashMap<>();
+        config2.put("b", "2");
+        config2.put("a", "1");
+
+        assertThat(ConnectorConfigCache.hash(config1), is(ConnectorConfigCache.hash(config2)));
+
+        // Keys and values must not be ambiguous when concatenated
+        assertThat(ConnectorConfigCache.hash(Map.of("ab", "c")), is(not(ConnectorConfigCache.hash(Map.of("a", "bc")))));
+    }
+}
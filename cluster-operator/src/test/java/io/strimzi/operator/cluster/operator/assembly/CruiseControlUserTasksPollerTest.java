@@ -0,0 +1,222 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.KafkaRebalance;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTasksPollerTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", KafkaRebalance.RESOURCE_KIND, "namespace", "my-rebalance");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static CruiseControlResponse response(String status) {
+        CruiseControlResponse response = mock(CruiseControlResponse.class);
+        when(response.getJson()).thenReturn(new JsonObject().put("Status", status));
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CruiseControlApi apiClient(Map<String, String> statuses, List<Collection<String>> requests) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any(Collection.class))).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(2);
+            requests.add(List.copyOf(ids));
+
+            Map<String, CruiseControlResponse> result = new HashMap<>();
+            for (String id : ids) {
+                if (statuses.containsKey(id)) {
+                    result.put(id, response(statuses.get(id)));
+                }
+            }
+
+            return Future.succeededFuture(result);
+        });
+
+        return apiClient;
+    }
+
+    @Test
+    public void testSingleRequestForAllSubscriptions(VertxTestContext context) {
+        List<Collection<String>> requests = new CopyOnWriteArrayList<>();
+        CruiseControlApi apiClient = apiClient(Map.of("task-1", "Active", "task-2", "InExecution"), requests);
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, "localhost", 9090, 10, 100);
+
+        Checkpoint handled = context.checkpoint(2);
+        AtomicLong subscription1 = new AtomicLong();
+        AtomicLong subscription2 = new AtomicLong();
+
+        subscription1.set(poller.subscribe(RECONCILIATION, apiClient, "task-1", result -> {
+            context.verify(() -> {
+                assertThat(result.succeeded(), is(true));
+                assertThat(result.result().getJson().getString("Status"), is("Active"));
+            });
+            poller.unsubscribe(subscription1.get());
+            handled.flag();
+            return Future.succeededFuture();
+        }));
+
+        subscription2.set(poller.subscribe(RECONCILIATION, apiClient, "task-2", result -> {
+            context.verify(() -> {
+                assertThat(result.succeeded(), is(true));
+                assertThat(result.result().getJson().getString("Status"), is("InExecution"));
+                assertThat(requests.size(), is(1));
+                assertThat(requests.get(0), is(List.of("task-1", "task-2")));
+            });
+            poller.unsubscribe(subscription2.get());
+            handled.flag();
+            return Future.succeededFuture();
+        }));
+    }
+
+    @Test
+    public void testUnknownUserTask(VertxTestContext context) {
+        CruiseControlApi apiClient = apiClient(Map.of(), new CopyOnWriteArrayList<>());
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, "localhost", 9090, 10, 100);
+
+        Checkpoint handled = context.checkpoint(2);
+        AtomicLong subscription1 = new AtomicLong();
+        AtomicLong subscription2 = new AtomicLong();
+
+        subscription1.set(poller.subscribe(RECONCILIATION, apiClient, "task-1", result -> {
+            context.verify(() -> {
+                assertThat(result.failed(), is(true));
+                assertThat(result.cause(), instanceOf(CruiseControlUserTasksPoller.UnknownUserTaskException.class));
+            });
+            poller.unsubscribe(subscription1.get());
+            handled.flag();
+            return Future.succeededFuture();
+        }));
+
+        subscription2.set(poller.subscribe(RECONCILIATION, apiClient, null, result -> {
+            context.verify(() -> assertThat(result.failed(), is(true)));
+            poller.unsubscribe(subscription2.get());
+            handled.flag();
+            return Future.succeededFuture();
+        }));
+    }
+
+    @Test
+    public void testAdaptiveInterval(VertxTestContext context) {
+        Map<String, String> statuses = new ConcurrentHashMap<>(Map.of("task-1", "InExecution"));
+        CruiseControlApi apiClient = apiClient(statuses, new CopyOnWriteArrayList<>());
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, "localhost", 9090, 10, 40);
+
+        Checkpoint completed = context.checkpoint();
+        AtomicInteger polls = new AtomicInteger();
+        List<Long> intervals = new CopyOnWriteArrayList<>();
+        AtomicLong subscription = new AtomicLong();
+
+        subscription.set(poller.subscribe(RECONCILIATION, apiClient, "task-1", result -> {
+            int poll = polls.incrementAndGet();
+
+            if (poll == 5) {
+                // Completion of the task resets the interval
+                statuses.put("task-1", "Completed");
+            } else if (poll == 6) {
+                poller.unsubscribe(subscription.get());
+                context.verify(() -> {
+                    // First poll only records the status, the following polls back off up to the maximum
+                    assertThat(intervals, is(List.of(10L, 20L, 40L, 40L, 40L)));
+                    assertThat(poller.intervalMs(), is(10L));
+                    assertThat(poller.subscriptionCount(), is(0));
+                });
+                completed.flag();
+                return Future.succeededFuture();
+            }
+
+            intervals.add(poller.intervalMs());
+            return Future.succeededFuture();
+        }));
+    }
+
+    @Test
+    public void testFailedRequest(VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTasksStatus(anyString(), anyInt(), any())).thenReturn(Future.failedFuture(new RuntimeException("Failed")));
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, "localhost", 9090, 10, 100);
+
+        Checkpoint handled = context.checkpoint(3);
+        AtomicLong subscription = new AtomicLong();
+        AtomicInteger polls = new AtomicInteger();
+
+        subscription.set(poller.subscribe(RECONCILIATION, apiClient, "task-1", result -> {
+            context.verify(() -> {
+                assertThat(result.failed(), is(true));
+                assertThat(result.cause().getMessage(), is("Failed"));
+                assertThat(poller.intervalMs(), is(10L));
+            });
+
+            // The poller keeps polling until the subscriber gives up
+            if (polls.incrementAndGet() == 3) {
+                poller.unsubscribe(subscription.get());
+            }
+
+            handled.flag();
+            return Future.succeededFuture();
+        }));
+    }
+
+    @Test
+    public void testCloseStopsPolling(VertxTestContext context) {
+        List<Collection<String>> requests = new CopyOnWriteArrayList<>();
+        CruiseControlApi apiClient = apiClient(Map.of("task-1", "Active"), requests);
+        CruiseControlUserTasksPoller poller = new CruiseControlUserTasksPoller(vertx, "localhost", 9090, 10, 100);
+
+        poller.subscribe(RECONCILIATION, apiClient, "task-1", result -> {
+            context.failNow("The handler should not be called after the poller is closed");
+            return Future.succeededFuture();
+        });
+        poller.close();
+
+        assertThat(poller.subscriptionCount(), is(0));
+
+        vertx.setTimer(100, t -> context.verify(() -> {
+            assertThat(requests.size(), is(0));
+            context.completeNow();
+        }));
+    }
+}
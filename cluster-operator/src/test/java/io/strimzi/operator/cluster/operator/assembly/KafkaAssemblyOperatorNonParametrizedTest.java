@@ -382,7 +382,22 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 10_000,
                 30,
                 false,
-                1024);
+                1024,
+                ClusterOperatorConfig.DEFAULT_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_POD_SET_SHARED_POD_TEMPLATE,
+                ClusterOperatorConfig.DEFAULT_LIST_PAGE_SIZE,
+                ClusterOperatorConfig.DEFAULT_READ_OPERATIONS_THREAD_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_WAIT_OPERATIONS_THREAD_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_VIRTUAL_THREADS_ENABLED,
+                ClusterOperatorConfig.DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS,
+                ClusterOperatorConfig.DEFAULT_WATCH_EVENTS_MAX_DELAY_MS,
+                ClusterOperatorConfig.DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS,
+                ClusterOperatorConfig.DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_CONNECT_BUILD_MULTI_STAGE,
+                null,
+                ClusterOperatorConfig.DEFAULT_ZOOKEEPER_PARALLEL_ROLLING,
+                ClusterOperatorConfig.DEFAULT_PVC_RESIZE_WAIT_TIMEOUT_MS,
+                ClusterOperatorConfig.DEFAULT_COMPRESS_REBALANCE_BROKER_LOAD);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
                 supplier, config);
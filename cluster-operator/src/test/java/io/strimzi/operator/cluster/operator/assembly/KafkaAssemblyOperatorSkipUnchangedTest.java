@@ -0,0 +1,250 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaResources;
+import io.strimzi.certs.CertManager;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperator;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorSkipUnchangedTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster";
+    private static final String WATCH_TRIGGER = "watch";
+    private static final Kafka KAFKA = new KafkaBuilder()
+            .withNewMetadata()
+                .withName(NAME)
+                .withNamespace(NAMESPACE)
+                .withGeneration(1L)
+            .endMetadata()
+            .withNewSpec()
+                .withNewKafka()
+                    .withReplicas(3)
+                    .withNewEphemeralStorage()
+                    .endEphemeralStorage()
+                .endKafka()
+                .withNewZookeeper()
+                    .withReplicas(3)
+                    .withNewEphemeralStorage()
+                    .endEphemeralStorage()
+                .endZookeeper()
+            .endSpec()
+            .build();
+
+    private static Vertx vertx;
+
+    private final CertManager certManager = new MockCertManager();
+    private final PasswordGenerator passwordGenerator = new PasswordGenerator(10, "a", "a");
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testUnchangedPeriodicReconciliationIsSkipped(VertxTestContext context) {
+        MockSkippingKafkaAssemblyOperator op = operator(ResourceUtils.supplierWithMocks(false), 600_000L);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                .compose(i -> op.createOrUpdate(reconciliation(ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER), KAFKA))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(op.fullReconciliations.get(), is(1));
+                    assertThat(status.getConditions().get(0).getType(), is("Ready"));
+                    verify(op.skippedReconciliationsCounter(NAMESPACE)).increment();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testChangedInputsForceFullReconciliation(VertxTestContext context) {
+        MockSkippingKafkaAssemblyOperator op = operator(ResourceUtils.supplierWithMocks(false), 600_000L);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                .compose(i -> {
+                    op.inputs = "changed-inputs";
+                    return op.createOrUpdate(reconciliation(ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER), KAFKA);
+                })
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(op.fullReconciliations.get(), is(2));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testOwnedResourceDriftForcesFullReconciliation(VertxTestContext context) {
+        MockSkippingKafkaAssemblyOperator op = operator(ResourceUtils.supplierWithMocks(false), 600_000L);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                .compose(i -> {
+                    // Somebody else modified one of the Secrets owned by the cluster
+                    op.ownedResourceVersions.put("Secret/" + KafkaResources.clusterCaCertificateSecretName(NAME), "2");
+                    return op.createOrUpdate(reconciliation(ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER), KAFKA);
+                })
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(op.fullReconciliations.get(), is(2));
+                    verify(op.skippedReconciliationsCounter(NAMESPACE), never()).increment();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testExpiredMaxIntervalForcesFullReconciliation(VertxTestContext context) {
+        MockSkippingKafkaAssemblyOperator op = operator(ResourceUtils.supplierWithMocks(false), 100L);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                .compose(i -> {
+                    Promise<Void> expired = Promise.promise();
+                    vertx.setTimer(200L, tid -> expired.complete());
+                    return expired.future();
+                })
+                .compose(i -> op.createOrUpdate(reconciliation(ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER), KAFKA))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(op.fullReconciliations.get(), is(2));
+                    verify(op.skippedReconciliationsCounter(NAMESPACE), never()).increment();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testWatchTriggeredReconciliationIsNeverSkipped(VertxTestContext context) {
+        MockSkippingKafkaAssemblyOperator op = operator(ResourceUtils.supplierWithMocks(false), 600_000L);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                .compose(i -> op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(op.fullReconciliations.get(), is(2));
+                    verify(op.skippedReconciliationsCounter(NAMESPACE), never()).increment();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFingerprintIsDroppedOnFailure(VertxTestContext context) {
+        MockSkippingKafkaAssemblyOperator op = operator(ResourceUtils.supplierWithMocks(false), 600_000L);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                .compose(i -> {
+                    op.failure = new RuntimeException("Reconciliation failed");
+                    return op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                            .otherwise(error -> null);
+                })
+                .compose(i -> {
+                    op.failure = null;
+                    return op.createOrUpdate(reconciliation(ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER), KAFKA);
+                })
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    // The failed reconciliation dropped the fingerprint of the first one => the periodic one cannot be skipped
+                    assertThat(op.fullReconciliations.get(), is(3));
+                    verify(op.skippedReconciliationsCounter(NAMESPACE), never()).increment();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFingerprintIsDroppedOnDelete(VertxTestContext context) {
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        when(supplier.clusterRoleBindingOperator.reconcile(any(), eq(KafkaResources.initContainerClusterRoleBindingName(NAME, NAMESPACE)), any()))
+                .thenReturn(Future.succeededFuture());
+        MockSkippingKafkaAssemblyOperator op = operator(supplier, 600_000L);
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(reconciliation(WATCH_TRIGGER), KAFKA)
+                .compose(i -> op.delete(reconciliation(WATCH_TRIGGER)))
+                .compose(i -> op.createOrUpdate(reconciliation(ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER), KAFKA))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(op.fullReconciliations.get(), is(2));
+                    verify(op.skippedReconciliationsCounter(NAMESPACE), never()).increment();
+                    async.flag();
+                })));
+    }
+
+    private MockSkippingKafkaAssemblyOperator operator(ResourceOperatorSupplier supplier, long maxIntervalMs) {
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(Map.of(
+                ClusterOperatorConfig.STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS, "true",
+                ClusterOperatorConfig.STRIMZI_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS, String.valueOf(maxIntervalMs)
+        ), KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        return new MockSkippingKafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_16),
+                certManager, passwordGenerator, supplier, config);
+    }
+
+    private static Reconciliation reconciliation(String trigger) {
+        return new Reconciliation(trigger, Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+    }
+
+    // Counts the full reconciliations and lets the tests change the fingerprint inputs and the owned resources
+    static class MockSkippingKafkaAssemblyOperator extends KafkaAssemblyOperator {
+        final AtomicInteger fullReconciliations = new AtomicInteger(0);
+        final Map<String, String> ownedResourceVersions = new TreeMap<>(Map.of(
+                "Secret/" + KafkaResources.clusterCaCertificateSecretName(NAME), "1",
+                "StatefulSet/" + KafkaResources.kafkaStatefulSetName(NAME), "1"));
+        String inputs = "inputs";
+        RuntimeException failure = null;
+
+        public MockSkippingKafkaAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, CertManager certManager, PasswordGenerator passwordGenerator, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+            super(vertx, pfa, certManager, passwordGenerator, supplier, config);
+        }
+
+        @Override
+        Future<Void> reconcile(ReconciliationState reconcileState) {
+            fullReconciliations.incrementAndGet();
+            return failure != null ? Future.failedFuture(failure) : Future.succeededFuture();
+        }
+
+        @Override
+        Future<String> reconciliationInputs(Reconciliation reconciliation, Kafka kafkaAssembly) {
+            return Future.succeededFuture(inputs);
+        }
+
+        @Override
+        Future<Map<String, String>> ownedResourceVersions(Reconciliation reconciliation) {
+            return Future.succeededFuture(new TreeMap<>(ownedResourceVersions));
+        }
+    }
+}
@@ -117,6 +117,7 @@ import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static io.strimzi.test.TestUtils.set;
@@ -1296,9 +1297,10 @@ public class KafkaAssemblyOperatorTest {
 
         Kafka foo = getKafkaAssembly("foo");
         Kafka bar = getKafkaAssembly("bar");
-        when(mockKafkaOps.listAsync(eq(kafkaNamespace), any(Optional.class))).thenReturn(
-            Future.succeededFuture(asList(foo, bar))
-        );
+        when(mockKafkaOps.listAsync(eq(kafkaNamespace), any(Optional.class), anyInt(), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<List<Kafka>>>getArgument(3).accept(asList(foo, bar));
+            return Future.succeededFuture();
+        });
         // when requested Custom Resource for a specific Kafka cluster
         when(mockKafkaOps.get(eq(kafkaNamespace), eq("foo"))).thenReturn(foo);
         when(mockKafkaOps.get(eq(kafkaNamespace), eq("bar"))).thenReturn(bar);
@@ -1388,9 +1390,10 @@ public class KafkaAssemblyOperatorTest {
         foo.getMetadata().setNamespace("namespace1");
         Kafka bar = getKafkaAssembly("bar");
         bar.getMetadata().setNamespace("namespace2");
-        when(mockKafkaOps.listAsync(eq("*"), any(Optional.class))).thenReturn(
-                Future.succeededFuture(asList(foo, bar))
-        );
+        when(mockKafkaOps.listAsync(eq("*"), any(Optional.class), anyInt(), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<List<Kafka>>>getArgument(3).accept(asList(foo, bar));
+            return Future.succeededFuture();
+        });
         // when requested Custom Resource for a specific Kafka cluster
         when(mockKafkaOps.get(eq("namespace1"), eq("foo"))).thenReturn(foo);
         when(mockKafkaOps.get(eq("namespace2"), eq("bar"))).thenReturn(bar);
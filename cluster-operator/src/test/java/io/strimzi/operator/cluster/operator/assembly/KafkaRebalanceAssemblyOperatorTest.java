@@ -63,6 +63,7 @@ import java.net.URISyntaxException;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.singleton;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -90,6 +91,7 @@ public class KafkaRebalanceAssemblyOperatorTest {
     private CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> mockRebalanceOps;
     private CrdOperator<KubernetesClient, Kafka, KafkaList> mockKafkaOps;
     private SecretOperator mockSecretOps;
+    private ResourceOperatorSupplier supplier;
     private KafkaRebalanceAssemblyOperator kcrao;
     private ConfigMapOperator mockCmOps;
 
@@ -132,11 +134,20 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 .end()
                 .build();
 
-        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        supplier = ResourceUtils.supplierWithMocks(true);
+        kcrao = createKafkaRebalanceAssemblyOperator(vertx, ResourceUtils.dummyClusterOperatorConfig());
+
+        mockRebalanceOps = supplier.kafkaRebalanceOperator;
+        mockKafkaOps = supplier.kafkaOperator;
+        mockCmOps = supplier.configMapOperations;
+        mockSecretOps = supplier.secretOperations;
+    }
+
+    private KafkaRebalanceAssemblyOperator createKafkaRebalanceAssemblyOperator(Vertx vertx, ClusterOperatorConfig config) {
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(true, kubernetesVersion);
 
         // Override to inject mocked cruise control address so real cruise control not required
-        kcrao = new KafkaRebalanceAssemblyOperator(vertx, pfa, supplier, ResourceUtils.dummyClusterOperatorConfig()) {
+        return new KafkaRebalanceAssemblyOperator(vertx, pfa, supplier, config) {
             @Override
             public String cruiseControlHost(String clusterName, String clusterNamespace) {
                 return HOST;
@@ -147,11 +158,6 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 return new CruiseControlApiImpl(vertx, 1, ccSecret, ccApiSecret, true, true);
             }
         };
-
-        mockRebalanceOps = supplier.kafkaRebalanceOperator;
-        mockKafkaOps = supplier.kafkaOperator;
-        mockCmOps = supplier.configMapOperations;
-        mockSecretOps = supplier.secretOperations;
     }
 
     @AfterEach
@@ -532,6 +538,104 @@ public class KafkaRebalanceAssemblyOperatorTest {
                     checkpoint.flag();
                 }));
     }
+
+    /**
+     * Tests that refreshing a proposal updates the broker load stored in the ConfigMap
+     *
+     * 1. A new KafkaRebalance resource is created for a cluster with 60 brokers and the broker load compression enabled;
+     *    it is in the 'New' state
+     * 2. The proposal is ready and the broker load is stored compressed in the ConfigMap binary data
+     * 3. The proposal is refreshed and Cruise Control returns a different broker load
+     * 4. The compressed broker load in the ConfigMap is updated
+     * 5. The proposal is refreshed again and Cruise Control returns the broker load of 3 brokers only
+     * 6. The broker load is stored as plain JSON and the compressed broker load is removed from the ConfigMap
+     */
+    @Test
+    public void testRefreshLargeProposalUpdatesBrokerLoad(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+        MockCruiseControl.setupCCRebalanceResponseWithBrokers(ccServer, 60, 1.0);
+        kcrao = createKafkaRebalanceAssemblyOperator(vertx, ClusterOperatorConfig.fromMap(Map.of(
+                ClusterOperatorConfig.STRIMZI_NAMESPACE, CLUSTER_NAMESPACE,
+                ClusterOperatorConfig.STRIMZI_COMPRESS_REBALANCE_BROKER_LOAD, "true"), KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        KafkaRebalance kr =
+                createKafkaRebalance(CLUSTER_NAMESPACE, CLUSTER_NAME, RESOURCE_NAME, new KafkaRebalanceSpecBuilder().build());
+
+        Crds.kafkaRebalanceOperation(kubernetesClient).inNamespace(CLUSTER_NAMESPACE).create(kr);
+
+        when(mockKafkaOps.getAsync(CLUSTER_NAMESPACE, CLUSTER_NAME)).thenReturn(Future.succeededFuture(kafka));
+        mockSecretResources();
+        mockRebalanceOperator(mockRebalanceOps, mockCmOps, CLUSTER_NAMESPACE, RESOURCE_NAME, kubernetesClient);
+
+        // Use the real ConfigMap operator backed by the mocked Kubernetes client to check what is really stored
+        ConfigMapOperator cmOps = new ConfigMapOperator(vertx, kubernetesClient);
+        when(mockCmOps.reconcile(any(), eq(CLUSTER_NAMESPACE), eq(RESOURCE_NAME), any()))
+                .thenAnswer(invocation -> cmOps.reconcile(invocation.getArgument(0), CLUSTER_NAMESPACE, RESOURCE_NAME, invocation.getArgument(3)));
+
+        AtomicReference<String> firstBrokerLoad = new AtomicReference<>();
+
+        Checkpoint checkpoint = context.checkpoint();
+        kcrao.reconcileRebalance(new Reconciliation("test-trigger", KafkaRebalance.RESOURCE_KIND, CLUSTER_NAMESPACE, RESOURCE_NAME), kr)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertState(context, kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceState.ProposalReady);
+
+                    ConfigMap cm = kubernetesClient.configMaps().inNamespace(CLUSTER_NAMESPACE).withName(RESOURCE_NAME).get();
+                    assertThat(cm.getData() == null || !cm.getData().containsKey(BrokerLoadEncoding.BROKER_LOAD_KEY), is(true));
+                    assertThat(cm.getBinaryData().get(BrokerLoadEncoding.BROKER_LOAD_COMPRESSED_KEY), is(notNullValue()));
+                    assertThat(BrokerLoadEncoding.decode(cm).size(), is(60));
+                    firstBrokerLoad.set(cm.getBinaryData().get(BrokerLoadEncoding.BROKER_LOAD_COMPRESSED_KEY));
+                })))
+                .compose(v -> {
+                    ccServer.reset();
+
+                    try {
+                        MockCruiseControl.setupCCRebalanceResponseWithBrokers(ccServer, 60, 2.0);
+                    } catch (IOException | URISyntaxException e) {
+                        return Future.failedFuture(e);
+                    }
+
+                    // apply the "refresh" annotation to the resource in the ProposalReady state
+                    KafkaRebalance refreshKr = annotate(kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceAnnotation.refresh);
+
+                    return kcrao.reconcileRebalance(
+                            new Reconciliation("test-trigger", KafkaRebalance.RESOURCE_KIND, CLUSTER_NAMESPACE, RESOURCE_NAME),
+                            refreshKr);
+                })
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertState(context, kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceState.ProposalReady);
+
+                    // the refreshed proposal has different broker load which has to be stored
+                    ConfigMap cm = kubernetesClient.configMaps().inNamespace(CLUSTER_NAMESPACE).withName(RESOURCE_NAME).get();
+                    String refreshedBrokerLoad = cm.getBinaryData().get(BrokerLoadEncoding.BROKER_LOAD_COMPRESSED_KEY);
+                    assertThat(refreshedBrokerLoad, is(notNullValue()));
+                    assertThat(refreshedBrokerLoad.equals(firstBrokerLoad.get()), is(false));
+                    assertThat(BrokerLoadEncoding.decode(cm).size(), is(60));
+                })))
+                .compose(v -> {
+                    ccServer.reset();
+
+                    try {
+                        MockCruiseControl.setupCCRebalanceResponseWithBrokers(ccServer, 3, 1.0);
+                    } catch (IOException | URISyntaxException e) {
+                        return Future.failedFuture(e);
+                    }
+
+                    KafkaRebalance refreshKr = annotate(kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceAnnotation.refresh);
+
+                    return kcrao.reconcileRebalance(
+                            new Reconciliation("test-trigger", KafkaRebalance.RESOURCE_KIND, CLUSTER_NAMESPACE, RESOURCE_NAME),
+                            refreshKr);
+                })
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertState(context, kubernetesClient, CLUSTER_NAMESPACE, RESOURCE_NAME, KafkaRebalanceState.ProposalReady);
+
+                    // the small broker load is stored as plain JSON and the stale compressed broker load is gone
+                    ConfigMap cm = kubernetesClient.configMaps().inNamespace(CLUSTER_NAMESPACE).withName(RESOURCE_NAME).get();
+                    assertThat(cm.getData().get(BrokerLoadEncoding.BROKER_LOAD_KEY), is(notNullValue()));
+                    assertThat(cm.getBinaryData() == null || !cm.getBinaryData().containsKey(BrokerLoadEncoding.BROKER_LOAD_COMPRESSED_KEY), is(true));
+                    assertThat(BrokerLoadEncoding.decode(cm).size(), is(3));
+                    checkpoint.flag();
+                })));
+    }
     /**
      * Tests the transition from 'New' to 'NotReady' due to "missing hard goals" error
      *
@@ -942,7 +1046,22 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 10_000,
                 30,
                 false,
-                1024);
+                1024,
+                ClusterOperatorConfig.DEFAULT_CONNECTOR_CONFIG_VERIFICATION_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_POD_SET_SHARED_POD_TEMPLATE,
+                ClusterOperatorConfig.DEFAULT_LIST_PAGE_SIZE,
+                ClusterOperatorConfig.DEFAULT_READ_OPERATIONS_THREAD_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_WAIT_OPERATIONS_THREAD_POOL_SIZE,
+                ClusterOperatorConfig.DEFAULT_VIRTUAL_THREADS_ENABLED,
+                ClusterOperatorConfig.DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS,
+                ClusterOperatorConfig.DEFAULT_WATCH_EVENTS_MAX_DELAY_MS,
+                ClusterOperatorConfig.DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS,
+                ClusterOperatorConfig.DEFAULT_SKIP_UNCHANGED_RECONCILIATIONS_MAX_INTERVAL_MS,
+                ClusterOperatorConfig.DEFAULT_CONNECT_BUILD_MULTI_STAGE,
+                null,
+                ClusterOperatorConfig.DEFAULT_ZOOKEEPER_PARALLEL_ROLLING,
+                ClusterOperatorConfig.DEFAULT_PVC_RESIZE_WAIT_TIMEOUT_MS,
+                ClusterOperatorConfig.DEFAULT_COMPRESS_REBALANCE_BROKER_LOAD);
 
         kcrao = new KafkaRebalanceAssemblyOperator(Vertx.vertx(), pfa, supplier, config);
 
@@ -1291,6 +1410,7 @@ public class KafkaRebalanceAssemblyOperatorTest {
         mockRebalanceOperator(mockRebalanceOps, mockCmOps, namespace, resource, client, null);
     }
 
+    @SuppressWarnings("unchecked")
     private void mockRebalanceOperator(CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> mockRebalanceOps,
                                        ConfigMapOperator mockCmOps, String namespace, String resource, KubernetesClient client, Runnable getAsyncFunction) {
 
@@ -1308,6 +1428,10 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 return Future.failedFuture(e);
             }
         });
+        when(mockRebalanceOps.listAsync(eq(namespace), any(Optional.class))).thenAnswer(invocation -> Future.succeededFuture(Crds.kafkaRebalanceOperation(client)
+                .inNamespace(namespace)
+                .list()
+                .getItems()));
         when(mockRebalanceOps.updateStatusAsync(any(), any(KafkaRebalance.class))).thenAnswer(invocation -> {
             try {
                 return Future.succeededFuture(Crds.kafkaRebalanceOperation(client)
@@ -0,0 +1,134 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ConfigMapKeySelectorBuilder;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.strimzi.api.kafka.model.JmxPrometheusExporterMetricsBuilder;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.api.kafka.model.status.KafkaStatusBuilder;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class KafkaReconciliationFingerprintTest {
+    private static final Kafka KAFKA = new KafkaBuilder()
+            .withNewMetadata()
+                .withName("my-cluster")
+                .withNamespace("my-namespace")
+                .withGeneration(1L)
+                .withLabels(Map.of("my-label", "value"))
+            .endMetadata()
+            .withNewSpec()
+                .withNewKafka()
+                    .withReplicas(3)
+                    .withListeners(new GenericKafkaListenerBuilder()
+                            .withName("tls")
+                            .withPort(9093)
+                            .withType(KafkaListenerType.INTERNAL)
+                            .withTls(true)
+                            .withNewConfiguration()
+                                .withNewBrokerCertChainAndKey()
+                                    .withCertificate("tls.crt")
+                                    .withKey("tls.key")
+                                    .withSecretName("my-listener-cert")
+                                .endBrokerCertChainAndKey()
+                            .endConfiguration()
+                            .build())
+                    .withMetricsConfig(new JmxPrometheusExporterMetricsBuilder()
+                            .withNewValueFrom()
+                                .withConfigMapKeyRef(new ConfigMapKeySelectorBuilder().withName("my-metrics").withKey("metrics.yaml").build())
+                            .endValueFrom()
+                            .build())
+                    .withNewEphemeralStorage()
+                    .endEphemeralStorage()
+                .endKafka()
+                .withNewZookeeper()
+                    .withReplicas(3)
+                    .withNewEphemeralStorage()
+                    .endEphemeralStorage()
+                .endZookeeper()
+            .endSpec()
+            .build();
+
+    @ParallelTest
+    public void testReferencedResources() {
+        assertThat(KafkaReconciliationFingerprint.referencedSecrets(KAFKA), is(Set.of("my-listener-cert")));
+        assertThat(KafkaReconciliationFingerprint.referencedConfigMaps(KAFKA), is(Set.of("my-metrics")));
+
+        Kafka withoutSpec = new KafkaBuilder(KAFKA).withSpec(null).build();
+        assertThat(KafkaReconciliationFingerprint.referencedSecrets(withoutSpec).isEmpty(), is(true));
+        assertThat(KafkaReconciliationFingerprint.referencedConfigMaps(withoutSpec).isEmpty(), is(true));
+    }
+
+    @ParallelTest
+    public void testInputs() {
+        Map<String, String> referenced = Map.of("Secret/my-listener-cert", "100", "ConfigMap/my-metrics", "101");
+        String inputs = KafkaReconciliationFingerprint.inputs(KAFKA, "0.29.0", "+UseStrimziPodSets", referenced);
+
+        // Same inputs result in the same hash
+        assertThat(KafkaReconciliationFingerprint.inputs(new KafkaBuilder(KAFKA).build(), "0.29.0", "+UseStrimziPodSets", new TreeMap<>(referenced)), is(inputs));
+
+        // Changes to any of the inputs change the hash
+        Kafka newGeneration = new KafkaBuilder(KAFKA).editMetadata().withGeneration(2L).endMetadata().build();
+        assertThat(KafkaReconciliationFingerprint.inputs(newGeneration, "0.29.0", "+UseStrimziPodSets", referenced), is(not(inputs)));
+
+        Kafka annotated = new KafkaBuilder(KAFKA).editMetadata().addToAnnotations("my-annotation", "value").endMetadata().build();
+        assertThat(KafkaReconciliationFingerprint.inputs(annotated, "0.29.0", "+UseStrimziPodSets", referenced), is(not(inputs)));
+
+        assertThat(KafkaReconciliationFingerprint.inputs(KAFKA, "0.30.0", "+UseStrimziPodSets", referenced), is(not(inputs)));
+        assertThat(KafkaReconciliationFingerprint.inputs(KAFKA, "0.29.0", "-UseStrimziPodSets", referenced), is(not(inputs)));
+        assertThat(KafkaReconciliationFingerprint.inputs(KAFKA, "0.29.0", "+UseStrimziPodSets",
+                Map.of("Secret/my-listener-cert", "102", "ConfigMap/my-metrics", "101")), is(not(inputs)));
+    }
+
+    @ParallelTest
+    public void testMatching() {
+        Map<String, String> owned = new TreeMap<>();
+        KafkaReconciliationFingerprint.addResourceVersions(owned, List.of(
+                new SecretBuilder().withNewMetadata().withName("my-cluster-cluster-ca-cert").withResourceVersion("1").endMetadata().build(),
+                new ConfigMapBuilder().withNewMetadata().withName("my-cluster-kafka-0").withResourceVersion("2").endMetadata().build()));
+        assertThat(owned, is(Map.of("Secret/my-cluster-cluster-ca-cert", "1", "ConfigMap/my-cluster-kafka-0", "2")));
+
+        // The generation is used when the resource has one, so that status updates are ignored
+        Map<String, String> withGeneration = new TreeMap<>();
+        KafkaReconciliationFingerprint.addResourceVersions(withGeneration, List.of(
+                new StatefulSetBuilder().withNewMetadata().withName("my-cluster-kafka").withGeneration(3L).withResourceVersion("4").endMetadata().build()));
+        assertThat(withGeneration, is(Map.of("StatefulSet/my-cluster-kafka", "generation=3")));
+
+        KafkaStatus status = new KafkaStatusBuilder().withObservedGeneration(1L).withClusterId("my-cluster-id").build();
+        KafkaReconciliationFingerprint fingerprint = new KafkaReconciliationFingerprint("inputs", owned, status, 1_000L);
+
+        assertThat(fingerprint.matchesInputs("inputs", 1_500L, 1_000L), is(true));
+        assertThat(fingerprint.matchesInputs("other-inputs", 1_500L, 1_000L), is(false));
+        // The fingerprint expired
+        assertThat(fingerprint.matchesInputs("inputs", 2_000L, 1_000L), is(false));
+
+        assertThat(fingerprint.matchesOwnedResources(Map.of("Secret/my-cluster-cluster-ca-cert", "1", "ConfigMap/my-cluster-kafka-0", "2")), is(true));
+        assertThat(fingerprint.matchesOwnedResources(Map.of("Secret/my-cluster-cluster-ca-cert", "3", "ConfigMap/my-cluster-kafka-0", "2")), is(false));
+        assertThat(fingerprint.matchesOwnedResources(Map.of("Secret/my-cluster-cluster-ca-cert", "1")), is(false));
+
+        // The status is copied, so changes to the returned status do not affect the stored one
+        KafkaStatus storedStatus = fingerprint.status();
+        assertThat(storedStatus, is(status));
+        storedStatus.setClusterId("changed");
+        assertThat(fingerprint.status().getClusterId(), is("my-cluster-id"));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.cluster.operator.resource.PodRevision;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+@ParallelSuite
+public class MaterializedPodCacheTest {
+    private static Pod pod(int index, String revision) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-kafka-" + index)
+                    .withNamespace("my-namespace")
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                    .withAnnotations(Map.of(PodRevision.STRIMZI_REVISION_ANNOTATION, revision))
+                .endMetadata()
+                .withNewSpec()
+                    .withContainers(new ContainerBuilder()
+                            .withName("kafka")
+                            .withImage("quay.io/strimzi/kafka:latest-kafka-3.1.0")
+                            .build())
+                .endSpec()
+                .build();
+    }
+
+    private static StrimziPodSet podSet(String uid, long generation, int replicas, String revision) {
+        List<Pod> pods = new ArrayList<>(replicas);
+        for (int i = 0; i < replicas; i++) {
+            pods.add(pod(i, revision));
+        }
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-kafka")
+                    .withNamespace("my-namespace")
+                    .withUid(uid)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewSelector()
+                        .withMatchLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                    .endSelector()
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+
+    @ParallelTest
+    public void testPodsAreCachedPerGeneration() {
+        MaterializedPodCache cache = new MaterializedPodCache();
+        StrimziPodSet podSet = podSet("uid", 1L, 3, "rev1");
+
+        assertThat(cache.getIfCurrent(podSet), is(nullValue()));
+
+        MaterializedPodCache.CachedPodSet cached = cache.get(podSet);
+        assertThat(cached.getMaterialized(), is(3));
+        assertThat(cached.getDesiredPods().keySet(), is(new LinkedHashSet<>(List.of("my-cluster-kafka-0", "my-cluster-kafka-1", "my-cluster-kafka-2"))));
+        assertThat(cached.getDesiredPods().get("my-cluster-kafka-1"), is(pod(1, "rev1")));
+        assertThat(cached.getOwner().getUid(), is("uid"));
+
+        assertThat(cache.get(podSet), is(sameInstance(cached)));
+        assertThat(cache.getIfCurrent(podSet), is(sameInstance(cached)));
+        assertThat(cache.size(), is(1));
+    }
+
+    @ParallelTest
+    public void testOnlyChangedPodsAreMaterialized() {
+        MaterializedPodCache cache = new MaterializedPodCache();
+        MaterializedPodCache.CachedPodSet cached = cache.get(podSet("uid", 1L, 3, "rev1"));
+        Pod unchangedPod = cached.getDesiredPods().get("my-cluster-kafka-0");
+
+        // Scale-up => only the new pod is materialized
+        StrimziPodSet scaledUp = podSet("uid", 2L, 4, "rev1");
+        assertThat(cache.getIfCurrent(scaledUp), is(nullValue()));
+        MaterializedPodCache.CachedPodSet scaledUpCached = cache.get(scaledUp);
+        assertThat(scaledUpCached.getMaterialized(), is(1));
+        assertThat(scaledUpCached.getDesiredPods().size(), is(4));
+        assertThat(scaledUpCached.getDesiredPods().get("my-cluster-kafka-0"), is(sameInstance(unchangedPod)));
+
+        // Revision change in a single pod => only this pod is materialized again
+        StrimziPodSet changed = new StrimziPodSetBuilder(scaledUp)
+                .editMetadata()
+                    .withGeneration(3L)
+                .endMetadata()
+                .build();
+        List<Map<String, Object>> pods = new ArrayList<>(changed.getSpec().getPods());
+        pods.set(2, PodSetUtils.podToMap(pod(2, "rev2")));
+        changed.getSpec().setPods(pods);
+
+        MaterializedPodCache.CachedPodSet changedCached = cache.get(changed);
+        assertThat(changedCached.getMaterialized(), is(1));
+        assertThat(changedCached.getDesiredPods().get("my-cluster-kafka-2").getMetadata().getAnnotations().get(PodRevision.STRIMZI_REVISION_ANNOTATION), is("rev2"));
+        assertThat(changedCached.getDesiredPods().get("my-cluster-kafka-0"), is(sameInstance(unchangedPod)));
+
+        // New UID (PodSet was recreated) => everything is materialized again
+        MaterializedPodCache.CachedPodSet recreated = cache.get(podSet("uid2", 1L, 4, "rev1"));
+        assertThat(recreated.getMaterialized(), is(4));
+        assertThat(recreated.getOwner().getUid(), is("uid2"));
+    }
+
+    @ParallelTest
+    public void testPodStates() {
+        MaterializedPodCache cache = new MaterializedPodCache();
+        MaterializedPodCache.CachedPodSet cached = cache.get(podSet("uid", 1L, 3, "rev1"));
+
+        cached.updatePodState("my-cluster-kafka-0", true, true);
+        cached.updatePodState("my-cluster-kafka-1", true, false);
+        cached.updatePodState("my-cluster-kafka-2", false, true);
+        assertThat(cached.readyPods(), is(2));
+        assertThat(cached.currentPods(), is(2));
+
+        cached.updatePodState("my-cluster-kafka-1", false, true);
+        assertThat(cached.readyPods(), is(1));
+        assertThat(cached.currentPods(), is(3));
+
+        // Pod states are not carried over to the next generation
+        MaterializedPodCache.CachedPodSet next = cache.get(podSet("uid", 2L, 3, "rev1"));
+        assertThat(next, is(not(sameInstance(cached))));
+        assertThat(next.readyPods(), is(0));
+        assertThat(next.currentPods(), is(0));
+
+        cached.clearPodStates();
+        assertThat(cached.readyPods(), is(0));
+        assertThat(cached.currentPods(), is(0));
+    }
+
+    @ParallelTest
+    public void testRemove() {
+        MaterializedPodCache cache = new MaterializedPodCache();
+        StrimziPodSet podSet = podSet("uid", 1L, 3, "rev1");
+        cache.get(podSet);
+
+        cache.remove("my-namespace", "my-cluster-kafka");
+        assertThat(cache.getIfCurrent(podSet), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @ParallelTest
+    public void testLookupWithSharedPodTemplate() {
+        StrimziPodSet podSet = PodSetUtils.withSharedPodTemplate(podSet("uid", 1L, 3, "rev1"));
+        Map<String, Object> template = podSet.getSpec().getPodTemplate();
+        Map<String, Object> podMap = podSet.getSpec().getPods().get(1);
+
+        // The revision is the same for all pods => it is only in the template
+        assertThat(MaterializedPodCache.name(template, podMap), is("my-cluster-kafka-1"));
+        assertThat(MaterializedPodCache.revision(template, podMap), is("rev1"));
+        assertThat(MaterializedPodCache.revision(null, podMap), is(nullValue()));
+
+        MaterializedPodCache.CachedPodSet cached = new MaterializedPodCache().get(podSet);
+        assertThat(cached.getDesiredPods().get("my-cluster-kafka-1"), is(pod(1, "rev1")));
+    }
+
+    /**
+     * Compares the time needed to get the desired pods of a StrimziPodSet with 10, 50 and 200 pods when all pods are
+     * materialized and when they are taken from the cache after a change to a single pod.
+     */
+    @ParallelTest
+    public void testCachedPodsTime() {
+        for (int replicas : new int[] {10, 50, 200}) {
+            MaterializedPodCache cache = new MaterializedPodCache();
+
+            long start = System.nanoTime();
+            MaterializedPodCache.CachedPodSet cached = cache.get(podSet("uid", 1L, replicas, "rev1"));
+            long fullNanos = System.nanoTime() - start;
+
+            StrimziPodSet changed = podSet("uid", 2L, replicas, "rev1");
+            List<Map<String, Object>> pods = new ArrayList<>(changed.getSpec().getPods());
+            pods.set(0, PodSetUtils.podToMap(pod(0, "rev2")));
+            changed.getSpec().setPods(pods);
+
+            start = System.nanoTime();
+            MaterializedPodCache.CachedPodSet changedCached = cache.get(changed);
+            long incrementalNanos = System.nanoTime() - start;
+
+            assertThat(cached.getMaterialized(), is(replicas));
+            assertThat(changedCached.getMaterialized(), is(1));
+            assertThat(changedCached.getDesiredPods().get("my-cluster-kafka-0"), is(notNullValue()));
+
+            if (replicas >= 50) {
+                assertThat("Getting " + replicas + " pods after a single pod change (" + incrementalNanos / 1_000 + "us) should be faster than materializing all of them ("
+                        + fullNanos / 1_000 + "us)", incrementalNanos, lessThan(fullNanos));
+            }
+        }
+    }
+}
@@ -11,13 +11,17 @@ import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.api.model.storage.StorageClassBuilder;
 import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.AbstractModel;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -27,16 +31,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -330,6 +341,10 @@ public class PvcReconcilerTest {
 
                     assertThat(pvcCaptor.getAllValues().size(), is(0));
 
+                    // Without the resize timeout, the resizing PVCs are left for the next reconciliation
+                    verify(mockPvcOps, never()).waitForAll(any(), anyString(), any(), any(), anyLong(), any());
+                    assertThat(reconciler.resizingCondition("Kafka").getReason(), is("Resizing"));
+
                     async.flag();
                 });
     }
@@ -522,6 +537,181 @@ public class PvcReconcilerTest {
                 });
     }
 
+    // Volumes are resized and the reconciler waits until they need the restart for file system resizing
+    @Test
+    public void testVolumesResizingWithWaiting(VertxTestContext context)  {
+        List<PersistentVolumeClaim> pvcs = List.of(
+                createPvc("data-pod-0"),
+                createPvc("data-pod-1"),
+                createPvc("data-pod-2")
+        );
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        // Mock the PVC Operator
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
+                .thenAnswer(invocation -> {
+                    String pvcName = invocation.getArgument(1);
+                    PersistentVolumeClaim currentPvc = pvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null);
+
+                    if (currentPvc != null) {
+                        PersistentVolumeClaim pvcWithStatus = new PersistentVolumeClaimBuilder(currentPvc)
+                                .editSpec()
+                                    .withNewResources()
+                                        .withRequests(Map.of("storage", new Quantity("50Gi", null)))
+                                    .endResources()
+                                .endSpec()
+                                .withNewStatus()
+                                    .withPhase("Bound")
+                                    .withCapacity(Map.of("storage", new Quantity("50Gi", null)))
+                                .endStatus()
+                                .build();
+
+                        return Future.succeededFuture(pvcWithStatus);
+                    } else {
+                        return Future.succeededFuture();
+                    }
+                });
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
+
+        // data-pod-0 and data-pod-1 wait for the file system resizing, data-pod-2 is still resizing after the timeout
+        ArgumentCaptor<Set<String>> waitedForCaptor = ArgumentCaptor.forClass(Set.class);
+        when(mockPvcOps.waitForAll(any(), eq(NAMESPACE), eq(Labels.forStrimziCluster(CLUSTER_NAME)), waitedForCaptor.capture(), eq(1_000L), any()))
+                .thenAnswer(invocation -> {
+                    Set<String> pvcNames = invocation.getArgument(3);
+                    Map<String, PersistentVolumeClaim> latest = new HashMap<>();
+
+                    for (String pvcName : pvcNames) {
+                        latest.put(pvcName, new PersistentVolumeClaimBuilder(createPvc(pvcName))
+                                .withNewStatus()
+                                    .withPhase("Bound")
+                                    .withConditions(new PersistentVolumeClaimConditionBuilder()
+                                            .withStatus("True")
+                                            .withType("data-pod-2".equals(pvcName) ? "Resizing" : "FileSystemResizePending")
+                                            .build())
+                                    .withCapacity(Map.of("storage", new Quantity("50Gi", null)))
+                                .endStatus()
+                                .build());
+                    }
+
+                    return Future.succeededFuture(latest);
+                });
+
+        // Mock the StorageClass Operator
+        StorageClassOperator mockSco = supplier.storageClassOperations;
+        when(mockSco.getAsync(eq(STORAGE_CLASS_NAME))).thenReturn(Future.succeededFuture(RESIZABLE_STORAGE_CLASS));
+
+        // Reconcile the PVCs
+        PvcReconciler reconciler = new PvcReconciler(
+                new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME),
+                mockPvcOps,
+                mockSco,
+                1_000L
+        );
+
+        Checkpoint async = context.checkpoint();
+        reconciler.resizeAndReconcilePvcs(i -> "pod-" + i, pvcs)
+                .onComplete(res -> {
+                    assertThat(res.succeeded(), is(true));
+
+                    assertThat(res.result(), is(Set.of("pod-0", "pod-1")));
+                    assertThat(waitedForCaptor.getValue(), is(Set.of("data-pod-0", "data-pod-1", "data-pod-2")));
+
+                    Condition condition = reconciler.resizingCondition("Kafka");
+                    assertThat(condition.getType(), is("Kafka" + PvcReconciler.RESIZING_CONDITION_TYPE_SUFFIX));
+                    assertThat(condition.getReason(), is("Resizing"));
+                    assertThat(condition.getMessage(), is("1 of 3 Kafka PersistentVolumeClaims are resizing and 2 are waiting for the restart of their pods to resize the file system"));
+
+                    async.flag();
+                });
+    }
+
+    // Many volumes are reconciled => only a limited number of them is reconciled at the same time
+    @Test
+    public void testBoundedConcurrency(Vertx vertx, VertxTestContext context)  {
+        List<PersistentVolumeClaim> pvcs = IntStream.range(0, 3 * PvcReconciler.MAX_CONCURRENT_PVC_OPERATIONS)
+                .mapToObj(i -> createPvc("data-pod-" + i))
+                .collect(Collectors.toList());
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        // Mock the PVC Operator
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
+                .thenAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+                    Promise<PersistentVolumeClaim> promise = Promise.promise();
+                    vertx.setTimer(5, tid -> {
+                        inFlight.decrementAndGet();
+                        promise.complete();
+                    });
+
+                    return promise.future();
+                });
+        ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        // Reconcile the PVCs
+        PvcReconciler reconciler = new PvcReconciler(
+                new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME),
+                mockPvcOps,
+                supplier.storageClassOperations
+        );
+
+        Checkpoint async = context.checkpoint();
+        reconciler.resizeAndReconcilePvcs(i -> "pod-" + i, pvcs)
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(res.size(), is(0));
+                    assertThat(pvcCaptor.getAllValues().size(), is(pvcs.size()));
+                    assertThat(maxInFlight.get(), is(PvcReconciler.MAX_CONCURRENT_PVC_OPERATIONS));
+                    assertThat(reconciler.resizingCondition("Kafka"), is(nullValue()));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIsResizeFinished()  {
+        PersistentVolumeClaim resized = new PersistentVolumeClaimBuilder(createPvc("data-pod-0"))
+                .withNewStatus()
+                    .withPhase("Bound")
+                    .withCapacity(Map.of("storage", new Quantity("100Gi", null)))
+                .endStatus()
+                .build();
+        assertThat(PvcReconciler.isResizeFinished(resized), is(true));
+
+        PersistentVolumeClaim notResizedYet = new PersistentVolumeClaimBuilder(resized)
+                .editStatus()
+                    .withCapacity(Map.of("storage", new Quantity("50Gi", null)))
+                .endStatus()
+                .build();
+        assertThat(PvcReconciler.isResizeFinished(notResizedYet), is(false));
+
+        PersistentVolumeClaim resizing = new PersistentVolumeClaimBuilder(notResizedYet)
+                .editStatus()
+                    .withConditions(new PersistentVolumeClaimConditionBuilder()
+                            .withStatus("True")
+                            .withType("Resizing")
+                            .build())
+                .endStatus()
+                .build();
+        assertThat(PvcReconciler.isResizeFinished(resizing), is(false));
+
+        PersistentVolumeClaim waitingForRestart = new PersistentVolumeClaimBuilder(notResizedYet)
+                .editStatus()
+                    .withConditions(new PersistentVolumeClaimConditionBuilder()
+                            .withStatus("True")
+                            .withType("FileSystemResizePending")
+                            .build())
+                .endStatus()
+                .build();
+        assertThat(PvcReconciler.isResizeFinished(waitingForRestart), is(true));
+    }
+
     private PersistentVolumeClaim createPvc(String name)   {
         return new PersistentVolumeClaimBuilder()
                 .withNewMetadata()
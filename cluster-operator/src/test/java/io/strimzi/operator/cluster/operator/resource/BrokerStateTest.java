@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BrokerStateTest {
+    @Test
+    public void testFromJson() {
+        BrokerState state = BrokerState.fromJson("{\"brokerState\":3,\"podName\":\"my-cluster-kafka-0\"}");
+        assertThat(state.code(), is(BrokerState.RUNNING));
+        assertThat(state.podName(), is("my-cluster-kafka-0"));
+        assertThat(state.isRunning(), is(true));
+
+        state = BrokerState.fromJson("{\"brokerState\":1,\"podName\":\"my-cluster-kafka-0\"}");
+        assertThat(state.code(), is(1));
+        assertThat(state.isRunning(), is(false));
+    }
+
+    @Test
+    public void testFromJsonWithMissingFields() {
+        BrokerState state = BrokerState.fromJson("{\"brokerState\":3}");
+        assertThat(state.isRunning(), is(true));
+        assertThat(state.podName(), is(nullValue()));
+
+        state = BrokerState.fromJson("{\"podName\":\"my-cluster-kafka-0\"}");
+        assertThat(state.code(), is(-1));
+        assertThat(state.isRunning(), is(false));
+    }
+
+    @Test
+    public void testFromJsonWithRecoveryState() {
+        BrokerState state = BrokerState.fromJson("{\"brokerState\":2,\"podName\":\"my-cluster-kafka-0\",\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}");
+        assertThat(state.isRecovering(), is(true));
+        assertThat(state.remainingLogsToRecover(), is(10L));
+        assertThat(state.remainingSegmentsToRecover(), is(100L));
+
+        state = BrokerState.fromJson("{\"brokerState\":2,\"podName\":\"my-cluster-kafka-0\"}");
+        assertThat(state.isRecovering(), is(true));
+        assertThat(state.remainingLogsToRecover(), is(-1L));
+        assertThat(state.remainingSegmentsToRecover(), is(-1L));
+    }
+
+    @Test
+    public void testRecoveryProgress() {
+        BrokerState baseline = new BrokerState(BrokerState.RECOVERY, "pod", 10, 100);
+
+        assertThat(new BrokerState(BrokerState.RECOVERY, "pod", 10, 90).recoveryProgressedSince(baseline), is(true));
+        assertThat(new BrokerState(BrokerState.RECOVERY, "pod", 9, 100).recoveryProgressedSince(baseline), is(true));
+        assertThat(new BrokerState(BrokerState.RECOVERY, "pod", 10, 100).recoveryProgressedSince(baseline), is(false));
+
+        // Without the remaining logs and segments, the progress cannot be determined
+        assertThat(new BrokerState(BrokerState.RECOVERY, "pod").recoveryProgressedSince(baseline), is(false));
+        assertThat(new BrokerState(BrokerState.RECOVERY, "pod", 10, 90).recoveryProgressedSince(new BrokerState(BrokerState.RECOVERY, "pod")), is(false));
+
+        // Not recovering anymore
+        assertThat(new BrokerState(BrokerState.RUNNING, "pod").recoveryProgressedSince(baseline), is(false));
+    }
+
+    @Test
+    public void testFromInvalidJson() {
+        assertThat(BrokerState.fromJson("not-a-json"), is(BrokerState.UNKNOWN));
+        assertThat(BrokerState.fromJson("{\"brokerState\":"), is(BrokerState.UNKNOWN));
+    }
+}
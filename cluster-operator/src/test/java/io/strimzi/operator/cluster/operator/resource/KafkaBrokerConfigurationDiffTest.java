@@ -6,6 +6,8 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfiguration;
+import io.strimzi.operator.cluster.model.KafkaConfiguration;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.TestUtils;
@@ -23,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -286,4 +289,57 @@ public class KafkaBrokerConfigurationDiffTest {
         assertThat(kcd.canBeUpdatedDynamically(), is(false));
     }
 
+    @Test
+    public void testLargeConfiguration() {
+        // Broker with 300 configuration options
+        List<String> options = KafkaConfiguration.readConfigModel(kafkaVersion).keySet().stream()
+                .filter(name -> !KafkaBrokerConfigurationDiff.IGNORABLE_PROPERTIES.matcher(name).matches())
+                .sorted()
+                .limit(280)
+                .collect(Collectors.toList());
+        int modelOptions = options.size();
+        assertThat(modelOptions > 25, is(true));
+
+        List<ConfigEntry> current = new ArrayList<>();
+        StringBuilder desired = new StringBuilder();
+
+        for (int i = 0; i < modelOptions - 10; i++) {
+            current.add(new ConfigEntry(options.get(i), "current-" + i));
+        }
+
+        for (int i = 0; i < 300 - (modelOptions - 10); i++) {
+            current.add(new ConfigEntry("custom.option." + i, "current-" + i));
+            desired.append("custom.option.").append(i).append("=desired-").append(i).append("\n");
+        }
+
+        // First 10 options are changed
+        for (int i = 0; i < 10; i++) {
+            desired.append(options.get(i)).append("=desired-").append(i).append("\n");
+        }
+
+        // 5 options are unchanged
+        for (int i = 10; i < modelOptions - 15; i++) {
+            desired.append(options.get(i)).append("=current-").append(i).append("\n");
+        }
+
+        // Last 10 options are added
+        for (int i = modelOptions - 10; i < modelOptions; i++) {
+            desired.append(options.get(i)).append("=desired-").append(i).append("\n");
+        }
+
+        Config currentConfig = new Config(current);
+        KafkaBrokerConfiguration desiredConfig = KafkaBrokerConfiguration.parse(desired.toString().trim());
+
+        // Diff the configuration of many brokers using the same desired configuration
+        for (int broker = 0; broker < 100; broker++) {
+            KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, currentConfig, desiredConfig, kafkaVersion, broker);
+
+            assertThat(kcd.getDiffSize(), is(25));
+            assertThat(kcd.getConfigDiff().stream().filter(op -> op.opType() == AlterConfigOp.OpType.SET).count(), is(20L));
+            assertThat(kcd.getConfigDiff().stream().filter(op -> op.opType() == AlterConfigOp.OpType.DELETE).count(), is(5L));
+        }
+
+        assertConfig(new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, currentConfig, desiredConfig, kafkaVersion, brokerId),
+                new ConfigEntry(options.get(0), "desired-0"));
+    }
 }
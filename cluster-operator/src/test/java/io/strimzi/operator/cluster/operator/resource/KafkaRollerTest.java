@@ -9,15 +9,21 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.KafkaBrokerConfiguration;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -55,10 +61,13 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -68,6 +77,8 @@ public class KafkaRollerTest {
 
     private static Vertx vertx;
     private List<String> restarted;
+    private MetricsProvider metricsProvider;
+    private Timer recoveryTimer;
 
     @BeforeAll
     public static void before() {
@@ -207,6 +218,154 @@ public class KafkaRollerTest {
                 singletonList(2));
     }
 
+    @Test
+    public void testRollContinuesWhenKafkaAgentReportsRunningBroker(VertxTestContext testContext) {
+        // The readiness of the restarted pod is never reported, but the Kafka Agent reports the broker as running
+        PodOperator podOps = mockPodOps(podId -> podId == 1 && !restarted().isEmpty() ? Promise.<Void>promise().future() : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2)
+                .withBrokerStates(podName -> new BrokerState(BrokerState.RUNNING, podName));
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                singletonList(1),
+                singletonList(1));
+    }
+
+    @Test
+    public void testRollWaitsWhileLogRecoveryProgresses(VertxTestContext testContext) {
+        // The log recovery takes longer than the operation timeout, but fewer segments remain on every poll
+        PodOperator podOps = mockPodOps(podId -> podId == 1 && !restarted().isEmpty() ? readinessTimeout(900) : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger polls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2)
+                .withBrokerStates(podName -> {
+                    int poll = polls.incrementAndGet();
+
+                    if (poll < 6) {
+                        return new BrokerState(BrokerState.RECOVERY, podName, 10, 100 - poll);
+                    } else {
+                        return new BrokerState(BrokerState.RUNNING, podName);
+                    }
+                });
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> podName2Number(pod.getMetadata().getName()) == 1 ? singletonList("roll") : emptyList())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(singletonList(1)));
+                verify(metricsProvider).timer(eq(KafkaRoller.METRICS_LOG_RECOVERY_DURATION), any(),
+                        eq(Tags.of(Tag.of("kind", "Kafka"), Tag.of("namespace", stsNamespace()), Tag.of("cluster", clusterName()), Tag.of("pod", "c-kafka-1"))));
+                verify(recoveryTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testRollFailsWhenLogRecoveryDoesNotProgress(VertxTestContext testContext) throws InterruptedException {
+        // The broker is recovering its logs, but the number of remaining segments does not change
+        PodOperator podOps = mockPodOps(podId -> podId == 1 && !restarted().isEmpty() ? readinessTimeout(900) : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2)
+                .withBrokerStates(podName -> new BrokerState(BrokerState.RECOVERY, podName, 10, 100));
+        doFailingRollingRestart(testContext, kafkaRoller,
+                singletonList(1),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pod c-kafka-1 to become ready",
+                singletonList(1));
+    }
+
+    @Test
+    public void testRollFailsWhenLogRecoveryExceedsMaximalWait(VertxTestContext testContext) throws InterruptedException {
+        // The log recovery progresses on every poll, but it does not finish before the wait was extended twice
+        PodOperator podOps = mockPodOps(podId -> podId == 1 && !restarted().isEmpty() ? readinessTimeout(900) : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger polls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2)
+                .withMaxLogRecoveryWaitExtensions(2)
+                .withBrokerStates(podName -> new BrokerState(BrokerState.RECOVERY, podName, 10, 100_000 - polls.incrementAndGet()));
+        doFailingRollingRestart(testContext, kafkaRoller,
+                singletonList(1),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pod c-kafka-1 to become ready",
+                singletonList(1));
+    }
+
+    @Test
+    public void testKafkaAgentPollingStopsWhenWaitingFails(VertxTestContext testContext) throws InterruptedException {
+        // Every timed out wait for readiness has to stop polling the Kafka Agent
+        PodOperator podOps = mockPodOps(podId -> podId == 1 && !restarted().isEmpty() ? readinessTimeout(900) : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger polls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2)
+                .withBrokerStates(podName -> {
+                    polls.incrementAndGet();
+                    return new BrokerState(BrokerState.RECOVERY, podName, 10, 100);
+                });
+        doFailingRollingRestart(testContext, kafkaRoller,
+                singletonList(1),
+                KafkaRoller.FatalProblem.class, "Error while waiting for restarted pod c-kafka-1 to become ready",
+                singletonList(1));
+
+        int pollsAfterFailure = polls.get();
+        Thread.sleep(5 * KafkaRoller.KAFKA_AGENT_POLLING_INTERVAL_MS);
+        // One request might have been in progress when the wait failed
+        assertThat(polls.get() - pollsAfterFailure, lessThanOrEqualTo(1));
+    }
+
+    @Test
+    public void testKafkaAgentIsNotPolledForNonRestartedPods(VertxTestContext testContext) {
+        // The non-restarted pod gets ready only after the first poll would have happened (the first readiness check
+        // is used to order the pods before the rolling update starts)
+        AtomicInteger readinessChecks = new AtomicInteger(0);
+        PodOperator podOps = mockPodOps(podId -> podId == 1 && readinessChecks.incrementAndGet() > 1
+                ? readinessAfter(3 * KafkaRoller.KAFKA_AGENT_POLLING_INTERVAL_MS) : succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger polls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2)
+                .withBrokerStates(podName -> {
+                    polls.incrementAndGet();
+                    return new BrokerState(BrokerState.RUNNING, podName);
+                });
+
+        Checkpoint async = testContext.checkpoint();
+        kafkaRoller.rollingRestart(pod -> emptyList())
+            .onComplete(testContext.succeeding(v -> testContext.verify(() -> {
+                assertThat(restarted(), is(emptyList()));
+                assertThat(polls.get(), is(0));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testKafkaAgentPollingBacksOffWhenAgentIsNotReachable(VertxTestContext testContext) throws InterruptedException {
+        // Without the back-off, the Kafka Agent would be polled 12 times in 3 seconds
+        PodOperator podOps = mockPodOps(podId -> Promise.<Void>promise().future());
+        StatefulSet sts = buildStatefulSet();
+        AtomicInteger polls = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2)
+                .withBrokerStates(podName -> {
+                    polls.incrementAndGet();
+                    return BrokerState.UNKNOWN;
+                });
+
+        Promise<Void> ready = Promise.promise();
+        kafkaRoller.isReady(stsNamespace(), "c-kafka-1", ready, true);
+        Thread.sleep(12 * KafkaRoller.KAFKA_AGENT_POLLING_INTERVAL_MS);
+        ready.tryFail("Stopped waiting");
+
+        // Polls are expected after 250, 750 and 1750 ms
+        assertThat(polls.get(), lessThanOrEqualTo(4));
+        testContext.completeNow();
+    }
+
+    private static Future<Void> readinessAfter(long delayMs) {
+        Promise<Void> promise = Promise.promise();
+        vertx.setTimer(delayMs, id -> promise.complete());
+        return promise.future();
+    }
+
+    private static Future<Void> readinessTimeout(long delayMs) {
+        Promise<Void> promise = Promise.promise();
+        vertx.setTimer(delayMs, id -> promise.fail(new TimeoutException("Timed out waiting for readiness")));
+        return promise.future();
+    }
+
     public List<String> addPodNames(int replicas) {
         ArrayList<String> podNames = new ArrayList<>(replicas);
 
@@ -558,6 +717,13 @@ public class KafkaRollerTest {
         restarted = new ArrayList<>();
     }
 
+    @BeforeEach
+    public void createMetricsProvider() {
+        metricsProvider = mock(MetricsProvider.class);
+        recoveryTimer = mock(Timer.class);
+        when(metricsProvider.timer(any(), any(), any())).thenReturn(recoveryTimer);
+    }
+
     private PodOperator mockPodOps(Function<Integer, Future<Void>> readiness) {
         PodOperator podOps = mock(PodOperator.class);
         when(podOps.get(any(), any())).thenAnswer(
@@ -612,6 +778,8 @@ public class KafkaRollerTest {
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
+        private Function<String, BrokerState> brokerStateFn = podName -> BrokerState.UNKNOWN;
+        private int maxLogRecoveryWaitExtensions = 10;
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret, List<String> podList,
                                    PodOperator podOps,
@@ -633,10 +801,11 @@ public class KafkaRollerTest {
                     clusterCaCertSecret,
                     coKeySecret,
                     new DefaultAdminClientProvider(),
-                    brokerId -> "",
+                    brokerId -> KafkaBrokerConfiguration.parse(""),
                     "",
                     KafkaVersionTestUtils.getLatestVersion(),
-                    true
+                    true,
+                    metricsProvider
             );
 
             this.controllers = controllers;
@@ -651,6 +820,31 @@ public class KafkaRollerTest {
             this.unclosedAdminClients = new IdentityHashMap<>();
         }
 
+        private TestingKafkaRoller withBrokerStates(Function<String, BrokerState> brokerStateFn) {
+            this.brokerStateFn = brokerStateFn;
+            return this;
+        }
+
+        private TestingKafkaRoller withMaxLogRecoveryWaitExtensions(int maxLogRecoveryWaitExtensions) {
+            this.maxLogRecoveryWaitExtensions = maxLogRecoveryWaitExtensions;
+            return this;
+        }
+
+        @Override
+        protected int maxLogRecoveryWaitExtensions() {
+            return maxLogRecoveryWaitExtensions;
+        }
+
+        @Override
+        protected KafkaAgentClient kafkaAgentClient() {
+            return new KafkaAgentClient(null, stsNamespace(), clusterName()) {
+                @Override
+                public BrokerState brokerState(String podName) {
+                    return brokerStateFn.apply(podName);
+                }
+            };
+        }
+
         @Override
         protected Admin adminClient(List<Integer> bootstrapBrokers, boolean b) throws ForceableProblem {
             RuntimeException exception = acOpenException.apply(bootstrapBrokers);
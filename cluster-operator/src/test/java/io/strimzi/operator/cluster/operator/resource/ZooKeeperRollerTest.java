@@ -7,26 +7,38 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -148,17 +160,128 @@ public class ZooKeeperRollerTest {
                 })));
     }
 
+    @Test
+    public void testParallelRollingRollsFollowersInBatchesAndLeaderLast(Vertx vertx, VertxTestContext context)  {
+        PodOperator podOperator = mock(PodOperator.class);
+        when(podOperator.listAsync(any(), any(Labels.class))).thenReturn(Future.succeededFuture(podList(5)));
+
+        ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
+        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture("my-cluster-zookeeper-2"));
+        when(leaderFinder.monitoringData(any(), eq("my-cluster-zookeeper-2"), any(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("zk_server_state", "leader", "zk_synced_followers", "4")));
+
+        MetricsProvider metricsProvider = mock(MetricsProvider.class);
+        Timer timer = mock(Timer.class);
+        when(metricsProvider.timer(eq(ZooKeeperRoller.METRICS_ROLLING_UPDATE_DURATION), any(), any())).thenReturn(timer);
+
+        MockZooKeeperRoller roller = new MockZooKeeperRoller(vertx, podOperator, leaderFinder, 300_00L, true, metricsProvider);
+
+        Checkpoint async = context.checkpoint();
+        roller.maybeRollingUpdate(Reconciliation.DUMMY_RECONCILIATION, DUMMY_SELECTOR, pod -> List.of("Should restart"), new Secret(), new Secret())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(roller.podRestarts.size(), is(5));
+                    assertThat(roller.podRestarts.removeLast(), is("my-cluster-zookeeper-2"));
+                    // 4 synced followers in an ensemble of 5 => 2 followers can be rolled at the same time
+                    assertThat(roller.maxInFlight.get(), is(2));
+                    verify(leaderFinder, times(2)).monitoringData(any(), eq("my-cluster-zookeeper-2"), any(), any());
+                    verify(timer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testParallelRollingWithoutSyncedFollowersRollsOnePodAtATime(Vertx vertx, VertxTestContext context)  {
+        PodOperator podOperator = mock(PodOperator.class);
+        when(podOperator.listAsync(any(), any(Labels.class))).thenReturn(Future.succeededFuture(podList(5)));
+
+        ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
+        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture("my-cluster-zookeeper-0"));
+        // Only 2 followers are synced => the leader and the synced followers form just the quorum
+        when(leaderFinder.monitoringData(any(), eq("my-cluster-zookeeper-0"), any(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("zk_server_state", "leader", "zk_synced_followers", "2")));
+
+        MockZooKeeperRoller roller = new MockZooKeeperRoller(vertx, podOperator, leaderFinder, 300_00L, true, null);
+
+        Checkpoint async = context.checkpoint();
+        roller.maybeRollingUpdate(Reconciliation.DUMMY_RECONCILIATION, DUMMY_SELECTOR, pod -> List.of("Should restart"), new Secret(), new Secret())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(roller.podRestarts.size(), is(5));
+                    assertThat(roller.podRestarts.removeLast(), is("my-cluster-zookeeper-0"));
+                    assertThat(roller.maxInFlight.get(), is(1));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testParallelRollingWithoutMonitoringDataRollsOnePodAtATime(Vertx vertx, VertxTestContext context)  {
+        PodOperator podOperator = mock(PodOperator.class);
+        when(podOperator.listAsync(any(), any(Labels.class))).thenReturn(Future.succeededFuture(podList(5)));
+
+        ZookeeperLeaderFinder leaderFinder = mock(ZookeeperLeaderFinder.class);
+        when(leaderFinder.findZookeeperLeader(any(), any(), any(), any())).thenReturn(Future.succeededFuture("my-cluster-zookeeper-4"));
+        when(leaderFinder.monitoringData(any(), any(), any(), any())).thenReturn(Future.failedFuture(new RuntimeException("mntr is not allowed")));
+
+        MockZooKeeperRoller roller = new MockZooKeeperRoller(vertx, podOperator, leaderFinder, 300_00L, true, null);
+
+        Checkpoint async = context.checkpoint();
+        roller.maybeRollingUpdate(Reconciliation.DUMMY_RECONCILIATION, DUMMY_SELECTOR, pod -> List.of("Should restart"), new Secret(), new Secret())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(roller.podRestarts.size(), is(5));
+                    assertThat(roller.podRestarts.removeLast(), is("my-cluster-zookeeper-4"));
+                    assertThat(roller.maxInFlight.get(), is(1));
+
+                    async.flag();
+                })));
+    }
+
+    private static List<Pod> podList(int replicas) {
+        return IntStream.range(0, replicas)
+                .mapToObj(i -> new PodBuilder()
+                        .withNewMetadata()
+                            .withName("my-cluster-zookeeper-" + i)
+                        .endMetadata()
+                        .withNewSpec()
+                        .endSpec()
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     static class MockZooKeeperRoller extends ZooKeeperRoller   {
-        Deque<String> podRestarts = new ArrayDeque<>();
+        private final Vertx vertx;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        Deque<String> podRestarts = new ConcurrentLinkedDeque<>();
 
         public MockZooKeeperRoller(PodOperator podOperator, ZookeeperLeaderFinder leaderFinder, long operationTimeoutMs) {
             super(podOperator, leaderFinder, operationTimeoutMs);
+            this.vertx = null;
+        }
+
+        public MockZooKeeperRoller(Vertx vertx, PodOperator podOperator, ZookeeperLeaderFinder leaderFinder, long operationTimeoutMs, boolean parallelRolling, MetricsProvider metricsProvider) {
+            super(podOperator, leaderFinder, operationTimeoutMs, parallelRolling, metricsProvider);
+            this.vertx = vertx;
         }
 
         @Override
         Future<Void> restartPod(Reconciliation reconciliation, String podName, List<String> reasons) {
             podRestarts.add(podName);
-            return Future.succeededFuture();
+
+            if (vertx == null) {
+                return Future.succeededFuture();
+            } else {
+                // Keep the pod restarting for a while to see how many pods are restarted at the same time
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+                Promise<Void> restarted = Promise.promise();
+                vertx.setTimer(50, tid -> {
+                    inFlight.decrementAndGet();
+                    restarted.complete();
+                });
+
+                return restarted.future();
+            }
         }
     }
 }
@@ -36,6 +36,7 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CountDownLatch;
@@ -161,6 +162,15 @@ public class ZookeeperLeaderFinderTest {
                             socket.write("vesvsebserb\n");
                             LOGGER.debug("ZK {}: Sent response, closing", id);
                             socket.close();
+                        } else if (sb.toString().startsWith("mntr")) {
+                            boolean leader = isLeader.apply(attempts.get());
+                            socket.write("zk_version\t3.6.3--6401e4ad2087061bc6b9f80dec2d69f2e3c8660a, built on 04/08/2021 16:35 GMT\n");
+                            socket.write("zk_server_state\t" + (leader ? "leader" : "follower") + "\n");
+                            if (leader) {
+                                socket.write("zk_synced_followers\t1\n");
+                            }
+                            LOGGER.debug("ZK {}: Sent monitoring data, closing", id);
+                            socket.close();
                         }
                     });
                 })
@@ -390,6 +400,31 @@ public class ZookeeperLeaderFinderTest {
             })));
     }
 
+    @Test
+    public void testMonitoringData(VertxTestContext context) throws InterruptedException {
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == 1);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+
+        Checkpoint a = context.checkpoint();
+        finder.monitoringData(Reconciliation.DUMMY_RECONCILIATION, createPodWithId(1), dummySecret(), dummySecret())
+            .onComplete(context.succeeding(data -> context.verify(() -> {
+                assertThat(data.get("zk_server_state"), is("leader"));
+                assertThat(data.get("zk_synced_followers"), is("1"));
+                assertThat(data.get("zk_version"), is("3.6.3--6401e4ad2087061bc6b9f80dec2d69f2e3c8660a, built on 04/08/2021 16:35 GMT"));
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testParseMonitoringData() {
+        Map<String, String> data = ZookeeperLeaderFinder.parseMonitoringData("zk_server_state\tfollower\r\nzk_num_alive_connections\t2\nnot-a-key-value-pair\n\n");
+
+        assertThat(data.size(), is(2));
+        assertThat(data.get("zk_server_state"), is("follower"));
+        assertThat(data.get("zk_num_alive_connections"), is("2"));
+    }
+
     String createPodWithId(int id) {
         return "my-cluster-kafka-" + id;
     }
@@ -13,6 +13,8 @@ import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.matchers.Times;
@@ -28,6 +30,7 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -296,6 +299,50 @@ public class MockCruiseControl {
     }
 
 
+    /**
+     * Setup verbose rebalance response with the broker load of the given number of brokers. The load of every broker
+     * is derived from the first broker in the verbose response and multiplied by the load factor, so that proposals
+     * with different load factors have different broker load.
+     */
+    public static void setupCCRebalanceResponseWithBrokers(ClientAndServer ccServer, int brokers, double loadFactor) throws IOException, URISyntaxException {
+        JsonObject proposal = new JsonObject(getJsonFromResource("CC-Rebalance-no-goals-verbose.json").getValue());
+
+        for (String load : List.of(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(), CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey())) {
+            JsonObject template = proposal.getJsonObject(load).getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey()).getJsonObject(0);
+            JsonArray brokerLoad = new JsonArray();
+
+            for (int i = 0; i < brokers; i++) {
+                JsonObject broker = template.copy().put(CruiseControlRebalanceKeys.BROKER_ID.getKey(), i);
+
+                for (String field : template.fieldNames()) {
+                    if (template.getValue(field) instanceof Double) {
+                        broker.put(field, template.getDouble(field) * loadFactor * (i + 1));
+                    }
+                }
+
+                brokerLoad.add(broker);
+            }
+
+            proposal.getJsonObject(load).put(CruiseControlRebalanceKeys.BROKERS.getKey(), brokerLoad);
+        }
+
+        ccServer
+                .when(
+                        request()
+                                .withMethod("POST")
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.JSON.key, "true"))
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.DRY_RUN.key, "true|false"))
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.VERBOSE.key, "true"))
+                                .withPath(CruiseControlEndpoints.REBALANCE.path)
+                                .withHeader(AUTH_HEADER)
+                                .withSecure(true))
+                .respond(
+                        response()
+                                .withBody(new JsonBody(proposal.encode()))
+                                .withHeaders(header("User-Task-ID", REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID)));
+    }
+
+
     /**
      * Setup responses for various bad goal configurations possible on a rebalance request.
      */
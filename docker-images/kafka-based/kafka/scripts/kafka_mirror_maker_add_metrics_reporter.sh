@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+set -e
+
+# Registers the metrics reporter of the Mirror Maker agent in the client configuration files passed as arguments. It
+# tracks the metrics used for the readiness check. Metrics reporters configured by the user are kept.
+MIRROR_MAKER_AGENT_METRICS_REPORTER="io.strimzi.mirrormaker.agent.MirrorMakerMetricsReporter"
+
+for CLIENT_CONFIG in "$@"; do
+  if grep -q "^metric.reporters=" "$CLIENT_CONFIG"; then
+    sed -i -e "s/^metric.reporters=\s*$/metric.reporters=${MIRROR_MAKER_AGENT_METRICS_REPORTER}/" -e "t" \
+      -e "s/^metric.reporters=\(.*\)$/metric.reporters=\1,${MIRROR_MAKER_AGENT_METRICS_REPORTER}/" "$CLIENT_CONFIG"
+  else
+    echo "metric.reporters=${MIRROR_MAKER_AGENT_METRICS_REPORTER}" >> "$CLIENT_CONFIG"
+  fi
+done
@@ -41,6 +41,9 @@ echo "Kafka Mirror Maker producer configuration:"
 ./kafka_mirror_maker_producer_config_generator.sh | tee /tmp/strimzi-producer.properties | sed -e 's/sasl.jaas.config=.*/sasl.jaas.config=[hidden]/g' -e 's/password=.*/password=[hidden]/g'
 echo ""
 
+# Register the metrics reporter of the Mirror Maker agent in the consumer and producer
+./kafka_mirror_maker_add_metrics_reporter.sh /tmp/strimzi-consumer.properties /tmp/strimzi-producer.properties
+
 # Disable Kafka's GC logging (which logs to a file)...
 export GC_LOG_ENABLED="false"
 
@@ -53,8 +56,9 @@ fi
 export LOG_DIR="$KAFKA_HOME"
 
 # Enabling the Mirror Maker agent which monitors readiness / liveness
+# The readiness thresholds can be configured using the STRIMZI_READINESS_MIN_* environment variables
 rm -f /tmp/mirror-maker-ready /tmp/mirror-maker-alive 2> /dev/null
-KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/mirror-maker-agent*.jar)=/tmp/mirror-maker-ready:/tmp/mirror-maker-alive:${STRIMZI_READINESS_PERIOD:-10}:${STRIMZI_LIVENESS_PERIOD:-10}"
+KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/mirror-maker-agent*.jar)=/tmp/mirror-maker-ready:/tmp/mirror-maker-alive:${STRIMZI_READINESS_PERIOD:-10}:${STRIMZI_LIVENESS_PERIOD:-10}:${STRIMZI_READINESS_MIN_PRODUCER_CONNECTIONS:-1}:${STRIMZI_READINESS_MIN_CONSUMER_CONNECTIONS:-1}:${STRIMZI_READINESS_MIN_ASSIGNED_PARTITIONS:-0}"
 export KAFKA_OPTS
 
 # enabling Prometheus JMX exporter as Java agent
@@ -9,6 +9,8 @@ import com.yammer.metrics.core.Metric;
 import com.yammer.metrics.core.MetricName;
 import com.yammer.metrics.core.MetricsRegistry;
 import com.yammer.metrics.core.MetricsRegistryListener;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import kafka.metrics.KafkaYammerMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,34 +18,78 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 
 /**
  * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
  * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
  * creates a given file.
  * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ *
+ * When an HTTP port is configured, the agent also starts a small HTTP server which answers directly from the
+ * {@code BrokerState} metric without waiting for the poller or the readiness probe:
+ *   - {@code /v1/broker-state} returns the broker state and the name of the pod as JSON. While the broker recovers
+ *     its logs, it includes also the number of logs and segments which remain to be recovered according to the
+ *     {@code kafka.log:type=LogManager} metrics (available only in Kafka versions which have them).
+ *   - {@code /v1/ready} returns 204 when the broker is running and 503 otherwise
+ * The Cluster Operator uses it to continue rolling updates as soon as the restarted broker is running.
  */
 public class KafkaAgent {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
 
+    private static final int BROKER_STATE_RUNNING = 3;
+    private static final int BROKER_STATE_UNKNOWN = -1;
+    private static final String BROKER_STATE_PATH = "/v1/broker-state";
+    private static final String READY_PATH = "/v1/ready";
+    private static final String REMAINING_LOGS_TO_RECOVER = "remainingLogsToRecover";
+    private static final String REMAINING_SEGMENTS_TO_RECOVER = "remainingSegmentsToRecover";
+
     private final File sessionConnectedFile;
     private File brokerReadyFile;
+    private final int httpPort;
     private MetricName brokerStateName;
-    private Gauge brokerState;
+    private volatile Gauge brokerState;
+    // The log recovery metrics exist per log directory (and per recovery thread) only while the logs are recovered
+    private final Map<MetricName, Gauge> recoveryGauges = new ConcurrentHashMap<>();
     private MetricName sessionStateName;
     private Gauge sessionState;
 
     public KafkaAgent(File brokerReadyFile, File sessionConnectedFile) {
+        this(brokerReadyFile, sessionConnectedFile, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param brokerReadyFile       File which is created when the broker is ready
+     * @param sessionConnectedFile  File which exists while the ZooKeeper session is connected
+     * @param httpPort              Port of the HTTP server with the broker state (0 disables the HTTP server)
+     */
+    public KafkaAgent(File brokerReadyFile, File sessionConnectedFile, int httpPort) {
         this.brokerReadyFile = brokerReadyFile;
         this.sessionConnectedFile = sessionConnectedFile;
+        this.httpPort = httpPort;
     }
 
     private void run() {
+        if (httpPort > 0) {
+            startHttpServer();
+        }
+
         LOGGER.info("Starting metrics registry");
 
         MetricsRegistry metricsRegistry = KafkaYammerMetrics.defaultRegistry();
 
+        if (httpPort > 0) {
+            metricsRegistry.addListener(recoveryMetricsListener());
+        }
+
         metricsRegistry.addListener(new MetricsRegistryListener() {
             @Override
             public void onMetricRemoved(MetricName metricName) {
@@ -79,6 +125,54 @@ public class KafkaAgent {
         });
     }
 
+    /**
+     * @return  Listener which tracks the log recovery metrics of the LogManager. It stays registered for the whole
+     *          lifetime of the broker, because the metrics are added only after the broker state metric.
+     */
+    private MetricsRegistryListener recoveryMetricsListener() {
+        return new MetricsRegistryListener() {
+            @Override
+            public void onMetricAdded(MetricName metricName, Metric metric) {
+                if (isRecoveryMetric(metricName) && metric instanceof Gauge) {
+                    LOGGER.debug("Metric {} added ", metricName);
+                    recoveryGauges.put(metricName, (Gauge) metric);
+                }
+            }
+
+            @Override
+            public void onMetricRemoved(MetricName metricName) {
+                recoveryGauges.remove(metricName);
+            }
+        };
+    }
+
+    private static boolean isRecoveryMetric(MetricName metricName) {
+        return "kafka.log".equals(metricName.getGroup())
+                && "LogManager".equals(metricName.getType())
+                && (REMAINING_LOGS_TO_RECOVER.equals(metricName.getName()) || REMAINING_SEGMENTS_TO_RECOVER.equals(metricName.getName()));
+    }
+
+    /**
+     * Sums the values of the log recovery metrics with given name over all log directories and recovery threads
+     *
+     * @param name  Name of the metric
+     *
+     * @return  The sum or -1 if the metric does not exist (e.g. because the recovery is finished)
+     */
+    private long remainingToRecover(String name) {
+        long sum = -1;
+
+        for (Map.Entry<MetricName, Gauge> entry : recoveryGauges.entrySet()) {
+            Object value = entry.getValue().value();
+
+            if (name.equals(entry.getKey().getName()) && value instanceof Number) {
+                sum = Math.max(sum, 0) + ((Number) value).longValue();
+            }
+        }
+
+        return sum;
+    }
+
     private Runnable poller() {
         return new Runnable() {
             int i = 0;
@@ -148,6 +242,85 @@ public class KafkaAgent {
         };
     }
 
+    /**
+     * Starts the HTTP server which answers the broker state queries. It is started right away so that it can report
+     * that the broker is not running yet before the broker state metric is registered.
+     */
+    private void startHttpServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(httpPort), 0);
+            server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "KafkaAgentHttpServer");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.createContext(BROKER_STATE_PATH, this::handleBrokerStateRequest);
+            server.createContext(READY_PATH, this::handleReadyRequest);
+            server.start();
+            LOGGER.info("Started HTTP server on port {}", httpPort);
+        } catch (IOException e) {
+            // The readiness files are still maintained by the poller, so the broker can run without the HTTP server
+            LOGGER.error("Could not start HTTP server on port {}", httpPort, e);
+        }
+    }
+
+    /**
+     * @return  The current value of the broker state metric or -1 if it is not known yet
+     */
+    private int brokerState() {
+        Gauge gauge = brokerState;
+        Object value = gauge != null ? gauge.value() : null;
+
+        if (value instanceof Integer) {
+            return (Integer) value;
+        } else if (value instanceof Byte) {
+            return ((Byte) value).intValue();
+        } else {
+            return BROKER_STATE_UNKNOWN;
+        }
+    }
+
+    private void handleBrokerStateRequest(HttpExchange exchange) throws IOException {
+        String podName = System.getenv("HOSTNAME");
+        StringBuilder json = new StringBuilder("{\"brokerState\":").append(brokerState())
+                .append(",\"podName\":").append(podName != null ? "\"" + podName + "\"" : "null");
+
+        long remainingLogs = remainingToRecover(REMAINING_LOGS_TO_RECOVER);
+        long remainingSegments = remainingToRecover(REMAINING_SEGMENTS_TO_RECOVER);
+
+        if (remainingLogs >= 0 || remainingSegments >= 0) {
+            json.append(",\"recoveryState\":{\"remainingLogsToRecover\":").append(remainingLogs)
+                    .append(",\"remainingSegmentsToRecover\":").append(remainingSegments)
+                    .append("}");
+        }
+
+        json.append("}");
+
+        respond(exchange, 200, json.toString());
+    }
+
+    private void handleReadyRequest(HttpExchange exchange) throws IOException {
+        respond(exchange, brokerState() == BROKER_STATE_RUNNING ? 204 : 503, null);
+    }
+
+    private void respond(HttpExchange exchange, int status, String json) throws IOException {
+        try {
+            if (json != null) {
+                byte[] body = json.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, body.length);
+
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(status, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
     private void touch(File file) throws IOException {
         try (FileOutputStream out = new FileOutputStream(file)) {
             file.deleteOnExit();
@@ -156,16 +329,26 @@ public class KafkaAgent {
 
     /**
      * Agent entry point
-     * @param agentArgs The agent arguments
+     * @param agentArgs The agent arguments in the format {@code <brokerReadyFile>:<sessionConnectedFile>[:<httpPort>]}
      */
     public static void premain(String agentArgs) {
-        int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        String[] args = agentArgs.split(":");
+        int httpPort = 0;
+
+        if (args.length == 3) {
+            try {
+                httpPort = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                httpPort = -1;
+            }
+        }
+
+        if (args.length < 2 || args.length > 3 || httpPort < 0) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
         } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
+            File brokerReadyFile = new File(args[0]);
+            File sessionConnectedFile = new File(args[1]);
             if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
                 LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
                 System.exit(1);
@@ -173,8 +356,8 @@ public class KafkaAgent {
                 LOGGER.error("Session connected file already exists and could not be deleted: {}", sessionConnectedFile);
                 System.exit(1);
             } else {
-                LOGGER.info("Starting KafkaAgent with brokerReadyFile={} and sessionConnectedFile={}", brokerReadyFile, sessionConnectedFile);
-                new KafkaAgent(brokerReadyFile, sessionConnectedFile).run();
+                LOGGER.info("Starting KafkaAgent with brokerReadyFile={}, sessionConnectedFile={} and httpPort={}", brokerReadyFile, sessionConnectedFile, httpPort);
+                new KafkaAgent(brokerReadyFile, sessionConnectedFile, httpPort).run();
             }
         }
     }
@@ -7,14 +7,12 @@ package io.strimzi.mirrormaker.agent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.management.JMException;
-import javax.management.MBeanServerConnection;
-import javax.management.ObjectName;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.lang.management.ManagementFactory;
-import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A Java agent which helps with the Readiness and Liveness check in Kafka Mirror Maker.
@@ -24,156 +22,116 @@ import java.util.Set;
  *   liveness probe. So it should be periodically deleted and recreated.
  *
  * Readiness:
- *   Readiness checks the number of connections to the source and target Kafka clusters. If at least one connection
- *   exists to each of the clusters, the readiness file will be created. If not it will be deleted.
+ *   Readiness checks the number of connections to the source and target Kafka clusters and optionally the number of
+ *   partitions assigned to the consumers. If they reach the configured thresholds (by default at least one connection
+ *   to each of the clusters), the readiness file will be created. If not it will be deleted.
+ *
+ *   The metrics are not read from JMX. They are tracked by the {@link MirrorMakerMetricsReporter} registered in the
+ *   Kafka clients. The readiness is checked again right away when the clients add or remove these metrics and
+ *   periodically to catch up with the changes of their values.
  */
 public class MirrorMakerAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(MirrorMakerAgent.class);
+    // With the probe period of 1 second, the intervals would be 0 which is not a valid delay of the scheduled checks
+    private static final long MIN_SLEEP_INTERVAL_MS = 500L;
 
     private final File livenessFile;
     private final File readinessFile;
     private final long readinessSleepInterval;
     private final long livenessSleepInterval;
+    private final int minProducerConnections;
+    private final int minConsumerConnections;
+    private final int minAssignedPartitions;
+    private volatile boolean ready = false;
 
     public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval) {
+        this(readinessFile, livenessFile, readinessSleepInterval, livenessSleepInterval, 1, 1, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param readinessFile             File which exists while Mirror Maker is ready
+     * @param livenessFile              File which is periodically recreated while Mirror Maker is alive
+     * @param readinessSleepInterval    Interval of the readiness checks in milliseconds
+     * @param livenessSleepInterval     Interval of the liveness checks in milliseconds
+     * @param minProducerConnections    Minimal number of producer connections for Mirror Maker to be ready
+     * @param minConsumerConnections    Minimal number of consumer connections for Mirror Maker to be ready
+     * @param minAssignedPartitions     Minimal number of partitions assigned to the consumers for Mirror Maker to be ready
+     */
+    public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval,
+                            int minProducerConnections, int minConsumerConnections, int minAssignedPartitions) {
         this.readinessFile = readinessFile;
         this.livenessFile = livenessFile;
         this.readinessSleepInterval = readinessSleepInterval;
         this.livenessSleepInterval = livenessSleepInterval;
+        this.minProducerConnections = minProducerConnections;
+        this.minConsumerConnections = minConsumerConnections;
+        this.minAssignedPartitions = minAssignedPartitions;
     }
 
     /**
-     * Starts two poller threads - one for readiness and one for liveness.
+     * Schedules the readiness and liveness checks in a single daemon thread.
      */
     private void run() {
-        LOGGER.info("Starting readiness poller");
-        Thread readinessThread = new Thread(readinessPoller(), "ReadinessPoller");
-        readinessThread.setDaemon(true);
-        readinessThread.start();
-
-        LOGGER.info("Starting liveness poller");
-        Thread livenessThread = new Thread(livenessPoller(), "LivenessPoller");
-        livenessThread.setDaemon(true);
-        livenessThread.start();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MirrorMakerAgent");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        LOGGER.info("Starting readiness checks with thresholds minProducerConnections={}, minConsumerConnections={} and minAssignedPartitions={}",
+                minProducerConnections, minConsumerConnections, minAssignedPartitions);
+        MirrorMakerMetricsReporter.setListener(() -> executor.execute(this::handleReadiness));
+        executor.scheduleWithFixedDelay(this::handleReadiness, 0, Math.max(readinessSleepInterval, MIN_SLEEP_INTERVAL_MS), TimeUnit.MILLISECONDS);
+
+        LOGGER.info("Starting liveness checks");
+        executor.scheduleWithFixedDelay(this::handleLiveness, 0, Math.max(livenessSleepInterval, MIN_SLEEP_INTERVAL_MS), TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Creates the poller thread for the liveness check
-     *
-     * @return Runable for liveness check
+     * Recreates the liveness file when it was deleted by the liveness probe
      */
-    private Runnable livenessPoller() {
-        return () -> {
-            while (true) {
-                if (!livenessFile.exists()) {
-                    try {
-                        LOGGER.debug("Mirror Maker is alive");
-                        touch(livenessFile);
-                    } catch (IOException e) {
-                        LOGGER.error("Could not write liveness file {}", livenessFile, e);
-                    }
-                }
-
-                try {
-                    Thread.sleep(livenessSleepInterval);
-                } catch (InterruptedException e) {
-                    // In theory this should never normally happen
-                    LOGGER.warn("Unexpectedly interrupted");
-                    break;
-                }
+    private void handleLiveness() {
+        if (!livenessFile.exists()) {
+            try {
+                LOGGER.debug("Mirror Maker is alive");
+                touch(livenessFile);
+            } catch (IOException e) {
+                LOGGER.error("Could not write liveness file {}", livenessFile, e);
             }
-            LOGGER.debug("Exiting thread");
-        };
+        }
     }
 
     /**
-     * Creates the poller thread for the readiness check
-     *
-     * @return Runable for readiness check
+     * Creates or deletes the readiness file based on the metrics tracked by the metrics reporter
      */
-    private Runnable readinessPoller() {
-        return new Runnable() {
-            private MBeanServerConnection beanConn = ManagementFactory.getPlatformMBeanServer();
-
-            @Override
-            public void run() {
-                while (true) {
-                    if (handleProducerConnected() && handleConsumerConnected()) {
-                        try {
-                            LOGGER.debug("Mirror Maker is ready");
-                            touch(readinessFile);
-                        } catch (IOException e) {
-                            LOGGER.error("Could not write readiness file {}", readinessFile, e);
-                        }
-                    } else {
-                        LOGGER.debug("Mirror Maker is not ready");
-
-                        if (readinessFile.exists() && !readinessFile.delete()) {
-                            LOGGER.error("Could not delete readiness indicator file {}", readinessFile);
-                        }
-                    }
-
-                    try {
-                        Thread.sleep(readinessSleepInterval);
-                    } catch (InterruptedException e) {
-                        // In theory this should never normally happen
-                        LOGGER.warn("Unexpectedly interrupted");
-                        break;
-                    }
-                }
-                LOGGER.debug("Exiting thread");
-            }
-
-            /**
-             * Gets the producer connections from JMX and counts them.
-             *
-             * @return True if at least one producer connections exists. False otherwise.
-             */
-            boolean handleProducerConnected() {
-                LOGGER.debug("Polling for producer connections");
-                Double connectionCount = 0.0D;
-
-                try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.producer:type=producer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total producer connections {}", connectionCount);
-                    return connectionCount > 0;
-                }
-            }
-
-            /**
-             * Gets the consumer connections from JMX and counts them.
-             *
-             * @return True if at least one consumer connections exists. False otherwise.
-             */
-            boolean handleConsumerConnected() {
-                LOGGER.debug("Polling for consumer connections");
-                Double connectionCount = 0.0D;
+    /* test */ void handleReadiness() {
+        double producerConnections = MirrorMakerMetricsReporter.producerConnections();
+        double consumerConnections = MirrorMakerMetricsReporter.consumerConnections();
+        double assignedPartitions = MirrorMakerMetricsReporter.assignedPartitions();
+        LOGGER.trace("Total producer connections {}, consumer connections {} and assigned partitions {}", producerConnections, consumerConnections, assignedPartitions);
+
+        boolean isReady = producerConnections >= minProducerConnections
+                && consumerConnections >= minConsumerConnections
+                && assignedPartitions >= minAssignedPartitions;
+
+        if (isReady != ready) {
+            LOGGER.debug(isReady ? "Mirror Maker is ready" : "Mirror Maker is not ready");
+            ready = isReady;
+        }
 
+        if (isReady) {
+            if (!readinessFile.exists()) {
                 try {
-                    Set<ObjectName> mbeans = beanConn.queryNames(new ObjectName("kafka.consumer:type=consumer-metrics,client-id=*"), null);
-
-                    for (ObjectName oName : mbeans) {
-                        Double attr = (Double) beanConn.getAttribute(oName, "connection-count");
-                        connectionCount += attr;
-                        LOGGER.trace("Found connection metric with name {} and value: {}", oName, attr);
-                    }
-                }   catch (IOException | JMException e) {
-                    LOGGER.error("Failed to query JMX metrics", e);
-                }   finally {
-                    LOGGER.trace("Total consumer connections {}", connectionCount);
-                    return connectionCount > 0;
+                    touch(readinessFile);
+                } catch (IOException e) {
+                    LOGGER.error("Could not write readiness file {}", readinessFile, e);
                 }
             }
-        };
+        } else if (readinessFile.exists() && !readinessFile.delete()) {
+            LOGGER.error("Could not delete readiness indicator file {}", readinessFile);
+        }
     }
 
     /**
@@ -198,12 +156,13 @@ public class MirrorMakerAgent {
     /**
      * Agent entry point
      *
-     * @param agentArgs The agent arguments
+     * @param agentArgs The agent arguments in the format
+     *                  {@code <readinessFile>:<livenessFile>:<readinessPeriod>:<livenessPeriod>[:<minProducerConnections>:<minConsumerConnections>:<minAssignedPartitions>]}
      */
     public static void premain(String agentArgs) {
         String[] args = agentArgs.split(":");
 
-        if (args.length != 4) {
+        if (args.length != 4 && args.length != 7) {
             LOGGER.error("Unexpected number of arguments ({}): {}", args.length, agentArgs);
             System.exit(1);
         } else {
@@ -220,7 +179,12 @@ public class MirrorMakerAgent {
                 long readinessSleepInterval = Long.parseLong(args[2]) / 2L * 1000L;
                 long livenessSleepInterval = Long.parseLong(args[3]) / 2L * 1000L;
 
-                new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval).run();
+                if (args.length == 7) {
+                    new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval,
+                            Integer.parseInt(args[4]), Integer.parseInt(args[5]), Integer.parseInt(args[6])).run();
+                } else {
+                    new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval).run();
+                }
             }
         }
     }
@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.MetricsReporter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kafka metrics reporter which is registered in the consumers and producers of Mirror Maker using the
+ * {@code metric.reporters} option. Instead of querying the MBean server for all client MBeans, it keeps references to
+ * the few metrics used by the readiness check of the {@link MirrorMakerAgent} as the Kafka clients add and remove
+ * them:
+ *   - {@code connection-count} from the {@code producer-metrics} and {@code consumer-metrics} groups
+ *   - {@code assigned-partitions} from the {@code consumer-coordinator-metrics} group
+ *
+ * The reporter instances are created by the Kafka clients, so the tracked metrics are shared by all of them.
+ */
+public class MirrorMakerMetricsReporter implements MetricsReporter {
+    private static final String PRODUCER_METRICS = "producer-metrics";
+    private static final String CONSUMER_METRICS = "consumer-metrics";
+    private static final String CONSUMER_COORDINATOR_METRICS = "consumer-coordinator-metrics";
+    private static final String CONNECTION_COUNT = "connection-count";
+    private static final String ASSIGNED_PARTITIONS = "assigned-partitions";
+
+    private static final Map<MetricName, KafkaMetric> METRICS = new ConcurrentHashMap<>();
+    private static volatile Runnable listener = () -> { };
+
+    // Metrics tracked by this reporter instance (i.e. by one Kafka client)
+    private final Set<MetricName> trackedByClient = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Sets the listener which is notified when a tracked metric is added or removed. The listener is called while the
+     * Kafka client holds the lock of its metrics registry, so it should not block.
+     *
+     * @param listener  The listener
+     */
+    static void setListener(Runnable listener) {
+        MirrorMakerMetricsReporter.listener = listener;
+    }
+
+    /**
+     * @return  Number of connections of all producers
+     */
+    static double producerConnections() {
+        return sum(PRODUCER_METRICS, CONNECTION_COUNT);
+    }
+
+    /**
+     * @return  Number of connections of all consumers
+     */
+    static double consumerConnections() {
+        return sum(CONSUMER_METRICS, CONNECTION_COUNT);
+    }
+
+    /**
+     * @return  Number of partitions assigned to all consumers
+     */
+    static double assignedPartitions() {
+        return sum(CONSUMER_COORDINATOR_METRICS, ASSIGNED_PARTITIONS);
+    }
+
+    private static double sum(String group, String name) {
+        double sum = 0.0D;
+
+        for (KafkaMetric metric : METRICS.values()) {
+            MetricName metricName = metric.metricName();
+
+            if (group.equals(metricName.group()) && name.equals(metricName.name())) {
+                Object value = metric.metricValue();
+
+                if (value instanceof Number && !Double.isNaN(((Number) value).doubleValue())) {
+                    sum += ((Number) value).doubleValue();
+                }
+            }
+        }
+
+        return sum;
+    }
+
+    private static boolean isTracked(MetricName metricName) {
+        if (CONNECTION_COUNT.equals(metricName.name())) {
+            return PRODUCER_METRICS.equals(metricName.group()) || CONSUMER_METRICS.equals(metricName.group());
+        } else {
+            return ASSIGNED_PARTITIONS.equals(metricName.name()) && CONSUMER_COORDINATOR_METRICS.equals(metricName.group());
+        }
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        // Nothing to configure
+    }
+
+    @Override
+    public void init(List<KafkaMetric> metrics) {
+        for (KafkaMetric metric : metrics) {
+            metricChange(metric);
+        }
+    }
+
+    @Override
+    public void metricChange(KafkaMetric metric) {
+        if (isTracked(metric.metricName())) {
+            METRICS.put(metric.metricName(), metric);
+            trackedByClient.add(metric.metricName());
+            listener.run();
+        }
+    }
+
+    @Override
+    public void metricRemoval(KafkaMetric metric) {
+        trackedByClient.remove(metric.metricName());
+
+        if (METRICS.remove(metric.metricName()) != null) {
+            listener.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        // The Kafka client is closed => none of its metrics should be counted anymore
+        boolean removed = false;
+
+        for (MetricName metricName : trackedByClient) {
+            removed |= METRICS.remove(metricName) != null;
+        }
+
+        trackedByClient.clear();
+
+        if (removed) {
+            listener.run();
+        }
+    }
+}
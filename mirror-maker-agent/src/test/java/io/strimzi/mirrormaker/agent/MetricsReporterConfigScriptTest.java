@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests the script which registers the {@link MirrorMakerMetricsReporter} in the Mirror Maker client configurations
+ */
+public class MetricsReporterConfigScriptTest {
+    private static final Path SCRIPT = Paths.get("..", "docker-images", "kafka-based", "kafka", "scripts", "kafka_mirror_maker_add_metrics_reporter.sh");
+    private static final String REPORTER = MirrorMakerMetricsReporter.class.getName();
+
+    @TempDir
+    Path tempDir;
+
+    private List<String> runScript(String... config) throws IOException, InterruptedException {
+        Path configFile = tempDir.resolve("client.properties");
+        Files.write(configFile, List.of(config));
+
+        Process process = new ProcessBuilder("bash", SCRIPT.toString(), configFile.toString())
+                .inheritIO()
+                .start();
+        assertThat(process.waitFor(), is(0));
+
+        return Files.readAllLines(configFile);
+    }
+
+    @Test
+    public void testAddsReporterWhenNotConfigured() throws IOException, InterruptedException {
+        assertThat(runScript("bootstrap.servers=my-cluster-kafka-bootstrap:9092"),
+                is(List.of("bootstrap.servers=my-cluster-kafka-bootstrap:9092", "metric.reporters=" + REPORTER)));
+    }
+
+    @Test
+    public void testKeepsReportersConfiguredByUser() throws IOException, InterruptedException {
+        assertThat(runScript("metric.reporters=com.example.MyReporter,com.example.OtherReporter", "bootstrap.servers=my-cluster-kafka-bootstrap:9092"),
+                is(List.of("metric.reporters=com.example.MyReporter,com.example.OtherReporter," + REPORTER, "bootstrap.servers=my-cluster-kafka-bootstrap:9092")));
+    }
+
+    @Test
+    public void testReplacesEmptyReporters() throws IOException, InterruptedException {
+        assertThat(runScript("metric.reporters=", "bootstrap.servers=my-cluster-kafka-bootstrap:9092"),
+                is(List.of("metric.reporters=" + REPORTER, "bootstrap.servers=my-cluster-kafka-bootstrap:9092")));
+        assertThat(runScript("metric.reporters=  "),
+                is(List.of("metric.reporters=" + REPORTER)));
+    }
+}
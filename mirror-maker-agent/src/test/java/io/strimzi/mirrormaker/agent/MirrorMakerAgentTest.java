@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.apache.kafka.common.metrics.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.strimzi.mirrormaker.agent.MirrorMakerMetricsReporterTest.addGauge;
+import static io.strimzi.mirrormaker.agent.MirrorMakerMetricsReporterTest.clientMetrics;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MirrorMakerAgentTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testReadinessWithDefaultThresholds() {
+        File readinessFile = tempDir.resolve("mirror-maker-ready").toFile();
+        MirrorMakerAgent agent = new MirrorMakerAgent(readinessFile, tempDir.resolve("mirror-maker-alive").toFile(), 1_000, 1_000);
+        AtomicInteger producerConnections = new AtomicInteger(0);
+        AtomicInteger consumerConnections = new AtomicInteger(0);
+
+        try (Metrics producer = clientMetrics("producer"); Metrics consumer = clientMetrics("consumer")) {
+            addGauge(producer, "producer-metrics", "connection-count", producerConnections);
+            addGauge(consumer, "consumer-metrics", "connection-count", consumerConnections);
+
+            agent.handleReadiness();
+            assertThat(readinessFile.exists(), is(false));
+
+            producerConnections.set(1);
+            agent.handleReadiness();
+            assertThat(readinessFile.exists(), is(false));
+
+            consumerConnections.set(1);
+            agent.handleReadiness();
+            assertThat(readinessFile.exists(), is(true));
+
+            producerConnections.set(0);
+            agent.handleReadiness();
+            assertThat(readinessFile.exists(), is(false));
+        }
+    }
+
+    @Test
+    public void testReadinessWithCustomThresholds() {
+        File readinessFile = tempDir.resolve("mirror-maker-ready").toFile();
+        MirrorMakerAgent agent = new MirrorMakerAgent(readinessFile, tempDir.resolve("mirror-maker-alive").toFile(), 1_000, 1_000, 2, 3, 4);
+        AtomicInteger assignedPartitions = new AtomicInteger(3);
+
+        try (Metrics producer = clientMetrics("producer"); Metrics consumer = clientMetrics("consumer")) {
+            addGauge(producer, "producer-metrics", "connection-count", new AtomicInteger(2));
+            addGauge(consumer, "consumer-metrics", "connection-count", new AtomicInteger(3));
+            addGauge(consumer, "consumer-coordinator-metrics", "assigned-partitions", assignedPartitions);
+
+            agent.handleReadiness();
+            assertThat(readinessFile.exists(), is(false));
+
+            assignedPartitions.set(4);
+            agent.handleReadiness();
+            assertThat(readinessFile.exists(), is(true));
+        }
+
+        // The metrics of the closed clients are not counted anymore
+        agent.handleReadiness();
+        assertThat(readinessFile.exists(), is(false));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.utils.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MirrorMakerMetricsReporterTest {
+    private final AtomicInteger notifications = new AtomicInteger(0);
+
+    @BeforeEach
+    public void setUp() {
+        MirrorMakerMetricsReporter.setListener(notifications::incrementAndGet);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MirrorMakerMetricsReporter.setListener(() -> { });
+    }
+
+    /**
+     * Creates the metrics registry of a Kafka client with the Mirror Maker metrics reporter registered in it. The
+     * client ID tag makes the metric names of the different clients unique as in the Kafka clients. Closing the
+     * registry closes the reporter as when the Kafka client is closed.
+     */
+    static Metrics clientMetrics(String clientId) {
+        return new Metrics(new MetricConfig().tags(Map.of("client-id", clientId)), List.of(new MirrorMakerMetricsReporter()), Time.SYSTEM);
+    }
+
+    static void addGauge(Metrics metrics, String group, String name, AtomicInteger value) {
+        metrics.addMetric(metrics.metricName(name, group), (Gauge<Integer>) (config, now) -> value.get());
+    }
+
+    @Test
+    public void testSumsTrackedMetricsOfAllClients() {
+        try (Metrics producer1 = clientMetrics("producer1"); Metrics producer2 = clientMetrics("producer2"); Metrics consumer = clientMetrics("consumer")) {
+            addGauge(producer1, "producer-metrics", "connection-count", new AtomicInteger(2));
+            addGauge(producer2, "producer-metrics", "connection-count", new AtomicInteger(1));
+            addGauge(consumer, "consumer-metrics", "connection-count", new AtomicInteger(3));
+            addGauge(consumer, "consumer-coordinator-metrics", "assigned-partitions", new AtomicInteger(5));
+
+            assertThat(MirrorMakerMetricsReporter.producerConnections(), is(3.0));
+            assertThat(MirrorMakerMetricsReporter.consumerConnections(), is(3.0));
+            assertThat(MirrorMakerMetricsReporter.assignedPartitions(), is(5.0));
+            assertThat(notifications.get(), is(4));
+        }
+    }
+
+    @Test
+    public void testIgnoresOtherMetrics() {
+        try (Metrics producer = clientMetrics("producer")) {
+            addGauge(producer, "producer-metrics", "request-rate", new AtomicInteger(10));
+            addGauge(producer, "producer-node-metrics", "connection-count", new AtomicInteger(10));
+            addGauge(producer, "consumer-metrics", "assigned-partitions", new AtomicInteger(10));
+
+            assertThat(MirrorMakerMetricsReporter.producerConnections(), is(0.0));
+            assertThat(MirrorMakerMetricsReporter.consumerConnections(), is(0.0));
+            assertThat(MirrorMakerMetricsReporter.assignedPartitions(), is(0.0));
+            assertThat(notifications.get(), is(0));
+        }
+    }
+
+    @Test
+    public void testReadsCurrentValues() {
+        AtomicInteger connections = new AtomicInteger(1);
+
+        try (Metrics producer = clientMetrics("producer")) {
+            addGauge(producer, "producer-metrics", "connection-count", connections);
+            assertThat(MirrorMakerMetricsReporter.producerConnections(), is(1.0));
+
+            connections.set(4);
+            assertThat(MirrorMakerMetricsReporter.producerConnections(), is(4.0));
+        }
+    }
+
+    @Test
+    public void testRemovedMetricsAreNotCounted() {
+        try (Metrics producer = clientMetrics("producer")) {
+            addGauge(producer, "producer-metrics", "connection-count", new AtomicInteger(2));
+            assertThat(MirrorMakerMetricsReporter.producerConnections(), is(2.0));
+
+            producer.removeMetric(producer.metricName("connection-count", "producer-metrics"));
+            assertThat(MirrorMakerMetricsReporter.producerConnections(), is(0.0));
+            assertThat(notifications.get(), is(2));
+
+            // Removing an untracked metric does not notify the listener
+            addGauge(producer, "producer-metrics", "request-rate", new AtomicInteger(10));
+            producer.removeMetric(producer.metricName("request-rate", "producer-metrics"));
+            assertThat(notifications.get(), is(2));
+        }
+    }
+
+    @Test
+    public void testMetricsOfClosedClientsAreNotCounted() {
+        try (Metrics consumer1 = clientMetrics("consumer1")) {
+            Metrics consumer2 = clientMetrics("consumer2");
+            addGauge(consumer1, "consumer-metrics", "connection-count", new AtomicInteger(1));
+            addGauge(consumer1, "consumer-coordinator-metrics", "assigned-partitions", new AtomicInteger(3));
+            addGauge(consumer2, "consumer-metrics", "connection-count", new AtomicInteger(2));
+            addGauge(consumer2, "consumer-coordinator-metrics", "assigned-partitions", new AtomicInteger(4));
+            assertThat(MirrorMakerMetricsReporter.consumerConnections(), is(3.0));
+            assertThat(MirrorMakerMetricsReporter.assignedPartitions(), is(7.0));
+            int notificationsBeforeClose = notifications.get();
+
+            consumer2.close();
+            assertThat(MirrorMakerMetricsReporter.consumerConnections(), is(1.0));
+            assertThat(MirrorMakerMetricsReporter.assignedPartitions(), is(3.0));
+            assertThat(notifications.get(), is(notificationsBeforeClose + 1));
+        }
+
+        assertThat(MirrorMakerMetricsReporter.consumerConnections(), is(0.0));
+        assertThat(MirrorMakerMetricsReporter.assignedPartitions(), is(0.0));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the Kubernetes API calls handled by MockKube. The calls are counted per resource kind (e.g. Pod) and verb
+ * (e.g. get, list, create, patch, delete, watch or updateStatus). This is used to check how many API calls the
+ * operators do, for example in the scale tests.
+ */
+public class ApiCalls {
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Records a single API call
+     *
+     * @param kind  Kind of the resource
+     * @param verb  The verb (type of the call)
+     */
+    void record(String kind, String verb) {
+        counters.computeIfAbsent(key(kind, verb), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the number of the API calls for given kind and verb
+     *
+     * @param kind  Kind of the resource
+     * @param verb  The verb (type of the call)
+     *
+     * @return  Number of the API calls
+     */
+    public long count(String kind, String verb) {
+        LongAdder counter = counters.get(key(kind, verb));
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    /**
+     * @return  Sorted map with the number of API calls. The keys are the kind and the verb separated by space (e.g.
+     *          {@code Pod get}).
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((key, counter) -> snapshot.put(key, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Resets all counters
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    private static String key(String kind, String verb) {
+        return kind + " " + verb;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Status;
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.WatcherException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Configures the high-fidelity mode of MockKube. When it is enabled using
+ * {@link MockKube#withApiServerSimulation(ApiServerSimulation)}, MockKube behaves more like a real Kubernetes API
+ * server:
+ *   - The resource versions are assigned from a single counter shared by all resource kinds
+ *   - Updates with an outdated resource version fail with a 409 Conflict error (optimistic concurrency)
+ *   - The generation is increased only when something else than the metadata or the status changes
+ *   - Watches can be started from a resource version and replay the events which happened since then. When the
+ *     resource version is too old, the watch is closed with a 410 Gone error.
+ *   - Watches which allow bookmarks receive BOOKMARK events (see {@link MockKube#sendBookmarks()})
+ *   - Each API call can be delayed by a configurable latency per verb
+ *
+ * The events are queued while the resource store is locked so that the watchers always receive them in the order of
+ * their resource versions. They are dispatched only after the lock is released, so the watchers and observers can
+ * change other resource kinds without deadlocking. The thread which made the change dispatches the events, unless
+ * another thread is already dispatching the events of the same kind. The latency is fixed, so the results are
+ * deterministic. This mode is used to measure the cost of the reconciliations, for example in the scale tests.
+ */
+public class ApiServerSimulation {
+    /**
+     * Default number of events kept for each resource kind for resuming watches
+     */
+    public static final int DEFAULT_WATCH_HISTORY_SIZE = 1_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final List<String> IGNORED_BY_GENERATION = List.of("metadata", "status");
+
+    private final AtomicLong resourceVersion = new AtomicLong(0);
+    private final Map<String, Long> latencies = new ConcurrentHashMap<>();
+    private volatile int watchHistorySize = DEFAULT_WATCH_HISTORY_SIZE;
+
+    /**
+     * Configures the latency of the API calls with given verb
+     *
+     * @param verb      The verb (e.g. get, list, create, patch, delete, watch or updateStatus)
+     * @param millis    Latency in milliseconds
+     *
+     * @return  This simulation
+     */
+    public ApiServerSimulation withLatency(String verb, long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("The latency cannot be negative");
+        }
+
+        latencies.put(verb, millis);
+        return this;
+    }
+
+    /**
+     * Configures how many events are kept for each resource kind to allow resuming watches from an older resource
+     * version.
+     *
+     * @param size  Number of kept events
+     *
+     * @return  This simulation
+     */
+    public ApiServerSimulation withWatchHistorySize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The watch history size cannot be negative");
+        }
+
+        this.watchHistorySize = size;
+        return this;
+    }
+
+    /**
+     * @return  Number of events kept for each resource kind
+     */
+    public int getWatchHistorySize() {
+        return watchHistorySize;
+    }
+
+    /**
+     * @return  The latest resource version assigned by the simulated API server
+     */
+    public long getResourceVersion() {
+        return resourceVersion.get();
+    }
+
+    /**
+     * @return  The next resource version
+     */
+    long nextResourceVersion() {
+        return resourceVersion.incrementAndGet();
+    }
+
+    /**
+     * Delays the current thread by the latency configured for given verb
+     *
+     * @param verb  The verb (type of the call)
+     */
+    void simulateLatency(String verb) {
+        Long latency = latencies.get(verb);
+
+        if (latency != null && latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KubernetesClientException("Interrupted while simulating the API call latency", e);
+            }
+        }
+    }
+
+    /**
+     * Creates the BOOKMARK event resource which carries only the latest resource version
+     *
+     * @param resourceClass     Class of the resource
+     * @param <T>               The resource type
+     *
+     * @return  The bookmark resource
+     */
+    <T extends HasMetadata> T bookmark(Class<T> resourceClass) {
+        try {
+            T bookmark = resourceClass.getDeclaredConstructor().newInstance();
+            bookmark.setMetadata(new ObjectMetaBuilder().withResourceVersion(Long.toString(getResourceVersion())).build());
+            return bookmark;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new RuntimeException("Failed to create the bookmark for " + resourceClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Checks whether something else than the metadata or the status changed between the two versions of the
+     * resource. Only such changes increase the generation of the resource.
+     *
+     * @param current   The current resource
+     * @param updated   The updated resource
+     *
+     * @return  True if the generation should be increased. False otherwise.
+     */
+    static boolean specChanged(HasMetadata current, HasMetadata updated) {
+        JsonNode currentSpec = ((ObjectNode) OBJECT_MAPPER.valueToTree(current)).remove(IGNORED_BY_GENERATION);
+        JsonNode updatedSpec = ((ObjectNode) OBJECT_MAPPER.valueToTree(updated)).remove(IGNORED_BY_GENERATION);
+
+        return !currentSpec.equals(updatedSpec);
+    }
+
+    /**
+     * Creates the exception returned by the Kubernetes API server when the resource was modified in the meantime
+     *
+     * @param kind      Kind of the resource
+     * @param name      Name of the resource
+     *
+     * @return  Exception with the 409 Conflict status
+     */
+    static KubernetesClientException conflict(String kind, String name) {
+        return new KubernetesClientException(status(409, "Conflict", "Operation cannot be fulfilled on " + kind + " " + name
+                + ": the object has been modified; please apply your changes to the latest version and try again"));
+    }
+
+    /**
+     * Creates the exception returned by the Kubernetes API server when a watch is started from a resource version
+     * which is not available anymore.
+     *
+     * @param resourceVersion   The requested resource version
+     *
+     * @return  Watcher exception caused by the 410 Gone status
+     */
+    static WatcherException gone(String resourceVersion) {
+        String message = "too old resource version: " + resourceVersion;
+        return new WatcherException(message, new KubernetesClientException(status(410, "Expired", message)));
+    }
+
+    private static Status status(int code, String reason, String message) {
+        return new StatusBuilder()
+                .withStatus("Failure")
+                .withCode(code)
+                .withReason(reason)
+                .withMessage(message)
+                .build();
+    }
+}
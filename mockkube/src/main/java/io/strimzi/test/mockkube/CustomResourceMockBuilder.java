@@ -29,15 +29,27 @@ class CustomResourceMockBuilder<T extends CustomResource, L extends KubernetesRe
 
     @Override
     public void updateStatus(String namespace, String name, T resource) {
-        checkDoesExist(name);
+        atomically(() -> {
+            checkDoesExist(name);
+            checkResourceVersion(name, resource);
+            Function<T, S> getStatus = mockedCrd.getStatus();
+            if (getStatus != null) {
+                S status = getStatus.apply(copyResource(resource));
+                LOGGER.debug("Updating status on {} to {}", resourceTypeClass.getSimpleName(), status);
+                T t = incrementResourceVersion(copyResource(db.get(name)));
+                mockedCrd.setStatus().accept(t, status);
+                db.put(name, t);
+                fireWatchers(name, t, Watcher.Action.MODIFIED, "updateStatus");
+            }
+            return null;
+        });
+    }
+
+    @Override
+    protected void preserveStatus(T current, T updated) {
         Function<T, S> getStatus = mockedCrd.getStatus();
         if (getStatus != null) {
-            S status = getStatus.apply(copyResource(resource));
-            LOGGER.debug("Updating status on {} to {}", resourceTypeClass.getSimpleName(), status);
-            T t = incrementResourceVersion(copyResource(db.get(name)));
-            mockedCrd.setStatus().accept(t, status);
-            db.put(name, t);
-            fireWatchers(name, t, Watcher.Action.MODIFIED, "updateStatus");
+            mockedCrd.setStatus().accept(updated, getStatus.apply(copyResource(current)));
         }
     }
 }
@@ -11,6 +11,9 @@ import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.LabelSelectorRequirement;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.KubernetesClientTimeoutException;
 import io.fabric8.kubernetes.client.Watch;
@@ -29,11 +32,16 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -74,6 +82,7 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private static final Logger LOGGER = LogManager.getLogger(MockBuilder.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     protected final Class<T> resourceTypeClass;
     protected final Class<L> listClass;
@@ -83,6 +92,18 @@ class MockBuilder<T extends HasMetadata,
     protected final String resourceType;
     protected final Collection<PredicatedWatcher<T>> watchers = Collections.synchronizedList(new ArrayList<>(2));
     private List<Observer<T>> observers = null;
+    /** Counters of the API calls. Null when the API calls are not counted */
+    ApiCalls apiCalls = null;
+    /** Configuration of the high-fidelity mode. Null when the high-fidelity mode is not enabled */
+    ApiServerSimulation simulation = null;
+    /** Watchers which allow bookmarks. Used only in the high-fidelity mode */
+    private final Collection<PredicatedWatcher<T>> bookmarkWatchers = new CopyOnWriteArrayList<>();
+    /** Recent events used to resume watches. Used only in the high-fidelity mode and guarded by the db lock */
+    private final WatchHistory<T> history = new WatchHistory<>();
+    /** Events queued under the db lock and waiting to be dispatched to the watchers. Used only in the high-fidelity mode */
+    private final Queue<Runnable> pendingEvents = new ConcurrentLinkedQueue<>();
+    /** Held by the thread which dispatches the pending events. Used only in the high-fidelity mode */
+    private final ReentrantLock dispatchLock = new ReentrantLock();
 
     public void assertNumWatchers(int expectedNumWatchers) {
         if (watchers.size() != expectedNumWatchers) {
@@ -111,16 +132,79 @@ class MockBuilder<T extends HasMetadata,
         return this;
     }
 
+    /**
+     * Records the API call for this resource type. In the high-fidelity mode, this also delays the call by the
+     * configured latency.
+     *
+     * @param verb The verb (type of the call)
+     */
+    protected void recordApiCall(String verb) {
+        if (apiCalls != null) {
+            apiCalls.record(resourceType, verb);
+        }
+
+        if (simulation != null) {
+            simulation.simulateLatency(verb);
+        }
+    }
+
+    /**
+     * Runs the operation atomically in the high-fidelity mode. The events of the operation are queued while the
+     * operation runs, so they keep the order of their resource versions. They are dispatched to the watchers once the
+     * operation is finished and the lock is released. Without the high-fidelity mode, the operation is just executed.
+     *
+     * @param operation The operation
+     * @param <V>       The type of the result
+     *
+     * @return The result of the operation
+     */
+    protected <V> V atomically(Supplier<V> operation) {
+        if (simulation != null) {
+            try {
+                synchronized (db) {
+                    return operation.get();
+                }
+            } finally {
+                dispatchEvents();
+            }
+        } else {
+            return operation.get();
+        }
+    }
+
+    /**
+     * Dispatches the queued events to the watchers in the order in which they were queued. The observers and watchers
+     * can change other resource kinds, so this is never done while the db lock is held. When another thread is
+     * already dispatching the events, it dispatches also the events queued by this thread.
+     */
+    private void dispatchEvents() {
+        if (Thread.holdsLock(db)) {
+            // Dispatched by the atomic operation once it releases the lock
+            return;
+        }
+
+        // Checked again after unlocking, because the events queued just before unlocking would be left behind otherwise
+        while (!pendingEvents.isEmpty() && dispatchLock.tryLock()) {
+            try {
+                Runnable event;
+                while ((event = pendingEvents.poll()) != null) {
+                    event.run();
+                }
+            } finally {
+                dispatchLock.unlock();
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected T copyResource(T resource) {
         if (resource == null) {
             return null;
         } else {
-            ObjectMapper objectMapper = new ObjectMapper();
             try {
                 ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                objectMapper.writeValue(baos, resource);
-                return (T) objectMapper.readValue(baos.toByteArray(), resource.getClass());
+                OBJECT_MAPPER.writeValue(baos, resource);
+                return (T) OBJECT_MAPPER.readValue(baos.toByteArray(), resource.getClass());
             } catch (IOException e) {
                 return null;
             }
@@ -137,6 +221,7 @@ class MockBuilder<T extends HasMetadata,
 
         when(mixed.inNamespace(any())).thenReturn(mixed);
         when(mixed.list()).thenAnswer(i -> mockList(p -> true));
+        when(mixed.list(any(ListOptions.class))).thenAnswer(i -> mockPagedList(p -> true, i.getArgument(0)));
         when(mixed.withLabels(any())).thenAnswer(i -> {
             MixedOperation<T, L, R> mixedWithLabels = mock(MixedOperation.class);
             Map<String, String> labels = i.getArgument(0);
@@ -156,7 +241,12 @@ class MockBuilder<T extends HasMetadata,
         when(mixed.watch(any())).thenAnswer(i -> {
             Watcher watcher = i.getArgument(0);
             LOGGER.debug("Watcher {} installed on {}", watcher, mixed);
-            return addWatcher(PredicatedWatcher.watcher(resourceTypeClass.getName(), watcher));
+            return addWatcher(PredicatedWatcher.watcher(resourceTypeClass.getName(), watcher), null);
+        });
+        when(mixed.watch(any(ListOptions.class), any())).thenAnswer(i -> {
+            Watcher watcher = i.getArgument(1);
+            LOGGER.debug("Watcher {} installed on {}", watcher, mixed);
+            return addWatcher(PredicatedWatcher.watcher(resourceTypeClass.getName(), watcher), i.getArgument(0));
         });
         when(mixed.create((T) any())).thenAnswer(i -> {
             T resource = i.getArgument(0);
@@ -244,27 +334,88 @@ class MockBuilder<T extends HasMetadata,
         when(mixedWithLabels.list()).thenAnswer(i2 -> {
             return mockList(predicate);
         });
+        when(mixedWithLabels.list(any(ListOptions.class))).thenAnswer(i2 -> {
+            return mockPagedList(predicate, i2.getArgument(0));
+        });
         when(mixedWithLabels.watch(any())).thenAnswer(i2 -> {
             Watcher watcher = i2.getArgument(0);
-            return addWatcher(PredicatedWatcher.predicatedWatcher(resourceTypeClass.getName(), "watch on labeled", predicate, watcher));
+            return addWatcher(PredicatedWatcher.predicatedWatcher(resourceTypeClass.getName(), "watch on labeled", predicate, watcher), null);
+        });
+        when(mixedWithLabels.watch(any(ListOptions.class), any())).thenAnswer(i2 -> {
+            Watcher watcher = i2.getArgument(1);
+            return addWatcher(PredicatedWatcher.predicatedWatcher(resourceTypeClass.getName(), "watch on labeled", predicate, watcher), i2.getArgument(0));
         });
         return mixedWithLabels;
     }
 
     @SuppressWarnings("unchecked")
     private KubernetesResourceList<T> mockList(Predicate<? super T> predicate) {
+        recordApiCall("list");
         KubernetesResourceList<T> l = mock(listClass);
         Collection<T> values;
+        String listResourceVersion;
         synchronized (db) {
             values = db.values().stream().filter(predicate).map(resource -> copyResource(resource)).collect(Collectors.toList());
+            listResourceVersion = listResourceVersion();
         }
         when(l.getItems()).thenAnswer(i3 -> {
             LOGGER.debug("{} list -> {}", resourceTypeClass.getSimpleName(), values);
             return values;
         });
+        when(l.getMetadata()).thenReturn(new ListMetaBuilder().withResourceVersion(listResourceVersion).build());
+        return l;
+    }
+
+    /**
+     * Mocks a single page of the list using the {@code limit} and {@code continue} list options. The resources are
+     * ordered by their names and the continue token is the name of the last resource in the page. Only the resources
+     * in the returned page are copied.
+     *
+     * @param predicate The predicate to select the resources
+     * @param options The list options
+     * @return The mocked list
+     */
+    @SuppressWarnings("unchecked")
+    private KubernetesResourceList<T> mockPagedList(Predicate<? super T> predicate, ListOptions options) {
+        long limit = options != null && options.getLimit() != null && options.getLimit() > 0 ? options.getLimit() : Long.MAX_VALUE;
+        String continueToken = options != null ? options.getContinue() : null;
+        recordApiCall("list");
+
+        KubernetesResourceList<T> l = mock(listClass);
+        List<T> values;
+        boolean hasMore;
+        String listResourceVersion;
+        synchronized (db) {
+            List<T> remaining = db.values().stream()
+                    .filter(predicate)
+                    .filter(resource -> continueToken == null || resource.getMetadata().getName().compareTo(continueToken) > 0)
+                    .sorted(Comparator.comparing((T resource) -> resource.getMetadata().getName()))
+                    .collect(Collectors.toList());
+            hasMore = remaining.size() > limit;
+            values = remaining.stream().limit(limit).map(resource -> copyResource(resource)).collect(Collectors.toList());
+            listResourceVersion = listResourceVersion();
+        }
+
+        ListMeta metadata = new ListMetaBuilder()
+                .withContinue(hasMore ? values.get(values.size() - 1).getMetadata().getName() : null)
+                .withResourceVersion(listResourceVersion)
+                .build();
+
+        when(l.getItems()).thenAnswer(i3 -> {
+            LOGGER.debug("{} list page -> {}", resourceTypeClass.getSimpleName(), values);
+            return values;
+        });
+        when(l.getMetadata()).thenReturn(metadata);
         return l;
     }
 
+    /**
+     * @return The resource version of the lists in the high-fidelity mode or null otherwise
+     */
+    private String listResourceVersion() {
+        return simulation != null ? Long.toString(simulation.getResourceVersion()) : null;
+    }
+
     /**
      * Mock operations on the given {@code resource} which are scoped to accessing the given {@code resourceName}.
      * For example the methods accessible from
@@ -339,6 +490,27 @@ class MockBuilder<T extends HasMetadata,
         }
     }
 
+    /**
+     * In the high-fidelity mode, checks that the resource version of the updated resource matches the stored
+     * resource. Updates without any resource version are always accepted.
+     *
+     * @param resourceName The resource name
+     * @param resource The updated resource
+     */
+    protected void checkResourceVersion(String resourceName, T resource) {
+        if (simulation != null) {
+            String resourceVersion = resource.getMetadata().getResourceVersion();
+            T current = db.get(resourceName);
+
+            if (resourceVersion != null
+                    && !resourceVersion.isEmpty()
+                    && current != null
+                    && !resourceVersion.equals(current.getMetadata().getResourceVersion())) {
+                throw ApiServerSimulation.conflict(resourceType, resourceName);
+            }
+        }
+    }
+
     protected void mockDelete(String resourceName, R resource) {
         when(resource.withPropagationPolicy(DeletionPropagation.FOREGROUND).delete()).thenAnswer(i -> {
             return doDelete(resourceName);
@@ -346,15 +518,35 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private Object doDelete(String resourceName) {
+        recordApiCall("delete");
         LOGGER.debug("delete {} {}", resourceType, resourceName);
-        T removed = db.remove(resourceName);
-        if (removed != null) {
-            fireWatchers(resourceName, removed, Watcher.Action.DELETED, "delete");
-        }
-        return removed != null;
+        return atomically(() -> {
+            T removed = db.remove(resourceName);
+            if (removed != null) {
+                if (simulation != null) {
+                    incrementResourceVersion(removed);
+                }
+                fireWatchers(resourceName, removed, Watcher.Action.DELETED, "delete");
+            }
+            return removed != null;
+        });
     }
 
     protected void fireWatchers(String resourceName, T resource, Watcher.Action action, String cause) {
+        if (simulation != null) {
+            synchronized (db) {
+                recordEvent(action, resource);
+                // The watchers are captured now, so that the watchers added later get this event only from the replay
+                List<PredicatedWatcher<T>> currentWatchers = new ArrayList<>(watchers);
+                pendingEvents.add(() -> notifyWatchers(resourceName, resource, action, cause, currentWatchers));
+            }
+            dispatchEvents();
+        } else {
+            notifyWatchers(resourceName, resource, action, cause, watchers);
+        }
+    }
+
+    private void notifyWatchers(String resourceName, T resource, Watcher.Action action, String cause, Collection<PredicatedWatcher<T>> notifiedWatchers) {
         if (observers != null) {
             for (Observer<T> observer : observers) {
                 LOGGER.debug("Firing observer.beforeWatcherFire() {} on {} for {} due to {}", observer, resourceName, action, cause);
@@ -362,7 +554,7 @@ class MockBuilder<T extends HasMetadata,
             }
         }
         LOGGER.debug("Firing watchers on {}", resourceName);
-        for (PredicatedWatcher<T> watcher : watchers) {
+        for (PredicatedWatcher<T> watcher : notifiedWatchers) {
             LOGGER.debug("Firing watcher {} on {} for {} due to {}", watcher, resourceName, action, cause);
             watcher.maybeFire(resource, action);
         }
@@ -384,12 +576,50 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private T doPatch(String resourceName, R resource, T instance) {
-        checkDoesExist(resourceName);
-        T argument = copyResource(instance);
-        LOGGER.debug("patch {} {} -> {}", resourceType, resourceName, resource);
-        db.put(resourceName, incrementGeneration(incrementResourceVersion(argument)));
-        fireWatchers(resourceName, argument, Watcher.Action.MODIFIED, "patch");
-        return copyResource(argument);
+        recordApiCall("patch");
+        return atomically(() -> {
+            checkDoesExist(resourceName);
+            checkResourceVersion(resourceName, instance);
+            T argument = copyResource(instance);
+            LOGGER.debug("patch {} {} -> {}", resourceType, resourceName, resource);
+            if (simulation != null) {
+                T current = db.get(resourceName);
+                preserveStatus(current, argument);
+                argument.getMetadata().setGeneration(nextGeneration(current, argument));
+                db.put(resourceName, incrementResourceVersion(argument));
+                fireWatchers(resourceName, copyResource(argument), Watcher.Action.MODIFIED, "patch");
+            } else {
+                db.put(resourceName, incrementGeneration(incrementResourceVersion(argument)));
+                fireWatchers(resourceName, argument, Watcher.Action.MODIFIED, "patch");
+            }
+            return copyResource(argument);
+        });
+    }
+
+    /**
+     * In the high-fidelity mode, keeps the status of the current resource when the resource is patched. This is how
+     * the resources with the status subresource behave. Does nothing by default.
+     *
+     * @param current The current resource
+     * @param updated The updated resource
+     */
+    protected void preserveStatus(T current, T updated) {
+        // Resources without the status subresource have nothing to preserve
+    }
+
+    /**
+     * Calculates the generation of the updated resource. The generation is increased only when something else than
+     * the metadata or the status changed.
+     *
+     * @param current The current resource
+     * @param updated The updated resource
+     * @return The new generation
+     */
+    private long nextGeneration(T current, T updated) {
+        Long generation = current.getMetadata().getGeneration();
+        long currentGeneration = generation != null ? generation : 1L;
+
+        return ApiServerSimulation.specChanged(current, updated) ? currentGeneration + 1 : currentGeneration;
     }
 
     protected void mockWithPropagationPolicy(R resource) {
@@ -400,22 +630,95 @@ class MockBuilder<T extends HasMetadata,
         when(resource.watch(any())).thenAnswer(i -> {
             return mockedWatcher(resourceName, i);
         });
+        when(resource.watch(any(ListOptions.class), any())).thenAnswer(i -> {
+            Watcher<T> watcher = i.getArgument(1);
+            LOGGER.debug("watch {} {} ", resourceType, watcher);
+            return addWatcher(PredicatedWatcher.namedWatcher(resourceTypeClass.getName(), resourceName, watcher), i.getArgument(0));
+        });
     }
 
     private Watch mockedWatcher(String resourceName, InvocationOnMock i) {
         Watcher<T> watcher = i.getArgument(0);
         LOGGER.debug("watch {} {} ", resourceType, watcher);
-        return addWatcher(PredicatedWatcher.namedWatcher(resourceTypeClass.getName(), resourceName, watcher));
+        return addWatcher(PredicatedWatcher.namedWatcher(resourceTypeClass.getName(), resourceName, watcher), null);
     }
 
-    private Watch addWatcher(PredicatedWatcher<T> predicatedWatcher) {
-        watchers.add(predicatedWatcher);
+    /**
+     * Adds the watcher. In the high-fidelity mode, the watch options are used to replay the events since the
+     * requested resource version and to enable the bookmarks. Without the high-fidelity mode, the options are ignored.
+     *
+     * @param predicatedWatcher The watcher
+     * @param options The watch options or null
+     * @return The watch
+     */
+    private Watch addWatcher(PredicatedWatcher<T> predicatedWatcher, ListOptions options) {
+        recordApiCall("watch");
+
+        if (simulation != null) {
+            try {
+                synchronized (db) {
+                    String resourceVersion = options != null ? options.getResourceVersion() : null;
+                    if (resourceVersion != null && !resourceVersion.isEmpty() && !"0".equals(resourceVersion)) {
+                        long since = Long.parseLong(resourceVersion);
+                        if (!history.canResumeFrom(since)) {
+                            LOGGER.debug("Watcher {} cannot resume from {}", predicatedWatcher, resourceVersion);
+                            pendingEvents.add(() -> predicatedWatcher.watcher().onClose(ApiServerSimulation.gone(resourceVersion)));
+                            return () -> { };
+                        }
+
+                        pendingEvents.add(history.replay(since, this::copyResource, predicatedWatcher));
+                    }
+
+                    watchers.add(predicatedWatcher);
+                    if (options != null && Boolean.TRUE.equals(options.getAllowWatchBookmarks())) {
+                        bookmarkWatchers.add(predicatedWatcher);
+                    }
+                }
+            } finally {
+                dispatchEvents();
+            }
+        } else {
+            watchers.add(predicatedWatcher);
+        }
+
         return () -> {
             watchers.remove(predicatedWatcher);
+            bookmarkWatchers.remove(predicatedWatcher);
             LOGGER.debug("Watcher {} removed", predicatedWatcher);
         };
     }
 
+    /**
+     * Records the event in the history used to resume the watches
+     *
+     * @param action The action
+     * @param resource The resource
+     */
+    private void recordEvent(Watcher.Action action, T resource) {
+        synchronized (db) {
+            String resourceVersion = resource.getMetadata().getResourceVersion();
+            long eventResourceVersion = resourceVersion != null && !resourceVersion.isEmpty() ? Long.parseLong(resourceVersion) : simulation.getResourceVersion();
+
+            history.record(eventResourceVersion, action, copyResource(resource), simulation.getWatchHistorySize());
+        }
+    }
+
+    /**
+     * Sends a BOOKMARK event with the latest resource version to all watchers which allow bookmarks. Does nothing
+     * when the high-fidelity mode is not enabled.
+     */
+    void sendBookmarks() {
+        if (simulation != null) {
+            synchronized (db) {
+                for (PredicatedWatcher<T> watcher : bookmarkWatchers) {
+                    T bookmark = simulation.bookmark(resourceTypeClass);
+                    pendingEvents.add(() -> watcher.watcher().eventReceived(Watcher.Action.BOOKMARK, bookmark));
+                }
+            }
+            dispatchEvents();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected void mockCreate(String resourceName, R resource) {
         when(resource.create((T) any())).thenAnswer(i -> {
@@ -425,14 +728,29 @@ class MockBuilder<T extends HasMetadata,
     }
 
     private T doCreate(String resourceName, T argument) {
-        checkNotExists(resourceName);
-        LOGGER.debug("create {} {} -> {}", resourceType, resourceName, argument);
-        db.put(resourceName, incrementGeneration(incrementResourceVersion(copyResource(argument))));
-        fireWatchers(resourceName, argument, Watcher.Action.ADDED, "create");
-        return copyResource(argument);
+        recordApiCall("create");
+        return atomically(() -> {
+            checkNotExists(resourceName);
+            LOGGER.debug("create {} {} -> {}", resourceType, resourceName, argument);
+            T created = incrementGeneration(incrementResourceVersion(copyResource(argument)));
+            db.put(resourceName, created);
+            if (simulation != null) {
+                // The real API server returns and sends the created resource including the resource version
+                fireWatchers(resourceName, copyResource(created), Watcher.Action.ADDED, "create");
+                return copyResource(created);
+            } else {
+                fireWatchers(resourceName, argument, Watcher.Action.ADDED, "create");
+                return copyResource(argument);
+            }
+        });
     }
 
     protected T incrementResourceVersion(T resource) {
+        if (simulation != null) {
+            resource.getMetadata().setResourceVersion(Long.toString(simulation.nextResourceVersion()));
+            return resource;
+        }
+
         String resourceVersion = resource.getMetadata().getResourceVersion();
         if (resourceVersion == null || resourceVersion.isEmpty()) {
             resourceVersion = "0";
@@ -444,7 +762,7 @@ class MockBuilder<T extends HasMetadata,
     protected T incrementGeneration(T resource) {
         Long generation = resource.getMetadata().getGeneration();
         if (generation == null) {
-            resource.getMetadata().setGeneration(0L);
+            resource.getMetadata().setGeneration(simulation != null ? 1L : 0L);
         } else {
             resource.getMetadata().setGeneration(generation + 1);
         }
@@ -453,6 +771,7 @@ class MockBuilder<T extends HasMetadata,
 
     protected OngoingStubbing<T> mockGet(String resourceName, R resource) {
         return when(resource.get()).thenAnswer(i -> {
+            recordApiCall("get");
             T r = copyResource(db.get(resourceName));
             LOGGER.debug("{} {} get {}", resourceType, resourceName, r);
             return r;
@@ -469,6 +788,7 @@ class MockBuilder<T extends HasMetadata,
     @SuppressWarnings("unchecked")
     protected OngoingStubbing<T> mockSetStatus(String resourceName, R resource) {
         return when(resource.replaceStatus((T) any())).thenAnswer(i -> {
+            recordApiCall("updateStatus");
             T r = i.getArgument(0);
             updateStatus(r.getMetadata().getNamespace(), r.getMetadata().getName(), r);
             LOGGER.debug("{} {} setStatus {}", resourceType, resourceName, r);
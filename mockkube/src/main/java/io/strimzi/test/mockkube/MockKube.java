@@ -127,7 +127,27 @@ public class MockKube {
     private MockBuilder<Ingress, IngressList, Resource<Ingress>> ingressMockBuilder;
     private MockBuilder<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress, io.fabric8.kubernetes.api.model.networking.v1beta1.IngressList, Resource<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress>> ingressV1Beta1MockBuilder;
     private DeploymentMockBuilder deploymentMockBuilder;
+    private StatefulSetMockBuilder statefulSetMockBuilder;
     private KubernetesClient mockClient;
+    private final ApiCalls apiCalls = new ApiCalls();
+    private ApiServerSimulation simulation = null;
+
+    /**
+     * Enables the high-fidelity mode which simulates the resource versions, optimistic concurrency, resumable watches
+     * with bookmarks and the latency of a real Kubernetes API server. It has to be enabled before the client is built.
+     *
+     * @param simulation    Configuration of the simulated API server
+     *
+     * @return  This MockKube instance
+     */
+    public MockKube withApiServerSimulation(ApiServerSimulation simulation) {
+        if (mockClient != null) {
+            throw new IllegalStateException("The high-fidelity mode has to be enabled before the client is built");
+        }
+
+        this.simulation = simulation;
+        return this;
+    }
 
     public MockKube withInitialCms(Set<ConfigMap> initialCms) {
         this.cmDb.putAll(db(initialCms));
@@ -243,6 +263,8 @@ public class MockKube {
     private final Map<String, Class<? extends HasMetadata>> mockBuilders3 = new HashMap<>();
 
     <T extends MockBuilder<?, ?, ?>> T addMockBuilder(String plural, T mockBuilder) {
+        mockBuilder.apiCalls = apiCalls;
+        mockBuilder.simulation = simulation;
         mockBuilders.put(mockBuilder.resourceTypeClass, mockBuilder);
         mockBuilders2.put(plural, mockBuilder);
         mockBuilders3.put(plural, mockBuilder.resourceTypeClass);
@@ -380,6 +402,28 @@ public class MockKube {
         return mockClient;
     }
 
+    /**
+     * @return  The counters of the API calls handled by this MockKube instance
+     */
+    public ApiCalls apiCalls() {
+        return apiCalls;
+    }
+
+    /**
+     * Sends a BOOKMARK event with the latest resource version to all watches which allow bookmarks. This is used in
+     * the high-fidelity mode to test how the watches and informers handle the bookmarks. Without the high-fidelity
+     * mode, this does nothing.
+     */
+    public void sendBookmarks() {
+        for (MockBuilder<?, ?, ?> mockBuilder : mockBuilders.values()) {
+            mockBuilder.sendBookmarks();
+        }
+
+        if (statefulSetMockBuilder != null) {
+            statefulSetMockBuilder.sendBookmarks();
+        }
+    }
+
     public <T extends CustomResource> String crdKey(Class<T> crClass) {
         return crClass.getName();
     }
@@ -425,7 +469,10 @@ public class MockKube {
         buildStatefulSets(MockBuilder<Pod, PodList, PodResource<Pod>> podMockBuilder, MixedOperation<Pod, PodList, PodResource<Pod>> mockPods,
                           MixedOperation<PersistentVolumeClaim, PersistentVolumeClaimList,
                                   Resource<PersistentVolumeClaim>> mockPvcs) {
-        MixedOperation<StatefulSet, StatefulSetList, RollableScalableResource<StatefulSet>> result = new StatefulSetMockBuilder(podMockBuilder, ssDb, podDb, mockPods, mockPvcs).build();
+        statefulSetMockBuilder = new StatefulSetMockBuilder(podMockBuilder, ssDb, podDb, mockPods, mockPvcs);
+        statefulSetMockBuilder.apiCalls = apiCalls;
+        statefulSetMockBuilder.simulation = simulation;
+        MixedOperation<StatefulSet, StatefulSetList, RollableScalableResource<StatefulSet>> result = statefulSetMockBuilder.build();
         return result;
     }
 
@@ -5,6 +5,7 @@
 package io.strimzi.test.mockkube;
 
 import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.EndpointsBuilder;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceList;
 import io.fabric8.kubernetes.client.dsl.ServiceResource;
@@ -31,10 +32,23 @@ class ServiceMockBuilder extends MockBuilder<Service, ServiceList, ServiceResour
     @Override
     protected void mockCreate(String resourceName, ServiceResource<Service> resource) {
         when(resource.create(any(Service.class))).thenAnswer(i -> {
+            recordApiCall("create");
             Service argument = i.getArgument(0);
             db.put(resourceName, copyResource(argument));
             LOGGER.debug("create {} (and endpoint) {} ", resourceType, resourceName);
-            endpointsDb.put(resourceName, new Endpoints());
+            // The Endpoints have the labels of the Service and a ready address as if the pods selected by the Service were running
+            endpointsDb.put(resourceName, new EndpointsBuilder()
+                    .withNewMetadata()
+                        .withName(resourceName)
+                        .withNamespace(argument.getMetadata().getNamespace())
+                        .withLabels(argument.getMetadata().getLabels())
+                    .endMetadata()
+                    .addNewSubset()
+                        .addNewAddress()
+                            .withIp("10.0.0.1")
+                        .endAddress()
+                    .endSubset()
+                    .build());
             return argument;
         });
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.mockkube;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Watcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps the recent events of a single resource kind in the high-fidelity mode of MockKube. The events are used to
+ * resume the watches from a given resource version. When the history is full, the oldest events are evicted and the
+ * watches cannot be resumed from resource versions older than the evicted events anymore.
+ *
+ * This class is not thread-safe. It is guarded by the lock of the resource store.
+ *
+ * @param <T> The resource type
+ */
+class WatchHistory<T extends HasMetadata> {
+    private final Deque<Event<T>> events = new ArrayDeque<>();
+    private long evictedResourceVersion = 0;
+
+    /**
+     * Records the event
+     *
+     * @param resourceVersion   Resource version of the event
+     * @param action            The action
+     * @param resource          Copy of the resource
+     * @param maxSize           Maximal number of kept events
+     */
+    void record(long resourceVersion, Watcher.Action action, T resource, int maxSize) {
+        events.addLast(new Event<>(resourceVersion, action, resource));
+
+        while (events.size() > maxSize) {
+            evictedResourceVersion = events.removeFirst().resourceVersion;
+        }
+    }
+
+    /**
+     * Checks whether the watch can be resumed from given resource version
+     *
+     * @param resourceVersion   The resource version
+     *
+     * @return  True if all events after this resource version are still kept. False otherwise.
+     */
+    boolean canResumeFrom(long resourceVersion) {
+        return resourceVersion >= evictedResourceVersion;
+    }
+
+    /**
+     * Prepares the replay of the events which happened after given resource version. The events are selected and
+     * copied right away, so the returned task can be run after the lock of the resource store was released.
+     *
+     * @param resourceVersion   The resource version
+     * @param copy              Function used to copy the resources before they are passed to the watcher
+     * @param watcher           The watcher
+     *
+     * @return  Task which passes the events to the watcher
+     */
+    Runnable replay(long resourceVersion, UnaryOperator<T> copy, PredicatedWatcher<T> watcher) {
+        List<Event<T>> replayed = new ArrayList<>();
+        for (Event<T> event : events) {
+            if (event.resourceVersion > resourceVersion) {
+                replayed.add(new Event<>(event.resourceVersion, event.action, copy.apply(event.resource)));
+            }
+        }
+
+        return () -> {
+            for (Event<T> event : replayed) {
+                watcher.maybeFire(event.resource, event.action);
+            }
+        };
+    }
+
+    /**
+     * Single event kept in the history
+     *
+     * @param <T> The resource type
+     */
+    private static class Event<T> {
+        private final long resourceVersion;
+        private final Watcher.Action action;
+        private final T resource;
+
+        Event(long resourceVersion, Watcher.Action action, T resource) {
+            this.resourceVersion = resourceVersion;
+            this.action = action;
+            this.resource = resource;
+        }
+    }
+}
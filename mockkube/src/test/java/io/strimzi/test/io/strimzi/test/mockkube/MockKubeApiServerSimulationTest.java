@@ -0,0 +1,296 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.test.io.strimzi.test.mockkube;
+
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaTopicList;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatusBuilder;
+import io.strimzi.test.mockkube.ApiServerSimulation;
+import io.strimzi.test.mockkube.MockKube;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MockKubeApiServerSimulationTest {
+    private static final String NAMESPACE = "my-namespace";
+
+    private ApiServerSimulation simulation;
+    private MockKube mockKube;
+    private KubernetesClient client;
+
+    @BeforeEach
+    public void before() {
+        simulation = new ApiServerSimulation().withWatchHistorySize(3);
+        mockKube = new MockKube().withApiServerSimulation(simulation);
+        mockKube.withCustomResourceDefinition(Crds.kafkaTopic(), KafkaTopic.class, KafkaTopicList.class);
+        client = mockKube.build();
+    }
+
+    private static Pod pod(String name, String image) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .addNewContainer()
+                        .withName("container")
+                        .withImage(image)
+                    .endContainer()
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void testResourceVersionsAreGlobal() {
+        Pod first = client.pods().inNamespace(NAMESPACE).withName("first").create(pod("first", "image:1"));
+        Pod second = client.pods().inNamespace(NAMESPACE).withName("second").create(pod("second", "image:1"));
+
+        assertThat(first.getMetadata().getResourceVersion(), is("1"));
+        assertThat(first.getMetadata().getGeneration(), is(1L));
+        assertThat(second.getMetadata().getResourceVersion(), is("2"));
+        assertThat(simulation.getResourceVersion(), is(2L));
+
+        PodList list = client.pods().inNamespace(NAMESPACE).list(new ListOptionsBuilder().withLimit(1L).build());
+        assertThat(list.getItems(), hasSize(1));
+        assertThat(list.getMetadata().getResourceVersion(), is("2"));
+        assertThat(list.getMetadata().getContinue(), is("first"));
+    }
+
+    @Test
+    public void testOptimisticConcurrency() {
+        Pod created = client.pods().inNamespace(NAMESPACE).withName("my-pod").create(pod("my-pod", "image:1"));
+
+        Pod updated = client.pods().inNamespace(NAMESPACE).withName("my-pod").patch(new PodBuilder(created)
+                .editSpec().editFirstContainer().withImage("image:2").endContainer().endSpec()
+                .build());
+        assertThat(updated.getMetadata().getResourceVersion(), is("2"));
+        assertThat(updated.getMetadata().getGeneration(), is(2L));
+
+        // Outdated resource version
+        KubernetesClientException e = assertThrows(KubernetesClientException.class,
+            () -> client.pods().inNamespace(NAMESPACE).withName("my-pod").patch(new PodBuilder(created)
+                    .editSpec().editFirstContainer().withImage("image:3").endContainer().endSpec()
+                    .build()));
+        assertThat(e.getCode(), is(409));
+
+        // Without resource version, the update is accepted
+        Pod withoutResourceVersion = new PodBuilder(updated)
+                .editMetadata().withResourceVersion(null).addToLabels("label", "value").endMetadata()
+                .build();
+        updated = client.pods().inNamespace(NAMESPACE).withName("my-pod").patch(withoutResourceVersion);
+        assertThat(updated.getMetadata().getResourceVersion(), is("3"));
+
+        // Only metadata changed => the generation stays the same
+        assertThat(updated.getMetadata().getGeneration(), is(2L));
+    }
+
+    @Test
+    public void testStatusSubresource() {
+        KafkaTopic created = Crds.topicOperation(client).inNamespace(NAMESPACE).withName("my-topic").create(new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName("my-topic")
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build());
+
+        KafkaTopic withStatus = new KafkaTopicBuilder(created)
+                .withStatus(new KafkaTopicStatusBuilder().withObservedGeneration(1L).build())
+                .build();
+        KafkaTopic updated = Crds.topicOperation(client).inNamespace(NAMESPACE).withName("my-topic").replaceStatus(withStatus);
+        assertThat(updated.getStatus().getObservedGeneration(), is(1L));
+        assertThat(updated.getMetadata().getGeneration(), is(1L));
+
+        // The status update with the outdated resource version fails
+        KubernetesClientException e = assertThrows(KubernetesClientException.class,
+            () -> Crds.topicOperation(client).inNamespace(NAMESPACE).withName("my-topic").replaceStatus(withStatus));
+        assertThat(e.getCode(), is(409));
+
+        // Patching the resource keeps the status
+        updated = Crds.topicOperation(client).inNamespace(NAMESPACE).withName("my-topic").patch(new KafkaTopicBuilder(updated)
+                .editSpec().withPartitions(3).endSpec()
+                .withStatus(null)
+                .build());
+        assertThat(updated.getMetadata().getGeneration(), is(2L));
+        assertThat(updated.getStatus(), is(notNullValue()));
+        assertThat(updated.getStatus().getObservedGeneration(), is(1L));
+    }
+
+    @Test
+    public void testResumedWatch() {
+        client.pods().inNamespace(NAMESPACE).withName("first").create(pod("first", "image:1"));
+        client.pods().inNamespace(NAMESPACE).withName("second").create(pod("second", "image:1"));
+        client.pods().inNamespace(NAMESPACE).withName("first").withPropagationPolicy(DeletionPropagation.FOREGROUND).delete();
+
+        RecordingWatcher<Pod> watcher = new RecordingWatcher<>();
+        Watch watch = client.pods().inNamespace(NAMESPACE).watch(new ListOptionsBuilder().withResourceVersion("1").build(), watcher);
+
+        assertThat(watcher.actions, is(List.of(Watcher.Action.ADDED, Watcher.Action.DELETED)));
+        assertThat(watcher.resourceVersions, is(List.of("2", "3")));
+
+        client.pods().inNamespace(NAMESPACE).withName("third").create(pod("third", "image:1"));
+        assertThat(watcher.resourceVersions, is(List.of("2", "3", "4")));
+        watch.close();
+
+        // The history keeps only 3 events => after one more event, the events up to resource version 2 are evicted
+        client.pods().inNamespace(NAMESPACE).withName("fourth").create(pod("fourth", "image:1"));
+
+        RecordingWatcher<Pod> resumed = new RecordingWatcher<>();
+        client.pods().inNamespace(NAMESPACE).watch(new ListOptionsBuilder().withResourceVersion("2").build(), resumed).close();
+        assertThat(resumed.closedWith, is((WatcherException) null));
+        assertThat(resumed.resourceVersions, is(List.of("3", "4", "5")));
+
+        RecordingWatcher<Pod> gone = new RecordingWatcher<>();
+        client.pods().inNamespace(NAMESPACE).watch(new ListOptionsBuilder().withResourceVersion("1").build(), gone).close();
+        assertThat(gone.closedWith, is(notNullValue()));
+        assertThat(gone.closedWith.isHttpGone(), is(true));
+        assertThat(gone.actions, hasSize(0));
+    }
+
+    @Test
+    public void testBookmarks() {
+        RecordingWatcher<Pod> withBookmarks = new RecordingWatcher<>();
+        RecordingWatcher<Pod> withoutBookmarks = new RecordingWatcher<>();
+        Watch watch1 = client.pods().inNamespace(NAMESPACE).watch(new ListOptionsBuilder().withAllowWatchBookmarks(true).build(), withBookmarks);
+        Watch watch2 = client.pods().inNamespace(NAMESPACE).watch(withoutBookmarks);
+
+        client.pods().inNamespace(NAMESPACE).withName("my-pod").create(pod("my-pod", "image:1"));
+        mockKube.sendBookmarks();
+
+        assertThat(withBookmarks.actions, is(List.of(Watcher.Action.ADDED, Watcher.Action.BOOKMARK)));
+        assertThat(withBookmarks.resourceVersions, is(List.of("1", "1")));
+        assertThat(withoutBookmarks.actions, is(List.of(Watcher.Action.ADDED)));
+
+        watch1.close();
+        watch2.close();
+    }
+
+    @Test
+    public void testWatchersCanChangeOtherKinds() throws Exception {
+        // Each watcher creates a resource of the other kind. Calling the watchers while holding the lock of their
+        // resource kind would deadlock the two threads below.
+        Watch podWatch = client.pods().inNamespace(NAMESPACE).watch(new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, Pod pod) {
+                if (action == Action.ADDED && pod.getMetadata().getName().startsWith("a-")) {
+                    Crds.topicOperation(client).inNamespace(NAMESPACE).withName("topic-" + pod.getMetadata().getName()).create(topic("topic-" + pod.getMetadata().getName()));
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+            }
+        });
+        Watch topicWatch = Crds.topicOperation(client).inNamespace(NAMESPACE).watch(new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, KafkaTopic topic) {
+                if (action == Action.ADDED && topic.getMetadata().getName().startsWith("b-")) {
+                    client.pods().inNamespace(NAMESPACE).withName("pod-" + topic.getMetadata().getName()).create(pod("pod-" + topic.getMetadata().getName(), "image:1"));
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> pods = executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    client.pods().inNamespace(NAMESPACE).withName("a-" + i).create(pod("a-" + i, "image:1"));
+                }
+            });
+            Future<?> topics = executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    Crds.topicOperation(client).inNamespace(NAMESPACE).withName("b-" + i).create(topic("b-" + i));
+                }
+            });
+
+            pods.get(30, TimeUnit.SECONDS);
+            topics.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+            podWatch.close();
+            topicWatch.close();
+        }
+
+        assertThat(client.pods().inNamespace(NAMESPACE).list().getItems(), hasSize(200));
+        assertThat(Crds.topicOperation(client).inNamespace(NAMESPACE).list().getItems(), hasSize(200));
+    }
+
+    private static KafkaTopic topic(String name) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(1)
+                    .withReplicas(1)
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void testLatency() {
+        simulation.withLatency("get", 50);
+
+        long start = System.nanoTime();
+        client.pods().inNamespace(NAMESPACE).withName("my-pod").get();
+        client.pods().inNamespace(NAMESPACE).withName("my-pod").get();
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(durationMs, is(greaterThanOrEqualTo(100L)));
+        assertThat(mockKube.apiCalls().count("Pod", "get"), is(2L));
+    }
+
+    private static class RecordingWatcher<T extends HasMetadata> implements Watcher<T> {
+        private final List<Action> actions = new ArrayList<>();
+        private final List<String> resourceVersions = new ArrayList<>();
+        private WatcherException closedWith = null;
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            actions.add(action);
+            resourceVersions.add(resource.getMetadata().getResourceVersion());
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            closedWith = cause;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class MockKubeTest<RT extends HasMetadata, LT extends KubernetesResource & KubernetesResourceList> {
 
+    MockKube mockKube;
     KubernetesClient client;
 
     @SuppressWarnings("unchecked")
@@ -79,7 +80,7 @@ public class MockKubeTest<RT extends HasMetadata, LT extends KubernetesResource
     }
 
     public void createClient(Consumer<MockKube> init) throws MalformedURLException {
-        MockKube mockKube = new MockKube();
+        mockKube = new MockKube();
         init.accept(mockKube);
         client = mockKube.build();
     }
@@ -303,6 +304,38 @@ public class MockKubeTest<RT extends HasMetadata, LT extends KubernetesResource
         assertThat(hasOnlyOneOfMyLabels.events.isEmpty(), is(true));
     }
 
+    @SuppressWarnings("unchecked")
+    @ParameterizedTest(name = "{index}: {0}")
+    @MethodSource("parameters")
+    public void testApiCalls(Class<RT> cls,
+                             Consumer<MockKube> init,
+                             Supplier<RT> factory,
+                             Function<KubernetesClient, MixedOperation<RT, LT, Resource<RT>>> mixedOp) throws MalformedURLException {
+        createClient(init);
+        String kind = cls.getSimpleName();
+        RT pod = factory.get();
+
+        mixedOp.apply(client).watch(new MyWatcher());
+        mixedOp.apply(client).withName(pod.getMetadata().getName()).create(pod);
+        RT got = mixedOp.apply(client).withName(pod.getMetadata().getName()).get();
+        mixedOp.apply(client).withName(pod.getMetadata().getName()).patch(got);
+        mixedOp.apply(client).list();
+        mixedOp.apply(client).withLabel("my-label").list();
+        mixedOp.apply(client).withName(pod.getMetadata().getName()).delete();
+
+        assertThat(mockKube.apiCalls().count(kind, "watch"), is(1L));
+        assertThat(mockKube.apiCalls().count(kind, "create"), is(1L));
+        assertThat(mockKube.apiCalls().count(kind, "get"), is(1L));
+        assertThat(mockKube.apiCalls().count(kind, "patch"), is(1L));
+        assertThat(mockKube.apiCalls().count(kind, "list"), is(2L));
+        assertThat(mockKube.apiCalls().count(kind, "delete"), is(1L));
+        assertThat(mockKube.apiCalls().snapshot().get(kind + " list"), is(2L));
+
+        mockKube.apiCalls().reset();
+        assertThat(mockKube.apiCalls().count(kind, "list"), is(0L));
+        assertThat(mockKube.apiCalls().snapshot().isEmpty(), is(true));
+    }
+
     // TODO Test Deployment/StatefulSet creation causes ReplicaSet and Pod creation
     // TODO Test Deployment/STS Pod deletion causes new Pod creation
     // TODO Test Pod with VCT causes PVC creation
@@ -193,11 +193,21 @@ public abstract class Ca {
     private RenewalType renewalType;
     private boolean caCertsRemoved;
     private final CertificateExpirationPolicy policy;
+    private final CertificateCache certificateCache;
 
     public Ca(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
               String caCertSecretName, Secret caCertSecret,
               String caKeySecretName, Secret caKeySecret,
               int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, commonName, caCertSecretName, caCertSecret, caKeySecretName, caKeySecret,
+                validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    public Ca(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
+              String caCertSecretName, Secret caCertSecret,
+              String caKeySecretName, Secret caKeySecret,
+              int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy,
+              CertificateCache certificateCache) {
         this.reconciliation = reconciliation;
         this.commonName = commonName;
         this.caCertSecret = caCertSecret;
@@ -212,6 +222,7 @@ public abstract class Ca {
         this.policy = policy == null ? CertificateExpirationPolicy.RENEW_CERTIFICATE : policy;
         this.renewalType = RenewalType.NOOP;
         this.clock = Clock.systemUTC();
+        this.certificateCache = certificateCache;
     }
 
     /* test */ protected void setClock(Clock clock) {
@@ -450,7 +461,7 @@ public abstract class Ca {
         boolean isExpiring = false;
 
         try {
-            X509Certificate currentCert = cert(secret, certKey);
+            X509Certificate currentCert = cert(secret, certKey, certificateCache);
             isExpiring = certNeedsRenewal(currentCert);
         } catch (RuntimeException e) {
             // TODO: We should mock the certificates properly so that this doesn't fail in tests (not now => long term :-o)
@@ -519,7 +530,7 @@ public abstract class Ca {
      * @param maintenanceWindowSatisfied Flag indicating whether we are in the maintenance window
      */
     public void createRenewOrReplace(String namespace, String clusterName, Map<String, String> labels, Map<String, String> additonalLabels, Map<String, String> additonalAnnotations, OwnerReference ownerRef, boolean maintenanceWindowSatisfied) {
-        X509Certificate currentCert = cert(caCertSecret, CA_CRT);
+        X509Certificate currentCert = cert(caCertSecret, CA_CRT, certificateCache);
         Map<String, String> certData;
         Map<String, String> keyData;
         int caCertGeneration = certGeneration();
@@ -822,7 +833,7 @@ public abstract class Ca {
         String certName = entry.getKey();
         String certText = entry.getValue();
         try {
-            X509Certificate cert = x509Certificate(Base64.getDecoder().decode(certText));
+            X509Certificate cert = x509Certificate(caCertSecret, certName, certText, certificateCache);
             Instant expiryDate = cert.getNotAfter().toInstant();
             remove = expiryDate.isBefore(clock.instant());
             if (remove) {
@@ -897,17 +908,28 @@ public abstract class Ca {
      * @return  Decoced X509 certificate
      */
     public X509Certificate getAsX509Certificate(Secret secret, String key)  {
-        return cert(secret, key);
+        return cert(secret, key, certificateCache);
     }
 
     public static X509Certificate cert(Secret secret, String key)  {
+        return cert(secret, key, null);
+    }
+
+    /**
+     * Returns the certificate stored in the Secret under the given key
+     *
+     * @param secret            Secret with a certificates
+     * @param key               Key under which the certificate is stored
+     * @param certificateCache  Cache of the parsed certificates or null if the certificate should be always parsed
+     *
+     * @return  Decoded X509 certificate or null if the Secret does not contain it
+     */
+    public static X509Certificate cert(Secret secret, String key, CertificateCache certificateCache)  {
         if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
             return null;
         }
-        Base64.Decoder decoder = Base64.getDecoder();
-        byte[] bytes = decoder.decode(secret.getData().get(key));
         try {
-            return x509Certificate(bytes);
+            return x509Certificate(secret, key, secret.getData().get(key), certificateCache);
         } catch (CertificateException e) {
             throw new RuntimeException("Failed to decode certificate in data." + key.replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
         }
@@ -921,20 +943,29 @@ public abstract class Ca {
      * @return          Set with X509Certificate instances
      */
     public static Set<X509Certificate> certs(Secret secret)  {
+        return certs(secret, null);
+    }
+
+    /**
+     * Returns set of all public keys (all .crt records) from a secret
+     *
+     * @param secret            Kubernetes Secret with certificates
+     * @param certificateCache  Cache of the parsed certificates or null if the certificates should be always parsed
+     *
+     * @return          Set with X509Certificate instances
+     */
+    public static Set<X509Certificate> certs(Secret secret, CertificateCache certificateCache)  {
         if (secret == null || secret.getData() == null) {
             return Set.of();
         } else {
-            Base64.Decoder decoder = Base64.getDecoder();
-
             return secret
                     .getData()
                     .entrySet()
                     .stream()
                     .filter(record -> record.getKey().endsWith(".crt"))
                     .map(record -> {
-                        byte[] bytes = decoder.decode(record.getValue());
                         try {
-                            return x509Certificate(bytes);
+                            return x509Certificate(secret, record.getKey(), record.getValue(), certificateCache);
                         } catch (CertificateException e) {
                             throw new RuntimeException("Failed to decode certificate in data." + record.getKey().replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
                         }
@@ -943,6 +974,26 @@ public abstract class Ca {
         }
     }
 
+    /**
+     * Parses the Base64 encoded certificate stored in the Secret under the given key. The cache is used when available.
+     *
+     * @param secret            Secret with the certificate
+     * @param key               Key under which the certificate is stored
+     * @param encoded           The Base64 encoded certificate
+     * @param certificateCache  Cache of the parsed certificates or null if the certificate should be always parsed
+     *
+     * @return  The X.509 certificate
+     *
+     * @throws CertificateException when the certificate cannot be parsed
+     */
+    private static X509Certificate x509Certificate(Secret secret, String key, String encoded, CertificateCache certificateCache) throws CertificateException {
+        if (certificateCache != null) {
+            return certificateCache.x509Certificate(secret, key, encoded);
+        } else {
+            return x509Certificate(Base64.getDecoder().decode(encoded));
+        }
+    }
+
     static X509Certificate x509Certificate(byte[] bytes) throws CertificateException {
         CertificateFactory factory = certificateFactory();
         return x509Certificate(factory, bytes);
@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Counter;
+
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the X.509 certificates parsed from the Secrets. The CA and CO Secrets are read in every reconciliation, but
+ * their certificates change only rarely. Parsing them again in every reconciliation (for example to check their expiry)
+ * is not needed. The certificates are cached per namespace, Secret name and data key together with the encoded
+ * certificate from which they were parsed. A cached certificate is used only when the encoded certificate did not
+ * change, so that a Secret modified in memory (without a new resourceVersion yet) is never served a stale certificate.
+ * Secrets without resourceVersion (e.g. Secrets which were not created yet) are always parsed.
+ */
+public class CertificateCache {
+    /**
+     * Maximal number of cached certificates. When it is reached, the cache is cleared and filled again from the
+     * following reconciliations. This keeps the certificates of deleted Secrets from being cached forever.
+     */
+    /* test */ static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, CachedCertificate> cache = new ConcurrentHashMap<>();
+    private final Counter parsesCounter;
+    private final Counter avoidedParsesCounter;
+
+    /**
+     * Constructs the certificate cache
+     *
+     * @param parsesCounter         Counter of the parsed certificates or null if it should not be counted
+     * @param avoidedParsesCounter  Counter of the certificates served from the cache or null if it should not be counted
+     */
+    public CertificateCache(Counter parsesCounter, Counter avoidedParsesCounter) {
+        this.parsesCounter = parsesCounter;
+        this.avoidedParsesCounter = avoidedParsesCounter;
+    }
+
+    /**
+     * Gets the X.509 certificate stored in the Secret under the given key from the cache or parses it when it is not
+     * cached yet.
+     *
+     * @param secret    Secret with the certificate
+     * @param key       Key under which the certificate is stored in the Secret
+     * @param encoded   The Base64 encoded certificate (usually the value stored under the key in the Secret)
+     *
+     * @return  The X.509 certificate
+     *
+     * @throws CertificateException when the certificate cannot be parsed
+     */
+    public X509Certificate x509Certificate(Secret secret, String key, String encoded) throws CertificateException {
+        if (secret == null || secret.getMetadata() == null || secret.getMetadata().getResourceVersion() == null) {
+            return parse(encoded);
+        }
+
+        String cacheKey = secret.getMetadata().getNamespace() + "/" + secret.getMetadata().getName() + "/" + key;
+        CachedCertificate cached = cache.get(cacheKey);
+
+        if (cached != null && cached.encoded.equals(encoded)) {
+            increment(avoidedParsesCounter);
+            return cached.certificate;
+        }
+
+        X509Certificate certificate = parse(encoded);
+
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+
+        cache.put(cacheKey, new CachedCertificate(encoded, certificate));
+
+        return certificate;
+    }
+
+    /**
+     * @return  Number of cached certificates
+     */
+    /* test */ int size() {
+        return cache.size();
+    }
+
+    private X509Certificate parse(String encoded) throws CertificateException {
+        increment(parsesCounter);
+        return Ca.x509Certificate(Base64.getDecoder().decode(encoded));
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Parsed certificate together with the encoded certificate from which it was parsed
+     */
+    private static class CachedCertificate {
+        private final String encoded;
+        private final X509Certificate certificate;
+
+        CachedCertificate(String encoded, X509Certificate certificate) {
+            this.encoded = encoded;
+            this.certificate = certificate;
+        }
+    }
+}
@@ -17,10 +17,18 @@ public class ClientsCa extends Ca {
     public ClientsCa(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String caCertSecretName, Secret clientsCaCert,
                      String caSecretKeyName, Secret clientsCaKey,
                      int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, caCertSecretName, clientsCaCert, caSecretKeyName, clientsCaKey,
+                validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    public ClientsCa(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String caCertSecretName, Secret clientsCaCert,
+                     String caSecretKeyName, Secret clientsCaKey,
+                     int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy,
+                     CertificateCache certificateCache) {
         super(reconciliation, certManager, passwordGenerator,
                 "clients-ca", caCertSecretName,
                 forceRenewal(clientsCaCert, clientsCaKey, "clients-ca.key"), caSecretKeyName,
-                adapt060ClientsCaSecret(clientsCaKey), validityDays, renewalDays, generateCa, policy);
+                adapt060ClientsCaSecret(clientsCaKey), validityDays, renewalDays, generateCa, policy, certificateCache);
     }
 
     /**
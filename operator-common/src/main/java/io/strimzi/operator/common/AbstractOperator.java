@@ -24,6 +24,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.ResourceVisitor;
 import io.strimzi.operator.common.model.ValidationVisitor;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
@@ -37,6 +38,7 @@ import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -45,7 +47,6 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
 
@@ -87,6 +88,10 @@ public abstract class AbstractOperator<
     protected final MetricsProvider metrics;
 
     private final Labels selectorLabels;
+    private final int listPageSize;
+    private final long watchEventsQuietPeriodMs;
+    private final long watchEventsMaxDelayMs;
+    private final WatchEventCoalescer watchEventCoalescer;
     private Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
     private Map<String, AtomicInteger> resourceCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, AtomicInteger> pausedResourceCounterMap = new ConcurrentHashMap<>(1);
@@ -95,15 +100,54 @@ public abstract class AbstractOperator<
     private Map<String, Counter> failedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Counter> successfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Counter> lockedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private Map<String, Counter> coalescedEventsCounterMap = new ConcurrentHashMap<>(1);
     private Map<String, Timer> reconciliationsTimerMap = new ConcurrentHashMap<>(1);
 
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, AbstractResourceOperator.DEFAULT_LIST_PAGE_SIZE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param kind              Kind of the custom resource handled by this operator
+     * @param resourceOperator  Resource operator for the custom resource
+     * @param metrics           Metrics provider
+     * @param selectorLabels    Selector labels used to select the custom resources or null to select all of them
+     * @param listPageSize      Number of custom resources fetched in a single page when listing all resources
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels, int listPageSize) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, listPageSize, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                     Vert.x instance
+     * @param kind                      Kind of the custom resource handled by this operator
+     * @param resourceOperator          Resource operator for the custom resource
+     * @param metrics                   Metrics provider
+     * @param selectorLabels            Selector labels used to select the custom resources or null to select all of them
+     * @param listPageSize              Number of custom resources fetched in a single page when listing all resources
+     * @param watchEventsQuietPeriodMs  Quiet period in milliseconds used to coalesce the watch events for the same
+     *                                  resource. 0 disables the coalescing.
+     * @param watchEventsMaxDelayMs     Maximal delay in milliseconds of the reconciliation triggered by coalesced
+     *                                  watch events
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels, int listPageSize,
+                            long watchEventsQuietPeriodMs, long watchEventsMaxDelayMs) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
         this.metrics = metrics;
         this.selectorLabels = selectorLabels;
+        this.listPageSize = listPageSize;
+        this.watchEventsQuietPeriodMs = watchEventsQuietPeriodMs;
+        this.watchEventsMaxDelayMs = watchEventsMaxDelayMs;
+        this.watchEventCoalescer = new WatchEventCoalescer(vertx, watchEventsQuietPeriodMs, watchEventsMaxDelayMs);
     }
 
     @Override
@@ -462,12 +506,25 @@ public abstract class AbstractOperator<
         return Collections.emptySet();
     }
 
+    /**
+     * Lists the names of all resources in the given namespace. The resources are listed page by page and only their
+     * names are kept. So even a large number of resources does not need to be fetched in a single response or kept in
+     * memory at once.
+     *
+     * @param namespace The namespace
+     *
+     * @return  Future with the set of names of the resources
+     */
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
-        return resourceOperator.listAsync(namespace, selector())
-                .map(resourceList ->
-                        resourceList.stream()
-                                .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
-                                .collect(Collectors.toSet()));
+        Set<NamespaceAndName> names = new HashSet<>();
+
+        return resourceOperator.listAsync(namespace, selector(), listPageSize,
+                        page -> {
+                            for (T resource : page) {
+                                names.add(new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()));
+                            }
+                        })
+                .map(names);
     }
 
     /**
@@ -488,7 +545,17 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<WatcherException> onClose) {
-        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose, watchEventCoalescer)));
+    }
+
+    /**
+     * Creates a new coalescer for watch events using the quiet period and max delay configured for this operator. It
+     * can be used by the watches of other resource kinds handled by this operator.
+     *
+     * @return  New watch event coalescer
+     */
+    protected WatchEventCoalescer createWatchEventCoalescer() {
+        return new WatchEventCoalescer(vertx, watchEventsQuietPeriodMs, watchEventsMaxDelayMs);
     }
 
     public Consumer<WatcherException> recreateWatch(String namespace) {
@@ -540,6 +607,12 @@ public abstract class AbstractOperator<
                 "Number of periodical reconciliations done by the operator");
     }
 
+    @Override
+    public Counter coalescedEventsCounter(String namespace) {
+        return Operator.getCounter(namespace, kind(), METRICS_PREFIX + "reconciliations.coalesced", metrics, selectorLabels, coalescedEventsCounterMap,
+                "Number of watch events which did not trigger a separate reconciliation because they were coalesced with other events for the same resource");
+    }
+
     public Counter reconciliationsCounter(String namespace) {
         return Operator.getCounter(namespace, kind(), METRICS_PREFIX + "reconciliations", metrics, selectorLabels, reconciliationsCounterMap,
                 "Number of reconciliations done by the operator for individual resources");
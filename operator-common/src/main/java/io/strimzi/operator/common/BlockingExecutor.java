@@ -0,0 +1,349 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Managed execution of the blocking calls (for example calls to the Kubernetes API done through the Fabric8 client)
+ * shared by all resource operators using the same Vert.x instance. The blocking calls are split into separate
+ * bulkheads for reads, writes and waits, so that long-running calls of one kind cannot starve the other kinds. For
+ * example, many slow patch or delete calls do not block the readiness polls. Each bulkhead has its own bounded pool.
+ *
+ * Each bulkhead tracks the number of active and queued calls and the time the calls spent waiting in the queue. When
+ * a {@link MetricsProvider} is configured, these are exposed as metrics with the {@code pool} tag.
+ *
+ * When virtual threads are enabled and the JVM supports them (Java 21 and newer), the unordered calls run on virtual
+ * threads and the bulkhead size limits only the number of concurrent calls. Ordered calls and JVMs without virtual
+ * threads always use the Vert.x worker pools.
+ *
+ * The executor is stored in the local shared data of the Vert.x instance. It is configured once per Vert.x instance
+ * using {@link #configure(Vertx, int, int, int, boolean, MetricsProvider)}, typically from the main method of the
+ * operator. When it is not configured, {@link #get(Vertx)} creates an executor with the default settings. The worker
+ * pools of the executor should be closed using {@link #close(Vertx)} when the Vert.x instance shuts down.
+ */
+public class BlockingExecutor implements Shareable {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BlockingExecutor.class);
+
+    public static final int DEFAULT_POOL_SIZE = 10;
+    public static final long DEFAULT_MAX_EXECUTE_TIME_NS = TimeUnit.SECONDS.toNanos(120);
+    /* test */ static final String METRICS_PREFIX = "strimzi.blocking.operations.";
+
+    private static final String LOCAL_MAP_NAME = "strimzi.blocking-executor";
+    private static final String LOCAL_MAP_KEY = "executor";
+
+    /**
+     * Kinds of blocking calls which use separate pools
+     */
+    public enum Bulkhead {
+        /**
+         * Calls reading resources (get, list)
+         */
+        READ("read", "kubernetes-ops-read-pool"),
+
+        /**
+         * Calls changing resources (create, patch, delete, scale, status updates)
+         */
+        WRITE("write", "kubernetes-ops-pool"),
+
+        /**
+         * Polling of readiness and other conditions
+         */
+        WAIT("wait", "kubernetes-ops-wait-pool");
+
+        private final String tag;
+        private final String poolName;
+
+        Bulkhead(String tag, String poolName) {
+            this.tag = tag;
+            this.poolName = poolName;
+        }
+
+        /**
+         * @return  Value of the pool tag used in the metrics
+         */
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final Vertx vertx;
+    private final ExecutorService virtualThreads;
+    private final Map<Bulkhead, Pool> pools = new EnumMap<>(Bulkhead.class);
+
+    /**
+     * Constructs the blocking executor
+     *
+     * @param vertx                 Vert.x instance
+     * @param writePoolSize         Size of the pool for the write calls
+     * @param readPoolSize          Size of the pool for the read calls
+     * @param waitPoolSize          Size of the pool for the wait calls
+     * @param useVirtualThreads     Use virtual threads for the unordered calls when supported by the JVM
+     * @param metrics               Metrics provider or null if no metrics should be exposed
+     */
+    /* test */ BlockingExecutor(Vertx vertx, int writePoolSize, int readPoolSize, int waitPoolSize, boolean useVirtualThreads, MetricsProvider metrics) {
+        this.vertx = vertx;
+        this.virtualThreads = useVirtualThreads ? newVirtualThreadExecutor() : null;
+
+        pools.put(Bulkhead.READ, new Pool(Bulkhead.READ, readPoolSize, metrics));
+        pools.put(Bulkhead.WRITE, new Pool(Bulkhead.WRITE, writePoolSize, metrics));
+        pools.put(Bulkhead.WAIT, new Pool(Bulkhead.WAIT, waitPoolSize, metrics));
+    }
+
+    /**
+     * Configures the blocking executor for given Vert.x instance. Only the first configuration is used. When the
+     * executor for this Vert.x instance already exists, the new configuration is ignored.
+     *
+     * @param vertx                 Vert.x instance
+     * @param writePoolSize         Size of the pool for the write calls
+     * @param readPoolSize          Size of the pool for the read calls
+     * @param waitPoolSize          Size of the pool for the wait calls
+     * @param useVirtualThreads     Use virtual threads for the unordered calls when supported by the JVM
+     * @param metrics               Metrics provider or null if no metrics should be exposed
+     *
+     * @return  The blocking executor used for this Vert.x instance
+     */
+    public static synchronized BlockingExecutor configure(Vertx vertx, int writePoolSize, int readPoolSize, int waitPoolSize, boolean useVirtualThreads, MetricsProvider metrics) {
+        LocalMap<String, BlockingExecutor> executors = vertx.sharedData().getLocalMap(LOCAL_MAP_NAME);
+        BlockingExecutor executor = executors.get(LOCAL_MAP_KEY);
+
+        if (executor == null) {
+            executor = new BlockingExecutor(vertx, writePoolSize, readPoolSize, waitPoolSize, useVirtualThreads, metrics);
+            executors.put(LOCAL_MAP_KEY, executor);
+        } else {
+            LOGGER.warnOp("Blocking executor is already configured. The new configuration will be ignored.");
+        }
+
+        return executor;
+    }
+
+    /**
+     * Returns the blocking executor for given Vert.x instance. If it was not configured yet, a new executor with the
+     * default configuration and without metrics is created.
+     *
+     * @param vertx     Vert.x instance
+     *
+     * @return  The blocking executor used for this Vert.x instance
+     */
+    public static synchronized BlockingExecutor get(Vertx vertx) {
+        LocalMap<String, BlockingExecutor> executors = vertx.sharedData().getLocalMap(LOCAL_MAP_NAME);
+        BlockingExecutor executor = executors.get(LOCAL_MAP_KEY);
+
+        if (executor == null) {
+            executor = new BlockingExecutor(vertx, DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, DEFAULT_POOL_SIZE, false, null);
+            executors.put(LOCAL_MAP_KEY, executor);
+        }
+
+        return executor;
+    }
+
+    /**
+     * Closes the blocking executor of given Vert.x instance, if it exists, and removes it from the shared data. The
+     * worker pools are closed and the blocking calls which did not start yet are rejected. A later call to
+     * {@link #get(Vertx)} creates a new executor.
+     *
+     * @param vertx     Vert.x instance
+     *
+     * @return  Future which completes when the worker pools are closed
+     */
+    public static synchronized Future<Void> close(Vertx vertx) {
+        LocalMap<String, BlockingExecutor> executors = vertx.sharedData().getLocalMap(LOCAL_MAP_NAME);
+        BlockingExecutor executor = executors.remove(LOCAL_MAP_KEY);
+
+        return executor != null ? executor.close() : Future.succeededFuture();
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    private Future<Void> close() {
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+
+        List<Future> closed = new ArrayList<>(pools.size());
+        for (Pool pool : pools.values()) {
+            closed.add(pool.worker.close());
+        }
+
+        return CompositeFuture.join(closed).mapEmpty();
+    }
+
+    /**
+     * Executes the blocking code in given bulkhead. The calls are not ordered, so independent calls do not have to
+     * wait for each other.
+     *
+     * @param bulkhead              Bulkhead which should be used
+     * @param blockingCodeHandler   The blocking code
+     * @param <T>                   Type of the result
+     *
+     * @return  Future which completes with the result of the blocking code on the calling context
+     */
+    public <T> Future<T> executeBlocking(Bulkhead bulkhead, Handler<Promise<T>> blockingCodeHandler) {
+        return executeBlocking(bulkhead, false, blockingCodeHandler);
+    }
+
+    /**
+     * Executes the blocking code in given bulkhead.
+     *
+     * @param bulkhead              Bulkhead which should be used
+     * @param ordered               If true, the calls from the same context are executed one after another
+     * @param blockingCodeHandler   The blocking code
+     * @param <T>                   Type of the result
+     *
+     * @return  Future which completes with the result of the blocking code on the calling context
+     */
+    public <T> Future<T> executeBlocking(Bulkhead bulkhead, boolean ordered, Handler<Promise<T>> blockingCodeHandler) {
+        return pools.get(bulkhead).execute(ordered, blockingCodeHandler);
+    }
+
+    /**
+     * @return  True if virtual threads are used for the unordered calls. False otherwise.
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads != null;
+    }
+
+    /**
+     * @param bulkhead  Bulkhead
+     *
+     * @return  Number of blocking calls currently running in given bulkhead
+     */
+    public int active(Bulkhead bulkhead) {
+        return pools.get(bulkhead).active.get();
+    }
+
+    /**
+     * @param bulkhead  Bulkhead
+     *
+     * @return  Number of blocking calls waiting for a free thread in given bulkhead
+     */
+    public int queued(Bulkhead bulkhead) {
+        return pools.get(bulkhead).queued.get();
+    }
+
+    /**
+     * Creates the executor which starts a new virtual thread for each task. Virtual threads are available only in
+     * Java 21 and newer, so the executor is created through reflection.
+     *
+     * @return  Executor service using virtual threads or null if not supported by the JVM
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warnOp("Virtual threads are not supported by this JVM. Worker threads will be used instead.");
+            return null;
+        }
+    }
+
+    /**
+     * Single bulkhead
+     */
+    private class Pool {
+        private final WorkerExecutor worker;
+        private final Semaphore permits;
+        private final AtomicInteger active;
+        private final AtomicInteger queued;
+        private final Timer waitTime;
+
+        Pool(Bulkhead bulkhead, int size, MetricsProvider metrics) {
+            this.worker = vertx.createSharedWorkerExecutor(bulkhead.poolName, size, DEFAULT_MAX_EXECUTE_TIME_NS);
+            this.permits = new Semaphore(size);
+
+            if (metrics != null) {
+                Tags tags = Tags.of("pool", bulkhead.tag());
+                this.active = metrics.gauge(METRICS_PREFIX + "active", "Number of blocking operations currently running", tags);
+                this.queued = metrics.gauge(METRICS_PREFIX + "queued", "Number of blocking operations waiting for a free thread", tags);
+                this.waitTime = metrics.timer(METRICS_PREFIX + "wait.time", "Time the blocking operations spent waiting for a free thread", tags);
+            } else {
+                this.active = new AtomicInteger(0);
+                this.queued = new AtomicInteger(0);
+                this.waitTime = null;
+            }
+        }
+
+        <T> Future<T> execute(boolean ordered, Handler<Promise<T>> blockingCodeHandler) {
+            long enqueued = System.nanoTime();
+            queued.incrementAndGet();
+
+            Handler<Promise<T>> tracked = promise -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+
+                if (waitTime != null) {
+                    waitTime.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+                }
+
+                try {
+                    blockingCodeHandler.handle(promise);
+                } finally {
+                    active.decrementAndGet();
+                }
+            };
+
+            if (virtualThreads != null && !ordered) {
+                return executeOnVirtualThread(tracked);
+            } else {
+                Promise<T> result = Promise.promise();
+                worker.executeBlocking(tracked, ordered, result);
+                return result.future();
+            }
+        }
+
+        private <T> Future<T> executeOnVirtualThread(Handler<Promise<T>> tracked) {
+            Context context = vertx.getOrCreateContext();
+            Promise<T> result = Promise.promise();
+
+            try {
+                virtualThreads.execute(() -> {
+                    Promise<T> blockingPromise = Promise.promise();
+
+                    try {
+                        permits.acquire();
+
+                        try {
+                            tracked.handle(blockingPromise);
+                        } finally {
+                            permits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        queued.decrementAndGet();
+                        Thread.currentThread().interrupt();
+                        blockingPromise.tryFail(e);
+                    } catch (Throwable t) {
+                        blockingPromise.tryFail(t);
+                    }
+
+                    blockingPromise.future().onComplete(res -> context.runOnContext(v -> result.handle(res)));
+                });
+            } catch (RejectedExecutionException e) {
+                queued.decrementAndGet();
+                result.fail(e);
+            }
+
+            return result.future();
+        }
+    }
+}
@@ -108,6 +108,8 @@ public interface Operator {
 
     Counter periodicReconciliationsCounter(String namespace);
 
+    Counter coalescedEventsCounter(String namespace);
+
     AtomicInteger resourceCounter(String namespace);
 
     AtomicInteger pausedResourceCounter(String namespace);
@@ -17,13 +17,28 @@ import java.util.function.Consumer;
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     private final String namespace;
     private final Consumer<WatcherException> onClose;
+    private final WatchEventCoalescer coalescer;
     private Operator operator;
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(OperatorWatcher.class);
 
     OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose) {
+        this(operator, namespace, onClose, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param operator      Operator which should be notified about the events
+     * @param namespace     Namespace which is watched
+     * @param onClose       Callback called when the watch is closed
+     * @param coalescer     Coalescer used to collapse bursts of events for the same resource into a single
+     *                      reconciliation or null to reconcile every event
+     */
+    OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose, WatchEventCoalescer coalescer) {
         this.namespace = namespace;
         this.onClose = onClose;
         this.operator = operator;
+        this.coalescer = coalescer;
     }
 
     @Override
@@ -36,7 +51,15 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case MODIFIED:
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+
+                if (coalescer != null) {
+                    if (coalescer.submit(namespace + "/" + name, () -> operator.reconcile(reconciliation))) {
+                        LOGGER.debugCr(reconciliation, "Event was coalesced with an earlier event which was not reconciled yet");
+                        operator.coalescedEventsCounter(namespace).increment();
+                    }
+                } else {
+                    operator.reconcile(reconciliation);
+                }
                 break;
             case ERROR:
                 LOGGER.errorCr(new Reconciliation("watch", operator.kind(), namespace, name), "Failed {} {} in namespace{} ", operator.kind(), name, namespace);
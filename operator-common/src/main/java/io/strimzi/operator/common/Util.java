@@ -72,18 +72,24 @@ import java.util.stream.Collectors;
 public class Util {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(Util.class);
 
+    /**
+     * Runs the blocking supplier in the read bulkhead of the {@link BlockingExecutor}. It is used to open the watches.
+     *
+     * @param vertx     Vert.x instance
+     * @param supplier  Blocking code which should be executed
+     * @param <T>       Type of the result
+     *
+     * @return  Future with the result of the supplier
+     */
     public static <T> Future<T> async(Vertx vertx, Supplier<T> supplier) {
-        Promise<T> result = Promise.promise();
-        vertx.executeBlocking(
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.READ,
             future -> {
                 try {
                     future.complete(supplier.get());
                 } catch (Throwable t) {
                     future.fail(t);
                 }
-            }, result
-        );
-        return result.future();
+            });
     }
 
     /**
@@ -124,7 +130,7 @@ public class Util {
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                BlockingExecutor.get(vertx).<Void>executeBlocking(BlockingExecutor.Bulkhead.WAIT,
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -137,8 +143,8 @@ public class Util {
                             LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, e);
                             future.fail(e);
                         }
-                    },
-                    true,
+                    }
+                ).onComplete(
                     res -> {
                         if (res.succeeded()) {
                             LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
@@ -0,0 +1,172 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the watch events for the same resource before they trigger a reconciliation. When a resource is changed
+ * many times within a short time, each change would normally trigger a separate reconciliation. With the coalescer,
+ * the reconciliation is triggered only once the resource did not change for the quiet period. Only the latest
+ * pending reconciliation is executed, the older ones are dropped. To avoid postponing the reconciliation forever when
+ * the resource keeps changing, the reconciliation is triggered at the latest after the max delay since the first
+ * pending event.
+ *
+ * Events which arrive while the reconciliation triggered by this coalescer is still in progress are kept pending and
+ * coalesced until the reconciliation finishes. So at most one reconciliation for the same resource is started by the
+ * coalescer at any time.
+ *
+ * When the quiet period is 0, the events are not coalesced and the reconciliations are triggered immediately.
+ */
+public class WatchEventCoalescer {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(WatchEventCoalescer.class);
+
+    private final Vertx vertx;
+    private final long quietPeriodMs;
+    private final long maxDelayMs;
+
+    // Guarded by this
+    private final Map<String, PendingReconciliation> pending = new HashMap<>();
+
+    /**
+     * Constructs the watch event coalescer
+     *
+     * @param vertx             Vert.x instance
+     * @param quietPeriodMs     Time in milliseconds without any new event after which the reconciliation is triggered.
+     *                          0 disables the coalescing.
+     * @param maxDelayMs        Maximal time in milliseconds for which the reconciliation can be delayed since the first
+     *                          pending event
+     */
+    public WatchEventCoalescer(Vertx vertx, long quietPeriodMs, long maxDelayMs) {
+        this.vertx = vertx;
+        this.quietPeriodMs = Math.max(0, quietPeriodMs);
+        this.maxDelayMs = Math.max(this.quietPeriodMs, maxDelayMs);
+    }
+
+    /**
+     * @return  True if the coalescing is enabled. False otherwise.
+     */
+    public boolean isEnabled() {
+        return quietPeriodMs > 0;
+    }
+
+    /**
+     * Submits a reconciliation triggered by a watch event. The reconciliation replaces any reconciliation of the same
+     * resource which was not started yet.
+     *
+     * @param key               Key identifying the resource (for example namespace and name)
+     * @param reconciliation    Supplier which starts the reconciliation and returns a Future which completes when it
+     *                          finishes
+     *
+     * @return  True if the submitted reconciliation replaced a pending reconciliation of the same resource (i.e. the
+     *          event was coalesced with a previous event). False otherwise.
+     */
+    public boolean submit(String key, Supplier<Future<?>> reconciliation) {
+        if (!isEnabled()) {
+            run(key, reconciliation);
+            return false;
+        }
+
+        synchronized (this) {
+            PendingReconciliation entry = pending.computeIfAbsent(key, k -> new PendingReconciliation());
+            boolean coalesced = entry.reconciliation != null;
+
+            if (!coalesced) {
+                entry.firstEventMs = System.currentTimeMillis();
+            }
+
+            entry.reconciliation = reconciliation;
+
+            if (!entry.inProgress) {
+                schedule(key, entry);
+            }
+
+            return coalesced;
+        }
+    }
+
+    /**
+     * @return  Number of resources with a pending or running reconciliation
+     */
+    /* test */ synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * (Re)schedules the timer for the pending reconciliation. The timer fires after the quiet period, but not later
+     * than the max delay after the first pending event. Has to be called while holding the lock.
+     *
+     * @param key       Key of the resource
+     * @param entry     Pending reconciliation
+     */
+    private void schedule(String key, PendingReconciliation entry) {
+        if (entry.timerId != null) {
+            vertx.cancelTimer(entry.timerId);
+        }
+
+        long delay = Math.min(quietPeriodMs, entry.firstEventMs + maxDelayMs - System.currentTimeMillis());
+        entry.timerId = vertx.setTimer(Math.max(1, delay), timerId -> fire(key, timerId));
+    }
+
+    private void fire(String key, long timerId) {
+        Supplier<Future<?>> reconciliation;
+
+        synchronized (this) {
+            PendingReconciliation entry = pending.get(key);
+
+            if (entry == null || entry.timerId == null || entry.timerId != timerId || entry.reconciliation == null) {
+                // Outdated timer
+                return;
+            }
+
+            reconciliation = entry.reconciliation;
+            entry.reconciliation = null;
+            entry.timerId = null;
+            entry.inProgress = true;
+        }
+
+        run(key, reconciliation).onComplete(ignored -> completed(key));
+    }
+
+    private synchronized void completed(String key) {
+        PendingReconciliation entry = pending.get(key);
+
+        if (entry != null) {
+            entry.inProgress = false;
+
+            if (entry.reconciliation != null) {
+                // New events arrived while the reconciliation was in progress
+                schedule(key, entry);
+            } else {
+                pending.remove(key);
+            }
+        }
+    }
+
+    private static Future<?> run(String key, Supplier<Future<?>> reconciliation) {
+        try {
+            Future<?> result = reconciliation.get();
+            return result != null ? result : Future.succeededFuture();
+        } catch (Throwable t) {
+            LOGGER.warnOp("Reconciliation of {} triggered by a watch event failed", key, t);
+            return Future.failedFuture(t);
+        }
+    }
+
+    /**
+     * State of the coalesced reconciliation of a single resource
+     */
+    private static class PendingReconciliation {
+        private Supplier<Future<?>> reconciliation;
+        private long firstEventMs;
+        private Long timerId;
+        private boolean inProgress;
+    }
+}
@@ -13,12 +13,12 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.util.List;
@@ -92,8 +92,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 T current = operation().withName(name).get();
                 if (desired != null) {
@@ -115,11 +114,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     }
                 }
 
-            },
-            false,
-            promise
-        );
-        return promise.future();
+            });
     }
 
     protected long deleteTimeoutMs() {
@@ -16,13 +16,13 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.util.List;
@@ -30,6 +30,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 /**
@@ -47,6 +50,11 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         R extends Resource<T>> {
     public final static String ANY_NAMESPACE = "*";
 
+    /**
+     * Default number of resources fetched in a single page when listing the resources page by page
+     */
+    public final static int DEFAULT_LIST_PAGE_SIZE = 500;
+
     protected static final Pattern IGNORABLE_PATHS = Pattern.compile(
             "^(/metadata/managedFields" +
                     "|/status)$");
@@ -56,6 +64,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private final ReadinessTracker<T> readinessTracker;
 
     /**
      * Constructor.
@@ -68,6 +77,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         this.resourceSupport = new ResourceSupport(vertx);
         this.client = client;
         this.resourceKind = resourceKind;
+        this.readinessTracker = new ReadinessTracker<>(vertx, resourceSupport, resourceKind,
+            (namespace, selector) -> operation().inNamespace(namespace).withLabels(selector.toMap()),
+            (namespace, name) -> operation().inNamespace(namespace).withName(name).get());
     }
 
     protected abstract MixedOperation<T, L, R> operation();
@@ -103,8 +115,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
-        Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
@@ -126,11 +137,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
                     }
                 }
 
-            },
-            false,
-            promise
-        );
-        return promise.future();
+            });
     }
 
     /**
@@ -361,6 +368,59 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        return resourceSupport.listAsync(listOperation(namespace, selector));
+    }
+
+    public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        return resourceSupport.listAsync(listOperation(namespace, selector));
+    }
+
+    /**
+     * Asynchronously lists the resources with the given {@code selector} in the given {@code namespace} page by page.
+     * Unlike {@link #listAsync(String, Labels)}, this does not fetch all resources in a single response and does not
+     * need to keep them all in memory.
+     *
+     * @param namespace The namespace.
+     * @param selector The selector.
+     * @param pageSize The maximal number of resources in a single page.
+     * @param pageConsumer The consumer called with every page on the context thread.
+     * @return A Future which completes once all pages were consumed.
+     */
+    public Future<Void> listAsync(String namespace, Labels selector, int pageSize, Consumer<List<T>> pageConsumer) {
+        return resourceSupport.listPagesAsync(listOperation(namespace, selector), pageSize, pageConsumer);
+    }
+
+    /**
+     * Asynchronously lists the resources with the given {@code selector} in the given {@code namespace} page by page.
+     * Unlike {@link #listAsync(String, Optional)}, this does not fetch all resources in a single response and does not
+     * need to keep them all in memory.
+     *
+     * @param namespace The namespace.
+     * @param selector The selector.
+     * @param pageSize The maximal number of resources in a single page.
+     * @param pageConsumer The consumer called with every page on the context thread.
+     * @return A Future which completes once all pages were consumed.
+     */
+    public Future<Void> listAsync(String namespace, Optional<LabelSelector> selector, int pageSize, Consumer<List<T>> pageConsumer) {
+        return resourceSupport.listPagesAsync(listOperation(namespace, selector), pageSize, pageConsumer);
+    }
+
+    /**
+     * Asynchronously lists the resources with the given {@code selector} in the given {@code namespace} page by page.
+     * Unlike {@link #listAsync(String, Labels, int, Consumer)}, the next page is requested only once the Future
+     * returned by the {@code pageHandler} for the previous page completes.
+     *
+     * @param namespace The namespace.
+     * @param selector The selector.
+     * @param pageSize The maximal number of resources in a single page.
+     * @param pageHandler The handler called with every page on the context thread.
+     * @return A Future which completes once all pages were handled, or fails when listing or handling a page fails.
+     */
+    public Future<Void> processPagesAsync(String namespace, Labels selector, int pageSize, Function<List<T>, Future<Void>> pageHandler) {
+        return resourceSupport.processPagesAsync(listOperation(namespace, selector), pageSize, pageHandler);
+    }
+
+    private FilterWatchListDeletable<T, L> listOperation(String namespace, Labels selector) {
         FilterWatchListDeletable<T, L> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -372,10 +432,10 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             x = x.withLabels(selector.toMap());
         }
 
-        return resourceSupport.listAsync(x);
+        return x;
     }
 
-    public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+    private FilterWatchListDeletable<T, L> listOperation(String namespace, Optional<LabelSelector> selector) {
         FilterWatchListDeletable<T, L> x;
 
         if (ANY_NAMESPACE.equals(namespace))  {
@@ -387,7 +447,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             x = x.withLabelSelector(selector.get());
         }
 
-        return resourceSupport.listAsync(x);
+        return x;
     }
 
     /**
@@ -430,6 +490,27 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
             () -> predicate.test(namespace, name));
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate. Instead of polling the resource, it uses a watch which is shared by all pending waits for
+     * the resources of this kind with the same labels in the same namespace. The watch completes the wait as soon as
+     * the resource is changed to match the predicate. If the watch cannot be used, it falls back to polling.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param selector The labels of the resource used to limit the watch (usually the labels of the cluster).
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate which the resource has to match.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate.
+     */
+    public Future<Void> waitForWithWatch(Reconciliation reconciliation, String namespace, Labels selector, String name, String logState, long pollIntervalMs, final long timeoutMs, Predicate<T> predicate) {
+        return readinessTracker.waitFor(reconciliation, namespace, selector, name, logState, pollIntervalMs, timeoutMs, predicate);
+    }
+
     /**
      * Asynchronously deletes the resource with the given {@code name} in the given {@code namespace}.
      *
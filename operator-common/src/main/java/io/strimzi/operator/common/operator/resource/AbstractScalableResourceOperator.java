@@ -9,10 +9,10 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ScalableResource;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 /**
@@ -60,8 +60,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      * The value will be null if the resource didn't exist (hence no scaling occurred).
      */
     public Future<Integer> scaleUp(Reconciliation reconciliation, String namespace, String name, int scaleTo) {
-        Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 try {
                     Integer currentScale = currentScale(namespace, name);
@@ -75,11 +74,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
                     LOGGER.errorCr(reconciliation, "Caught exception while scaling up", e);
                     future.fail(e);
                 }
-            },
-            false,
-            promise
-        );
-        return promise.future();
+            });
     }
 
     protected abstract Integer currentScale(String namespace, String name);
@@ -97,8 +92,7 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
      * The value will be null if the resource didn't exist (hence no scaling occurred).
      */
     public Future<Integer> scaleDown(Reconciliation reconciliation, String namespace, String name, int scaleTo) {
-        Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 try {
                     Integer nextReplicas = currentScale(namespace, name);
@@ -114,10 +108,6 @@ public abstract class AbstractScalableResourceOperator<C extends KubernetesClien
                     LOGGER.errorCr(reconciliation, "Caught exception while scaling down", e);
                     future.fail(e);
                 }
-            },
-            false,
-            promise
-        );
-        return promise.future();
+            });
     }
 }
@@ -12,6 +12,7 @@ import io.fabric8.openshift.api.model.BuildConfigList;
 import io.fabric8.openshift.api.model.BuildRequest;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.fabric8.openshift.client.dsl.BuildConfigResource;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -71,7 +72,7 @@ public class BuildConfigOperator extends AbstractResourceOperator<OpenShiftClien
      * @return              The Build which was created
      */
     public Future<Build> startBuild(String namespace, String name, BuildRequest buildRequest)   {
-        return resourceSupport.executeBlocking(
+        return resourceSupport.executeBlocking(BlockingExecutor.Bulkhead.WRITE,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(operation().inNamespace(namespace).withName(name).instantiate(buildRequest));
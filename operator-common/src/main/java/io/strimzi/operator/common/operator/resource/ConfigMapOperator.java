@@ -43,6 +43,7 @@ public class ConfigMapOperator extends AbstractResourceOperator<KubernetesClient
     protected Future<ReconcileResult<ConfigMap>> internalPatch(Reconciliation reconciliation, String namespace, String name, ConfigMap current, ConfigMap desired) {
         try {
             if (compareObjects(current.getData(), desired.getData())
+                    && compareObjects(current.getBinaryData(), desired.getBinaryData())
                     && compareObjects(current.getMetadata().getName(), desired.getMetadata().getName())
                     && compareObjects(current.getMetadata().getNamespace(), desired.getMetadata().getNamespace())
                     && compareObjects(current.getMetadata().getAnnotations(), desired.getMetadata().getAnnotations())
@@ -11,12 +11,12 @@ import io.fabric8.kubernetes.client.CustomResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE",
@@ -83,9 +83,7 @@ public class CrdOperator<C extends KubernetesClient,
     }
 
     public Future<T> patchAsync(Reconciliation reconciliation, T resource, boolean cascading) {
-        Promise<T> blockingPromise = Promise.promise();
-
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
@@ -96,15 +94,11 @@ public class CrdOperator<C extends KubernetesClient,
                 LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
                 future.fail(e);
             }
-        }, true, blockingPromise);
-
-        return blockingPromise.future();
+        });
     }
 
     public Future<T> updateStatusAsync(Reconciliation reconciliation, T resource) {
-        Promise<T> blockingPromise = Promise.promise();
-
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
 
@@ -116,8 +110,6 @@ public class CrdOperator<C extends KubernetesClient,
                 LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
                 future.fail(e);
             }
-        }, true, blockingPromise);
-
-        return blockingPromise.future();
+        });
     }
 }
@@ -28,4 +28,15 @@ public class EndpointOperator extends AbstractReadyResourceOperator<KubernetesCl
     protected MixedOperation<Endpoints, EndpointsList, Resource<Endpoints>> operation() {
         return client.endpoints();
     }
+
+    /**
+     * Checks if the Endpoints have at least one ready address.
+     *
+     * @param endpoints The Endpoints resource.
+     * @return Whether the Endpoints have at least one ready address.
+     */
+    /* test */ static boolean hasAddresses(Endpoints endpoints) {
+        return endpoints.getSubsets() != null
+                && endpoints.getSubsets().stream().anyMatch(subset -> subset.getAddresses() != null && !subset.getAddresses().isEmpty());
+    }
 }
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -38,12 +39,12 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
      * @param reconciliation The reconciliation
      * @param namespace     Namespace
      * @param name          Name of the service
-     * @param pollIntervalMs    Interval in which we poll
+     * @param pollIntervalMs    Interval in which we poll when the Ingress cannot be watched
      * @param timeoutMs     Timeout
      * @return A future that succeeds when the Service has an assigned address.
      */
     public Future<Void> hasIngressAddress(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady);
+        return waitForWithWatch(reconciliation, namespace, Labels.forStrimziCluster(reconciliation.name()), name, "addressable", pollIntervalMs, timeoutMs, IngressV1Beta1Operator::isIngressAddressReady);
     }
 
     /**
@@ -57,7 +58,11 @@ public class IngressV1Beta1Operator extends AbstractResourceOperator<KubernetesC
         Resource<Ingress> resourceOp = operation().inNamespace(namespace).withName(name);
         Ingress resource = resourceOp.get();
 
-        if (resource != null && resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
+        return resource != null && isIngressAddressReady(resource);
+    }
+
+    private static boolean isIngressAddressReady(Ingress resource) {
+        if (resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
             if (resource.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null || resource.getStatus().getLoadBalancer().getIngress().get(0).getIp() != null) {
                 return true;
             }
@@ -7,13 +7,24 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 /**
@@ -78,6 +89,101 @@ public class PvcOperator extends AbstractResourceOperator<KubernetesClient, Pers
         }
     }
 
+    /**
+     * Waits until all given PVCs match the predicate or until the timeout expires. Instead of polling the PVCs one by
+     * one, it opens a single watch for the PVCs matching the selector and lists them once after the watch is open to
+     * make sure no change is missed. The timeout does not fail the returned Future. The caller is expected to check the
+     * returned PVCs to find out which of them match the predicate.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the PVCs
+     * @param selector          Selector matching the PVCs (used to not watch and list other PVCs in the namespace)
+     * @param names             Names of the PVCs
+     * @param timeoutMs         Timeout in milliseconds
+     * @param predicate         Predicate which the PVCs should match
+     *
+     * @return  Future with the latest known state of the PVCs (PVCs which do not exist are not included)
+     */
+    public Future<Map<String, PersistentVolumeClaim>> waitForAll(Reconciliation reconciliation, String namespace, Labels selector, Set<String> names, long timeoutMs, Predicate<PersistentVolumeClaim> predicate) {
+        Map<String, PersistentVolumeClaim> latest = new ConcurrentHashMap<>(names.size());
+
+        if (names.isEmpty()) {
+            return Future.succeededFuture(latest);
+        }
+
+        Set<String> pending = ConcurrentHashMap.newKeySet(names.size());
+        pending.addAll(names);
+        Promise<Void> done = Promise.promise();
+
+        long timerId = vertx.setTimer(timeoutMs, tid -> {
+            if (done.tryComplete()) {
+                LOGGER.debugCr(reconciliation, "{} of {} PVCs did not reach the expected state within {}ms: {}", pending.size(), names.size(), timeoutMs, pending);
+            }
+        });
+
+        Watcher<PersistentVolumeClaim> watcher = new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, PersistentVolumeClaim pvc) {
+                if (action == Action.ADDED || action == Action.MODIFIED) {
+                    update(pvc);
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                if (cause != null && done.tryComplete()) {
+                    LOGGER.warnCr(reconciliation, "Watch of the PVCs in namespace {} was closed before they reached the expected state", namespace, cause);
+                }
+            }
+
+            private void update(PersistentVolumeClaim pvc) {
+                String name = pvc.getMetadata().getName();
+
+                if (names.contains(name)) {
+                    latest.put(name, pvc);
+
+                    if (predicate.test(pvc)) {
+                        pending.remove(name);
+                    }
+
+                    if (pending.isEmpty()) {
+                        done.tryComplete();
+                    }
+                }
+            }
+        };
+
+        return resourceSupport.<Watch>executeBlocking(BlockingExecutor.Bulkhead.WAIT, watchPromise -> {
+            try {
+                FilterWatchListDeletable<PersistentVolumeClaim, PersistentVolumeClaimList> pvcs = operation().inNamespace(namespace).withLabels(selector.toMap());
+                Watch watch = pvcs.watch(watcher);
+
+                // The PVCs are listed after the watch is open to make sure we did not miss any change
+                for (PersistentVolumeClaim pvc : pvcs.list().getItems()) {
+                    watcher.eventReceived(Watcher.Action.MODIFIED, pvc);
+                }
+
+                // The PVCs which do not exist will not get into the expected state
+                pending.retainAll(latest.keySet());
+                if (pending.isEmpty()) {
+                    done.tryComplete();
+                }
+
+                watchPromise.complete(watch);
+            } catch (Throwable t) {
+                watchPromise.fail(t);
+            }
+        }).compose(watch -> done.future()
+                .eventually(ignored -> {
+                    vertx.cancelTimer(timerId);
+                    return resourceSupport.closeOnWorkerThread(watch);
+                })
+                .map(ignored -> latest), error -> {
+                    vertx.cancelTimer(timerId);
+                    return Future.failedFuture(error);
+                });
+    }
+
     /**
      * Reverts the changes to immutable fields in PVCs spec section. The values for these fields in the current resource
      * are often not set by us but by Kubernetes alone (e.g. volume ID, default storage class etc.). So our Model
@@ -0,0 +1,354 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.common.BlockingExecutor;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * Tracks the readiness of resources of one kind using watches instead of polling them. All waits for the resources with
+ * the same labels (usually the resources of one cluster) in the same namespace share a single watch. The watch is
+ * opened with the first wait and closed when the last pending wait completes. The events
+ * from the watch complete all pending waits for the resource as soon as it is ready. Each wait gets the resource only
+ * once after the watch is open to catch up with the changes which happened before it started.
+ *
+ * When the watch cannot be opened or is closed by the Kubernetes API server, the pending waits fall back to polling
+ * until their timeout expires.
+ *
+ * @param <T>   Type of the tracked resource
+ */
+class ReadinessTracker<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReadinessTracker.class);
+
+    private final Vertx vertx;
+    private final ResourceSupport resourceSupport;
+    private final String resourceKind;
+    private final BiFunction<String, Labels, Watchable<Watcher<T>>> watchable;
+    private final BiFunction<String, String, T> getter;
+
+    // Guarded by this
+    private final Map<String, NamespaceWatch> watches = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param resourceSupport   Resource support used to run the blocking operations
+     * @param resourceKind      Kind of the tracked resource (used in log messages)
+     * @param watchable         Function returning the watchable resources with the given labels in a namespace
+     * @param getter            Function which gets the resource with the given namespace and name (blocking)
+     */
+    ReadinessTracker(Vertx vertx, ResourceSupport resourceSupport, String resourceKind, BiFunction<String, Labels, Watchable<Watcher<T>>> watchable, BiFunction<String, String, T> getter) {
+        this.vertx = vertx;
+        this.resourceSupport = resourceSupport;
+        this.resourceKind = resourceKind;
+        this.watchable = watchable;
+        this.getter = getter;
+    }
+
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate.
+     *
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the resource
+     * @param selector          Labels of the resource. The watch is shared by the waits with the same labels and
+     *                          receives only the events of the resources which have them.
+     * @param name              Name of the resource
+     * @param logState          The state we are waiting for use in log messages
+     * @param pollIntervalMs    Poll interval in milliseconds used when falling back to polling
+     * @param timeoutMs         Timeout in milliseconds
+     * @param predicate         Predicate which the resource has to match
+     *
+     * @return  Future which completes when the resource matches the predicate or fails with TimeoutException when it
+     *          does not match it within the timeout
+     */
+    Future<Void> waitFor(Reconciliation reconciliation, String namespace, Labels selector, String name, String logState, long pollIntervalMs, long timeoutMs, Predicate<T> predicate) {
+        String key = namespace + "/" + selector.toSelectorString();
+        NamespaceWatch namespaceWatch;
+        Waiter waiter;
+
+        synchronized (this) {
+            namespaceWatch = watches.get(key);
+
+            if (namespaceWatch == null) {
+                namespaceWatch = new NamespaceWatch(key, namespace, selector);
+                watches.put(key, namespaceWatch);
+                namespaceWatch.open();
+            }
+
+            waiter = new Waiter(reconciliation, namespaceWatch, name, logState, pollIntervalMs, timeoutMs, predicate);
+            namespaceWatch.waiters.computeIfAbsent(name, n -> new ArrayList<>()).add(waiter);
+        }
+
+        LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", waiter.description, logState);
+
+        namespaceWatch.watchPromise.future()
+                .onSuccess(ignored -> preCheck(waiter))
+                .onFailure(error -> fallBackToPolling(waiter));
+
+        return waiter.promise.future();
+    }
+
+    /**
+     * Checks the current state of the resource. This is needed because the watch delivers only the changes which
+     * happen after it was opened.
+     *
+     * @param waiter    The waiter
+     */
+    private void preCheck(Waiter waiter) {
+        resourceSupport.<T>executeBlocking(BlockingExecutor.Bulkhead.READ, future -> {
+            try {
+                future.complete(getter.apply(waiter.namespaceWatch.namespace, waiter.name));
+            } catch (Throwable t) {
+                future.fail(t);
+            }
+        }).onComplete(res -> {
+            if (res.succeeded()) {
+                check(waiter, res.result());
+            } else {
+                LOGGER.debugCr(waiter.reconciliation, "Failed to get {}, waiting for the watch", waiter.description, res.cause());
+            }
+        });
+    }
+
+    /**
+     * Completes the wait when the resource matches its predicate
+     *
+     * @param waiter    The waiter
+     * @param resource  The current resource or null if it does not exist
+     */
+    private void check(Waiter waiter, T resource) {
+        try {
+            if (resource != null && waiter.predicate.test(resource)) {
+                LOGGER.debugCr(waiter.reconciliation, "{} is {}", waiter.description, waiter.logState);
+                complete(waiter, null);
+            } else {
+                LOGGER.traceCr(waiter.reconciliation, "{} is not {}", waiter.description, waiter.logState);
+            }
+        } catch (Throwable t) {
+            LOGGER.warnCr(waiter.reconciliation, "Caught exception while waiting for {} to get {}", waiter.description, waiter.logState, t);
+        }
+    }
+
+    /**
+     * Completes the wait, removes it from the pending waits and closes the watch when no other waits are pending in
+     * the namespace.
+     *
+     * @param waiter    The waiter
+     * @param error     The error or null when the wait succeeded
+     */
+    private void complete(Waiter waiter, Throwable error) {
+        if (!waiter.remove()) {
+            // Already completed
+            return;
+        }
+
+        vertx.cancelTimer(waiter.timerId);
+        waiter.context.runOnContext(ignored -> {
+            if (error == null) {
+                waiter.promise.tryComplete();
+            } else {
+                waiter.promise.tryFail(error);
+            }
+        });
+    }
+
+    /**
+     * Falls back to polling when the watch cannot be used
+     *
+     * @param waiter    The waiter
+     */
+    private void fallBackToPolling(Waiter waiter) {
+        if (!waiter.remove()) {
+            return;
+        }
+
+        vertx.cancelTimer(waiter.timerId);
+        long timeLeft = Math.max(waiter.deadline - System.currentTimeMillis(), 1L);
+
+        LOGGER.debugCr(waiter.reconciliation, "Watch of {} resources in namespace {} is not available, polling {}", resourceKind, waiter.namespaceWatch.namespace, waiter.description);
+
+        waiter.context.runOnContext(ignored -> Util.waitFor(waiter.reconciliation, vertx, waiter.description, waiter.logState, waiter.pollIntervalMs, timeLeft, () -> {
+            T resource = getter.apply(waiter.namespaceWatch.namespace, waiter.name);
+            return resource != null && waiter.predicate.test(resource);
+        }).onComplete(waiter.promise));
+    }
+
+    /**
+     * @return  Number of open watches (or watches being opened)
+     */
+    /* test */ synchronized int watchCount() {
+        return watches.size();
+    }
+
+    /**
+     * Watch of the resources with the same labels in one namespace together with the waits which use it
+     */
+    private class NamespaceWatch implements Watcher<T> {
+        private final String key;
+        private final String namespace;
+        private final Labels selector;
+        private final Promise<Watch> watchPromise = Promise.promise();
+        // Guarded by ReadinessTracker.this
+        private final Map<String, List<Waiter>> waiters = new HashMap<>();
+        private boolean closed = false;
+
+        NamespaceWatch(String key, String namespace, Labels selector) {
+            this.key = key;
+            this.namespace = namespace;
+            this.selector = selector;
+        }
+
+        void open() {
+            resourceSupport.<Watch>executeBlocking(BlockingExecutor.Bulkhead.WAIT, future -> {
+                try {
+                    future.complete(watchable.apply(namespace, selector).watch(this));
+                } catch (Throwable t) {
+                    future.fail(t);
+                }
+            }).onComplete(res -> {
+                if (res.failed()) {
+                    LOGGER.warnOp("Failed to open the watch of {} resources in namespace {}", resourceKind, namespace, res.cause());
+                    synchronized (ReadinessTracker.this) {
+                        watches.remove(key, this);
+                    }
+                }
+
+                watchPromise.handle(res);
+            });
+        }
+
+        /**
+         * Closes the watch when no waits are pending anymore. Has to be called while holding the lock.
+         */
+        void maybeClose() {
+            if (waiters.isEmpty() && !closed) {
+                closed = true;
+                watches.remove(key, this);
+                watchPromise.future().onSuccess(resourceSupport::closeOnWorkerThread);
+            }
+        }
+
+        @Override
+        public void eventReceived(Action action, T resource) {
+            if (action == Action.ADDED || action == Action.MODIFIED) {
+                List<Waiter> toCheck;
+
+                synchronized (ReadinessTracker.this) {
+                    List<Waiter> pending = waiters.get(resource.getMetadata().getName());
+                    toCheck = pending != null ? new ArrayList<>(pending) : List.of();
+                }
+
+                for (Waiter waiter : toCheck) {
+                    check(waiter, resource);
+                }
+            }
+        }
+
+        @Override
+        public void onClose(WatcherException cause) {
+            if (cause != null) {
+                List<Waiter> pending = new ArrayList<>();
+
+                synchronized (ReadinessTracker.this) {
+                    closed = true;
+                    watches.remove(key, this);
+                    waiters.values().forEach(pending::addAll);
+                }
+
+                LOGGER.warnOp("Watch of {} resources in namespace {} was closed", resourceKind, namespace, cause);
+
+                for (Waiter waiter : pending) {
+                    fallBackToPolling(waiter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Single wait for a resource to match a predicate
+     */
+    private class Waiter {
+        private final Reconciliation reconciliation;
+        private final NamespaceWatch namespaceWatch;
+        private final String name;
+        private final String logState;
+        private final String description;
+        private final long pollIntervalMs;
+        private final long timeoutMs;
+        private final long deadline;
+        private final Predicate<T> predicate;
+        private final Context context;
+        private final Promise<Void> promise = Promise.promise();
+        private final long timerId;
+        // Guarded by ReadinessTracker.this
+        private boolean pending = true;
+
+        Waiter(Reconciliation reconciliation, NamespaceWatch namespaceWatch, String name, String logState, long pollIntervalMs, long timeoutMs, Predicate<T> predicate) {
+            this.reconciliation = reconciliation;
+            this.namespaceWatch = namespaceWatch;
+            this.name = name;
+            this.logState = logState;
+            this.description = String.format("%s resource %s in namespace %s", resourceKind, name, namespaceWatch.namespace);
+            this.pollIntervalMs = pollIntervalMs;
+            this.timeoutMs = timeoutMs;
+            this.deadline = System.currentTimeMillis() + timeoutMs;
+            this.predicate = predicate;
+            this.context = vertx.getOrCreateContext();
+            this.timerId = vertx.setTimer(timeoutMs, tid -> {
+                String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", this.timeoutMs, description, this.logState);
+                LOGGER.errorCr(this.reconciliation, exceptionMessage);
+                complete(this, new TimeoutException(exceptionMessage));
+            });
+        }
+
+        /**
+         * Removes the waiter from the pending waits
+         *
+         * @return  True if the waiter was still pending. False if it was already removed.
+         */
+        boolean remove() {
+            synchronized (ReadinessTracker.this) {
+                if (!pending) {
+                    return false;
+                }
+
+                pending = false;
+                List<Waiter> waitersOfResource = namespaceWatch.waiters.get(name);
+
+                if (waitersOfResource != null) {
+                    waitersOfResource.remove(this);
+
+                    if (waitersOfResource.isEmpty()) {
+                        namespaceWatch.waiters.remove(name);
+                    }
+                }
+
+                namespaceWatch.maybeClose();
+                return true;
+            }
+        }
+    }
+}
@@ -6,6 +6,8 @@ package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
@@ -13,6 +15,7 @@ import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.AsyncResult;
@@ -25,6 +28,7 @@ import io.vertx.core.Vertx;
 import java.io.Closeable;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class ResourceSupport {
@@ -45,7 +49,7 @@ public class ResourceSupport {
      * @return The Future
      */
     public Future<Void> closeOnWorkerThread(Closeable closeable) {
-        return executeBlocking(
+        return executeBlocking(BlockingExecutor.Bulkhead.WAIT,
             blockingFuture -> {
                 try {
                     LOGGER.debugOp("Closing {}", closeable);
@@ -57,11 +61,17 @@ public class ResourceSupport {
             });
     }
 
-    <T> Future<T> executeBlocking(Handler<Promise<T>> blockingCodeHandler) {
-        Promise<T> result = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool")
-                .executeBlocking(blockingCodeHandler, true, result);
-        return result.future();
+    /**
+     * Executes the blocking code in given bulkhead of the shared {@link BlockingExecutor}.
+     *
+     * @param bulkhead              Bulkhead which should be used
+     * @param blockingCodeHandler   The blocking code
+     * @param <T>                   Type of the result
+     *
+     * @return  Future which completes with the result of the blocking code on the context thread
+     */
+    <T> Future<T> executeBlocking(BlockingExecutor.Bulkhead bulkhead, Handler<Promise<T>> blockingCodeHandler) {
+        return BlockingExecutor.get(vertx).executeBlocking(bulkhead, blockingCodeHandler);
     }
 
     /**
@@ -184,7 +194,7 @@ public class ResourceSupport {
 
             @Override
             public void eventReceived(Action action, T resource) {
-                vertx.executeBlocking(
+                BlockingExecutor.get(vertx).<U>executeBlocking(BlockingExecutor.Bulkhead.WAIT, true,
                     f -> {
                         try {
                             U apply = watchFn.apply(action, resource);
@@ -201,9 +211,8 @@ public class ResourceSupport {
                                         "evaluating watch {} because the future was already completed", watchFnDescription, t);
                             }
                         }
-                    },
-                    true,
-                        donePromise);
+                    })
+                    .onComplete(donePromise);
             }
 
             @Override
@@ -224,7 +233,7 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     Future<Void> deleteAsync(Deletable resource) {
-        return executeBlocking(
+        return executeBlocking(BlockingExecutor.Bulkhead.WRITE,
             blockingFuture -> {
                 try {
                     // Returns TRUE when resource was deleted and FALSE when it was not found (see BaseOperation Fabric8 class)
@@ -245,7 +254,7 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     <T> Future<T> getAsync(Gettable<T> resource) {
-        return executeBlocking(
+        return executeBlocking(BlockingExecutor.Bulkhead.READ,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(resource.get());
@@ -262,7 +271,7 @@ public class ResourceSupport {
      * @return A Future which completes on the context thread.
      */
     <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<List<T>> listAsync(Listable<L> resource) {
-        return executeBlocking(
+        return executeBlocking(BlockingExecutor.Bulkhead.READ,
             blockingFuture -> {
                 try {
                     blockingFuture.complete(resource.list().getItems());
@@ -271,4 +280,84 @@ public class ResourceSupport {
                 }
             });
     }
+
+    /**
+     * Asynchronously lists the matching resources page by page using the {@code limit} and {@code continue} options of
+     * the Kubernetes API. Each page is passed to the {@code pageConsumer} on the context thread before the next page is
+     * requested. So only a single page has to be kept in memory at any time (unless the consumer keeps them).
+     * When the continue token expires before all pages are listed (the Kubernetes API responds with {@code 410 Gone}),
+     * the listing is restarted from the first page. So the consumer might receive some resources more than once.
+     *
+     * @param resource The resources to list.
+     * @param pageSize The maximal number of resources in a single page. Values lower than 1 list all resources in a single page.
+     * @param pageConsumer The consumer of the pages.
+     * @return A Future which completes on the context thread once all pages were consumed.
+     */
+    <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<Void> listPagesAsync(Listable<L> resource, int pageSize, Consumer<List<T>> pageConsumer) {
+        return processPagesAsync(resource, pageSize, page -> {
+            pageConsumer.accept(page);
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Asynchronously lists the matching resources page by page like {@link #listPagesAsync(Listable, int, Consumer)},
+     * but the next page is requested only once the Future returned by the {@code pageHandler} for the previous page
+     * completes. When it fails, the listing stops and the returned Future fails with the same error.
+     *
+     * @param resource The resources to list.
+     * @param pageSize The maximal number of resources in a single page. Values lower than 1 list all resources in a single page.
+     * @param pageHandler The handler of the pages.
+     * @return A Future which completes on the context thread once all pages were handled.
+     */
+    <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<Void> processPagesAsync(Listable<L> resource, int pageSize, Function<List<T>, Future<Void>> pageHandler) {
+        return processPagesAsync(resource, pageSize, null, pageHandler);
+    }
+
+    private <T extends HasMetadata, L extends KubernetesResourceList<T>> Future<Void> processPagesAsync(Listable<L> resource, int pageSize, String continueToken, Function<List<T>, Future<Void>> pageHandler) {
+        return listPageAsync(resource, pageSize, continueToken)
+            .recover(error -> {
+                if (continueToken != null
+                        && error instanceof KubernetesClientException
+                        && ((KubernetesClientException) error).getCode() == 410) {
+                    // The continue token expired => we have to start again from the first page
+                    LOGGER.warnOp("Continue token expired while listing resources in pages. Listing will be restarted from the first page.");
+                    return listPageAsync(resource, pageSize, null);
+                } else {
+                    return Future.failedFuture(error);
+                }
+            })
+            .compose(page -> pageHandler.apply(page.getItems()).compose(i -> {
+                String nextContinueToken = page.getMetadata() != null ? page.getMetadata().getContinue() : null;
+
+                if (nextContinueToken == null || nextContinueToken.isEmpty()) {
+                    return Future.succeededFuture();
+                } else {
+                    return processPagesAsync(resource, pageSize, nextContinueToken, pageHandler);
+                }
+            }));
+    }
+
+    /**
+     * Asynchronously lists a single page of the matching resources using the {@code limit} and {@code continue} options
+     * of the Kubernetes API.
+     *
+     * @param resource The resources to list.
+     * @param pageSize The maximal number of resources in the page. Values lower than 1 list all resources in a single page.
+     * @param continueToken The continue token from the metadata of the previous page or null for the first page.
+     * @return A Future which completes with the page. Its metadata contain the continue token for the next page.
+     */
+    <L extends KubernetesResourceList<?>> Future<L> listPageAsync(Listable<L> resource, int pageSize, String continueToken) {
+        return executeBlocking(BlockingExecutor.Bulkhead.READ,
+            blockingFuture -> {
+                try {
+                    blockingFuture.complete(resource.list(new ListOptionsBuilder()
+                            .withLimit(pageSize > 0 ? (long) pageSize : null)
+                            .withContinue(continueToken)
+                            .build()));
+                } catch (Throwable t) {
+                    blockingFuture.fail(t);
+                }
+            });
+    }
 }
@@ -10,6 +10,7 @@ import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteList;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -37,12 +38,12 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
      * @param reconciliation The reconciliation
      * @param namespace     Namespace.
      * @param name          Name of the route.
-     * @param pollIntervalMs    Interval in which we poll.
+     * @param pollIntervalMs    Interval in which we poll when the Route cannot be watched.
      * @param timeoutMs     Timeout.
      * @return A future that succeeds when the Route has an assigned address.
      */
     public Future<Void> hasAddress(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isAddressReady);
+        return waitForWithWatch(reconciliation, namespace, Labels.forStrimziCluster(reconciliation.name()), name, "addressable", pollIntervalMs, timeoutMs, RouteOperator::isAddressReady);
     }
 
     /**
@@ -56,7 +57,11 @@ public class RouteOperator extends AbstractResourceOperator<OpenShiftClient, Rou
         Resource<Route> resourceOp = operation().inNamespace(namespace).withName(name);
         Route resource = resourceOp.get();
 
-        if (resource != null && resource.getStatus() != null && resource.getStatus().getIngress() != null && resource.getStatus().getIngress().size() > 0) {
+        return resource != null && isAddressReady(resource);
+    }
+
+    private static boolean isAddressReady(Route resource) {
+        if (resource.getStatus() != null && resource.getStatus().getIngress() != null && resource.getStatus().getIngress().size() > 0) {
             if (resource.getStatus().getIngress().get(0).getHost() != null) {
                 return true;
             }
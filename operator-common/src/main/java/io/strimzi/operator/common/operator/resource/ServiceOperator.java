@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.client.dsl.ServiceResource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -192,8 +193,20 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
         return internalDelete(reconciliation, namespace, name, true);
     }
 
+    /**
+     * Succeeds when the Endpoints of the Service have at least one ready address. The Endpoints are watched instead of
+     * polled, so the future completes as soon as they get the address.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace     Namespace
+     * @param name          Name of the service
+     * @param pollInterval  Interval in which we poll when the Endpoints cannot be watched
+     * @param operationTimeoutMs     Timeout
+     * @return A future that succeeds when the Endpoints of the Service have at least one ready address.
+     */
     public Future<Void> endpointReadiness(Reconciliation reconciliation, String namespace, String name, long pollInterval, long operationTimeoutMs) {
-        return endpointOperations.readiness(reconciliation, namespace, name, pollInterval, operationTimeoutMs);
+        // The Endpoints get the labels of their Service, so only the Endpoints of the reconciled cluster are watched
+        return endpointOperations.waitForWithWatch(reconciliation, namespace, Labels.forStrimziCluster(reconciliation.name()), name, "ready", pollInterval, operationTimeoutMs, EndpointOperator::hasAddresses);
     }
 
     /**
@@ -202,12 +215,12 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @param reconciliation The reconciliation
      * @param namespace     Namespace
      * @param name          Name of the service
-     * @param pollIntervalMs    Interval in which we poll
+     * @param pollIntervalMs    Interval in which we poll when the Service cannot be watched
      * @param timeoutMs     Timeout
      * @return A future that succeeds when the Service has an assigned address.
      */
     public Future<Void> hasIngressAddress(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, "addressable", pollIntervalMs, timeoutMs, this::isIngressAddressReady);
+        return waitForWithWatch(reconciliation, namespace, Labels.forStrimziCluster(reconciliation.name()), name, "addressable", pollIntervalMs, timeoutMs, ServiceOperator::isIngressAddressReady);
     }
 
     /**
@@ -221,7 +234,11 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
         ServiceResource<Service> resourceOp = operation().inNamespace(namespace).withName(name);
         Service resource = resourceOp.get();
 
-        if (resource != null && resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
+        return resource != null && isIngressAddressReady(resource);
+    }
+
+    private static boolean isIngressAddressReady(Service resource) {
+        if (resource.getStatus() != null && resource.getStatus().getLoadBalancer() != null && resource.getStatus().getLoadBalancer().getIngress() != null && resource.getStatus().getLoadBalancer().getIngress().size() > 0) {
             if (resource.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null || resource.getStatus().getLoadBalancer().getIngress().get(0).getIp() != null) {
                 return true;
             }
@@ -236,12 +253,12 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
      * @param reconciliation The reconciliation
      * @param namespace     Namespace
      * @param name          Name of the service
-     * @param pollIntervalMs    Interval in which we poll
+     * @param pollIntervalMs    Interval in which we poll when the Service cannot be watched
      * @param timeoutMs     Timeout
      * @return A future that succeeds when the Service has an assigned node port
      */
     public Future<Void> hasNodePort(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, pollIntervalMs, timeoutMs, this::isNodePortReady);
+        return waitForWithWatch(reconciliation, namespace, Labels.forStrimziCluster(reconciliation.name()), name, "ready", pollIntervalMs, timeoutMs, ServiceOperator::isNodePortReady);
     }
 
     /**
@@ -255,7 +272,11 @@ public class ServiceOperator extends AbstractResourceOperator<KubernetesClient,
         ServiceResource<Service> resourceOp = operation().inNamespace(namespace).withName(name);
         Service resource = resourceOp.get();
 
-        if (resource != null && resource.getSpec() != null && resource.getSpec().getPorts() != null) {
+        return resource != null && isNodePortReady(resource);
+    }
+
+    private static boolean isNodePortReady(Service resource) {
+        if (resource.getSpec() != null && resource.getSpec().getPorts() != null) {
             boolean ready = true;
 
             for (ServicePort port : resource.getSpec().getPorts())  {
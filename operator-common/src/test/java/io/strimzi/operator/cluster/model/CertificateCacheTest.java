@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.operator.MockCertManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CertificateCacheTest {
+    private Counter parses;
+    private Counter avoidedParses;
+    private CertificateCache cache;
+
+    @BeforeEach
+    public void setup() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        parses = registry.counter("parses");
+        avoidedParses = registry.counter("avoided-parses");
+        cache = new CertificateCache(parses, avoidedParses);
+    }
+
+    @Test
+    public void testCertificateIsCached() throws CertificateException {
+        Secret secret = secret("1", Map.of("ca.crt", MockCertManager.clusterCaCert()));
+
+        X509Certificate first = Ca.cert(secret, "ca.crt", cache);
+        X509Certificate second = Ca.cert(secret, "ca.crt", cache);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(parses.count(), is(1.0));
+        assertThat(avoidedParses.count(), is(1.0));
+
+        // New resourceVersion with the same certificate (e.g. other key changed) => the certificate is not parsed again
+        X509Certificate third = Ca.cert(secret("2", Map.of("ca.crt", MockCertManager.clusterCaCert())), "ca.crt", cache);
+
+        assertThat(third, is(sameInstance(first)));
+        assertThat(parses.count(), is(1.0));
+        assertThat(avoidedParses.count(), is(2.0));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void testChangedCertificateIsParsed() throws CertificateException {
+        X509Certificate clusterCa = cache.x509Certificate(secret("1", Map.of()), "ca.crt", MockCertManager.clusterCaCert());
+
+        // The Secret was modified in memory without a new resourceVersion yet
+        X509Certificate clientsCa = cache.x509Certificate(secret("1", Map.of()), "ca.crt", MockCertManager.clientsCaCert());
+
+        assertThat(clientsCa, is(not(clusterCa)));
+        assertThat(parses.count(), is(2.0));
+        assertThat(avoidedParses.count(), is(0.0));
+    }
+
+    @Test
+    public void testSecretWithoutResourceVersionIsNotCached() throws CertificateException {
+        Secret secret = secret(null, Map.of("ca.crt", MockCertManager.clusterCaCert()));
+
+        Ca.cert(secret, "ca.crt", cache);
+        Ca.cert(secret, "ca.crt", cache);
+
+        assertThat(parses.count(), is(2.0));
+        assertThat(avoidedParses.count(), is(0.0));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testCerts() {
+        Secret secret = secret("1", Map.of("ca.crt", MockCertManager.clusterCaCert(), "ca-2022-01-01T00-00-00Z.crt", MockCertManager.clientsCaCert(), "ca.password", "cGFzc3dvcmQ="));
+
+        assertThat(Ca.certs(secret, cache).size(), is(2));
+        assertThat(Ca.certs(secret, cache).size(), is(2));
+
+        assertThat(parses.count(), is(2.0));
+        assertThat(avoidedParses.count(), is(2.0));
+    }
+
+    @Test
+    public void testWithoutCacheCertificatesAreAlwaysParsed() {
+        Secret secret = secret("1", Map.of("ca.crt", MockCertManager.clusterCaCert()));
+
+        assertThat(Ca.cert(secret, "ca.crt"), is(Ca.cert(secret, "ca.crt", cache)));
+        assertThat(cache.size(), is(1));
+        assertThat(parses.count(), is(1.0));
+    }
+
+    @Test
+    public void testInvalidCertificateIsNotCached() {
+        Secret secret = secret("1", Map.of("ca.crt", "bm90LWEtY2VydGlmaWNhdGU="));
+
+        assertThrows(RuntimeException.class, () -> Ca.cert(secret, "ca.crt", cache));
+        assertThat(cache.size(), is(0));
+    }
+
+    private static Secret secret(String resourceVersion, Map<String, String> data) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-cluster-ca-cert")
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .withData(data)
+                .build();
+    }
+}
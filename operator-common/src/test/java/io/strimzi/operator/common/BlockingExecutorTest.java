@@ -0,0 +1,197 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@ExtendWith(VertxExtension.class)
+public class BlockingExecutorTest {
+    private Vertx vertx;
+
+    @BeforeEach
+    public void before() {
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)
+        ));
+    }
+
+    @AfterEach
+    public void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testConfigureAndGet() {
+        BlockingExecutor configured = BlockingExecutor.configure(vertx, 5, 5, 5, false, null);
+
+        assertThat(BlockingExecutor.get(vertx), is(sameInstance(configured)));
+        // Only the first configuration is used
+        assertThat(BlockingExecutor.configure(vertx, 1, 1, 1, true, null), is(sameInstance(configured)));
+        assertThat(BlockingExecutor.get(vertx).isUsingVirtualThreads(), is(false));
+
+        Vertx otherVertx = Vertx.vertx();
+        try {
+            assertThat(BlockingExecutor.get(otherVertx), is(not(sameInstance(configured))));
+        } finally {
+            otherVertx.close();
+        }
+    }
+
+    @Test
+    public void testClose(VertxTestContext context) {
+        BlockingExecutor configured = BlockingExecutor.configure(vertx, 5, 5, 5, false, null);
+
+        BlockingExecutor.close(vertx)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // A new executor is created after the previous one was closed
+                    BlockingExecutor recreated = BlockingExecutor.get(vertx);
+                    assertThat(recreated, is(not(sameInstance(configured))));
+
+                    recreated.<Integer>executeBlocking(BlockingExecutor.Bulkhead.READ, promise -> promise.complete(1))
+                            .onComplete(context.succeeding(result -> context.verify(() -> {
+                                assertThat(result, is(1));
+                                context.completeNow();
+                            })));
+                })));
+    }
+
+    @Test
+    public void testBulkheadsAreIsolated(VertxTestContext context) throws InterruptedException {
+        BlockingExecutor executor = new BlockingExecutor(vertx, 1, 1, 1, false, null);
+        CountDownLatch blockWrites = new CountDownLatch(1);
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        Checkpoint async = context.checkpoint(3);
+
+        // Occupies the only thread of the write pool
+        executor.<Void>executeBlocking(BlockingExecutor.Bulkhead.WRITE, promise -> {
+            writeStarted.countDown();
+            try {
+                blockWrites.await(30, TimeUnit.SECONDS);
+                promise.complete();
+            } catch (InterruptedException e) {
+                promise.fail(e);
+            }
+        }).onComplete(context.succeeding(v -> async.flag()));
+
+        assertThat(writeStarted.await(30, TimeUnit.SECONDS), is(true));
+
+        // Waits for the first write to finish
+        executor.<String>executeBlocking(BlockingExecutor.Bulkhead.WRITE, promise -> promise.complete("second-write"))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, is("second-write"));
+                    async.flag();
+                })));
+
+        context.verify(() -> {
+            assertThat(executor.active(BlockingExecutor.Bulkhead.WRITE), is(1));
+            assertThat(executor.queued(BlockingExecutor.Bulkhead.WRITE), is(1));
+        });
+
+        // Waits are not blocked by the writes
+        executor.<String>executeBlocking(BlockingExecutor.Bulkhead.WAIT, promise -> promise.complete("ready"))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, is("ready"));
+                    assertThat(executor.queued(BlockingExecutor.Bulkhead.WRITE), is(1));
+                    blockWrites.countDown();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailures(VertxTestContext context) {
+        BlockingExecutor executor = new BlockingExecutor(vertx, 1, 1, 1, false, null);
+        Checkpoint async = context.checkpoint(2);
+
+        executor.<Void>executeBlocking(BlockingExecutor.Bulkhead.READ, promise -> promise.fail("Failed"))
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e.getMessage(), is("Failed"));
+                    async.flag();
+                })));
+
+        executor.<Void>executeBlocking(BlockingExecutor.Bulkhead.READ, promise -> {
+            throw new IllegalStateException("Thrown");
+        }).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(IllegalStateException.class));
+            assertThat(executor.active(BlockingExecutor.Bulkhead.READ), is(0));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testMetrics(VertxTestContext context) {
+        MetricsProvider metrics = new MicrometerMetricsProvider();
+        MeterRegistry registry = metrics.meterRegistry();
+        registry.forEachMeter(registry::remove);
+
+        BlockingExecutor executor = new BlockingExecutor(vertx, 2, 2, 2, false, metrics);
+
+        executor.<Integer>executeBlocking(BlockingExecutor.Bulkhead.READ, promise -> promise.complete(
+                    (int) registry.get(BlockingExecutor.METRICS_PREFIX + "active").tag("pool", "read").gauge().value()))
+                .onComplete(context.succeeding(activeWhileRunning -> context.verify(() -> {
+                    assertThat(activeWhileRunning, is(1));
+                    assertThat(registry.get(BlockingExecutor.METRICS_PREFIX + "active").tag("pool", "read").gauge().value(), is(0.0));
+                    assertThat(registry.get(BlockingExecutor.METRICS_PREFIX + "queued").tag("pool", "read").gauge().value(), is(0.0));
+                    assertThat(registry.get(BlockingExecutor.METRICS_PREFIX + "wait.time").tag("pool", "read").timer().count(), is(1L));
+                    assertThat(registry.get(BlockingExecutor.METRICS_PREFIX + "wait.time").tag("pool", "write").timer().count(), is(0L));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testVirtualThreadsLimitConcurrency(VertxTestContext context) {
+        // Falls back to the worker threads when virtual threads are not supported by the JVM
+        BlockingExecutor executor = new BlockingExecutor(vertx, 2, 2, 2, true, null);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        Checkpoint async = context.checkpoint(20);
+
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 20; i++) {
+                Future<Void> result = executor.executeBlocking(BlockingExecutor.Bulkhead.READ, promise -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    promise.complete();
+                });
+
+                result.onComplete(context.succeeding(ignored -> context.verify(() -> {
+                    // The result is delivered back on the calling context
+                    assertThat(Vertx.currentContext() != null, is(true));
+                    assertThat(maxRunning.get(), lessThanOrEqualTo(2));
+                    async.flag();
+                })));
+            }
+        });
+    }
+}
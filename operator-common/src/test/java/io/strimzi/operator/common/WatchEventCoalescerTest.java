@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class WatchEventCoalescerTest {
+    private Vertx vertx;
+
+    @BeforeEach
+    public void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testDisabledCoalescerRunsImmediately() {
+        WatchEventCoalescer coalescer = new WatchEventCoalescer(vertx, 0, 5_000);
+        AtomicInteger runs = new AtomicInteger(0);
+
+        assertThat(coalescer.isEnabled(), is(false));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(coalescer.submit("ns/my-resource", () -> {
+                runs.incrementAndGet();
+                return Future.succeededFuture();
+            }), is(false));
+        }
+
+        assertThat(runs.get(), is(3));
+        assertThat(coalescer.size(), is(0));
+    }
+
+    @Test
+    public void testEventsAreCoalesced(VertxTestContext context) {
+        WatchEventCoalescer coalescer = new WatchEventCoalescer(vertx, 200, 5_000);
+        List<String> runs = new CopyOnWriteArrayList<>();
+
+        assertThat(coalescer.isEnabled(), is(true));
+        assertThat(coalescer.submit("ns/my-resource", () -> record(runs, "first")), is(false));
+        assertThat(coalescer.submit("ns/my-resource", () -> record(runs, "second")), is(true));
+        assertThat(coalescer.submit("ns/my-resource", () -> record(runs, "third")), is(true));
+        assertThat(coalescer.submit("ns/other-resource", () -> record(runs, "other")), is(false));
+        assertThat(runs.size(), is(0));
+
+        vertx.setTimer(1_000, ignored -> context.verify(() -> {
+            // Only the latest reconciliation of each resource was executed
+            assertThat(runs.size(), is(2));
+            assertThat(runs.contains("third"), is(true));
+            assertThat(runs.contains("other"), is(true));
+            assertThat(coalescer.size(), is(0));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testMaxDelay(VertxTestContext context) {
+        WatchEventCoalescer coalescer = new WatchEventCoalescer(vertx, 200, 500);
+        List<String> runs = new CopyOnWriteArrayList<>();
+        AtomicInteger events = new AtomicInteger(0);
+
+        // Keeps sending events more often than the quiet period
+        vertx.setPeriodic(50, timerId -> {
+            int event = events.incrementAndGet();
+            coalescer.submit("ns/my-resource", () -> record(runs, "event-" + event));
+
+            if (event == 30) {
+                vertx.cancelTimer(timerId);
+            }
+        });
+
+        vertx.setTimer(1_200, ignored -> context.verify(() -> {
+            // The reconciliation is not postponed forever even when the events keep coming
+            assertThat(runs.isEmpty(), is(false));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testEventsDuringReconciliation(VertxTestContext context) {
+        WatchEventCoalescer coalescer = new WatchEventCoalescer(vertx, 100, 5_000);
+        List<String> runs = new CopyOnWriteArrayList<>();
+        Promise<Void> firstReconciliation = Promise.promise();
+
+        coalescer.submit("ns/my-resource", () -> {
+            runs.add("first");
+            return firstReconciliation.future();
+        });
+
+        vertx.setTimer(300, ignored -> {
+            context.verify(() -> assertThat(runs.size(), is(1)));
+
+            // Events received while the first reconciliation is still running
+            coalescer.submit("ns/my-resource", () -> record(runs, "second"));
+            coalescer.submit("ns/my-resource", () -> record(runs, "third"));
+
+            vertx.setTimer(300, ignored2 -> {
+                // No concurrent reconciliation of the same resource
+                context.verify(() -> assertThat(runs.size(), is(1)));
+                firstReconciliation.complete();
+
+                vertx.setTimer(500, ignored3 -> context.verify(() -> {
+                    assertThat(runs, is(List.of("first", "third")));
+                    assertThat(coalescer.size(), is(0));
+                    context.completeNow();
+                }));
+            });
+        });
+    }
+
+    @Test
+    public void testFailingReconciliation(VertxTestContext context) {
+        WatchEventCoalescer coalescer = new WatchEventCoalescer(vertx, 50, 5_000);
+        List<String> runs = new CopyOnWriteArrayList<>();
+
+        coalescer.submit("ns/my-resource", () -> {
+            throw new RuntimeException("Failed");
+        });
+
+        vertx.setTimer(300, ignored -> {
+            coalescer.submit("ns/my-resource", () -> record(runs, "second"));
+
+            vertx.setTimer(300, ignored2 -> context.verify(() -> {
+                // Failure of the previous reconciliation does not block the next one
+                assertThat(runs, is(List.of("second")));
+                assertThat(coalescer.size(), is(0));
+                context.completeNow();
+            }));
+        });
+    }
+
+    private static Future<Void> record(List<String> runs, String name) {
+        runs.add(name);
+        return Future.succeededFuture();
+    }
+}
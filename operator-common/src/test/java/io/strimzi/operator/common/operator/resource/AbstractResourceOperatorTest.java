@@ -7,14 +7,19 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -24,9 +29,13 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -34,6 +43,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -214,6 +224,130 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
         })));
     }
 
+    @Test
+    public void testListAsyncInPages(VertxTestContext context) {
+        T resource = resource();
+
+        KubernetesResourceList<T> firstPage = mock(KubernetesResourceList.class);
+        when(firstPage.getItems()).thenReturn(List.of(resource, modifiedResource()));
+        when(firstPage.getMetadata()).thenReturn(new ListMetaBuilder().withContinue("my-token").build());
+
+        KubernetesResourceList<T> lastPage = mock(KubernetesResourceList.class);
+        when(lastPage.getItems()).thenReturn(List.of(resource));
+        when(lastPage.getMetadata()).thenReturn(new ListMetaBuilder().build());
+
+        List<ListOptions> listOptions = new ArrayList<>();
+        FilterWatchListDeletable mockLabeled = mock(FilterWatchListDeletable.class);
+        when(mockLabeled.list(any(ListOptions.class))).thenAnswer(invocation -> {
+            ListOptions options = invocation.getArgument(0);
+            listOptions.add(options);
+            return options.getContinue() == null ? firstPage : lastPage;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withLabels(any())).thenReturn(mockLabeled);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        List<Integer> pageSizes = new ArrayList<>();
+        Checkpoint async = context.checkpoint();
+        op.listAsync(resource.getMetadata().getNamespace(), Labels.EMPTY, 2, page -> pageSizes.add(page.size())).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(pageSizes, is(List.of(2, 1)));
+            assertThat(listOptions.size(), is(2));
+            assertThat(listOptions.get(0).getLimit(), is(2L));
+            assertThat(listOptions.get(0).getContinue(), is(nullValue()));
+            assertThat(listOptions.get(1).getLimit(), is(2L));
+            assertThat(listOptions.get(1).getContinue(), is("my-token"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testListAsyncInPagesRestartsWhenContinueTokenExpires(VertxTestContext context) {
+        T resource = resource();
+
+        KubernetesResourceList<T> firstPage = mock(KubernetesResourceList.class);
+        when(firstPage.getItems()).thenReturn(List.of(resource, modifiedResource()));
+        when(firstPage.getMetadata()).thenReturn(new ListMetaBuilder().withContinue("my-token").build());
+
+        KubernetesResourceList<T> lastPage = mock(KubernetesResourceList.class);
+        when(lastPage.getItems()).thenReturn(List.of(resource));
+        when(lastPage.getMetadata()).thenReturn(new ListMetaBuilder().build());
+
+        List<ListOptions> listOptions = new ArrayList<>();
+        AtomicBoolean expired = new AtomicBoolean(false);
+        FilterWatchListDeletable mockLabeled = mock(FilterWatchListDeletable.class);
+        when(mockLabeled.list(any(ListOptions.class))).thenAnswer(invocation -> {
+            ListOptions options = invocation.getArgument(0);
+            listOptions.add(options);
+
+            if (options.getContinue() == null) {
+                return firstPage;
+            } else if (!expired.getAndSet(true)) {
+                // The first continue token expires
+                throw new KubernetesClientException("Expired", 410, null);
+            } else {
+                return lastPage;
+            }
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withLabels(any())).thenReturn(mockLabeled);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        List<Integer> pageSizes = new ArrayList<>();
+        Checkpoint async = context.checkpoint();
+        op.listAsync(resource.getMetadata().getNamespace(), Labels.EMPTY, 2, page -> pageSizes.add(page.size())).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(pageSizes, is(List.of(2, 2, 1)));
+            assertThat(listOptions.size(), is(4));
+            assertThat(listOptions.get(0).getContinue(), is(nullValue()));
+            assertThat(listOptions.get(1).getContinue(), is("my-token"));
+            assertThat(listOptions.get(2).getContinue(), is(nullValue()));
+            assertThat(listOptions.get(3).getContinue(), is("my-token"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testListAsyncInPagesFailsWhenFirstPageIsGone(VertxTestContext context) {
+        T resource = resource();
+
+        FilterWatchListDeletable mockLabeled = mock(FilterWatchListDeletable.class);
+        when(mockLabeled.list(any(ListOptions.class))).thenThrow(new KubernetesClientException("Gone", 410, null));
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withLabels(any())).thenReturn(mockLabeled);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        // Without continue token, there is nothing to restart
+        op.listAsync(resource.getMetadata().getNamespace(), Labels.EMPTY, 2, page -> { }).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(KubernetesClientException.class));
+            verify(mockLabeled, times(1)).list(any(ListOptions.class));
+            async.flag();
+        })));
+    }
+
     @Test
     public void testCreateOrUpdateThrowsWhenCreateThrows(VertxTestContext context) {
         T resource = resource();
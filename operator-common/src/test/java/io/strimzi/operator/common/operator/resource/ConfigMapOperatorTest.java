@@ -10,9 +10,21 @@ import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.test.mockkube.MockKube;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> {
@@ -55,4 +67,46 @@ public class ConfigMapOperatorTest extends AbstractResourceOperatorTest<Kubernet
                 .withData(singletonMap("FOO", "BAR2"))
                 .build();
     }
+
+    /**
+     * Lists 50 000 synthetic ConfigMaps from MockKube page by page and checks that only a single page of resources has
+     * to be kept in memory at the same time instead of the whole list fetched in a single response.
+     */
+    @Test
+    public void testListInPagesWithManyResources(VertxTestContext context) {
+        int resources = 50_000;
+        int pageSize = AbstractResourceOperator.DEFAULT_LIST_PAGE_SIZE;
+
+        Set<ConfigMap> initialCms = new HashSet<>(resources);
+        for (int i = 0; i < resources; i++) {
+            initialCms.add(new ConfigMapBuilder()
+                    .withNewMetadata()
+                        .withName(String.format("my-resource-%05d", i))
+                        .withNamespace(NAMESPACE)
+                        .withLabels(singletonMap("foo", "bar"))
+                    .endMetadata()
+                    .withData(singletonMap("FOO", "BAR"))
+                    .build());
+        }
+
+        KubernetesClient client = new MockKube().withInitialCms(initialCms).build();
+        ConfigMapOperator op = new ConfigMapOperator(vertx, client);
+
+        Set<String> names = new HashSet<>(resources);
+        AtomicInteger pages = new AtomicInteger();
+        AtomicInteger largestPage = new AtomicInteger();
+
+        Checkpoint async = context.checkpoint();
+        op.listAsync(NAMESPACE, Labels.fromMap(singletonMap("foo", "bar")), pageSize, page -> {
+            pages.incrementAndGet();
+            largestPage.accumulateAndGet(page.size(), Math::max);
+            page.forEach(cm -> names.add(cm.getMetadata().getName()));
+        }).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(names.size(), is(resources));
+            assertThat(pages.get(), is(resources / pageSize));
+            assertThat("Paged listing should keep at most " + pageSize + " resources in memory at the same time instead of all "
+                    + resources, largestPage.get(), lessThanOrEqualTo(pageSize));
+            async.flag();
+        })));
+    }
 }
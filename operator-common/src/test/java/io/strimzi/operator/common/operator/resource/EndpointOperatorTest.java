@@ -11,7 +11,10 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
 public class EndpointOperatorTest extends AbstractReadyResourceOperatorTest<KubernetesClient, Endpoints, EndpointsList, Resource<Endpoints>> {
@@ -56,4 +59,25 @@ public class EndpointOperatorTest extends AbstractReadyResourceOperatorTest<Kube
     protected EndpointOperator createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new EndpointOperator(vertx, mockClient);
     }
+
+    @Test
+    public void testHasAddresses() {
+        assertThat(EndpointOperator.hasAddresses(resource()), is(false));
+
+        assertThat(EndpointOperator.hasAddresses(new EndpointsBuilder(resource())
+                .addNewSubset()
+                    .addNewNotReadyAddress()
+                        .withIp("10.0.0.1")
+                    .endNotReadyAddress()
+                .endSubset()
+                .build()), is(false));
+
+        assertThat(EndpointOperator.hasAddresses(new EndpointsBuilder(resource())
+                .addNewSubset()
+                    .addNewAddress()
+                        .withIp("10.0.0.1")
+                    .endAddress()
+                .endSubset()
+                .build()), is(true));
+    }
 }
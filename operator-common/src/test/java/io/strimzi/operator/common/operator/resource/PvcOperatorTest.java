@@ -7,22 +7,37 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimConditionBuilder;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaimList;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimListBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class PvcOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, PersistentVolumeClaim, PersistentVolumeClaimList, Resource<PersistentVolumeClaim>> {
+    private static final Labels SELECTOR = Labels.forStrimziCluster("my-cluster");
 
     @Override
     protected Class<KubernetesClient> clientType() {
@@ -103,4 +118,92 @@ public class PvcOperatorTest extends AbstractResourceOperatorTest<KubernetesClie
         assertThat(current.getSpec().getSelector(), is(desired.getSpec().getSelector()));
         assertThat(current.getSpec().getVolumeName(), is(desired.getSpec().getVolumeName()));
     }
+
+    @Test
+    public void testWaitForAll(VertxTestContext context)   {
+        AtomicBoolean watchWasClosed = new AtomicBoolean(false);
+
+        FilterWatchListDeletable mockListable = mock(FilterWatchListDeletable.class);
+        when(mockListable.list()).thenReturn(new PersistentVolumeClaimListBuilder()
+                .withItems(pvc("pvc-0", "Resizing"), pvc("pvc-1", "FileSystemResizePending"), pvc("unrelated-pvc", "Resizing"))
+                .build());
+        when(mockListable.watch(any())).thenAnswer(invocation -> {
+            Watcher<PersistentVolumeClaim> watcher = invocation.getArgument(0);
+            vertx.setTimer(10, tid -> watcher.eventReceived(Watcher.Action.MODIFIED, pvc("pvc-0", "FileSystemResizePending")));
+            return (Watch) () -> watchWasClosed.set(true);
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withLabels(eq(SELECTOR.toMap()))).thenReturn(mockListable);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+
+        PvcOperator op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.waitForAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, Set.of("pvc-0", "pvc-1"), 60_000L, PvcOperatorTest::isFileSystemResizePending)
+                .onComplete(context.succeeding(latest -> context.verify(() -> {
+                    assertThat(latest.keySet(), is(Set.of("pvc-0", "pvc-1")));
+                    assertThat(isFileSystemResizePending(latest.get("pvc-0")), is(true));
+                    assertThat(isFileSystemResizePending(latest.get("pvc-1")), is(true));
+                    assertThat("Watch was not closed", watchWasClosed.get(), is(true));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testWaitForAllTimeout(VertxTestContext context)   {
+        AtomicBoolean watchWasClosed = new AtomicBoolean(false);
+
+        FilterWatchListDeletable mockListable = mock(FilterWatchListDeletable.class);
+        when(mockListable.list()).thenReturn(new PersistentVolumeClaimListBuilder()
+                .withItems(pvc("pvc-0", "Resizing"))
+                .build());
+        when(mockListable.watch(any())).thenReturn((Watch) () -> watchWasClosed.set(true));
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withLabels(eq(SELECTOR.toMap()))).thenReturn(mockListable);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(eq(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+
+        PvcOperator op = createResourceOperations(vertx, mockClient);
+
+        // pvc-1 does not exist, so it is not waited for
+        Checkpoint async = context.checkpoint();
+        op.waitForAll(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, Set.of("pvc-0", "pvc-1"), 100L, PvcOperatorTest::isFileSystemResizePending)
+                .onComplete(context.succeeding(latest -> context.verify(() -> {
+                    assertThat(latest.keySet(), is(Set.of("pvc-0")));
+                    assertThat(isFileSystemResizePending(latest.get("pvc-0")), is(false));
+                    assertThat("Watch was not closed", watchWasClosed.get(), is(true));
+                    async.flag();
+                })));
+    }
+
+    private static PersistentVolumeClaim pvc(String name, String conditionType)   {
+        return new PersistentVolumeClaimBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Bound")
+                    .withConditions(new PersistentVolumeClaimConditionBuilder()
+                            .withType(conditionType)
+                            .withStatus("True")
+                            .build())
+                .endStatus()
+                .build();
+    }
+
+    private static boolean isFileSystemResizePending(PersistentVolumeClaim pvc)   {
+        return pvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()));
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ReadinessTrackerTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final Labels SELECTOR = Labels.forStrimziCluster("my-cluster");
+    private static Vertx vertx;
+
+    private final Map<String, Service> services = new ConcurrentHashMap<>();
+    private final AtomicInteger openedWatches = new AtomicInteger();
+    private final AtomicInteger closedWatches = new AtomicInteger();
+    private final AtomicReference<Watcher<Service>> watcher = new AtomicReference<>();
+    private final Map<Labels, Watcher<Service>> watchersBySelector = new ConcurrentHashMap<>();
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testReadyResourceCompletesWithoutEvents(VertxTestContext context) {
+        services.put("my-service", service("my-service", true));
+        ReadinessTracker<Service> tracker = tracker(watchable());
+
+        Checkpoint async = context.checkpoint();
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, "my-service", "ready", 1_000L, 10_000L, ReadinessTrackerTest::isReady)
+                .onComplete(context.succeeding(v -> vertx.setTimer(100, tid -> context.verify(() -> {
+                    assertThat(openedWatches.get(), is(1));
+                    assertThat(closedWatches.get(), is(1));
+                    assertThat(tracker.watchCount(), is(0));
+                    async.flag();
+                }))));
+    }
+
+    @Test
+    public void testEventsCompleteAllWaitsWithSingleWatch(VertxTestContext context) {
+        services.put("my-service-1", service("my-service-1", false));
+        services.put("my-service-2", service("my-service-2", false));
+        ReadinessTracker<Service> tracker = tracker(watchable());
+
+        Checkpoint async = context.checkpoint();
+        Checkpoint ready1 = context.checkpoint();
+        Checkpoint ready2 = context.checkpoint();
+
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, "my-service-1", "ready", 1_000L, 10_000L, ReadinessTrackerTest::isReady)
+                .onComplete(context.succeeding(v -> ready1.flag()));
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, "my-service-2", "ready", 1_000L, 10_000L, ReadinessTrackerTest::isReady)
+                .onComplete(context.succeeding(v -> ready2.flag()));
+
+        // The services get ready after the watch is open and the pre-checks are done
+        vertx.setTimer(200, tid -> context.verify(() -> {
+            assertThat(openedWatches.get(), is(1));
+            assertThat(tracker.watchCount(), is(1));
+
+            // Event for unrelated resource is ignored
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, service("other-service", true));
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, service("my-service-1", true));
+            watcher.get().eventReceived(Watcher.Action.MODIFIED, service("my-service-2", true));
+
+            vertx.setTimer(200, tid2 -> context.verify(() -> {
+                assertThat(openedWatches.get(), is(1));
+                assertThat(closedWatches.get(), is(1));
+                assertThat(tracker.watchCount(), is(0));
+                async.flag();
+            }));
+        }));
+    }
+
+    @Test
+    public void testWaitsWithDifferentSelectorsUseSeparateWatches(VertxTestContext context) {
+        services.put("my-service", service("my-service", false));
+        services.put("other-service", service("other-service", false));
+        ReadinessTracker<Service> tracker = tracker(watchable());
+        Labels otherSelector = Labels.forStrimziCluster("other-cluster");
+
+        Checkpoint async = context.checkpoint();
+        Checkpoint ready1 = context.checkpoint();
+        Checkpoint ready2 = context.checkpoint();
+
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, "my-service", "ready", 1_000L, 10_000L, ReadinessTrackerTest::isReady)
+                .onComplete(context.succeeding(v -> ready1.flag()));
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, otherSelector, "other-service", "ready", 1_000L, 10_000L, ReadinessTrackerTest::isReady)
+                .onComplete(context.succeeding(v -> ready2.flag()));
+
+        vertx.setTimer(200, tid -> context.verify(() -> {
+            assertThat(openedWatches.get(), is(2));
+            assertThat(tracker.watchCount(), is(2));
+            assertThat(watchersBySelector.keySet(), containsInAnyOrder(SELECTOR, otherSelector));
+
+            // Each watch gets only the events of its own resources
+            watchersBySelector.get(SELECTOR).eventReceived(Watcher.Action.MODIFIED, service("my-service", true));
+            watchersBySelector.get(otherSelector).eventReceived(Watcher.Action.MODIFIED, service("other-service", true));
+
+            vertx.setTimer(200, tid2 -> context.verify(() -> {
+                assertThat(tracker.watchCount(), is(0));
+                async.flag();
+            }));
+        }));
+    }
+
+    @Test
+    public void testTimeout(VertxTestContext context) {
+        services.put("my-service", service("my-service", false));
+        ReadinessTracker<Service> tracker = tracker(watchable());
+
+        Checkpoint async = context.checkpoint();
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, "my-service", "ready", 1_000L, 200L, ReadinessTrackerTest::isReady)
+                .onComplete(context.failing(error -> vertx.setTimer(100, tid -> context.verify(() -> {
+                    assertThat(error, instanceOf(TimeoutException.class));
+                    assertThat(closedWatches.get(), is(1));
+                    assertThat(tracker.watchCount(), is(0));
+                    async.flag();
+                }))));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFallbackToPollingWhenWatchFails(VertxTestContext context) {
+        services.put("my-service", service("my-service", false));
+
+        Watchable<Watcher<Service>> watchable = mock(Watchable.class);
+        when(watchable.watch(any())).thenThrow(new KubernetesClientException("Forbidden"));
+        ReadinessTracker<Service> tracker = tracker(watchable);
+
+        Checkpoint async = context.checkpoint();
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, "my-service", "ready", 50L, 10_000L, ReadinessTrackerTest::isReady)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(tracker.watchCount(), is(0));
+                    async.flag();
+                })));
+
+        vertx.setTimer(200, tid -> services.put("my-service", service("my-service", true)));
+    }
+
+    @Test
+    public void testFallbackToPollingWhenWatchIsClosed(VertxTestContext context) {
+        services.put("my-service", service("my-service", false));
+        ReadinessTracker<Service> tracker = tracker(watchable());
+
+        Checkpoint async = context.checkpoint();
+        tracker.waitFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, SELECTOR, "my-service", "ready", 50L, 10_000L, ReadinessTrackerTest::isReady)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(tracker.watchCount(), is(0));
+                    async.flag();
+                })));
+
+        vertx.setTimer(200, tid -> {
+            watcher.get().onClose(new WatcherException("Gone"));
+            services.put("my-service", service("my-service", true));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Watchable<Watcher<Service>> watchable() {
+        Watchable<Watcher<Service>> watchable = mock(Watchable.class);
+        when(watchable.watch(any())).thenAnswer(invocation -> {
+            openedWatches.incrementAndGet();
+            watcher.set(invocation.getArgument(0));
+            return (Watch) closedWatches::incrementAndGet;
+        });
+
+        return watchable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ReadinessTracker<Service> tracker(Watchable<Watcher<Service>> watchable) {
+        return new ReadinessTracker<>(vertx, new ResourceSupport(vertx), "Service", (namespace, selector) -> {
+            Watchable<Watcher<Service>> selected = mock(Watchable.class);
+            when(selected.watch(any())).thenAnswer(invocation -> {
+                watchersBySelector.put(selector, invocation.getArgument(0));
+                return watchable.watch(invocation.getArgument(0));
+            });
+
+            return selected;
+        }, (namespace, name) -> services.get(name));
+    }
+
+    private static Service service(String name, boolean ready) {
+        return new ServiceBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withAnnotations(Map.of("ready", String.valueOf(ready)))
+                .endMetadata()
+                .build();
+    }
+
+    private static boolean isReady(Service service) {
+        return "true".equals(service.getMetadata().getAnnotations().get("ready"));
+    }
+}
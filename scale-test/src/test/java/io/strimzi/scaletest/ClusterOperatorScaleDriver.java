@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.FeatureGates;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.operator.MockCertManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives the Cluster Operator through the scale test. The Kafka and ZooKeeper clusters are simulated by the mocked
+ * Admin API and ZooKeeper clients from the Cluster Operator tests and the Kafka Connect REST API by
+ * {@link ScaleTestConnectApi}. The phases are:
+ *   - startup of the Kafka and KafkaConnect operators with the already existing clusters
+ *   - creation of the connectors in the running Connect clusters
+ *   - periodic sweeps of the Kafka and KafkaConnect operators (the KafkaConnect sweep includes the connectors)
+ *   - bursts of changes to the Kafka clusters and the connectors
+ */
+public class ClusterOperatorScaleDriver {
+    public static final String OPERATOR = "ClusterOperator";
+
+    private static final String KAFKA_PREFIX = "kafka";
+    private static final String CONNECT_PREFIX = "connect";
+    private static final String CONNECTOR_PREFIX = "connector";
+
+    private final ScaleTestHarness harness;
+
+    /**
+     * Constructs the Cluster Operator driver
+     *
+     * @param harness   The scale test harness
+     */
+    public ClusterOperatorScaleDriver(ScaleTestHarness harness) {
+        this.harness = harness;
+    }
+
+    /**
+     * Runs all phases of the Cluster Operator scale test
+     *
+     * @throws Exception    When the scale test fails
+     */
+    public void run() throws Exception {
+        ScaleTestConfig config = harness.config();
+        String namespace = harness.namespace();
+
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(true, KubernetesVersion.V1_18);
+        ClusterOperatorConfig operatorConfig = ResourceUtils.dummyClusterOperatorConfig(KafkaVersionTestUtils.getKafkaVersionLookup());
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(harness.vertx(), harness.client(),
+                ResourceUtils.zookeeperLeaderFinder(harness.vertx(), harness.client()),
+                ResourceUtils.adminClientProvider(), ResourceUtils.zookeeperScalerProvider(),
+                ResourceUtils.metricsProvider(), pfa, FeatureGates.NONE, operatorConfig.getOperationTimeoutMs());
+
+        ScaleTestConnectApi connectApi = new ScaleTestConnectApi();
+        harness.addApiCallCounters(connectApi::calls);
+
+        KafkaAssemblyOperator kafkaOperator = new KafkaAssemblyOperator(harness.vertx(), pfa, new MockCertManager(),
+                new PasswordGenerator(10, "a", "a"), supplier, operatorConfig);
+        KafkaConnectAssemblyOperator connectOperator = new KafkaConnectAssemblyOperator(harness.vertx(), pfa, supplier,
+                operatorConfig, vertx -> connectApi);
+
+        // The fleet exists before the operator starts
+        List<String> kafkaNames = ScaleTestHarness.names(KAFKA_PREFIX, config.getKafkas());
+        List<Kafka> kafkas = new ArrayList<>(kafkaNames.size());
+        for (String name : kafkaNames) {
+            kafkas.add(harness.fleet().kafka(name, 0));
+        }
+        harness.createAll(Crds.kafkaOperation(harness.client()), kafkas);
+
+        List<String> connectNames = ScaleTestHarness.names(CONNECT_PREFIX, config.getKafkaConnects());
+        List<KafkaConnect> connects = new ArrayList<>(connectNames.size());
+        for (String name : connectNames) {
+            connects.add(harness.fleet().kafkaConnect(name, 0));
+        }
+        harness.createAll(Crds.kafkaConnectOperation(harness.client()), connects);
+
+        StatusTracker<Kafka> kafkaTracker = harness.track(Crds.kafkaOperation(harness.client()));
+        StatusTracker<KafkaConnect> connectTracker = harness.track(Crds.kafkaConnectOperation(harness.client()));
+        StatusTracker<KafkaConnector> connectorTracker = harness.track(Crds.kafkaConnectorOperation(harness.client()));
+
+        // Startup => the watches are opened and all resources are reconciled
+        harness.await(kafkaOperator.createWatch(namespace, e -> { }));
+        harness.await(connectOperator.createWatch(namespace, e -> { }));
+        harness.await(AbstractConnectOperator.createConnectorWatch(connectOperator, namespace, null));
+
+        harness.startup(OPERATOR + " (Kafka)", kafkaTracker, kafkaNames,
+            () -> kafkaOperator.reconcileAll(ScaleTestHarness.SWEEP_TRIGGER, namespace, ignore -> { }));
+        harness.startup(OPERATOR + " (KafkaConnect)", connectTracker, connectNames,
+            () -> connectOperator.reconcileAll(ScaleTestHarness.SWEEP_TRIGGER, namespace, ignore -> { }));
+
+        // The connectors are spread across the Connect clusters
+        List<String> connectorNames = ScaleTestHarness.names(CONNECTOR_PREFIX, config.getConnectors());
+        List<KafkaConnector> connectors = new ArrayList<>(connectorNames.size());
+        for (int i = 0; i < connectorNames.size() && !connectNames.isEmpty(); i++) {
+            connectors.add(harness.fleet().kafkaConnector(connectorNames.get(i), connectNames.get(i % connectNames.size()), 0));
+        }
+
+        harness.createBurst(OPERATOR + " (KafkaConnector)", "create", Crds.kafkaConnectorOperation(harness.client()),
+                connectorTracker, connectors);
+
+        // Periodic sweeps
+        for (int i = 0; i < config.getSweeps(); i++) {
+            harness.sweep(OPERATOR + " (Kafka)", "sweep " + i, kafkaOperator);
+            harness.sweep(OPERATOR + " (KafkaConnect with connectors)", "sweep " + i, connectOperator);
+        }
+
+        // Bursts of watch events
+        harness.burst(OPERATOR + " (Kafka)", "burst", Crds.kafkaOperation(harness.client()), kafkaTracker,
+                harness.burstNames(kafkaNames), kafka -> {
+                    kafka.getMetadata().getAnnotations().put(SyntheticFleet.ANNO_REVISION, "1");
+                    return kafka;
+                });
+
+        harness.burst(OPERATOR + " (KafkaConnector)", "burst", Crds.kafkaConnectorOperation(harness.client()), connectorTracker,
+                harness.burstNames(connectorNames), connector -> {
+                    connector.getSpec().getConfig().put("scale.test.revision", "1");
+                    return connector;
+                });
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Snapshot of the JVM statistics used by the scale test: the used heap and the lock contention. The lock contention
+ * is the total number of times the threads were blocked on a monitor and the total time they were blocked. The
+ * blocked time is available only when the thread contention monitoring is supported by the JVM.
+ */
+public class JvmStatistics {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    static {
+        if (THREADS.isThreadContentionMonitoringSupported()) {
+            THREADS.setThreadContentionMonitoringEnabled(true);
+        }
+    }
+
+    private final long heapUsedBytes;
+    private final long blockedCount;
+    private final long blockedTimeMs;
+
+    private JvmStatistics(long heapUsedBytes, long blockedCount, long blockedTimeMs) {
+        this.heapUsedBytes = heapUsedBytes;
+        this.blockedCount = blockedCount;
+        this.blockedTimeMs = blockedTimeMs;
+    }
+
+    /**
+     * Takes the snapshot of the JVM statistics. The garbage collection is requested first so that the used heap
+     * contains mostly the live objects.
+     *
+     * @return  Snapshot of the JVM statistics
+     */
+    public static JvmStatistics snapshot() {
+        System.gc();
+
+        long blockedCount = 0;
+        long blockedTimeMs = 0;
+
+        for (ThreadInfo info : THREADS.getThreadInfo(THREADS.getAllThreadIds())) {
+            // Threads which finished in the meantime are null
+            if (info != null) {
+                blockedCount += info.getBlockedCount();
+                blockedTimeMs += Math.max(info.getBlockedTime(), 0);
+            }
+        }
+
+        return new JvmStatistics(MEMORY.getHeapMemoryUsage().getUsed(), blockedCount, blockedTimeMs);
+    }
+
+    public long getHeapUsedBytes() {
+        return heapUsedBytes;
+    }
+
+    public long getBlockedCount() {
+        return blockedCount;
+    }
+
+    public long getBlockedTimeMs() {
+        return blockedTimeMs;
+    }
+}
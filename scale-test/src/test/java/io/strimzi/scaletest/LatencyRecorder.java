@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import java.util.Arrays;
+
+/**
+ * Records latencies and calculates their percentiles. The latencies are recorded in nanoseconds and reported in
+ * milliseconds. All recorded values are kept, which is fine for the number of reconciliations done by the scale test.
+ */
+public class LatencyRecorder {
+    private long[] values = new long[1024];
+    private int count = 0;
+
+    /**
+     * Records a single latency
+     *
+     * @param nanos     The latency in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+
+        values[count++] = nanos;
+    }
+
+    /**
+     * Discards all recorded latencies
+     */
+    public synchronized void reset() {
+        count = 0;
+    }
+
+    /**
+     * @return  Number of recorded latencies
+     */
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Returns the percentile of the recorded latencies using the nearest-rank method
+     *
+     * @param percentile    The percentile (e.g. 99 for the 99th percentile)
+     *
+     * @return  The percentile in milliseconds or 0 if nothing was recorded
+     */
+    public synchronized double percentileMs(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.min(Math.max(rank, 1), count) - 1] / 1_000_000.0;
+    }
+
+    /**
+     * @return  The maximal latency in milliseconds or 0 if nothing was recorded
+     */
+    public synchronized double maxMs() {
+        return percentileMs(100);
+    }
+}
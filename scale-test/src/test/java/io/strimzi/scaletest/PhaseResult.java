@@ -0,0 +1,109 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Result of a single phase of the scale test (e.g. the startup of an operator, a periodic sweep or a burst of watch
+ * events).
+ */
+public class PhaseResult {
+    private final String operator;
+    private final String phase;
+    private final int resources;
+    private final long durationNanos;
+    private final LatencyRecorder latencies;
+    private final int ready;
+    private final int notReady;
+    private final long timedOut;
+    private final Map<String, Long> apiCalls;
+    private final JvmStatistics jvmBefore;
+    private final JvmStatistics jvmAfter;
+
+    /**
+     * Constructs the phase result
+     *
+     * @param operator          Name of the operator
+     * @param phase             Name of the phase
+     * @param resources         Number of the resources reconciled in this phase
+     * @param durationNanos     Duration of the phase in nanoseconds
+     * @param latencies         Latencies of the individual reconciliations
+     * @param ready             Number of resources which were ready after the reconciliation
+     * @param notReady          Number of resources which were not ready after the reconciliation
+     * @param timedOut          Number of resources which were not reconciled before the timeout
+     * @param apiCalls          Number of the API calls per kind and verb done during this phase
+     * @param jvmBefore         JVM statistics before the phase
+     * @param jvmAfter          JVM statistics after the phase
+     */
+    public PhaseResult(String operator, String phase, int resources, long durationNanos, LatencyRecorder latencies,
+                       int ready, int notReady, long timedOut, Map<String, Long> apiCalls,
+                       JvmStatistics jvmBefore, JvmStatistics jvmAfter) {
+        this.operator = operator;
+        this.phase = phase;
+        this.resources = resources;
+        this.durationNanos = durationNanos;
+        this.latencies = latencies;
+        this.ready = ready;
+        this.notReady = notReady;
+        this.timedOut = timedOut;
+        this.apiCalls = new TreeMap<>(apiCalls);
+        this.jvmBefore = jvmBefore;
+        this.jvmAfter = jvmAfter;
+    }
+
+    public String getOperator() {
+        return operator;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public int getResources() {
+        return resources;
+    }
+
+    public long getTimedOut() {
+        return timedOut;
+    }
+
+    public Map<String, Long> getApiCalls() {
+        return apiCalls;
+    }
+
+    /**
+     * @return  Number of reconciled resources per second
+     */
+    public double throughput() {
+        return durationNanos > 0 ? resources * 1_000_000_000.0 / durationNanos : 0;
+    }
+
+    /**
+     * @return  Human readable summary of the phase
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format(Locale.ROOT, "%s / %s: %d resources in %.1f ms (%.1f per second)%n",
+                operator, phase, resources, durationNanos / 1_000_000.0, throughput()));
+        sb.append(String.format(Locale.ROOT, "    latency ms: p50=%.1f p95=%.1f p99=%.1f max=%.1f (%d samples)%n",
+                latencies.percentileMs(50), latencies.percentileMs(95), latencies.percentileMs(99), latencies.maxMs(), latencies.count()));
+        sb.append(String.format(Locale.ROOT, "    ready=%d notReady=%d timedOut=%d%n", ready, notReady, timedOut));
+        sb.append(String.format(Locale.ROOT, "    heap MiB: before=%.1f after=%.1f%n",
+                jvmBefore.getHeapUsedBytes() / 1_048_576.0, jvmAfter.getHeapUsedBytes() / 1_048_576.0));
+        sb.append(String.format(Locale.ROOT, "    lock contention: blocked=%d times, %d ms%n",
+                jvmAfter.getBlockedCount() - jvmBefore.getBlockedCount(), jvmAfter.getBlockedTimeMs() - jvmBefore.getBlockedTimeMs()));
+        sb.append("    API calls:").append(String.format("%n"));
+
+        for (Map.Entry<String, Long> call : apiCalls.entrySet()) {
+            sb.append(String.format(Locale.ROOT, "        %-50s %d%n", call.getKey(), call.getValue()));
+        }
+
+        return sb.toString();
+    }
+}
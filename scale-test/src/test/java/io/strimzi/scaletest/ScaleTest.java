@@ -0,0 +1,74 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.strimzi.operator.cluster.ResourceUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.empty;
+
+/**
+ * Runs the scale test for all operators. By default, small fleets are used so that the test can run as part of the
+ * regular build. The size of the fleets can be configured using the environment variables described in
+ * {@link ScaleTestConfig}.
+ */
+public class ScaleTest {
+    private static final ScaleTestConfig CONFIG = ScaleTestConfig.fromMap(System.getenv());
+    private static final ScaleTestReport REPORT = new ScaleTestReport(CONFIG);
+
+    @AfterAll
+    public static void writeReport() throws IOException {
+        REPORT.write();
+        ResourceUtils.cleanUpTemporaryTLSFiles();
+    }
+
+    @Test
+    public void testClusterOperator() throws Exception {
+        try (ScaleTestHarness harness = new ScaleTestHarness(CONFIG, REPORT)) {
+            new ClusterOperatorScaleDriver(harness).run();
+        }
+
+        assertAllReconciled(ClusterOperatorScaleDriver.OPERATOR);
+    }
+
+    @Test
+    public void testTopicOperator() throws Exception {
+        try (ScaleTestHarness harness = new ScaleTestHarness(CONFIG, REPORT)) {
+            new TopicOperatorScaleDriver(harness).run();
+        }
+
+        assertAllReconciled(TopicOperatorScaleDriver.OPERATOR);
+    }
+
+    @Test
+    public void testUserOperator() throws Exception {
+        try (ScaleTestHarness harness = new ScaleTestHarness(CONFIG, REPORT)) {
+            new UserOperatorScaleDriver(harness).run();
+        }
+
+        assertAllReconciled(UserOperatorScaleDriver.OPERATOR);
+    }
+
+    private static void assertAllReconciled(String operator) {
+        List<PhaseResult> results = REPORT.results().stream()
+                .filter(result -> result.getOperator().startsWith(operator))
+                .collect(Collectors.toList());
+
+        assertThat(results, is(not(empty())));
+
+        for (PhaseResult result : results) {
+            assertThat("Phase " + result.getPhase() + " of " + result.getOperator() + " timed out", result.getTimedOut(), is(0L));
+            assertThat("Phase " + result.getPhase() + " of " + result.getOperator() + " did not do any API calls", result.getApiCalls().isEmpty(), is(false));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import java.util.Map;
+
+/**
+ * Configuration of the scale test. The defaults use a small fleet so that the scale test can run as part of the
+ * regular build. Larger fleets (e.g. 200 Kafka clusters, 2000 connectors and 50000 topics) can be configured using
+ * the environment variables.
+ */
+public class ScaleTestConfig {
+    public static final String STRIMZI_SCALE_TEST_NAMESPACE = "STRIMZI_SCALE_TEST_NAMESPACE";
+    public static final String STRIMZI_SCALE_TEST_KAFKAS = "STRIMZI_SCALE_TEST_KAFKAS";
+    public static final String STRIMZI_SCALE_TEST_KAFKA_CONNECTS = "STRIMZI_SCALE_TEST_KAFKA_CONNECTS";
+    public static final String STRIMZI_SCALE_TEST_CONNECTORS = "STRIMZI_SCALE_TEST_CONNECTORS";
+    public static final String STRIMZI_SCALE_TEST_TOPICS = "STRIMZI_SCALE_TEST_TOPICS";
+    public static final String STRIMZI_SCALE_TEST_USERS = "STRIMZI_SCALE_TEST_USERS";
+    public static final String STRIMZI_SCALE_TEST_SWEEPS = "STRIMZI_SCALE_TEST_SWEEPS";
+    public static final String STRIMZI_SCALE_TEST_BURST_SIZE = "STRIMZI_SCALE_TEST_BURST_SIZE";
+    public static final String STRIMZI_SCALE_TEST_PHASE_TIMEOUT_MS = "STRIMZI_SCALE_TEST_PHASE_TIMEOUT_MS";
+    public static final String STRIMZI_SCALE_TEST_REPORT_FILE = "STRIMZI_SCALE_TEST_REPORT_FILE";
+    public static final String STRIMZI_SCALE_TEST_API_LATENCY_MS = "STRIMZI_SCALE_TEST_API_LATENCY_MS";
+
+    public static final String DEFAULT_NAMESPACE = "scale-test";
+    public static final int DEFAULT_KAFKAS = 2;
+    public static final int DEFAULT_KAFKA_CONNECTS = 2;
+    public static final int DEFAULT_CONNECTORS = 20;
+    public static final int DEFAULT_TOPICS = 500;
+    public static final int DEFAULT_USERS = 100;
+    public static final int DEFAULT_SWEEPS = 2;
+    public static final int DEFAULT_BURST_SIZE = 50;
+    public static final long DEFAULT_PHASE_TIMEOUT_MS = 300_000L;
+    public static final String DEFAULT_REPORT_FILE = "target/scale-test-report.txt";
+    public static final long DEFAULT_API_LATENCY_MS = -1L;
+
+    private final String namespace;
+    private final int kafkas;
+    private final int kafkaConnects;
+    private final int connectors;
+    private final int topics;
+    private final int users;
+    private final int sweeps;
+    private final int burstSize;
+    private final long phaseTimeoutMs;
+    private final String reportFile;
+    private final long apiLatencyMs;
+
+    /**
+     * Constructs the scale test configuration
+     *
+     * @param namespace         Namespace used for all resources
+     * @param kafkas            Number of Kafka resources
+     * @param kafkaConnects     Number of KafkaConnect resources
+     * @param connectors        Number of KafkaConnector resources (spread across the KafkaConnect clusters)
+     * @param topics            Number of KafkaTopic resources
+     * @param users             Number of KafkaUser resources
+     * @param sweeps            Number of periodic sweeps (full reconciliations) of each operator
+     * @param burstSize         Number of resources modified in a single burst of watch events
+     * @param phaseTimeoutMs    Timeout for a single phase of the test
+     * @param reportFile        File where the report is written
+     * @param apiLatencyMs      Latency of each simulated Kubernetes API call. When it is not negative, MockKube runs
+     *                          in the high-fidelity mode.
+     */
+    public ScaleTestConfig(String namespace, int kafkas, int kafkaConnects, int connectors, int topics, int users,
+                           int sweeps, int burstSize, long phaseTimeoutMs, String reportFile, long apiLatencyMs) {
+        this.namespace = namespace;
+        this.kafkas = kafkas;
+        this.kafkaConnects = kafkaConnects;
+        this.connectors = connectors;
+        this.topics = topics;
+        this.users = users;
+        this.sweeps = sweeps;
+        this.burstSize = burstSize;
+        this.phaseTimeoutMs = phaseTimeoutMs;
+        this.reportFile = reportFile;
+        this.apiLatencyMs = apiLatencyMs;
+    }
+
+    /**
+     * Loads the scale test configuration from a map (typically the environment variables)
+     *
+     * @param map   Map with the configuration
+     *
+     * @return  Scale test configuration
+     */
+    public static ScaleTestConfig fromMap(Map<String, String> map) {
+        return new ScaleTestConfig(
+                map.getOrDefault(STRIMZI_SCALE_TEST_NAMESPACE, DEFAULT_NAMESPACE),
+                parseInt(map, STRIMZI_SCALE_TEST_KAFKAS, DEFAULT_KAFKAS),
+                parseInt(map, STRIMZI_SCALE_TEST_KAFKA_CONNECTS, DEFAULT_KAFKA_CONNECTS),
+                parseInt(map, STRIMZI_SCALE_TEST_CONNECTORS, DEFAULT_CONNECTORS),
+                parseInt(map, STRIMZI_SCALE_TEST_TOPICS, DEFAULT_TOPICS),
+                parseInt(map, STRIMZI_SCALE_TEST_USERS, DEFAULT_USERS),
+                parseInt(map, STRIMZI_SCALE_TEST_SWEEPS, DEFAULT_SWEEPS),
+                parseInt(map, STRIMZI_SCALE_TEST_BURST_SIZE, DEFAULT_BURST_SIZE),
+                map.containsKey(STRIMZI_SCALE_TEST_PHASE_TIMEOUT_MS) ? Long.parseLong(map.get(STRIMZI_SCALE_TEST_PHASE_TIMEOUT_MS)) : DEFAULT_PHASE_TIMEOUT_MS,
+                map.getOrDefault(STRIMZI_SCALE_TEST_REPORT_FILE, DEFAULT_REPORT_FILE),
+                map.containsKey(STRIMZI_SCALE_TEST_API_LATENCY_MS) ? Long.parseLong(map.get(STRIMZI_SCALE_TEST_API_LATENCY_MS)) : DEFAULT_API_LATENCY_MS);
+    }
+
+    private static int parseInt(Map<String, String> map, String key, int defaultValue) {
+        String value = map.get(key);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        int parsed = Integer.parseInt(value);
+        if (parsed < 0) {
+            throw new IllegalArgumentException(key + " cannot be negative");
+        }
+
+        return parsed;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public int getKafkas() {
+        return kafkas;
+    }
+
+    public int getKafkaConnects() {
+        return kafkaConnects;
+    }
+
+    public int getConnectors() {
+        return connectors;
+    }
+
+    public int getTopics() {
+        return topics;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getSweeps() {
+        return sweeps;
+    }
+
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    public long getPhaseTimeoutMs() {
+        return phaseTimeoutMs;
+    }
+
+    public String getReportFile() {
+        return reportFile;
+    }
+
+    /**
+     * @return  Latency of each simulated Kubernetes API call or a negative value when MockKube should not run in the
+     *          high-fidelity mode
+     */
+    public long getApiLatencyMs() {
+        return apiLatencyMs;
+    }
+
+    @Override
+    public String toString() {
+        return "ScaleTestConfig(" +
+                "namespace=" + namespace +
+                ",kafkas=" + kafkas +
+                ",kafkaConnects=" + kafkaConnects +
+                ",connectors=" + connectors +
+                ",topics=" + topics +
+                ",users=" + users +
+                ",sweeps=" + sweeps +
+                ",burstSize=" + burstSize +
+                ",phaseTimeoutMs=" + phaseTimeoutMs +
+                ",reportFile=" + reportFile +
+                ",apiLatencyMs=" + apiLatencyMs +
+                ")";
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.api.kafka.model.connect.ConnectorPluginBuilder;
+import io.strimzi.operator.cluster.operator.assembly.ConnectRestException;
+import io.strimzi.operator.cluster.operator.assembly.KafkaConnectApi;
+import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory simulation of the Kafka Connect REST API used by the scale test. Unlike the Mockito based mocks used in
+ * the unit tests, it is thread-safe and cheap enough to handle thousands of connectors. All the connectors of all the
+ * Connect clusters are kept in a single map keyed by the host and the connector name. It also counts the REST API
+ * calls, so that they can be reported together with the Kubernetes API calls.
+ */
+public class ScaleTestConnectApi implements KafkaConnectApi {
+    private final Map<String, ConnectorState> connectors = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    private static class ConnectorState {
+        private final Map<String, String> config;
+        private final boolean paused;
+
+        ConnectorState(Map<String, String> config, boolean paused) {
+            this.config = config;
+            this.paused = paused;
+        }
+    }
+
+    private static String key(String host, String connectorName) {
+        return host + "##" + connectorName;
+    }
+
+    private void record(String call) {
+        calls.computeIfAbsent(call, k -> new LongAdder()).increment();
+    }
+
+    private static <T> Future<T> notFound(String method, String path) {
+        return Future.failedFuture(new ConnectRestException(method, path, 404, "Not Found", ""));
+    }
+
+    /**
+     * @return  Map with the number of Connect REST API calls per method of the API
+     */
+    public Map<String, Long> calls() {
+        Map<String, Long> snapshot = new HashMap<>();
+        calls.forEach((call, counter) -> snapshot.put("KafkaConnectApi " + call, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @return  Number of connectors currently running in all Connect clusters
+     */
+    public int connectorCount() {
+        return connectors.size();
+    }
+
+    @Override
+    public Future<Map<String, Object>> createOrUpdatePutRequest(Reconciliation reconciliation, String host, int port, String connectorName, JsonObject configJson) {
+        record("createOrUpdatePutRequest");
+
+        Map<String, String> config = new HashMap<>();
+        config.put("name", connectorName);
+        for (Map.Entry<String, Object> entry : configJson) {
+            if (entry.getValue() != null) {
+                config.put(entry.getKey(), entry.getValue().toString());
+            }
+        }
+
+        connectors.compute(key(host, connectorName), (k, current) -> new ConnectorState(config, current != null && current.paused));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("name", connectorName);
+        result.put("config", config);
+        result.put("tasks", List.of());
+        return Future.succeededFuture(result);
+    }
+
+    @Override
+    public Future<Map<String, String>> getConnectorConfig(Reconciliation reconciliation, String host, int port, String connectorName) {
+        record("getConnectorConfig");
+
+        ConnectorState state = connectors.get(key(host, connectorName));
+        return state != null ? Future.succeededFuture(new HashMap<>(state.config)) : notFound("GET", "/connectors/" + connectorName + "/config");
+    }
+
+    @Override
+    public Future<Map<String, String>> getConnectorConfig(Reconciliation reconciliation, BackOff backOff, String host, int port, String connectorName) {
+        return getConnectorConfig(reconciliation, host, port, connectorName);
+    }
+
+    @Override
+    public Future<Map<String, Object>> getConnector(Reconciliation reconciliation, String host, int port, String connectorName) {
+        record("getConnector");
+
+        ConnectorState state = connectors.get(key(host, connectorName));
+        if (state == null) {
+            return notFound("GET", "/connectors/" + connectorName);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("name", connectorName);
+        result.put("config", new HashMap<>(state.config));
+        result.put("tasks", List.of());
+        return Future.succeededFuture(result);
+    }
+
+    @Override
+    public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
+        record("delete");
+
+        return connectors.remove(key(host, connectorName)) != null ? Future.succeededFuture() : notFound("DELETE", "/connectors/" + connectorName);
+    }
+
+    @Override
+    public Future<Map<String, Object>> status(Reconciliation reconciliation, String host, int port, String connectorName) {
+        record("status");
+
+        ConnectorState state = connectors.get(key(host, connectorName));
+        if (state == null) {
+            return notFound("GET", "/connectors/" + connectorName + "/status");
+        }
+
+        String connectorState = state.paused ? "PAUSED" : "RUNNING";
+        Map<String, Object> connector = new HashMap<>();
+        connector.put("state", connectorState);
+        connector.put("worker_id", host + ":8083");
+
+        Map<String, Object> task = new HashMap<>();
+        task.put("id", 0);
+        task.put("state", connectorState);
+        task.put("worker_id", host + ":8083");
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("name", connectorName);
+        status.put("connector", connector);
+        status.put("tasks", List.of(task));
+        return Future.succeededFuture(status);
+    }
+
+    @Override
+    public Future<Map<String, Object>> status(Reconciliation reconciliation, String host, int port, String connectorName, Set<Integer> okStatusCodes) {
+        return status(reconciliation, host, port, connectorName);
+    }
+
+    @Override
+    public Future<Map<String, Object>> statusWithBackOff(Reconciliation reconciliation, BackOff backOff, String host, int port, String connectorName) {
+        return status(reconciliation, host, port, connectorName);
+    }
+
+    private Future<Void> setPaused(String host, String connectorName, boolean paused) {
+        ConnectorState state = connectors.computeIfPresent(key(host, connectorName), (k, current) -> new ConnectorState(current.config, paused));
+        return state != null ? Future.succeededFuture() : notFound("PUT", "/connectors/" + connectorName + (paused ? "/pause" : "/resume"));
+    }
+
+    @Override
+    public Future<Void> pause(String host, int port, String connectorName) {
+        record("pause");
+        return setPaused(host, connectorName, true);
+    }
+
+    @Override
+    public Future<Void> resume(String host, int port, String connectorName) {
+        record("resume");
+        return setPaused(host, connectorName, false);
+    }
+
+    @Override
+    public Future<List<String>> list(String host, int port) {
+        record("list");
+
+        String prefix = host + "##";
+        return Future.succeededFuture(connectors.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .map(key -> key.substring(prefix.length()))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
+        record("listConnectorPlugins");
+
+        ConnectorPlugin plugin = new ConnectorPluginBuilder()
+                .withConnectorClass("org.apache.kafka.connect.file.FileStreamSourceConnector")
+                .withType("source")
+                .withVersion("1.0.0")
+                .build();
+        return Future.succeededFuture(List.of(plugin));
+    }
+
+    @Override
+    public Future<Boolean> updateConnectLoggers(Reconciliation reconciliation, String host, int port, String desiredLogging, OrderedProperties defaultLogging) {
+        record("updateConnectLoggers");
+        return Future.succeededFuture(false);
+    }
+
+    @Override
+    public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
+        record("listConnectLoggers");
+        return Future.succeededFuture(Map.of("root", "INFO"));
+    }
+
+    @Override
+    public Future<Void> restart(String host, int port, String connectorName) {
+        record("restart");
+        return connectors.containsKey(key(host, connectorName)) ? Future.succeededFuture() : notFound("POST", "/connectors/" + connectorName + "/restart");
+    }
+
+    @Override
+    public Future<Void> restartTask(String host, int port, String connectorName, int taskID) {
+        record("restartTask");
+        return connectors.containsKey(key(host, connectorName)) ? Future.succeededFuture() : notFound("POST", "/connectors/" + connectorName + "/tasks/" + taskID + "/restart");
+    }
+
+    @Override
+    public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
+        record("getConnectorTopics");
+
+        ConnectorState state = connectors.get(key(host, connectorName));
+        if (state == null) {
+            return notFound("GET", "/connectors/" + connectorName + "/topics");
+        }
+
+        String topic = state.config.get("topic");
+        return Future.succeededFuture(topic != null ? List.of(topic) : new ArrayList<>());
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaConnectList;
+import io.strimzi.api.kafka.KafkaConnectorList;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.KafkaTopicList;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.StrimziPodSetList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.cluster.ClusterOperator;
+import io.strimzi.operator.common.Operator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.test.mockkube.ApiServerSimulation;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Infrastructure of the scale test. It owns the Vert.x instance and the MockKube based Kubernetes client used by the
+ * operator under test and provides the helpers for measuring the different phases of the test:
+ *   - startup:     the operator reconciles all resources after it was started
+ *   - sweep:       the periodic reconciliation of all resources
+ *   - burst:       many resources are modified at once and the operator reconciles them based on the watch events
+ *
+ * The Kubernetes API calls are counted by MockKube. Additional counters (e.g. the simulated Kafka Connect REST API
+ * calls) can be registered and are included in the API calls reported for each phase. When the API latency is
+ * configured, MockKube runs in the high-fidelity mode with resource versions, conflicts and the configured latency.
+ */
+public class ScaleTestHarness implements AutoCloseable {
+    /**
+     * Trigger used for the sweeps. It is the same trigger as used by the operators for their periodic
+     * reconciliations, so that any optimizations of the periodic reconciliations apply to the sweeps as well.
+     */
+    public static final String SWEEP_TRIGGER = ClusterOperator.PERIODIC_RECONCILIATION_TRIGGER;
+
+    private static final List<String> API_VERBS = List.of("get", "list", "create", "patch", "delete", "watch", "updateStatus");
+
+    private final ScaleTestConfig config;
+    private final ScaleTestReport report;
+    private final Vertx vertx;
+    private final MockKube mockKube;
+    private final KubernetesClient client;
+    private final SyntheticFleet fleet;
+    private final List<Supplier<Map<String, Long>>> counters = new ArrayList<>();
+
+    /**
+     * Constructs the scale test harness
+     *
+     * @param config    Configuration of the scale test
+     * @param report    Report where the results of the phases are added
+     */
+    public ScaleTestHarness(ScaleTestConfig config, ScaleTestReport report) {
+        this.config = config;
+        this.report = report;
+        this.vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)));
+        this.mockKube = new MockKube();
+        if (config.getApiLatencyMs() >= 0) {
+            ApiServerSimulation simulation = new ApiServerSimulation();
+            for (String verb : API_VERBS) {
+                simulation.withLatency(verb, config.getApiLatencyMs());
+            }
+            mockKube.withApiServerSimulation(simulation);
+        }
+        this.client = mockKube
+                .withCustomResourceDefinition(Crds.kafka(), Kafka.class, KafkaList.class, Kafka::getStatus, Kafka::setStatus).end()
+                .withCustomResourceDefinition(Crds.strimziPodSet(), StrimziPodSet.class, StrimziPodSetList.class).end()
+                .withCustomResourceDefinition(Crds.kafkaConnect(), KafkaConnect.class, KafkaConnectList.class, KafkaConnect::getStatus, KafkaConnect::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaConnector(), KafkaConnector.class, KafkaConnectorList.class, KafkaConnector::getStatus, KafkaConnector::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaTopic(), KafkaTopic.class, KafkaTopicList.class, KafkaTopic::getStatus, KafkaTopic::setStatus).end()
+                .withCustomResourceDefinition(Crds.kafkaUser(), KafkaUser.class, KafkaUserList.class, KafkaUser::getStatus, KafkaUser::setStatus).end()
+                .build();
+        this.fleet = new SyntheticFleet(config.getNamespace());
+
+        counters.add(() -> mockKube.apiCalls().snapshot());
+    }
+
+    public ScaleTestConfig config() {
+        return config;
+    }
+
+    public ScaleTestReport report() {
+        return report;
+    }
+
+    public Vertx vertx() {
+        return vertx;
+    }
+
+    public KubernetesClient client() {
+        return client;
+    }
+
+    public SyntheticFleet fleet() {
+        return fleet;
+    }
+
+    public String namespace() {
+        return config.getNamespace();
+    }
+
+    /**
+     * Registers additional API call counters which should be reported for each phase
+     *
+     * @param counter   Supplier of the current values of the counters
+     */
+    public void addApiCallCounters(Supplier<Map<String, Long>> counter) {
+        counters.add(counter);
+    }
+
+    /**
+     * Creates the resources. The creation of the resources is not measured.
+     *
+     * @param operation     Operation for the resources
+     * @param resources     The resources which should be created
+     *
+     * @param <T>   Type of the resources
+     */
+    public <T extends CustomResource<?, ?>> void createAll(MixedOperation<T, ?, Resource<T>> operation, List<T> resources) {
+        for (T resource : resources) {
+            operation.inNamespace(namespace()).create(resource);
+        }
+    }
+
+    /**
+     * Starts tracking the status of the resources
+     *
+     * @param operation     Operation for the resources
+     *
+     * @param <T>   Type of the resources
+     *
+     * @return  The status tracker
+     */
+    public <T extends CustomResource<?, ? extends Status>> StatusTracker<T> track(MixedOperation<T, ?, Resource<T>> operation) {
+        StatusTracker<T> tracker = new StatusTracker<>();
+        operation.inNamespace(namespace()).watch(tracker);
+        return tracker;
+    }
+
+    /**
+     * Measures the startup of the operator. All the resources are expected to be reconciled for the first time
+     * (generation 0) after the operator is started.
+     *
+     * @param operator  Name of the operator
+     * @param tracker   Status tracker of the reconciled resources
+     * @param names     Names of the reconciled resources
+     * @param start     Starts the operator
+     *
+     * @param <T>   Type of the resources
+     *
+     * @return  The phase result
+     *
+     * @throws InterruptedException     When interrupted while waiting
+     */
+    public <T extends CustomResource<?, ? extends Status>> PhaseResult startup(String operator, StatusTracker<T> tracker,
+                                                                           List<String> names, Runnable start) throws InterruptedException {
+        return tracked(operator, "startup", tracker, names.size(), () -> {
+            for (String name : names) {
+                tracker.expect(name, 0L);
+            }
+
+            start.run();
+        });
+    }
+
+    /**
+     * Measures a burst of creations. All the resources are created at once and are expected to be reconciled by the
+     * operator for the first time (generation 0) based on the watch events.
+     *
+     * @param operator      Name of the operator
+     * @param phase         Name of the phase
+     * @param operation     Operation for the resources
+     * @param tracker       Status tracker of the reconciled resources
+     * @param resources     The created resources
+     *
+     * @param <T>   Type of the resources
+     *
+     * @return  The phase result
+     *
+     * @throws InterruptedException     When interrupted while waiting
+     */
+    public <T extends CustomResource<?, ? extends Status>> PhaseResult createBurst(String operator, String phase, MixedOperation<T, ?, Resource<T>> operation,
+                                                                               StatusTracker<T> tracker, List<T> resources) throws InterruptedException {
+        return tracked(operator, phase, tracker, resources.size(), () -> {
+            for (T resource : resources) {
+                tracker.expect(resource.getMetadata().getName(), 0L);
+                operation.inNamespace(namespace()).create(resource);
+            }
+        });
+    }
+
+    /**
+     * Measures a burst of watch events. All the resources are modified at once and are expected to be reconciled by
+     * the operator based on the watch events.
+     *
+     * @param operator      Name of the operator
+     * @param phase         Name of the phase
+     * @param operation     Operation for the resources
+     * @param tracker       Status tracker of the reconciled resources
+     * @param names         Names of the modified resources
+     * @param change        Modification of the resource
+     *
+     * @param <T>   Type of the resources
+     *
+     * @return  The phase result
+     *
+     * @throws InterruptedException     When interrupted while waiting
+     */
+    public <T extends CustomResource<?, ? extends Status>> PhaseResult burst(String operator, String phase, MixedOperation<T, ?, Resource<T>> operation,
+                                                                         StatusTracker<T> tracker, List<String> names, UnaryOperator<T> change) throws InterruptedException {
+        return tracked(operator, phase, tracker, names.size(), () -> {
+            for (String name : names) {
+                Resource<T> resource = operation.inNamespace(namespace()).withName(name);
+                T current = resource.get();
+
+                tracker.expect(name, current.getMetadata().getGeneration() + 1);
+                operation.inNamespace(namespace()).withName(name).patch(change.apply(current));
+            }
+        });
+    }
+
+    private <T extends CustomResource<?, ? extends Status>> PhaseResult tracked(String operator, String phase, StatusTracker<T> tracker,
+                                                                            int resources, Runnable trigger) throws InterruptedException {
+        tracker.startPhase(resources);
+        JvmStatistics jvmBefore = JvmStatistics.snapshot();
+        Map<String, Long> callsBefore = apiCalls();
+        long start = System.nanoTime();
+
+        trigger.run();
+        long timedOut = tracker.await(config.getPhaseTimeoutMs());
+
+        long duration = System.nanoTime() - start;
+        PhaseResult result = new PhaseResult(operator, phase, resources, duration, tracker.latencies(), tracker.ready(),
+                tracker.notReady(), timedOut, delta(callsBefore, apiCalls()), jvmBefore, JvmStatistics.snapshot());
+        report.add(result);
+        return result;
+    }
+
+    /**
+     * Measures a periodic sweep of the operator. All resources are listed and reconciled in the same way as in the
+     * periodic reconciliation of the operator. The latency of each reconciliation is measured.
+     *
+     * @param operatorName  Name of the operator
+     * @param phase         Name of the phase
+     * @param operator      The operator
+     *
+     * @return  The phase result
+     *
+     * @throws Exception    When the sweep fails or times out
+     */
+    public PhaseResult sweep(String operatorName, String phase, Operator operator) throws Exception {
+        LatencyRecorder latencies = new LatencyRecorder();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        return measured(operatorName, phase, latencies, succeeded, failed, () -> operator.allResourceNames(namespace())
+                .compose(names -> {
+                    @SuppressWarnings({"rawtypes"})
+                    List<Future> reconciliations = new ArrayList<>(names.size());
+
+                    for (NamespaceAndName name : names) {
+                        long start = System.nanoTime();
+                        Reconciliation reconciliation = new Reconciliation(SWEEP_TRIGGER, operator.kind(), name.getNamespace(), name.getName());
+
+                        reconciliations.add(operator.reconcile(reconciliation)
+                                .onComplete(res -> {
+                                    latencies.record(System.nanoTime() - start);
+                                    (res.succeeded() ? succeeded : failed).incrementAndGet();
+                                })
+                                .recover(error -> Future.succeededFuture()));
+                    }
+
+                    return CompositeFuture.join(reconciliations).map(names.size());
+                }));
+    }
+
+    /**
+     * Measures a periodic sweep done by an operator which does not allow to measure the latency of the individual
+     * reconciliations.
+     *
+     * @param operatorName  Name of the operator
+     * @param phase         Name of the phase
+     * @param resources     Number of the reconciled resources
+     * @param sweep         Runs the sweep
+     *
+     * @return  The phase result
+     *
+     * @throws Exception    When the sweep fails or times out
+     */
+    public PhaseResult sweep(String operatorName, String phase, int resources, Supplier<Future<?>> sweep) throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        return measured(operatorName, phase, new LatencyRecorder(), succeeded, failed, () -> sweep.get()
+                .map(ignored -> {
+                    succeeded.set(resources);
+                    return resources;
+                }));
+    }
+
+    private PhaseResult measured(String operator, String phase, LatencyRecorder latencies, AtomicInteger succeeded,
+                                 AtomicInteger failed, Supplier<Future<Integer>> body) throws Exception {
+        JvmStatistics jvmBefore = JvmStatistics.snapshot();
+        Map<String, Long> callsBefore = apiCalls();
+        long start = System.nanoTime();
+
+        int resources = await(body.get());
+
+        long duration = System.nanoTime() - start;
+        PhaseResult result = new PhaseResult(operator, phase, resources, duration, latencies, succeeded.get(), failed.get(),
+                0, delta(callsBefore, apiCalls()), jvmBefore, JvmStatistics.snapshot());
+        report.add(result);
+        return result;
+    }
+
+    /**
+     * Waits for the future to complete within the phase timeout
+     *
+     * @param future    The future
+     *
+     * @param <T>   Type of the result
+     *
+     * @return  The result of the future
+     *
+     * @throws Exception    When the future fails or times out
+     */
+    public <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(config.getPhaseTimeoutMs(), TimeUnit.MILLISECONDS);
+    }
+
+    private Map<String, Long> apiCalls() {
+        Map<String, Long> calls = new HashMap<>();
+
+        for (Supplier<Map<String, Long>> counter : counters) {
+            calls.putAll(counter.get());
+        }
+
+        return calls;
+    }
+
+    private static Map<String, Long> delta(Map<String, Long> before, Map<String, Long> after) {
+        Map<String, Long> delta = new HashMap<>();
+
+        for (Map.Entry<String, Long> call : after.entrySet()) {
+            long count = call.getValue() - before.getOrDefault(call.getKey(), 0L);
+
+            if (count > 0) {
+                delta.put(call.getKey(), count);
+            }
+        }
+
+        return delta;
+    }
+
+    /**
+     * Names of the resources
+     *
+     * @param prefix    Prefix of the resources
+     * @param count     Number of the resources
+     *
+     * @return  List with the names
+     */
+    public static List<String> names(String prefix, int count) {
+        List<String> names = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            names.add(SyntheticFleet.name(prefix, i));
+        }
+
+        return names;
+    }
+
+    /**
+     * Names of the first resources which are modified in the burst
+     *
+     * @param names     Names of all resources
+     *
+     * @return  Names of the resources modified in the burst
+     */
+    public List<String> burstNames(List<String> names) {
+        return names.subList(0, Math.min(config.getBurstSize(), names.size()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        await(vertx.close());
+    }
+}
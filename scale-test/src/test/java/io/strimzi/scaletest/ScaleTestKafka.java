@@ -0,0 +1,139 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.Kafka;
+import io.strimzi.operator.topic.Topic;
+import io.strimzi.operator.topic.TopicMetadata;
+import io.strimzi.operator.topic.TopicName;
+import io.vertx.core.Future;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory simulation of the Kafka cluster used by the Topic Operator scale test. Unlike {@code MockKafka} used in
+ * the unit tests, it is thread-safe and does not need to be configured with the responses for each topic. It also
+ * counts the calls, so that they can be reported together with the Kubernetes API calls.
+ */
+public class ScaleTestKafka implements Kafka {
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    private void record(String call) {
+        calls.computeIfAbsent(call, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return  Map with the number of Kafka Admin API calls per method
+     */
+    public Map<String, Long> calls() {
+        Map<String, Long> snapshot = new HashMap<>();
+        calls.forEach((call, counter) -> snapshot.put("Kafka " + call, counter.sum()));
+        return snapshot;
+    }
+
+    /**
+     * @return  Number of topics in the simulated Kafka cluster
+     */
+    public int topicCount() {
+        return topics.size();
+    }
+
+    @Override
+    public Future<Void> createTopic(Reconciliation reconciliation, Topic newTopic) {
+        record("createTopic");
+
+        return topics.putIfAbsent(newTopic.getTopicName().toString(), new Topic.Builder(newTopic).withMetadata(null).build()) == null
+                ? Future.succeededFuture()
+                : Future.failedFuture(new TopicExistsException("Topic " + newTopic.getTopicName() + " already exists"));
+    }
+
+    @Override
+    public Future<Void> deleteTopic(Reconciliation reconciliation, TopicName topicName) {
+        record("deleteTopic");
+
+        return topics.remove(topicName.toString()) != null
+                ? Future.succeededFuture()
+                : Future.failedFuture(new UnknownTopicOrPartitionException("Topic " + topicName + " does not exist"));
+    }
+
+    @Override
+    public Future<Boolean> topicExists(Reconciliation reconciliation, TopicName topicName) {
+        record("topicExists");
+        return Future.succeededFuture(topics.containsKey(topicName.toString()));
+    }
+
+    @Override
+    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+        record("updateTopicConfig");
+
+        Topic updated = topics.computeIfPresent(topic.getTopicName().toString(),
+            (name, current) -> new Topic.Builder(current).withConfig(topic.getConfig()).build());
+
+        return updated != null
+                ? Future.succeededFuture()
+                : Future.failedFuture(new UnknownTopicOrPartitionException("Topic " + topic.getTopicName() + " does not exist"));
+    }
+
+    @Override
+    public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
+        record("increasePartitions");
+
+        Topic updated = topics.computeIfPresent(topic.getTopicName().toString(),
+            (name, current) -> new Topic.Builder(current).withNumPartitions(topic.getNumPartitions()).build());
+
+        return updated != null
+                ? Future.succeededFuture()
+                : Future.failedFuture(new UnknownTopicOrPartitionException("Topic " + topic.getTopicName() + " does not exist"));
+    }
+
+    @Override
+    public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
+        record("topicMetadata");
+
+        Topic topic = topics.get(topicName.toString());
+        return Future.succeededFuture(topic != null ? metadata(topic) : null);
+    }
+
+    private static TopicMetadata metadata(Topic topic) {
+        List<Node> nodes = new ArrayList<>(topic.getNumReplicas());
+        for (int nodeId = 0; nodeId < topic.getNumReplicas(); nodeId++) {
+            nodes.add(new Node(nodeId, "localhost", 9092 + nodeId));
+        }
+
+        List<TopicPartitionInfo> partitions = new ArrayList<>(topic.getNumPartitions());
+        for (int partitionId = 0; partitionId < topic.getNumPartitions(); partitionId++) {
+            partitions.add(new TopicPartitionInfo(partitionId, nodes.get(0), nodes, nodes));
+        }
+
+        List<ConfigEntry> configs = new ArrayList<>(topic.getConfig().size());
+        for (Map.Entry<String, String> entry : topic.getConfig().entrySet()) {
+            configs.add(new ConfigEntry(entry.getKey(), entry.getValue()));
+        }
+
+        return new TopicMetadata(new TopicDescription(topic.getTopicName().toString(), false, partitions),
+                new org.apache.kafka.clients.admin.Config(configs));
+    }
+
+    @Override
+    public Future<Set<String>> listTopics() {
+        record("listTopics");
+        return Future.succeededFuture(new HashSet<>(topics.keySet()));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the results of the scale test phases and writes the report.
+ */
+public class ScaleTestReport {
+    private static final Logger LOGGER = LogManager.getLogger(ScaleTestReport.class);
+
+    private final ScaleTestConfig config;
+    private final List<PhaseResult> results = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Constructs the report
+     *
+     * @param config    Configuration of the scale test
+     */
+    public ScaleTestReport(ScaleTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Adds the result of a phase to the report
+     *
+     * @param result    The phase result
+     */
+    public void add(PhaseResult result) {
+        LOGGER.info("Scale test phase finished:{}{}", System.lineSeparator(), result.format());
+        results.add(result);
+    }
+
+    /**
+     * @return  The results of all phases
+     */
+    public List<PhaseResult> results() {
+        return List.copyOf(results);
+    }
+
+    /**
+     * @return  The human readable report
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(config).append(System.lineSeparator()).append(System.lineSeparator());
+
+        for (PhaseResult result : results()) {
+            sb.append(result.format()).append(System.lineSeparator());
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Writes the report into the file configured in the scale test configuration
+     *
+     * @throws IOException  If the report cannot be written
+     */
+    public void write() throws IOException {
+        Path path = Path.of(config.getReportFile());
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        Files.writeString(path, format(), StandardCharsets.UTF_8);
+        LOGGER.info("Scale test report written to {}", path.toAbsolutePath());
+    }
+}
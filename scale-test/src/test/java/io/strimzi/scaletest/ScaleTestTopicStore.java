@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.strimzi.operator.topic.Topic;
+import io.strimzi.operator.topic.TopicName;
+import io.strimzi.operator.topic.TopicStore;
+import io.vertx.core.Future;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory thread-safe topic store used by the Topic Operator scale test. It counts the calls, so that they can be
+ * reported together with the Kubernetes API calls.
+ */
+class ScaleTestTopicStore implements TopicStore {
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    private void record(String call) {
+        calls.computeIfAbsent(call, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return  Map with the number of topic store calls per method
+     */
+    public Map<String, Long> calls() {
+        Map<String, Long> snapshot = new HashMap<>();
+        calls.forEach((call, counter) -> snapshot.put("TopicStore " + call, counter.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public Future<Topic> read(TopicName name) {
+        record("read");
+        return Future.succeededFuture(topics.get(name.toString()));
+    }
+
+    @Override
+    public Future<Void> create(Topic topic) {
+        record("create");
+
+        return topics.putIfAbsent(topic.getTopicName().toString(), topic) == null
+                ? Future.succeededFuture()
+                : Future.failedFuture(new TopicStore.EntityExistsException());
+    }
+
+    @Override
+    public Future<Void> update(Topic topic) {
+        record("update");
+
+        return topics.replace(topic.getTopicName().toString(), topic) != null
+                ? Future.succeededFuture()
+                : Future.failedFuture(new TopicStore.NoSuchEntityExistsException());
+    }
+
+    @Override
+    public Future<Void> delete(TopicName topic) {
+        record("delete");
+
+        return topics.remove(topic.toString()) != null
+                ? Future.succeededFuture()
+                : Future.failedFuture(new TopicStore.NoSuchEntityExistsException());
+    }
+}
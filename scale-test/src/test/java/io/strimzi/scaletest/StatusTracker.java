@@ -0,0 +1,150 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.Status;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Watches the custom resources and measures how long it takes until the operator reports the expected generation in
+ * the status of each resource. The expected generations are registered before the change which should be reconciled
+ * is done. The latency is measured from the registration until the status update with the expected (or newer)
+ * observed generation is received.
+ *
+ * @param <T>   Type of the custom resource
+ */
+public class StatusTracker<T extends CustomResource<?, ? extends Status>> implements Watcher<T> {
+    private final Map<String, Expectation> expectations = new ConcurrentHashMap<>();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final AtomicInteger ready = new AtomicInteger();
+    private final AtomicInteger notReady = new AtomicInteger();
+    private volatile CountDownLatch latch = new CountDownLatch(0);
+
+    private static class Expectation {
+        private final long generation;
+        private final long startNanos;
+
+        Expectation(long generation, long startNanos) {
+            this.generation = generation;
+            this.startNanos = startNanos;
+        }
+    }
+
+    /**
+     * Starts a new phase of the test where given number of resources is expected to be reconciled. The results of
+     * the previous phase are discarded.
+     *
+     * @param count     Number of the resources which will be expected in this phase
+     */
+    public void startPhase(int count) {
+        expectations.clear();
+        latencies.reset();
+        ready.set(0);
+        notReady.set(0);
+        latch = new CountDownLatch(count);
+    }
+
+    /**
+     * Registers the expectation that the resource will be reconciled
+     *
+     * @param name                  Name of the resource
+     * @param expectedGeneration    The generation which is expected to be observed by the operator
+     */
+    public void expect(String name, long expectedGeneration) {
+        expectations.put(name, new Expectation(expectedGeneration, System.nanoTime()));
+    }
+
+    @Override
+    public void eventReceived(Action action, T resource) {
+        if (action != Action.ADDED && action != Action.MODIFIED) {
+            return;
+        }
+
+        Status status = resource.getStatus();
+        if (status == null) {
+            return;
+        }
+
+        String name = resource.getMetadata().getName();
+        Expectation expectation = expectations.get(name);
+
+        if (expectation != null
+                && status.getObservedGeneration() >= expectation.generation
+                && expectations.remove(name, expectation)) {
+            latencies.record(System.nanoTime() - expectation.startNanos);
+
+            if (isReady(status)) {
+                ready.incrementAndGet();
+            } else {
+                notReady.incrementAndGet();
+            }
+
+            latch.countDown();
+        }
+    }
+
+    private static boolean isReady(Status status) {
+        if (status.getConditions() == null) {
+            return false;
+        }
+
+        for (Condition condition : status.getConditions()) {
+            if ("Ready".equals(condition.getType())) {
+                return "True".equals(condition.getStatus());
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void onClose(WatcherException cause) {
+        // Nothing to do
+    }
+
+    /**
+     * Waits until all expected resources are reconciled or until the timeout
+     *
+     * @param timeoutMs     Timeout in milliseconds
+     *
+     * @return  Number of expected resources which were not reconciled within the timeout
+     *
+     * @throws InterruptedException     When interrupted while waiting
+     */
+    public long await(long timeoutMs) throws InterruptedException {
+        latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+        return latch.getCount();
+    }
+
+    /**
+     * @return  Latencies of the reconciliations in the current phase
+     */
+    public LatencyRecorder latencies() {
+        return latencies;
+    }
+
+    /**
+     * @return  Number of resources which were reconciled and are ready in the current phase
+     */
+    public int ready() {
+        return ready.get();
+    }
+
+    /**
+     * @return  Number of resources which were reconciled but are not ready in the current phase
+     */
+    public int notReady() {
+        return notReady.get();
+    }
+}
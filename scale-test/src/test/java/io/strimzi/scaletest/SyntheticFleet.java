@@ -0,0 +1,185 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaConnectBuilder;
+import io.strimzi.api.kafka.model.KafkaConnector;
+import io.strimzi.api.kafka.model.KafkaConnectorBuilder;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.KafkaUserScramSha512ClientAuthentication;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.storage.EphemeralStorage;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+
+/**
+ * Generates the synthetic custom resources used by the scale test. The resources are as small as possible while
+ * still being valid, so that the test measures the overhead of the operators and not of the resources themselves.
+ * The revision is used to generate a different version of the same resource to trigger a new reconciliation. For the
+ * Kafka and KafkaConnect clusters, the revision is set in an annotation so that the new reconciliation does not roll
+ * the (simulated) pods. MockKube increments the generation on every update, including the metadata changes.
+ */
+public class SyntheticFleet {
+    public static final String ANNO_REVISION = "scale-test.strimzi.io/revision";
+
+    private final String namespace;
+
+    /**
+     * Constructs the synthetic fleet generator
+     *
+     * @param namespace     Namespace of the generated resources
+     */
+    public SyntheticFleet(String namespace) {
+        this.namespace = namespace;
+    }
+
+    /**
+     * Name of the n-th resource of given kind
+     *
+     * @param prefix    Prefix used for the resources of given kind
+     * @param index     Index of the resource
+     *
+     * @return  Name of the resource
+     */
+    public static String name(String prefix, int index) {
+        return String.format("%s-%05d", prefix, index);
+    }
+
+    /**
+     * Generates Kafka cluster with single ZooKeeper node and single Kafka broker
+     *
+     * @param name      Name of the Kafka cluster
+     * @param revision  Revision of the spec
+     *
+     * @return  Kafka custom resource
+     */
+    public Kafka kafka(String name, int revision) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .addToAnnotations(ANNO_REVISION, String.valueOf(revision))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(1)
+                        .withStorage(new EphemeralStorage())
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("plain")
+                                .withPort(9092)
+                                .withType(KafkaListenerType.INTERNAL)
+                                .withTls(false)
+                                .build())
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(1)
+                        .withStorage(new EphemeralStorage())
+                    .endZookeeper()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Generates Kafka Connect cluster with the connector operator enabled
+     *
+     * @param name      Name of the Kafka Connect cluster
+     * @param revision  Revision of the spec
+     *
+     * @return  KafkaConnect custom resource
+     */
+    public KafkaConnect kafkaConnect(String name, int revision) {
+        return new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                    .addToAnnotations(ANNO_REVISION, String.valueOf(revision))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withBootstrapServers("my-cluster-kafka-bootstrap:9092")
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Generates Kafka connector
+     *
+     * @param name          Name of the connector
+     * @param connectName   Name of the Kafka Connect cluster where the connector runs
+     * @param revision      Revision of the spec
+     *
+     * @return  KafkaConnector custom resource
+     */
+    public KafkaConnector kafkaConnector(String name, String connectName, int revision) {
+        return new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withClassName("org.apache.kafka.connect.file.FileStreamSourceConnector")
+                    .withTasksMax(1)
+                    .withConfig(Map.of("file", "/dev/null", "topic", name, "scale.test.revision", String.valueOf(revision)))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Generates Kafka topic
+     *
+     * @param name      Name of the topic
+     * @param revision  Revision of the spec
+     *
+     * @return  KafkaTopic custom resource
+     */
+    public KafkaTopic kafkaTopic(String name, int revision) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName(name)
+                    .withPartitions(3)
+                    .withReplicas(3)
+                    .withConfig(Map.of("retention.ms", String.valueOf(3_600_000L + revision)))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Generates Kafka user using the SCRAM-SHA-512 authentication
+     *
+     * @param name      Name of the user
+     * @param revision  Revision of the spec
+     *
+     * @return  KafkaUser custom resource
+     */
+    public KafkaUser kafkaUser(String name, int revision) {
+        return new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withAuthentication(new KafkaUserScramSha512ClientAuthentication())
+                    .withNewQuotas()
+                        .withProducerByteRate(1_048_576 + revision)
+                    .endQuotas()
+                .endSpec()
+                .build();
+    }
+}
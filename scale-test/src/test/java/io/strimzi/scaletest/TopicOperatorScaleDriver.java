@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.topic.Config;
+import io.strimzi.operator.topic.K8sImpl;
+import io.strimzi.operator.topic.K8sTopicWatcher;
+import io.strimzi.operator.topic.Labels;
+import io.strimzi.operator.topic.TopicOperator;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drives the Topic Operator through the scale test. The Kafka cluster and the topic store are simulated in memory by
+ * {@link ScaleTestKafka} and {@link ScaleTestTopicStore}. The phases are:
+ *   - startup of the operator with the KafkaTopic resources which do not exist in Kafka yet
+ *   - periodic sweeps (the full reconciliations)
+ *   - burst of changes to the topic configurations
+ */
+public class TopicOperatorScaleDriver {
+    public static final String OPERATOR = "TopicOperator";
+
+    private static final String TOPIC_PREFIX = "topic";
+
+    private final ScaleTestHarness harness;
+
+    /**
+     * Constructs the Topic Operator driver
+     *
+     * @param harness   The scale test harness
+     */
+    public TopicOperatorScaleDriver(ScaleTestHarness harness) {
+        this.harness = harness;
+    }
+
+    /**
+     * Runs all phases of the Topic Operator scale test
+     *
+     * @throws Exception    When the scale test fails
+     */
+    public void run() throws Exception {
+        ScaleTestConfig config = harness.config();
+        String namespace = harness.namespace();
+
+        Config operatorConfig = new Config(Map.of(
+                Config.TC_KAFKA_BOOTSTRAP_SERVERS, "localhost:9092",
+                Config.TC_ZK_CONNECT, "localhost:2181",
+                Config.TC_NAMESPACE, namespace));
+
+        ScaleTestKafka kafka = new ScaleTestKafka();
+        ScaleTestTopicStore topicStore = new ScaleTestTopicStore();
+        harness.addApiCallCounters(kafka::calls);
+        harness.addApiCallCounters(topicStore::calls);
+
+        Labels labels = new Labels();
+        TopicOperator topicOperator = new TopicOperator(harness.vertx(), kafka,
+                new K8sImpl(harness.vertx(), harness.client(), labels, namespace), topicStore, labels, namespace,
+                operatorConfig, new MicrometerMetricsProvider());
+
+        // The topics exist before the operator starts
+        List<String> topicNames = ScaleTestHarness.names(TOPIC_PREFIX, config.getTopics());
+        List<KafkaTopic> topics = new ArrayList<>(topicNames.size());
+        for (String name : topicNames) {
+            topics.add(harness.fleet().kafkaTopic(name, 0));
+        }
+        harness.createAll(Crds.topicOperation(harness.client()), topics);
+
+        StatusTracker<KafkaTopic> topicTracker = harness.track(Crds.topicOperation(harness.client()));
+
+        // Startup => the watch is opened and the initial reconciliation creates the topics in Kafka. The watch
+        // events are deferred by the watcher until the initial reconciliation completes.
+        Promise<Void> initialReconciliation = Promise.promise();
+        Crds.topicOperation(harness.client()).inNamespace(namespace)
+                .watch(new K8sTopicWatcher(topicOperator, initialReconciliation.future(), () -> { }));
+
+        harness.startup(OPERATOR, topicTracker, topicNames,
+            () -> topicOperator.reconcileAllTopics("initial ").onComplete(ignore -> initialReconciliation.complete()));
+
+        // Periodic sweeps
+        for (int i = 0; i < config.getSweeps(); i++) {
+            harness.sweep(OPERATOR, "sweep " + i, topicNames.size(), () -> topicOperator.reconcileAllTopics("periodic "));
+        }
+
+        // Burst of watch events
+        harness.burst(OPERATOR, "burst", Crds.topicOperation(harness.client()), topicTracker,
+                harness.burstNames(topicNames), topic -> {
+                    topic.getSpec().getConfig().put("retention.ms", "7200000");
+                    return topic;
+                });
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scaletest;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.UserOperatorConfig;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.QuotasOperator;
+import io.strimzi.operator.user.operator.ScramCredentialsOperator;
+import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Drives the User Operator through the scale test. The Kafka Admin API based operators (SCRAM-SHA credentials, quotas
+ * and ACLs) are replaced with stub-only mocks which succeed immediately, so that the test measures the Kubernetes
+ * side of the User Operator. The phases are:
+ *   - startup of the operator with the already existing users
+ *   - periodic sweeps
+ *   - burst of changes to the users
+ */
+public class UserOperatorScaleDriver {
+    public static final String OPERATOR = "UserOperator";
+
+    private static final String USER_PREFIX = "user";
+
+    private final ScaleTestHarness harness;
+
+    /**
+     * Constructs the User Operator driver
+     *
+     * @param harness   The scale test harness
+     */
+    public UserOperatorScaleDriver(ScaleTestHarness harness) {
+        this.harness = harness;
+    }
+
+    /**
+     * Runs all phases of the User Operator scale test
+     *
+     * @throws Exception    When the scale test fails
+     */
+    public void run() throws Exception {
+        ScaleTestConfig config = harness.config();
+        String namespace = harness.namespace();
+
+        UserOperatorConfig operatorConfig = UserOperatorConfig.fromMap(Map.of(
+                UserOperatorConfig.STRIMZI_NAMESPACE, namespace,
+                UserOperatorConfig.STRIMZI_CA_CERT_SECRET_NAME, "ca-cert",
+                UserOperatorConfig.STRIMZI_CA_KEY_SECRET_NAME, "ca-key"));
+
+        // Stub-only mocks do not record the invocations, so they do not grow with the number of reconciliations
+        ScramCredentialsOperator scramOperator = mock(ScramCredentialsOperator.class, withSettings().stubOnly());
+        when(scramOperator.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
+        when(scramOperator.getAllUsers()).thenReturn(Future.succeededFuture(List.of()));
+
+        QuotasOperator quotasOperator = mock(QuotasOperator.class, withSettings().stubOnly());
+        when(quotasOperator.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
+        when(quotasOperator.getAllUsers()).thenReturn(Future.succeededFuture(Set.of()));
+
+        SimpleAclOperator aclOperator = mock(SimpleAclOperator.class, withSettings().stubOnly());
+        when(aclOperator.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
+        when(aclOperator.getAllUsers()).thenReturn(Future.succeededFuture(Set.of()));
+
+        CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperator = new CrdOperator<>(harness.vertx(),
+                harness.client(), KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND);
+        KafkaUserOperator userOperator = new KafkaUserOperator(harness.vertx(), new MockCertManager(), crdOperator,
+                new SecretOperator(harness.vertx(), harness.client()), scramOperator, quotasOperator, aclOperator,
+                operatorConfig);
+
+        // The users exist before the operator starts
+        List<String> userNames = ScaleTestHarness.names(USER_PREFIX, config.getUsers());
+        List<KafkaUser> users = new ArrayList<>(userNames.size());
+        for (String name : userNames) {
+            users.add(harness.fleet().kafkaUser(name, 0));
+        }
+        harness.createAll(Crds.kafkaUserOperation(harness.client()), users);
+
+        StatusTracker<KafkaUser> userTracker = harness.track(Crds.kafkaUserOperation(harness.client()));
+
+        // Startup => the watch is opened and all users are reconciled
+        harness.await(userOperator.createWatch(namespace, e -> { }));
+        harness.startup(OPERATOR, userTracker, userNames,
+            () -> userOperator.reconcileAll(ScaleTestHarness.SWEEP_TRIGGER, namespace, ignore -> { }));
+
+        // Periodic sweeps
+        for (int i = 0; i < config.getSweeps(); i++) {
+            harness.sweep(OPERATOR, "sweep " + i, userOperator);
+        }
+
+        // Burst of watch events
+        harness.burst(OPERATOR, "burst", Crds.kafkaUserOperation(harness.client()), userTracker,
+                harness.burstNames(userNames), user -> {
+                    user.getSpec().getQuotas().setProducerByteRate(user.getSpec().getQuotas().getProducerByteRate() + 1);
+                    return user;
+                });
+    }
+}
@@ -106,6 +106,8 @@ public class Config {
     public static final String TC_ZK_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String TC_ZK_CONNECTION_TIMEOUT_MS = "TC_ZK_CONNECTION_TIMEOUT_MS";
     public static final String TC_PERIODIC_INTERVAL_MS = "STRIMZI_FULL_RECONCILIATION_INTERVAL_MS";
+    public static final String TC_FULL_RECONCILIATION_PAGE_SIZE = "STRIMZI_FULL_RECONCILIATION_PAGE_SIZE";
+    public static final String TC_LIST_PAGE_SIZE = "STRIMZI_LIST_PAGE_SIZE";
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
@@ -129,8 +131,10 @@ public class Config {
     public static final String TC_STORE_NAME = "STRIMZI_STORE_NAME";
     public static final String TC_APPLICATION_ID = "STRIMZI_APPLICATION_ID";
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
+    public static final String TC_USE_BINARY_STORE_FORMAT = "STRIMZI_USE_BINARY_STORE_FORMAT";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
+    public static final String TC_USE_CONFIG_CHANGE_NOTIFICATIONS = "STRIMZI_USE_CONFIG_CHANGE_NOTIFICATIONS";
 
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
@@ -158,6 +162,12 @@ public class Config {
     /** The period between full reconciliations. */
     public static final Value<Long> FULL_RECONCILIATION_INTERVAL_MS = new Value<>(TC_PERIODIC_INTERVAL_MS, DURATION, "120000");
 
+    /** The maximal number of topics and KafkaTopic resources reconciled in a single page of the full reconciliation */
+    public static final Value<Integer> FULL_RECONCILIATION_PAGE_SIZE = new Value<>(TC_FULL_RECONCILIATION_PAGE_SIZE, POSITIVE_INTEGER, "500");
+
+    /** The maximal number of KafkaTopic resources fetched in a single request when listing all KafkaTopic resources */
+    public static final Value<Integer> LIST_PAGE_SIZE = new Value<>(TC_LIST_PAGE_SIZE, POSITIVE_INTEGER, "500");
+
     /** The interbroker throttled rate to use when a topic change requires partition reassignment. */
     public static final Value<Long> REASSIGN_THROTTLE = new Value<>(TC_REASSIGN_THROTTLE, LONG, Long.toString(Long.MAX_VALUE));
 
@@ -206,10 +216,15 @@ public class Config {
     public static final Value<String> APPLICATION_ID = new Value<>(TC_APPLICATION_ID, STRING, "__strimzi-topic-operator-kstreams");
     /** The stale timeout for the Kafka Streams based TopicStore */
     public static final Value<Long> STALE_RESULT_TIMEOUT_MS = new Value<>(TC_STALE_RESULT_TIMEOUT_MS, DURATION, "5000");
+    /** Do we write the Kafka Streams based TopicStore records in the compact binary format instead of JSON */
+    public static final Value<Boolean> USE_BINARY_STORE_FORMAT = new Value<>(TC_USE_BINARY_STORE_FORMAT, BOOLEAN, "false");
 
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /** Do we detect topic changes using the config change notifications instead of per-topic ZooKeeper watches */
+    public static final Value<Boolean> USE_CONFIG_CHANGE_NOTIFICATIONS = new Value<>(TC_USE_CONFIG_CHANGE_NOTIFICATIONS, BOOLEAN, "false");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -220,6 +235,8 @@ public class Config {
         addConfigValue(configValues, ZOOKEEPER_SESSION_TIMEOUT_MS);
         addConfigValue(configValues, ZOOKEEPER_CONNECTION_TIMEOUT_MS);
         addConfigValue(configValues, FULL_RECONCILIATION_INTERVAL_MS);
+        addConfigValue(configValues, FULL_RECONCILIATION_PAGE_SIZE);
+        addConfigValue(configValues, LIST_PAGE_SIZE);
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
@@ -239,7 +256,9 @@ public class Config {
         addConfigValue(configValues, STORE_NAME);
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
+        addConfigValue(configValues, USE_BINARY_STORE_FORMAT);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, USE_CONFIG_CHANGE_NOTIFICATIONS);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
@@ -11,6 +11,7 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 
 import java.util.List;
+import java.util.function.Function;
 
 public interface K8s {
 
@@ -49,10 +50,14 @@ public interface K8s {
     Future<Void> deleteResource(Reconciliation reconciliation, ResourceName resourceName);
 
     /**
-     * Asynchronously list the resources.
-     * @return A future which completes with the topics.
+     * Asynchronously list the resources page by page. The next page is listed only once the future returned by the
+     * {@code pageHandler} for the previous page completes, so only a single page of topics has to be kept in memory.
+     * When the listing is restarted part-way through, some topics can be passed to the handler more than once.
+     *
+     * @param pageHandler The handler of the pages of topics.
+     * @return A future which completes when all pages were handled, or fails when listing or handling a page fails.
      */
-    Future<List<KafkaTopic>> listResources();
+    Future<Void> listResources(Function<List<KafkaTopic>, Future<Void>> pageHandler);
 
     /**
      * Get the resource with the given name, invoking the given handler with the result.
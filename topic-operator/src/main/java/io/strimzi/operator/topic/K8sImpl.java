@@ -12,16 +12,18 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.List;
+import java.util.function.Function;
 
 public class K8sImpl implements K8s {
 
@@ -34,9 +36,15 @@ public class K8sImpl implements K8s {
     private final CrdOperator<KubernetesClient, KafkaTopic, KafkaTopicList> crdOperator;
 
     private final Vertx vertx;
+    private final int listPageSize;
 
     public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
+        this(vertx, client, labels, namespace, AbstractResourceOperator.DEFAULT_LIST_PAGE_SIZE);
+    }
+
+    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace, int listPageSize) {
         this.vertx = vertx;
+        this.listPageSize = listPageSize;
         this.client = client;
         this.crdOperator = new CrdOperator<>(vertx, client, KafkaTopic.class, KafkaTopicList.class, KafkaTopic.RESOURCE_KIND);
         this.labels = labels;
@@ -45,8 +53,7 @@ public class K8sImpl implements K8s {
 
     @Override
     public Future<KafkaTopic> createResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).create(topicResource);
                 LOGGER.debug("KafkaTopic {} created with version {}->{}",
@@ -57,14 +64,12 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 
     @Override
     public Future<KafkaTopic> updateResource(KafkaTopic topicResource) {
-        Promise<KafkaTopic> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, future -> {
             try {
                 KafkaTopic kafkaTopic = operation().inNamespace(namespace).withName(topicResource.getMetadata().getName()).patch(topicResource);
                 LOGGER.debug("KafkaTopic {} updated with version {}->{}",
@@ -75,8 +80,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 
     @Override
@@ -86,8 +90,7 @@ public class K8sImpl implements K8s {
 
     @Override
     public Future<Void> deleteResource(Reconciliation reconciliation, ResourceName resourceName) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, future -> {
             try {
                 // Delete the resource by the topic name, because neither ZK nor Kafka know the resource name
                 if (!Boolean.TRUE.equals(operation().inNamespace(namespace).withName(resourceName.toString()).withPropagationPolicy(DeletionPropagation.FOREGROUND).delete())) {
@@ -104,8 +107,7 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 
     private MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation() {
@@ -113,8 +115,13 @@ public class K8sImpl implements K8s {
     }
 
     @Override
-    public Future<List<KafkaTopic>> listResources() {
-        return crdOperator.listAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()));
+    public Future<Void> listResources(Function<List<KafkaTopic>, Future<Void>> pageHandler) {
+        // Fetched in pages to avoid a single huge response from the Kubernetes API and to keep only one page in memory
+        return crdOperator.processPagesAsync(namespace, io.strimzi.operator.common.model.Labels.fromMap(labels.labels()), listPageSize,
+                page -> {
+                    LOGGER.debug("Listed page of {} KafkaTopics", page.size());
+                    return pageHandler.apply(page);
+                });
     }
 
     @Override
@@ -127,8 +134,7 @@ public class K8sImpl implements K8s {
      */
     @Override
     public Future<Void> createEvent(Event event) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
+        return BlockingExecutor.get(vertx).executeBlocking(BlockingExecutor.Bulkhead.WRITE, future -> {
             try {
                 try {
                     LOGGER.debug("Creating event {}", event);
@@ -140,7 +146,6 @@ public class K8sImpl implements K8s {
             } catch (Exception e) {
                 future.fail(e);
             }
-        }, handler);
-        return handler.future();
+        });
     }
 }
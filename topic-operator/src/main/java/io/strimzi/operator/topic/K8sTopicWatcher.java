@@ -14,21 +14,32 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-class K8sTopicWatcher implements Watcher<KafkaTopic> {
+/**
+ * Watcher for the KafkaTopic resources. While the initial reconciliation is running, the events for the topics which
+ * were already reconciled by it are processed immediately. The events for the other topics are deferred and processed
+ * once the initial reconciliation completes. Only the last deferred event for each KafkaTopic is kept.
+ */
+public class K8sTopicWatcher implements Watcher<KafkaTopic> {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(K8sTopicWatcher.class);
-    private final Future<Void> initReconcileFuture;
     private final Runnable onHttpGoneTask;
 
     private TopicOperator topicOperator;
 
+    // Guarded by this
+    private boolean initReconcileDone = false;
+    private final Map<String, DeferredEvent> deferredEvents = new LinkedHashMap<>();
+
     public K8sTopicWatcher(TopicOperator topicOperator, Future<Void> initReconcileFuture, Runnable onHttpGoneTask) {
         this.topicOperator = topicOperator;
-        this.initReconcileFuture = initReconcileFuture;
         this.onHttpGoneTask = onHttpGoneTask;
+        initReconcileFuture.onComplete(ignored -> processDeferredEvents());
     }
 
     @Override
@@ -39,8 +50,8 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
             LogContext logContext = LogContext.kubeWatch(action, kafkaTopic).withKubeTopic(kafkaTopic);
             String name = metadata.getName();
             String kind = kafkaTopic.getKind();
-            if (!initReconcileFuture.isComplete()) {
-                LOGGER.debugCr(logContext.toReconciliation(), "Ignoring initial event for {} {} during initial reconcile", kind, name);
+            if (deferIfNotReconciledYet(action, kafkaTopic)) {
+                LOGGER.debugCr(logContext.toReconciliation(), "Deferring event for {} {} until the initial reconcile completes", kind, name);
                 return;
             }
             if (action.equals(Action.ERROR)) {
@@ -80,6 +91,52 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
         }
     }
 
+    /**
+     * Defers the event when the initial reconciliation is still running and did not reconcile the topic yet.
+     *
+     * @param action        Watch action
+     * @param kafkaTopic    KafkaTopic resource
+     *
+     * @return  True if the event was deferred. False if it should be processed now.
+     */
+    private boolean deferIfNotReconciledYet(Action action, KafkaTopic kafkaTopic) {
+        synchronized (this) {
+            if (initReconcileDone || isReconciledInInitialReconcile(kafkaTopic)) {
+                return false;
+            }
+
+            deferredEvents.put(kafkaTopic.getMetadata().getName(), new DeferredEvent(action, kafkaTopic));
+            return true;
+        }
+    }
+
+    private boolean isReconciledInInitialReconcile(KafkaTopic kafkaTopic) {
+        try {
+            return topicOperator.isReconciledInFullReconciliation(new TopicName(kafkaTopic));
+        } catch (RuntimeException e) {
+            // Invalid topic name => leave it to the initial reconciliation to report it
+            return false;
+        }
+    }
+
+    private void processDeferredEvents() {
+        List<DeferredEvent> events;
+        synchronized (this) {
+            initReconcileDone = true;
+            events = new ArrayList<>(deferredEvents.values());
+            deferredEvents.clear();
+        }
+
+        LOGGER.debugOp("Processing {} events deferred during the initial reconcile", events.size());
+        for (DeferredEvent event : events) {
+            eventReceived(event.action, event.kafkaTopic);
+        }
+    }
+
+    /* test */ synchronized int deferredEventsCount() {
+        return deferredEvents.size();
+    }
+
     public boolean shouldReconcile(KafkaTopic kafkaTopic, ObjectMeta metadata, boolean pauseAnnotationChanged) {
         return kafkaTopic.getStatus() == null // Not status => new KafkaTopic
                 // KT has changed
@@ -107,6 +164,16 @@ class K8sTopicWatcher implements Watcher<KafkaTopic> {
         }
     }
 
+    private static class DeferredEvent {
+        private final Action action;
+        private final KafkaTopic kafkaTopic;
+
+        DeferredEvent(Action action, KafkaTopic kafkaTopic) {
+            this.action = action;
+            this.kafkaTopic = kafkaTopic;
+        }
+    }
+
     private static class PauseAnnotationChanges {
         private boolean resourcePausedByAnno;
         private boolean resourceUnpausedByAnno;
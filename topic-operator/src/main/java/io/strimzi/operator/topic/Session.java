@@ -59,6 +59,7 @@ public class Session extends AbstractVerticle {
     /*test*/ ZkTopicsWatcher topicsWatcher;
     /*test*/ TopicConfigsWatcher topicConfigsWatcher;
     /*test*/ ZkTopicWatcher topicWatcher;
+    /*test*/ ZkConfigChangesWatcher configChangesWatcher;
     /*test*/ PrometheusMeterRegistry metricsRegistry;
     K8sTopicWatcher watcher;
     /** The id of the periodic reconciliation timer. This is null during a periodic reconciliation. */
@@ -165,7 +166,7 @@ public class Session extends AbstractVerticle {
 
         String namespace = config.get(Config.NAMESPACE);
         LOGGER.debug("Using namespace {}", namespace);
-        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace);
+        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace, config.get(Config.LIST_PAGE_SIZE));
         LOGGER.debug("Using k8s {}", k8s);
 
         String clientId = config.get(Config.CLIENT_ID);
@@ -216,11 +217,17 @@ public class Session extends AbstractVerticle {
                 this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
-                LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
-                this.topicWatcher = new ZkTopicWatcher(topicOperator);
-                LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                if (config.get(Config.USE_CONFIG_CHANGE_NOTIFICATIONS)) {
+                    this.configChangesWatcher = new ZkConfigChangesWatcher(topicOperator);
+                    LOGGER.debug("Using ConfigChangesWatcher {}", configChangesWatcher);
+                    this.topicsWatcher = new ZkTopicsWatcher(topicOperator, configChangesWatcher);
+                } else {
+                    this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                    LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
+                    this.topicWatcher = new ZkTopicWatcher(topicOperator);
+                    LOGGER.debug("Using TopicWatcher {}", topicWatcher);
+                    this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                }
                 LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
                 topicsWatcher.start(zk);
 
@@ -0,0 +1,365 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.apache.kafka.common.config.TopicConfig;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary serialization of the {@link Topic} and {@link TopicCommand} used in the Kafka Streams based topic
+ * store. Compared to the JSON format, it does not repeat the field names, encodes the numbers as variable length
+ * integers and replaces the well known topic config keys with their index in a fixed dictionary.
+ *
+ * The first byte of the binary format is the format version. The JSON format always starts with {@code '{'}, so the
+ * readers can distinguish both formats and read the records stored in the JSON format by older versions of the
+ * Topic Operator.
+ *
+ * Topic (version 1):
+ * <pre>
+ *   byte     format version (1)
+ *   byte     flags (bit 0: the resource name is derived from the topic name and is not stored)
+ *   string   topic name
+ *   string   resource name (only when not derived from the topic name)
+ *   varint   number of partitions (zig-zag encoded)
+ *   varint   number of replicas (zig-zag encoded)
+ *   varint   number of config entries
+ *   entries  varint key index (index into the dictionary + 1, or 0 followed by the key as string), string value
+ * </pre>
+ *
+ * TopicCommand (version 1):
+ * <pre>
+ *   byte     format version (1)
+ *   byte     command type ID
+ *   varint   command version
+ *   byte     UUID encoding (0: two longs follow, 1: string follows)
+ *   ...      UUID
+ *   ...      topic (CREATE and UPDATE) or topic name as string (DELETE)
+ * </pre>
+ *
+ * Strings are encoded as varint length followed by the UTF-8 bytes.
+ */
+final class TopicBinarySerialization {
+    /* test */ static final byte FORMAT_VERSION = 1;
+    private static final byte JSON_START = '{';
+
+    private static final int FLAG_DERIVED_RESOURCE_NAME = 0x01;
+    private static final byte UUID_AS_LONGS = 0;
+    private static final byte UUID_AS_STRING = 1;
+
+    /**
+     * Dictionary of the config keys. New keys can be only appended to the end of this list. Removing or reordering the
+     * keys would break reading of the records stored by the previous versions.
+     */
+    /* test */ static final List<String> CONFIG_KEYS = List.of(
+            TopicConfig.CLEANUP_POLICY_CONFIG,
+            TopicConfig.COMPRESSION_TYPE_CONFIG,
+            TopicConfig.DELETE_RETENTION_MS_CONFIG,
+            TopicConfig.FILE_DELETE_DELAY_MS_CONFIG,
+            TopicConfig.FLUSH_MESSAGES_INTERVAL_CONFIG,
+            TopicConfig.FLUSH_MS_CONFIG,
+            "follower.replication.throttled.replicas",
+            TopicConfig.INDEX_INTERVAL_BYTES_CONFIG,
+            "leader.replication.throttled.replicas",
+            TopicConfig.MAX_COMPACTION_LAG_MS_CONFIG,
+            TopicConfig.MAX_MESSAGE_BYTES_CONFIG,
+            TopicConfig.MESSAGE_DOWNCONVERSION_ENABLE_CONFIG,
+            TopicConfig.MESSAGE_FORMAT_VERSION_CONFIG,
+            TopicConfig.MESSAGE_TIMESTAMP_DIFFERENCE_MAX_MS_CONFIG,
+            TopicConfig.MESSAGE_TIMESTAMP_TYPE_CONFIG,
+            TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG,
+            TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG,
+            TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG,
+            TopicConfig.PREALLOCATE_CONFIG,
+            TopicConfig.RETENTION_BYTES_CONFIG,
+            TopicConfig.RETENTION_MS_CONFIG,
+            TopicConfig.SEGMENT_BYTES_CONFIG,
+            TopicConfig.SEGMENT_INDEX_BYTES_CONFIG,
+            TopicConfig.SEGMENT_JITTER_MS_CONFIG,
+            TopicConfig.SEGMENT_MS_CONFIG,
+            TopicConfig.UNCLEAN_LEADER_ELECTION_ENABLE_CONFIG
+    );
+
+    private static final Map<String, Integer> CONFIG_KEY_INDEXES = new HashMap<>(CONFIG_KEYS.size());
+
+    static {
+        for (int i = 0; i < CONFIG_KEYS.size(); i++) {
+            CONFIG_KEY_INDEXES.put(CONFIG_KEYS.get(i), i);
+        }
+    }
+
+    private TopicBinarySerialization() { }
+
+    /**
+     * Checks whether the data are stored in the JSON format
+     *
+     * @param data  Serialized data
+     *
+     * @return  True if the data use the JSON format. False otherwise.
+     */
+    static boolean isJson(byte[] data) {
+        return data.length > 0 && data[0] == JSON_START;
+    }
+
+    /**
+     * Serializes the Topic into the binary format
+     *
+     * @param topic     Topic
+     *
+     * @return  Serialized Topic
+     */
+    static byte[] toBytes(Topic topic) {
+        Writer writer = new Writer(64 + 32 * topic.getConfig().size());
+        writer.writeByte(FORMAT_VERSION);
+        writeTopic(writer, topic);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Deserializes the Topic from the binary format
+     *
+     * @param data  Serialized Topic
+     *
+     * @return  Topic
+     */
+    static Topic fromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        checkVersion(reader.readByte());
+        return readTopic(reader);
+    }
+
+    /**
+     * Serializes the TopicCommand into the binary format
+     *
+     * @param command   TopicCommand
+     *
+     * @return  Serialized TopicCommand
+     */
+    static byte[] toBytes(TopicCommand command) {
+        Writer writer = new Writer(command.getTopic() != null ? 96 + 32 * command.getTopic().getConfig().size() : 64);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeByte(command.getType().getId());
+        writer.writeVarint(command.getVersion());
+
+        UUID uuid = parseUuid(command.getUuid());
+        if (uuid != null) {
+            writer.writeByte(UUID_AS_LONGS);
+            writer.writeLong(uuid.getMostSignificantBits());
+            writer.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            writer.writeByte(UUID_AS_STRING);
+            writer.writeString(command.getUuid());
+        }
+
+        if (command.getType() == TopicCommand.Type.CREATE || command.getType() == TopicCommand.Type.UPDATE) {
+            writeTopic(writer, command.getTopic());
+        } else {
+            writer.writeString(command.getKey());
+        }
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Deserializes the TopicCommand from the binary format
+     *
+     * @param data  Serialized TopicCommand
+     *
+     * @return  TopicCommand
+     */
+    static TopicCommand commandFromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        checkVersion(reader.readByte());
+        TopicCommand.Type type = TopicCommand.Type.fromId(reader.readByte());
+        int version = reader.readVarint();
+
+        String uuid;
+        byte uuidEncoding = reader.readByte();
+        if (uuidEncoding == UUID_AS_LONGS) {
+            uuid = new UUID(reader.readLong(), reader.readLong()).toString();
+        } else if (uuidEncoding == UUID_AS_STRING) {
+            uuid = reader.readString();
+        } else {
+            throw new IllegalArgumentException("Unknown UUID encoding " + uuidEncoding);
+        }
+
+        Topic topic = null;
+        TopicName name = null;
+        if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+            topic = readTopic(reader);
+        } else {
+            name = new TopicName(reader.readString());
+        }
+
+        return new TopicCommand(uuid, type, topic, name, version);
+    }
+
+    private static void checkVersion(byte version) {
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary format version " + version);
+        }
+    }
+
+    private static UUID parseUuid(String uuid) {
+        try {
+            UUID parsed = UUID.fromString(uuid);
+            // Only the canonical form can be restored from the two longs
+            return parsed.toString().equals(uuid) ? parsed : null;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static void writeTopic(Writer writer, Topic topic) {
+        String topicName = topic.getTopicName().toString();
+        String resourceName = topic.getOrAsKubeName().toString();
+        boolean derivedResourceName = resourceName.equals(topic.getTopicName().asKubeName().toString());
+
+        writer.writeByte(derivedResourceName ? FLAG_DERIVED_RESOURCE_NAME : 0);
+        writer.writeString(topicName);
+        if (!derivedResourceName) {
+            writer.writeString(resourceName);
+        }
+        writer.writeZigZagVarint(topic.getNumPartitions());
+        writer.writeZigZagVarint(topic.getNumReplicas());
+
+        writer.writeVarint(topic.getConfig().size());
+        for (Map.Entry<String, String> entry : topic.getConfig().entrySet()) {
+            Integer index = CONFIG_KEY_INDEXES.get(entry.getKey());
+            if (index != null) {
+                writer.writeVarint(index + 1);
+            } else {
+                writer.writeVarint(0);
+                writer.writeString(entry.getKey());
+            }
+            writer.writeString(entry.getValue());
+        }
+    }
+
+    private static Topic readTopic(Reader reader) {
+        int flags = reader.readByte();
+        String topicName = reader.readString();
+
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName(topicName)
+                .withMapName((flags & FLAG_DERIVED_RESOURCE_NAME) != 0 ? new TopicName(topicName).asKubeName().toString() : reader.readString())
+                .withNumPartitions(reader.readZigZagVarint())
+                .withNumReplicas((short) reader.readZigZagVarint());
+
+        int configSize = reader.readVarint();
+        for (int i = 0; i < configSize; i++) {
+            int index = reader.readVarint();
+            String key;
+            if (index == 0) {
+                key = reader.readString();
+            } else if (index <= CONFIG_KEYS.size()) {
+                key = CONFIG_KEYS.get(index - 1);
+            } else {
+                throw new IllegalArgumentException("Unknown config key index " + index);
+            }
+            builder.withConfigEntry(key, reader.readString());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Writes the binary format
+     */
+    private static class Writer extends ByteArrayOutputStream {
+        Writer(int size) {
+            super(size);
+        }
+
+        void writeByte(int value) {
+            write(value);
+        }
+
+        void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeZigZagVarint(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Reads the binary format
+     */
+    private static class Reader {
+        private final byte[] data;
+        private int position = 0;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private void ensureAvailable(int length) {
+            if (length < 0 || position + length > data.length) {
+                throw new IllegalArgumentException("Unexpected end of the binary data");
+            }
+        }
+
+        byte readByte() {
+            ensureAvailable(1);
+            return data[position++];
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Invalid varint in the binary data");
+        }
+
+        int readZigZagVarint() {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            int length = readVarint();
+            ensureAvailable(length);
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -11,7 +11,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde. It always reads both the JSON and the binary format (see {@link TopicBinarySerialization}),
+ * but writes the binary format only when enabled.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -21,8 +22,25 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
     private static final String KEY = "key";
     private static final String VERSION = "version";
 
+    private final boolean binary;
+
+    public TopicCommandSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binary    Serialize into the compact binary format instead of JSON
+     */
+    public TopicCommandSerde(boolean binary) {
+        this.binary = binary;
+    }
+
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        if (binary) {
+            return TopicBinarySerialization.toBytes(data);
+        }
+
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -39,6 +57,10 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
+        if (!TopicBinarySerialization.isJson(data)) {
+            return TopicBinarySerialization.commandFromBytes(data);
+        }
+
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
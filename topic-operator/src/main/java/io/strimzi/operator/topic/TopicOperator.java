@@ -51,11 +51,10 @@ import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
-import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
-class TopicOperator {
+public class TopicOperator {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperator.class);
 
@@ -79,6 +78,9 @@ class TopicOperator {
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
+    private AtomicInteger fullReconciliationTopics = new AtomicInteger(0);
+    private AtomicInteger fullReconciliationTopicsReconciled = new AtomicInteger(0);
+    private final Set<TopicName> reconciledInFullReconciliation = ConcurrentHashMap.newKeySet();
 
     enum EventType {
         INFO("Info"),
@@ -433,6 +435,14 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            fullReconciliationTopics = metrics.gauge(METRICS_PREFIX + "reconciliations.full.topics",
+                    "Number of topics found so far by the current or last full reconciliation",
+                    metricTags);
+
+            fullReconciliationTopicsReconciled = metrics.gauge(METRICS_PREFIX + "reconciliations.full.topics.reconciled",
+                    "Number of topics reconciled so far by the current or last full reconciliation",
+                    metricTags);
         }
     }
 
@@ -1297,149 +1307,245 @@ class TopicOperator {
         private final Set<TopicName> succeeded;
         private final Set<TopicName> undetermined;
         private final Map<TopicName, Throwable> failed;
-        private List<KafkaTopic> ktList;
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
 
         public ReconcileState(Set<TopicName> succeeded, Set<TopicName> undetermined, Map<TopicName, Throwable> failed) {
             this.succeeded = succeeded;
             this.undetermined = undetermined;
             this.failed = failed;
-            this.ktList = emptyList();
         }
 
-        public void setKafkaTopics(List<KafkaTopic> ktList) {
-            this.ktList = ktList;
+        /**
+         * Records the failure of a page. The full reconciliation continues with the next pages and fails with the
+         * first recorded failure at the end.
+         *
+         * @param error     The failure
+         *
+         * @return  Succeeded future to continue with the next page
+         */
+        private Future<Void> recordFailure(Throwable error) {
+            firstFailure.compareAndSet(null, error);
+            return Future.succeededFuture();
+        }
+
+        private Future<Void> result() {
+            return firstFailure.get() != null ? Future.failedFuture(firstFailure.get()) : Future.succeededFuture();
         }
     }
 
-    Future<?> reconcileAllTopics(String reconciliationType) {
+    /**
+     * Reconciles all topics. The topics found in Kafka and the KafkaTopic resources are reconciled in pages of at most
+     * {@link Config#FULL_RECONCILIATION_PAGE_SIZE} topics. This bounds the number of concurrent reconciliations. The
+     * KafkaTopic resources are reconciled while they are listed, so only one listed page of at most
+     * {@link Config#LIST_PAGE_SIZE} resources is held in memory. The progress is exposed in the
+     * {@code reconciliations.full.topics} and {@code reconciliations.full.topics.reconciled} metrics. The watch events
+     * for the topics which were already reconciled can be processed while the full reconciliation continues (see
+     * {@link #isReconciledInFullReconciliation(TopicName)}).
+     *
+     * @param reconciliationType    Type of the reconciliation used in the logs
+     *
+     * @return  Future which completes when all topics were reconciled
+     */
+    public Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
+        int pageSize = config.get(Config.FULL_RECONCILIATION_PAGE_SIZE);
+        ReconcileState reconcileState = new ReconcileState(new HashSet<>(), new HashSet<>(), new HashMap<>());
+        startFullReconciliation();
+
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
-            Future<List<KafkaTopic>> ktFut = k8s.listResources();
-            return ktFut.recover(ex -> Future.failedFuture(
-                    new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
-            )).map(ktList -> {
-                reconcileState.setKafkaTopics(ktList);
-                return reconcileState;
-            });
-        }).compose(reconcileState -> {
-            List<Future> futs = new ArrayList<>();
+        )).compose(topicNamesFromKafka -> {
+            // Reconcile the topic found in Kafka
+            List<TopicName> topicsFromKafka = topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList());
+            fullReconciliationTopics.set(topicsFromKafka.size());
+            return reconcileFromKafka(reconciliationType, topicsFromKafka, pageSize, reconcileState);
+        }).compose(ignored -> {
             pausedTopicCounter.set(0);
-            topicCounter.set(reconcileState.ktList.size());
-            for (KafkaTopic kt : reconcileState.ktList) {
-                if (Annotations.isReconciliationPausedWithAnnotation(kt)) {
-                    pausedTopicCounter.getAndIncrement();
-                }
-                LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName(), kt.getMetadata().getNamespace(), kt.getMetadata().getName()).withKubeTopic(kt);
-                Topic topic = TopicSerialization.fromTopicResource(kt);
-                TopicName topicName = topic.getTopicName();
-                if (reconcileState.failed.containsKey(topicName)) {
-                    // we already failed to reconcile this topic in reconcileFromKafka(), /
-                    // don't bother trying again
-                    LOGGER.traceCr(logContext.toReconciliation(), "Already failed to reconcile {}", topicName);
-                    reconciliationsCounter.increment();
-                    failedReconciliationsCounter.increment();
-                } else if (reconcileState.succeeded.contains(topicName)) {
-                    // we already succeeded in reconciling this topic in reconcileFromKafka()
-                    LOGGER.traceCr(logContext.toReconciliation(), "Already successfully reconciled {}", topicName);
-                    reconciliationsCounter.increment();
-                    successfulReconciliationsCounter.increment();
-                } else if (reconcileState.undetermined.contains(topicName)) {
-                    // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
-                        // if success then remove from undetermined add to success
-                        reconcileState.undetermined.remove(topicName);
-                        reconcileState.succeeded.add(topicName);
-                        return Future.succeededFuture(Boolean.TRUE);
-                    }));
-                } else {
-                    // Topic exists in kube, but not in Kafka
-                    LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
-                        // if success then add to success
-                        reconcileState.succeeded.add(topicName);
-                        return Future.succeededFuture(Boolean.TRUE);
-                    }));
-                }
+            Set<TopicName> kubeTopics = new HashSet<>();
+            return reconcileFromKube(reconciliationType, reconcileState, pageSize, kubeTopics)
+                    .<Void>map(i -> {
+                        topicCounter.set(kubeTopics.size());
+                        return null;
+                    });
+        }).compose(ignored -> {
+            List<Future> futs2 = new ArrayList<>();
+            for (Throwable exception : reconcileState.failed.values()) {
+                futs2.add(Future.failedFuture(exception));
             }
-            return CompositeFuture.join(futs).compose(joined -> {
-                List<Future> futs2 = new ArrayList<>();
-                for (Throwable exception : reconcileState.failed.values()) {
-                    futs2.add(Future.failedFuture(exception));
-                }
-                // anything left in undetermined doesn't exist in topic store nor kube
-                for (TopicName tn : reconcileState.undetermined) {
-                    LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn, namespace, tn.asKubeName().toString());
-                    futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation(logContext, "delete-remaining", true) {
-                        @Override
-                        public Future<Void> execute() {
-                            observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
-                        }
-                    }));
-                }
-                return CompositeFuture.join(futs2);
-            });
-        });
+            // anything left in undetermined doesn't exist in topic store nor kube
+            for (TopicName tn : reconcileState.undetermined) {
+                LogContext logContext = LogContext.periodic(reconciliationType + "-" + tn, namespace, tn.asKubeName().toString());
+                futs2.add(executeWithTopicLockHeld(logContext, tn, new Reconciliation(logContext, "delete-remaining", true) {
+                    @Override
+                    public Future<Void> execute() {
+                        observedTopicFuture(null);
+                        return getKafkaAndReconcile(this, logContext, tn, null, null);
+                    }
+                }).onComplete(ar -> markReconciledInFullReconciliation(tn)));
+            }
+            // A failed page did not stop the later phases, but it still fails the full reconciliation
+            return CompositeFuture.join(futs2).compose(i -> reconcileState.result());
+        }).onComplete(ar -> finishFullReconciliation(reconciliationType));
     }
 
+    /**
+     * Reconciles the KafkaTopic resources page by page while they are listed. Each listed page is reconciled in pages
+     * of at most {@code pageSize} resources. Topics which were already reconciled from Kafka are skipped.
+     *
+     * @param reconciliationType    Type of the reconciliation used in the logs
+     * @param reconcileState        State of the full reconciliation
+     * @param pageSize              Maximal number of KafkaTopic resources reconciled at the same time
+     * @param kubeTopics            Names of the listed topics
+     *
+     * @return  Future which completes when all pages were reconciled. It fails only when listing the KafkaTopic
+     *          resources fails. The failures of the individual pages are recorded in the {@code reconcileState}.
+     */
+    private Future<Void> reconcileFromKube(String reconciliationType, ReconcileState reconcileState, int pageSize, Set<TopicName> kubeTopics) {
+        return k8s.listResources(ktList -> {
+            Future<Void> result = Future.succeededFuture();
+            for (int start = 0; start < ktList.size(); start += pageSize) {
+                List<KafkaTopic> page = ktList.subList(start, Math.min(start + pageSize, ktList.size()));
+                result = result.compose(i -> CompositeFuture.join(reconcileKubePage(reconciliationType, reconcileState, page, kubeTopics))
+                        .<Void>mapEmpty()
+                        .recover(reconcileState::recordFailure));
+            }
+            return result;
+        }).recover(ex -> Future.failedFuture(
+                new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
+        ));
+    }
+
+    private List<Future> reconcileKubePage(String reconciliationType, ReconcileState reconcileState, List<KafkaTopic> ktList, Set<TopicName> kubeTopics) {
+        List<Future> futs = new ArrayList<>();
+        for (KafkaTopic kt : ktList) {
+            Topic topic = TopicSerialization.fromTopicResource(kt);
+            TopicName topicName = topic.getTopicName();
+            if (!kubeTopics.add(topicName)) {
+                // Listed again after the listing was restarted => already handled
+                continue;
+            }
+            if (Annotations.isReconciliationPausedWithAnnotation(kt)) {
+                pausedTopicCounter.getAndIncrement();
+            }
+            LogContext logContext = LogContext.periodic(reconciliationType + "kube " + kt.getMetadata().getName(), kt.getMetadata().getNamespace(), kt.getMetadata().getName()).withKubeTopic(kt);
+            if (reconcileState.failed.containsKey(topicName)) {
+                // we already failed to reconcile this topic in reconcileFromKafka(), /
+                // don't bother trying again
+                LOGGER.traceCr(logContext.toReconciliation(), "Already failed to reconcile {}", topicName);
+                reconciliationsCounter.increment();
+                failedReconciliationsCounter.increment();
+            } else if (reconcileState.succeeded.contains(topicName)) {
+                // we already succeeded in reconciling this topic in reconcileFromKafka()
+                LOGGER.traceCr(logContext.toReconciliation(), "Already successfully reconciled {}", topicName);
+                reconciliationsCounter.increment();
+                successfulReconciliationsCounter.increment();
+            } else if (reconcileState.undetermined.contains(topicName)) {
+                // The topic didn't exist in topicStore, but now we know which KT it corresponds to
+                futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    // if success then remove from undetermined add to success
+                    reconcileState.undetermined.remove(topicName);
+                    reconcileState.succeeded.add(topicName);
+                    return Future.succeededFuture(Boolean.TRUE);
+                }).onComplete(ar -> markReconciledInFullReconciliation(topicName)));
+            } else {
+                // Topic exists in kube, but not in Kafka
+                LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, logTopic(kt));
+                fullReconciliationTopics.incrementAndGet();
+                futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    // if success then add to success
+                    reconcileState.succeeded.add(topicName);
+                    return Future.succeededFuture(Boolean.TRUE);
+                }).onComplete(ar -> markReconciledInFullReconciliation(topicName)));
+            }
+        }
+        return futs;
+    }
 
     /**
-     * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
+     * Reconcile all the topics in {@code topicsFromKafka} in pages of {@code pageSize} topics, recording the results
+     * in the {@code state}. A failed page is recorded in the {@code state} and does not stop the following pages.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
-        Set<TopicName> succeeded = new HashSet<>();
-        Set<TopicName> undetermined = new HashSet<>();
-        Map<TopicName, Throwable> failed = new HashMap<>();
+    private Future<Void> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, int pageSize, ReconcileState state) {
+        LOGGER.debugOp("Reconciling {} kafka topics", topicsFromKafka.size());
+
+        Future<Void> result = Future.succeededFuture();
+        for (int start = 0; start < topicsFromKafka.size(); start += pageSize) {
+            List<TopicName> page = topicsFromKafka.subList(start, Math.min(start + pageSize, topicsFromKafka.size()));
+            result = result.compose(i -> reconcileKafkaPage(reconciliationType, page, state).recover(state::recordFailure));
+        }
+
+        return result;
+    }
 
+    private Future<Void> reconcileKafkaPage(String reconciliationType, List<TopicName> topicsFromKafka, ReconcileState state) {
         LOGGER.debugOp("Reconciling kafka topics {}", topicsFromKafka);
 
-        final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
-        if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting topic " + topicName + " from topic store during "
-                                            + reconciliationType + " reconciliation", error));
+        List<Future<Void>> futures = new ArrayList<>(topicsFromKafka.size());
+        for (TopicName topicName : topicsFromKafka) {
+            LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
+            futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
+                @Override
+                public Future<Void> execute() {
+                    return getFromTopicStore(topicName).recover(error -> {
+                        state.failed.put(topicName,
+                                new OperatorException("Error getting topic " + topicName + " from topic store during "
+                                        + reconciliationType + " reconciliation", error));
+                        markReconciledInFullReconciliation(topicName);
+                        return Future.succeededFuture();
+                    }).compose(topic -> {
+                        if (topic == null) {
+                            LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
+                            state.undetermined.add(topicName);
                             return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).recover(error -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return Future.failedFuture(error);
-                                        });
-                            }
-                        });
+                        } else {
+                            LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
+                            return reconcileWithPrivateTopic(logContext, topicName, topic, this)
+                                    .<Void>map(ignored -> {
+                                        LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
+                                        state.succeeded.add(topicName);
+                                        markReconciledInFullReconciliation(topicName);
+                                        return null;
+                                    }).recover(error -> {
+                                        LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
+                                        state.failed.put(topicName, error);
+                                        markReconciledInFullReconciliation(topicName);
+                                        return Future.failedFuture(error);
+                                    });
+                        }
+                    });
 
-                    }
-                }));
-            }
-            return join(futures).map(state);
-        } else {
-            return Future.succeededFuture(state);
+                }
+            }));
         }
+        return join(futures).mapEmpty();
+    }
 
+    private void startFullReconciliation() {
+        reconciledInFullReconciliation.clear();
+        fullReconciliationTopics.set(0);
+        fullReconciliationTopicsReconciled.set(0);
+    }
 
+    private void markReconciledInFullReconciliation(TopicName topicName) {
+        if (reconciledInFullReconciliation.add(topicName)) {
+            fullReconciliationTopicsReconciled.incrementAndGet();
+        }
+    }
+
+    private void finishFullReconciliation(String reconciliationType) {
+        LOGGER.infoOp("Finished {} reconciliation of {} topics", reconciliationType, fullReconciliationTopicsReconciled.get());
+        reconciledInFullReconciliation.clear();
+    }
+
+    /**
+     * Checks whether the topic was already reconciled by the full reconciliation which is currently running.
+     *
+     * @param topicName     Name of the topic
+     *
+     * @return  True if the topic was already reconciled by the running full reconciliation. False otherwise.
+     */
+    boolean isReconciledInFullReconciliation(TopicName topicName) {
+        return reconciledInFullReconciliation.contains(topicName);
     }
 
     @SuppressWarnings("unchecked")
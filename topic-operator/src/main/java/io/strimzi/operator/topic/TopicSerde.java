@@ -7,16 +7,30 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde. It always reads both the JSON and the binary format (see {@link TopicBinarySerialization}), but
+ * writes the binary format only when enabled.
  */
 public class TopicSerde extends SelfSerde<Topic> {
+    private final boolean binary;
+
+    public TopicSerde() {
+        this(false);
+    }
+
+    /**
+     * @param binary    Serialize into the compact binary format instead of JSON
+     */
+    public TopicSerde(boolean binary) {
+        this.binary = binary;
+    }
+
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        return binary ? TopicBinarySerialization.toBytes(data) : TopicSerialization.toJson(data);
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        return TopicBinarySerialization.isJson(data) ? TopicSerialization.fromJson(data) : TopicBinarySerialization.fromBytes(data);
     }
 }
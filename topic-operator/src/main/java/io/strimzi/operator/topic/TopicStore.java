@@ -10,7 +10,7 @@ import io.vertx.core.Future;
  * Represents a persistent data store where the operator can store its copy of the
  * topic state that won't be modified by either K8S or Kafka.
  */
-interface TopicStore {
+public interface TopicStore {
 
     public static class EntityExistsException extends Exception {
 
@@ -0,0 +1,204 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.zk.Zk;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * ZooKeeper watcher for the config change notifications which Kafka writes as sequential child znodes of
+ * {@code /config/changes} whenever the configuration of an entity changes. It calls
+ * {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)} for every notification about a topic.
+ *
+ * Unlike the {@link TopicConfigsWatcher}, which sets a data watch on the config znode of every topic, this watcher uses
+ * only a single children watch regardless of the number of topics and reads only the data of the new notifications.
+ * The notifications which already exist when the watcher starts are ignored, because the initial reconciliation
+ * handles all topics anyway.
+ *
+ * Kafka does not write any notification about changes to the partitions of a topic. When this watcher is used, the
+ * partition changes are picked up by the periodic reconciliation.
+ */
+class ZkConfigChangesWatcher {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(ZkConfigChangesWatcher.class);
+
+    /* test */ static final String CONFIG_CHANGES_ZNODE = "/config/changes";
+    /* test */ static final String CONFIG_CHANGE_PREFIX = "config_change_";
+
+    private static final String TOPICS_ENTITY_TYPE = "topics";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final TopicOperator topicOperator;
+
+    private Long lastSequence;
+    private volatile int state = 0;
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator    Operator instance to notify
+     */
+    ZkConfigChangesWatcher(TopicOperator topicOperator) {
+        this.topicOperator = topicOperator;
+    }
+
+    void stop() {
+        this.state = 2;
+    }
+
+    boolean started() {
+        return this.state == 1;
+    }
+
+    void start(Zk zk) {
+        synchronized (this) {
+            lastSequence = null;
+        }
+        zk.watchChildren(CONFIG_CHANGES_ZNODE, new ChildrenWatchHandler(zk)).<Void>compose(zk2 -> {
+            zk.children(CONFIG_CHANGES_ZNODE, childResult -> {
+                if (childResult.failed()) {
+                    LOGGER.errorOp("Error on znode {} children", CONFIG_CHANGES_ZNODE, childResult.cause());
+                    return;
+                }
+                long initialSequence = changes(childResult.result(), -1L).keySet().stream().reduce(-1L, Math::max);
+                LOGGER.debugOp("Starting with config change notification sequence {}", initialSequence);
+                synchronized (this) {
+                    this.lastSequence = initialSequence;
+                }
+                this.state = 1;
+            });
+            return Future.succeededFuture();
+        });
+    }
+
+    /**
+     * Finds the config change notifications newer than the given sequence number.
+     *
+     * @param children      Children of the {@code /config/changes} znode
+     * @param afterSequence Sequence number of the last processed notification
+     *
+     * @return  Map of the sequence numbers to the names of the notification znodes ordered by the sequence number
+     */
+    /* test */ static TreeMap<Long, String> changes(List<String> children, long afterSequence) {
+        TreeMap<Long, String> changes = new TreeMap<>();
+
+        for (String child : children) {
+            if (child.startsWith(CONFIG_CHANGE_PREFIX)) {
+                try {
+                    long sequence = Long.parseLong(child.substring(CONFIG_CHANGE_PREFIX.length()));
+
+                    if (sequence > afterSequence) {
+                        changes.put(sequence, child);
+                    }
+                } catch (NumberFormatException e) {
+                    LOGGER.debugOp("Ignoring unexpected znode {} in {}", child, CONFIG_CHANGES_ZNODE);
+                }
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * Parses the topic name from the config change notification. Both the version 1
+     * ({@code {"version":1,"entity_type":"topics","entity_name":"my-topic"}}) and version 2
+     * ({@code {"version":2,"entity_path":"topics/my-topic"}}) notifications are supported.
+     *
+     * @param data  Data of the notification znode
+     *
+     * @return  Name of the topic or null if the notification is not about a topic
+     */
+    /* test */ static String topicName(byte[] data) {
+        try {
+            JsonNode notification = MAPPER.readTree(data);
+
+            if (notification == null) {
+                return null;
+            } else if (notification.hasNonNull("entity_path")) {
+                String entityPath = notification.get("entity_path").asText();
+                int separator = entityPath.indexOf('/');
+
+                return separator > 0
+                        && TOPICS_ENTITY_TYPE.equals(entityPath.substring(0, separator))
+                        && entityPath.indexOf('/', separator + 1) < 0 ? entityPath.substring(separator + 1) : null;
+            } else if (notification.hasNonNull("entity_type") && notification.hasNonNull("entity_name")) {
+                return TOPICS_ENTITY_TYPE.equals(notification.get("entity_type").asText()) ? notification.get("entity_name").asText() : null;
+            } else {
+                return null;
+            }
+        } catch (IOException e) {
+            LOGGER.warnOp("Failed to parse config change notification", e);
+            return null;
+        }
+    }
+
+    private void notifyOperator(String topicName, String notification) {
+        LogContext logContext = LogContext.zkWatch(CONFIG_CHANGES_ZNODE, "=" + notification, topicOperator.getNamespace(), topicName);
+        LOGGER.infoCr(logContext.toReconciliation(), "Topic config change");
+        topicOperator.onTopicConfigChanged(logContext, new TopicName(topicName)).onComplete(ar -> {
+            LOGGER.infoCr(logContext.toReconciliation(), "Reconciliation result due to topic config change on topic {}: {}", topicName, ar);
+        });
+    }
+
+    /**
+     * Handler which runs on ZkClient's single event handling thread.
+     */
+    private class ChildrenWatchHandler implements Handler<AsyncResult<List<String>>> {
+
+        private final Zk zk;
+
+        public ChildrenWatchHandler(Zk zk) {
+            this.zk = zk;
+        }
+
+        @Override
+        public void handle(AsyncResult<List<String>> childResult) {
+            if (state == 2) {
+                zk.unwatchChildren(CONFIG_CHANGES_ZNODE);
+                return;
+            }
+            if (childResult.failed()) {
+                LOGGER.errorOp("Error on znode {} children", CONFIG_CHANGES_ZNODE, childResult.cause());
+                return;
+            }
+
+            TreeMap<Long, String> changes;
+            synchronized (ZkConfigChangesWatcher.this) {
+                if (lastSequence == null) {
+                    return;
+                }
+                changes = changes(childResult.result(), lastSequence);
+                if (!changes.isEmpty()) {
+                    lastSequence = changes.lastKey();
+                }
+            }
+
+            LOGGER.debugOp("New config change notifications: {}", changes.values());
+            for (String notification : changes.values()) {
+                String path = CONFIG_CHANGES_ZNODE + "/" + notification;
+                zk.getData(path, dataResult -> {
+                    if (dataResult.failed()) {
+                        // Notifications are deleted by Kafka after some time, so it might be gone already
+                        LOGGER.debugOp("Failed to get config change notification {}", path, dataResult.cause());
+                    } else {
+                        String topicName = topicName(dataResult.result());
+                        if (topicName != null) {
+                            notifyOperator(topicName, notification);
+                        }
+                    }
+                });
+            }
+        }
+    }
+}
@@ -18,6 +18,10 @@ import java.util.Set;
  * ZooKeeper watcher for child znodes of {@code /brokers/topics},
  * calling {@link TopicOperator#onTopicCreated(LogContext, TopicName)} for new children and
  * {@link TopicOperator#onTopicDeleted(LogContext, TopicName)} for deleted children.
+ *
+ * The changes to the existing topics are detected either with the per-topic data watches of the
+ * {@link TopicConfigsWatcher} and {@link ZkTopicWatcher} or with the {@link ZkConfigChangesWatcher} which uses only
+ * a single watch for the config change notifications.
  */
 class ZkTopicsWatcher {
 
@@ -28,6 +32,7 @@ class ZkTopicsWatcher {
     private final TopicOperator topicOperator;
     private final TopicConfigsWatcher tcw;
     private final ZkTopicWatcher tw;
+    private final ZkConfigChangesWatcher ccw;
 
     private List<String> children;
 
@@ -44,11 +49,29 @@ class ZkTopicsWatcher {
         this.topicOperator = topicOperator;
         this.tcw = tcw;
         this.tw = tw;
+        this.ccw = null;
+    }
+
+    /**
+     * Constructor for watching the topic changes using the config change notifications instead of per-topic watches
+     *
+     * @param topicOperator    Operator instance
+     * @param ccw   watcher for the config change notifications
+     */
+    ZkTopicsWatcher(TopicOperator topicOperator, ZkConfigChangesWatcher ccw) {
+        this.topicOperator = topicOperator;
+        this.tcw = null;
+        this.tw = null;
+        this.ccw = ccw;
     }
 
     void stop() {
-        this.tcw.stop();
-        this.tw.stop();
+        if (ccw != null) {
+            this.ccw.stop();
+        } else {
+            this.tcw.stop();
+            this.tw.stop();
+        }
         this.state = 2;
     }
 
@@ -60,8 +83,12 @@ class ZkTopicsWatcher {
         synchronized (this) {
             children = null;
         }
-        tcw.start(zk);
-        tw.start(zk);
+        if (ccw != null) {
+            ccw.start(zk);
+        } else {
+            tcw.start(zk);
+            tw.start(zk);
+        }
         zk.watchChildren(TOPICS_ZNODE, new ChildrenWatchHandler(zk)).<Void>compose(zk2 -> {
             zk.children(TOPICS_ZNODE, childResult -> {
                 if (childResult.failed()) {
@@ -75,8 +102,7 @@ class ZkTopicsWatcher {
                 }
                 // Start watching existing children for config and partition changes
                 for (String child : result) {
-                    tcw.addChild(child);
-                    tw.addChild(child);
+                    watchTopic(child);
                 }
                 this.state = 1;
             });
@@ -84,6 +110,20 @@ class ZkTopicsWatcher {
         });
     }
 
+    private void watchTopic(String topicName) {
+        if (ccw == null) {
+            tcw.addChild(topicName);
+            tw.addChild(topicName);
+        }
+    }
+
+    private void unwatchTopic(String topicName) {
+        if (ccw == null) {
+            tcw.removeChild(topicName);
+            tw.removeChild(topicName);
+        }
+    }
+
     /**
      * Handler which runs on ZkClient's single event handling thread.
      */
@@ -126,8 +166,7 @@ class ZkTopicsWatcher {
             LOGGER.infoOp("Topics deleted from ZK for watch {}: {}", watchCount, deleted);
             if (!deleted.isEmpty()) {
                 for (String topicName : deleted) {
-                    tcw.removeChild(topicName);
-                    tw.removeChild(topicName);
+                    unwatchTopic(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":-" + topicName, topicOperator.getNamespace(), topicName);
                     topicOperator.onTopicDeleted(logContext, new TopicName(topicName)).onComplete(ar -> {
                         if (ar.succeeded()) {
@@ -142,8 +181,7 @@ class ZkTopicsWatcher {
             LOGGER.infoOp("Topics created in ZK for watch {}: {}", watchCount, created);
             if (!created.isEmpty()) {
                 for (String topicName : created) {
-                    tcw.addChild(topicName);
-                    tw.addChild(topicName);
+                    watchTopic(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":+" + topicName, topicOperator.getNamespace(), topicName);
                     topicOperator.onTopicCreated(logContext, new TopicName(topicName)).onComplete(ar -> {
                         if (ar.succeeded()) {
@@ -4,12 +4,12 @@
  */
 package io.strimzi.operator.topic.zk;
 
+import io.strimzi.operator.common.BlockingExecutor;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.WorkerExecutor;
 import org.I0Itec.zkclient.IZkChildListener;
 import org.I0Itec.zkclient.IZkDataListener;
 import org.I0Itec.zkclient.ZkClient;
@@ -49,7 +49,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk create(String path, byte[] data, List<ACL> acls, CreateMode createMode, Handler<AsyncResult<Void>> handler) {
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 try {
                     zookeeper.create(path, data == null ? new byte[0] : data, acls, createMode);
@@ -64,7 +64,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk setData(String path, byte[] data, int version, Handler<AsyncResult<Void>> handler) {
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 try {
                     zookeeper.writeData(path, data, version);
@@ -80,7 +80,7 @@ public class ZkImpl implements Zk {
     @Override
     public Zk disconnect(Handler<AsyncResult<Void>> handler) {
 
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 try {
                     zookeeper.close();
@@ -95,7 +95,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk getData(String path, Handler<AsyncResult<byte[]>> handler) {
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.READ,
             future -> {
                 try {
                     future.complete(zookeeper.readData(path));
@@ -129,7 +129,7 @@ public class ZkImpl implements Zk {
     @Override
     public Future<Zk> watchData(String path, Handler<AsyncResult<byte[]>> watcher) {
         Promise<Zk> result = Promise.promise();
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.READ,
             future -> {
                 try {
                     IZkDataListener listener = new DataWatchAdapter(watcher);
@@ -153,7 +153,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk unwatchData(String path) {
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.READ,
             future -> {
                 try {
                     IZkDataListener listener = dataWatches.remove(path);
@@ -171,7 +171,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk delete(String path, int version, Handler<AsyncResult<Void>> handler) {
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.WRITE,
             future -> {
                 try {
                     if (zookeeper.delete(path, version)) {
@@ -187,13 +187,17 @@ public class ZkImpl implements Zk {
         return this;
     }
 
-    private WorkerExecutor workerPool() {
-        return vertx.createSharedWorkerExecutor(getClass().getName(), 4);
+    /**
+     * Executes the blocking ZooKeeper call using the shared blocking executor. The calls are ordered to keep the
+     * order of the ZooKeeper operations issued from the same context.
+     */
+    private <T> void execute(BlockingExecutor.Bulkhead bulkhead, Handler<Promise<T>> blockingCodeHandler, Handler<AsyncResult<T>> resultHandler) {
+        BlockingExecutor.get(vertx).executeBlocking(bulkhead, true, blockingCodeHandler).onComplete(resultHandler);
     }
 
     @Override
     public Zk children(String path, Handler<AsyncResult<List<String>>> handler) {
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.READ,
             future -> {
                 try {
                     future.complete(zookeeper.getChildren(path));
@@ -208,7 +212,7 @@ public class ZkImpl implements Zk {
     @Override
     public Future<Zk> watchChildren(String path, Handler<AsyncResult<List<String>>> watcher) {
         Promise<Zk> result = Promise.promise();
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.READ,
             future -> {
                 try {
                     IZkChildListener listener = (parentPath, currentChilds) -> watcher.handle(Future.succeededFuture(currentChilds));
@@ -232,7 +236,7 @@ public class ZkImpl implements Zk {
 
     @Override
     public Zk unwatchChildren(String path) {
-        workerPool().executeBlocking(
+        execute(BlockingExecutor.Bulkhead.READ,
             future -> {
                 try {
                     IZkChildListener listener = childWatches.remove(path);
@@ -251,7 +255,7 @@ public class ZkImpl implements Zk {
     @Override
     public Future<Boolean> pathExists(String path) {
         Promise<Boolean> promise = Promise.promise();
-        workerPool().<Boolean>executeBlocking(
+        this.<Boolean>execute(BlockingExecutor.Bulkhead.READ,
             p -> {
                 p.future().onComplete(promise);
                 try {
@@ -87,6 +87,48 @@ public class ConfigTest {
         assertThat(c.get(Config.TOPIC_METADATA_MAX_ATTEMPTS).intValue(), is(3));
     }
 
+    @Test
+    public void testUseConfigChangeNotifications() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.USE_CONFIG_CHANGE_NOTIFICATIONS), is(false));
+
+        map.put(Config.TC_USE_CONFIG_CHANGE_NOTIFICATIONS, "true");
+        assertThat(new Config(map).get(Config.USE_CONFIG_CHANGE_NOTIFICATIONS), is(true));
+    }
+
+    @Test
+    public void testFullReconciliationPageSize() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.FULL_RECONCILIATION_PAGE_SIZE), is(500));
+
+        map.put(Config.TC_FULL_RECONCILIATION_PAGE_SIZE, "100");
+        assertThat(new Config(map).get(Config.FULL_RECONCILIATION_PAGE_SIZE), is(100));
+
+        map.put(Config.TC_FULL_RECONCILIATION_PAGE_SIZE, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testListPageSize() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.LIST_PAGE_SIZE), is(500));
+
+        map.put(Config.TC_LIST_PAGE_SIZE, "100");
+        assertThat(new Config(map).get(Config.LIST_PAGE_SIZE), is(100));
+
+        map.put(Config.TC_LIST_PAGE_SIZE, "0");
+        assertThrows(IllegalArgumentException.class, () -> new Config(map));
+    }
+
+    @Test
+    public void testUseBinaryStoreFormat() {
+        Map<String, String> map = new HashMap<>(MANDATORY);
+        assertThat(new Config(map).get(Config.USE_BINARY_STORE_FORMAT), is(false));
+
+        map.put(Config.TC_USE_BINARY_STORE_FORMAT, "true");
+        assertThat(new Config(map).get(Config.USE_BINARY_STORE_FORMAT), is(true));
+    }
+
     @Test
     public void testDefaultConfig() {
         Map<String, String> map = new HashMap<>(MANDATORY);
@@ -4,6 +4,8 @@
  */
 package io.strimzi.operator.topic;
 
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -11,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaTopicList;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -19,7 +22,9 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -57,19 +62,76 @@ public class K8sImplTest {
         KubernetesClient mockClient = mock(KubernetesClient.class);
         MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
         when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
-        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
         when(mockResources.withLabels(any())).thenReturn(mockResources);
         when(mockResources.inNamespace(any())).thenReturn(mockResources);
-        when(mockResources.list()).thenAnswer(invocation -> {
+        ArgumentCaptor<ListOptions> optionsCaptor = ArgumentCaptor.forClass(ListOptions.class);
+        when(mockResources.list(optionsCaptor.capture())).thenAnswer(invocation -> {
             KafkaTopicList ktl = new KafkaTopicList();
             ktl.setItems(mockKafkaTopicsList);
             return ktl;
         });
 
-        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default", 100);
+
+        List<List<KafkaTopic>> pages = new ArrayList<>();
+        k8s.listResources(page -> {
+            pages.add(page);
+            return Future.succeededFuture();
+        }).onComplete(context.succeeding(i -> context.verify(() -> {
+            assertThat(pages, is(List.of(mockKafkaTopicsList)));
+            assertThat(optionsCaptor.getValue().getLimit(), is(100L));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testListInPages(VertxTestContext context) {
+        Checkpoint async = context.checkpoint();
+
+        KafkaTopic firstTopic = new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName("my-topic")
+                        .withLabels(Collections.singletonMap("foo", "bar")).build())
+                .build();
+        KafkaTopic secondTopic = new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName("my-other-topic")
+                        .withLabels(Collections.singletonMap("foo", "bar")).build())
+                .build();
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> mockResources = mock(MixedOperation.class);
+        when(mockClient.resources(any(Class.class), any(Class.class))).thenReturn(mockResources);
+        when(mockResources.withLabels(any())).thenReturn(mockResources);
+        when(mockResources.inNamespace(any())).thenReturn(mockResources);
+        ArgumentCaptor<ListOptions> optionsCaptor = ArgumentCaptor.forClass(ListOptions.class);
+        when(mockResources.list(optionsCaptor.capture())).thenAnswer(invocation -> {
+            ListOptions options = invocation.getArgument(0);
+            KafkaTopicList ktl = new KafkaTopicList();
+
+            if (options.getContinue() == null) {
+                ktl.setItems(List.of(firstTopic));
+                ktl.setMetadata(new ListMetaBuilder().withContinue("next-page").build());
+            } else {
+                ktl.setItems(List.of(secondTopic));
+            }
+
+            return ktl;
+        });
+
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default", 1);
 
-        k8s.listResources().onComplete(context.succeeding(kafkaTopics -> context.verify(() -> {
-            assertThat(kafkaTopics, is(mockKafkaTopicsList));
+        List<String> handled = new ArrayList<>();
+        k8s.listResources(page -> {
+            // The next page is not listed before the previous one is handled
+            assertThat(optionsCaptor.getAllValues().size(), is(handled.size() + 1));
+            page.forEach(topic -> handled.add(topic.getMetadata().getName()));
+            return Future.succeededFuture();
+        }).onComplete(context.succeeding(i -> context.verify(() -> {
+            assertThat(handled, is(List.of("my-topic", "my-other-topic")));
+            assertThat(optionsCaptor.getAllValues().size(), is(2));
+            assertThat(optionsCaptor.getAllValues().get(0).getLimit(), is(1L));
+            assertThat(optionsCaptor.getAllValues().get(1).getContinue(), is("next-page"));
             async.flag();
         })));
     }
@@ -36,6 +36,8 @@ public class MockK8s implements K8s {
     private Function<ResourceName, AsyncResult<Void>> modifyResponse = n -> Future.failedFuture("Unexpected. ");
     private Function<ResourceName, AsyncResult<Void>> deleteResponse = n -> Future.failedFuture("Unexpected. ");
     private Supplier<AsyncResult<List<KafkaTopic>>> listResponse = () -> Future.succeededFuture(new ArrayList(byName.values().stream().filter(ar -> ar.succeeded()).map(ar -> ar.result()).collect(Collectors.toList())));
+    private int listPages = 0;
+    private int listPageSize = Integer.MAX_VALUE;
 
     public MockK8s setCreateResponse(ResourceName resourceName, Exception exception) {
         Function<ResourceName, AsyncResult<Void>> old = createResponse;
@@ -157,10 +159,26 @@ public class MockK8s implements K8s {
     }
 
     @Override
-    public Future<List<KafkaTopic>> listResources() {
+    public Future<Void> listResources(Function<List<KafkaTopic>, Future<Void>> pageHandler) {
         Promise<List<KafkaTopic>> handler = Promise.promise();
         handler.handle(listResponse.get());
-        return handler.future();
+        return handler.future().compose(topics -> listPage(topics, 0, pageHandler));
+    }
+
+    private Future<Void> listPage(List<KafkaTopic> topics, int from, Function<List<KafkaTopic>, Future<Void>> pageHandler) {
+        listPages++;
+        int to = (int) Math.min((long) from + listPageSize, topics.size());
+        return pageHandler.apply(new ArrayList<>(topics.subList(from, to)))
+                .compose(i -> to < topics.size() ? listPage(topics, to, pageHandler) : Future.succeededFuture());
+    }
+
+    public MockK8s setListPageSize(int listPageSize) {
+        this.listPageSize = listPageSize;
+        return this;
+    }
+
+    public int getListPages() {
+        return listPages;
     }
 
     public void setListMapsResult(Supplier<AsyncResult<List<KafkaTopic>>> response) {
@@ -0,0 +1,167 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TopicBinarySerializationTest {
+    private static Topic topic(String name) {
+        return new Topic.Builder()
+                .withTopicName(name)
+                .withNumPartitions(12)
+                .withNumReplicas((short) 3)
+                .withConfigEntry("cleanup.policy", "compact")
+                .withConfigEntry("min.insync.replicas", "2")
+                .withConfigEntry("retention.ms", "604800000")
+                .withConfigEntry("segment.bytes", "1073741824")
+                .withConfigEntry("my.custom.config", "value")
+                .build();
+    }
+
+    @Test
+    public void testTopicRoundTrip() {
+        Topic topic = topic("my-topic");
+
+        byte[] bytes = TopicBinarySerialization.toBytes(topic);
+        assertThat(bytes[0], is(TopicBinarySerialization.FORMAT_VERSION));
+        assertThat(TopicBinarySerialization.isJson(bytes), is(false));
+
+        Topic read = TopicBinarySerialization.fromBytes(bytes);
+        assertThat(read, is(topic));
+        assertThat(read.getResourceName(), is(topic.getOrAsKubeName()));
+    }
+
+    @Test
+    public void testTopicRoundTripWithResourceName() {
+        Topic topic = new Topic.Builder(topic("My_Topic"))
+                .withMapName("my-topic-resource")
+                .build();
+
+        Topic read = TopicBinarySerialization.fromBytes(TopicBinarySerialization.toBytes(topic));
+        assertThat(read, is(topic));
+        assertThat(read.getResourceName().toString(), is("my-topic-resource"));
+    }
+
+    @Test
+    public void testTopicRoundTripWithDefaults() {
+        Topic topic = new Topic.Builder("my-topic", -1, (short) -1, Map.of())
+                .build();
+
+        Topic read = TopicBinarySerialization.fromBytes(TopicBinarySerialization.toBytes(topic));
+        assertThat(read, is(topic));
+        assertThat(read.getNumPartitions(), is(-1));
+        assertThat(read.getNumReplicas(), is((short) -1));
+    }
+
+    @Test
+    public void testTopicCommandRoundTrip() {
+        Topic topic = topic("my-topic");
+
+        TopicCommand create = TopicCommand.create(topic);
+        TopicCommand read = TopicBinarySerialization.commandFromBytes(TopicBinarySerialization.toBytes(create));
+        assertThat(read.getType(), is(TopicCommand.Type.CREATE));
+        assertThat(read.getUuid(), is(create.getUuid()));
+        assertThat(read.getVersion(), is(TopicCommand.CURRENT_VERSION));
+        assertThat(read.getTopic(), is(topic));
+
+        TopicCommand delete = TopicCommand.delete(new TopicName("my-topic"));
+        read = TopicBinarySerialization.commandFromBytes(TopicBinarySerialization.toBytes(delete));
+        assertThat(read.getType(), is(TopicCommand.Type.DELETE));
+        assertThat(read.getUuid(), is(delete.getUuid()));
+        assertThat(read.getName(), is(new TopicName("my-topic")));
+
+        // UUIDs which are not in the canonical form are kept as strings
+        TopicCommand custom = new TopicCommand("not-a-uuid", TopicCommand.Type.UPDATE, topic, null, 7);
+        read = TopicBinarySerialization.commandFromBytes(TopicBinarySerialization.toBytes(custom));
+        assertThat(read.getType(), is(TopicCommand.Type.UPDATE));
+        assertThat(read.getUuid(), is("not-a-uuid"));
+        assertThat(read.getVersion(), is(7));
+        assertThat(read.getTopic(), is(topic));
+    }
+
+    @Test
+    public void testSerdesReadBothFormats() {
+        Topic topic = topic("my-topic");
+
+        byte[] json = new TopicSerde().serialize("store", topic);
+        byte[] binary = new TopicSerde(true).serialize("store", topic);
+        assertThat(TopicBinarySerialization.isJson(json), is(true));
+        assertThat(TopicBinarySerialization.isJson(binary), is(false));
+        assertThat(new TopicSerde().deserialize("store", binary), is(topic));
+        assertThat(new TopicSerde(true).deserialize("store", json), is(topic));
+
+        TopicCommand command = TopicCommand.update(topic);
+        byte[] jsonCommand = new TopicCommandSerde().serialize("store", command);
+        byte[] binaryCommand = new TopicCommandSerde(true).serialize("store", command);
+        assertThat(new TopicCommandSerde().deserialize("store", binaryCommand).getTopic(), is(topic));
+        assertThat(new TopicCommandSerde(true).deserialize("store", jsonCommand).getTopic(), is(topic));
+        assertThat(new TopicCommandSerde(true).deserialize("store", jsonCommand).getUuid(), is(command.getUuid()));
+    }
+
+    @Test
+    public void testReadLegacyJson() {
+        byte[] json = ("{\"map-name\":\"my-topic\",\"topic-name\":\"my-topic\",\"partitions\":3,\"replicas\":2,"
+                + "\"config\":{\"cleanup.policy\":\"compact\"}}").getBytes(StandardCharsets.UTF_8);
+        Topic expected = new Topic.Builder("my-topic", 3, (short) 2, Map.of("cleanup.policy", "compact")).build();
+
+        assertThat(TopicBinarySerialization.isJson(json), is(true));
+        assertThat(new TopicSerde(true).deserialize("store", json), is(expected));
+    }
+
+    @Test
+    public void testInvalidData() {
+        byte[] bytes = TopicBinarySerialization.toBytes(topic("my-topic"));
+
+        byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThrows(IllegalArgumentException.class, () -> TopicBinarySerialization.fromBytes(truncated));
+
+        byte[] unknownVersion = bytes.clone();
+        unknownVersion[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> TopicBinarySerialization.fromBytes(unknownVersion));
+    }
+
+    @Test
+    public void testConfigKeysAreUnique() {
+        assertThat(TopicBinarySerialization.CONFIG_KEYS.stream().distinct().count(), is((long) TopicBinarySerialization.CONFIG_KEYS.size()));
+    }
+
+    /**
+     * Compares the size of the JSON and binary formats for a larger number of topics.
+     */
+    @Test
+    public void testBinaryFormatSize() {
+        List<Topic> topics = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            topics.add(topic("my-topic-" + i));
+        }
+
+        TopicSerde jsonSerde = new TopicSerde();
+        TopicSerde binarySerde = new TopicSerde(true);
+
+        long jsonSize = 0;
+        long binarySize = 0;
+        for (Topic topic : topics) {
+            jsonSize += jsonSerde.serialize("store", topic).length;
+
+            byte[] bytes = binarySerde.serialize("store", topic);
+            binarySize += bytes.length;
+            assertThat(binarySerde.deserialize("store", bytes), is(topic));
+        }
+
+        assertThat("Binary format (" + binarySize / topics.size() + " bytes per topic) should be less than half of JSON ("
+                + jsonSize / topics.size() + " bytes per topic)", binarySize * 2, lessThan(jsonSize));
+    }
+}
@@ -18,6 +18,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.junit5.Checkpoint;
@@ -38,9 +39,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -48,6 +51,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
 import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
@@ -1329,6 +1333,80 @@ public class TopicOperatorTest {
         context.completeNow();
     }
 
+    @Test
+    public void testReconcileAllTopicsInPages(VertxTestContext context) {
+        Map<String, String> configMap = new HashMap<>(MANDATORY_CONFIG);
+        configMap.put(Config.FULL_RECONCILIATION_PAGE_SIZE.key, "2");
+        mockK8s.setListPageSize(2);
+        topicOperator = new TopicOperator(vertx, mockKafka, mockK8s, mockTopicStore, labels, "default-namespace", new Config(configMap), metrics);
+
+        Set<String> topicNames = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            TopicName name = new TopicName("my-topic-" + i);
+            topicNames.add(name.toString());
+            mockTopicStore.setCreateTopicResponse(name, null);
+            mockK8s.setCreateResponse(name.asKubeName(), null);
+        }
+        mockKafka.setTopicsList(topicNames);
+        mockKafka.setTopicMetadataResponse(t -> Future.succeededFuture(Utils.getTopicMetadata(new Topic.Builder(t.toString(), 1, (short) 1, emptyMap()).build())));
+
+        Checkpoint async = context.checkpoint();
+        // First reconciliation creates the KafkaTopics, second reconciliation lists them in pages
+        topicOperator.reconcileAllTopics("periodic")
+                .compose(i -> {
+                    context.verify(() -> {
+                        MeterRegistry registry = metrics.meterRegistry();
+                        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.full.topics").tag("kind", "KafkaTopic").gauge().value(), is(5.0));
+                        assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.full.topics.reconciled").tag("kind", "KafkaTopic").gauge().value(), is(5.0));
+                        assertThat(mockK8s.getListPages(), is(1));
+                    });
+                    for (String name : topicNames) {
+                        mockK8s.assertExists(context, new TopicName(name).asKubeName());
+                    }
+
+                    return topicOperator.reconcileAllTopics("periodic");
+                })
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    MeterRegistry registry = metrics.meterRegistry();
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.full.topics").tag("kind", "KafkaTopic").gauge().value(), is(5.0));
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.full.topics.reconciled").tag("kind", "KafkaTopic").gauge().value(), is(5.0));
+                    assertThat(registry.get(TopicOperator.METRICS_PREFIX + "resources").tag("kind", "KafkaTopic").gauge().value(), is(5.0));
+                    // 5 KafkaTopics in pages of 2
+                    assertThat(mockK8s.getListPages(), is(1 + 3));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testWatchEventsAreDeferredDuringInitialReconcile(VertxTestContext context) {
+        KafkaTopic kafkaTopic = new KafkaTopicBuilder()
+                .withMetadata(new ObjectMetaBuilder().withName(topicName.toString()).withLabels(labels.labels()).withGeneration(1L).build())
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withPartitions(1)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                .endStatus()
+            .build();
+
+        Promise<Void> initReconcilePromise = Promise.promise();
+        K8sTopicWatcher watcher = new K8sTopicWatcher(topicOperator, initReconcilePromise.future(), () -> { });
+
+        watcher.eventReceived(ADDED, kafkaTopic);
+        watcher.eventReceived(MODIFIED, kafkaTopic);
+        context.verify(() -> assertThat(watcher.deferredEventsCount(), is(1)));
+
+        initReconcilePromise.complete();
+        context.verify(() -> assertThat(watcher.deferredEventsCount(), is(0)));
+
+        // Events after the initial reconcile are not deferred
+        watcher.eventReceived(MODIFIED, kafkaTopic);
+        context.verify(() -> assertThat(watcher.deferredEventsCount(), is(0)));
+        mockKafka.assertEmpty(context);
+        context.completeNow();
+    }
+
     @Test
     public void testReconcileMetricsDeletedTopic(VertxTestContext context) throws InterruptedException {
         mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
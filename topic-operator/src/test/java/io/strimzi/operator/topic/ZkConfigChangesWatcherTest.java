@@ -0,0 +1,154 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ZkConfigChangesWatcherTest {
+    private static final String CHANGES = ZkConfigChangesWatcher.CONFIG_CHANGES_ZNODE;
+
+    private MockTopicOperator operator;
+    private MockZk mockZk;
+
+    @BeforeEach
+    public void setup() {
+        operator = new MockTopicOperator();
+        operator.topicModifiedResult = Future.succeededFuture();
+        mockZk = new MockZk();
+    }
+
+    private static String change(long sequence) {
+        return String.format("%s%010d", ZkConfigChangesWatcher.CONFIG_CHANGE_PREFIX, sequence);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testTopicName() {
+        assertThat(ZkConfigChangesWatcher.topicName(bytes("{\"version\":2,\"entity_path\":\"topics/my-topic\"}")), is("my-topic"));
+        assertThat(ZkConfigChangesWatcher.topicName(bytes("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"my-topic\"}")), is("my-topic"));
+
+        assertThat(ZkConfigChangesWatcher.topicName(bytes("{\"version\":2,\"entity_path\":\"brokers/0\"}")), is(nullValue()));
+        assertThat(ZkConfigChangesWatcher.topicName(bytes("{\"version\":2,\"entity_path\":\"users/my-user/clients/my-client\"}")), is(nullValue()));
+        assertThat(ZkConfigChangesWatcher.topicName(bytes("{\"version\":1,\"entity_type\":\"clients\",\"entity_name\":\"my-client\"}")), is(nullValue()));
+        assertThat(ZkConfigChangesWatcher.topicName(bytes("{\"version\":2}")), is(nullValue()));
+        assertThat(ZkConfigChangesWatcher.topicName(bytes("not-a-json{")), is(nullValue()));
+        assertThat(ZkConfigChangesWatcher.topicName(new byte[0]), is(nullValue()));
+    }
+
+    @Test
+    public void testChanges() {
+        List<String> children = asList(change(12), change(10), "something-else", change(11), ZkConfigChangesWatcher.CONFIG_CHANGE_PREFIX + "foo");
+
+        assertThat(new ArrayList<>(ZkConfigChangesWatcher.changes(children, -1L).values()), is(asList(change(10), change(11), change(12))));
+        assertThat(new ArrayList<>(ZkConfigChangesWatcher.changes(children, 10L).values()), is(asList(change(11), change(12))));
+        assertThat(ZkConfigChangesWatcher.changes(children, 12L).isEmpty(), is(true));
+    }
+
+    @Test
+    public void testNewNotificationsAreDelivered() {
+        mockZk.childrenResults.put(CHANGES, Future.succeededFuture(asList(change(1), change(2))));
+        mockZk.dataResults.put(CHANGES + "/" + change(3), Future.succeededFuture(bytes("{\"version\":2,\"entity_path\":\"topics/foo\"}")));
+        mockZk.dataResults.put(CHANGES + "/" + change(4), Future.succeededFuture(bytes("{\"version\":2,\"entity_path\":\"brokers/0\"}")));
+        mockZk.dataResults.put(CHANGES + "/" + change(5), Future.succeededFuture(bytes("{\"version\":1,\"entity_type\":\"topics\",\"entity_name\":\"bar\"}")));
+
+        ZkConfigChangesWatcher watcher = new ZkConfigChangesWatcher(operator);
+        watcher.start(mockZk);
+        assertThat(watcher.started(), is(true));
+
+        // Existing notifications are ignored
+        assertThat(mockZk.getDataCount, is(0));
+
+        mockZk.triggerChildren(CHANGES, Future.succeededFuture(asList(change(1), change(2), change(3), change(4), change(5))));
+        assertThat(operator.getMockOperatorEvents(), is(asList(
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")),
+                new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("bar")))));
+        assertThat(mockZk.getDataCount, is(3));
+
+        // Removal of the old notifications by Kafka does not trigger anything
+        operator.clearEvents();
+        mockZk.triggerChildren(CHANGES, Future.succeededFuture(asList(change(4), change(5))));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+        assertThat(mockZk.getDataCount, is(3));
+
+        // Notification which is already deleted is ignored
+        mockZk.triggerChildren(CHANGES, Future.succeededFuture(asList(change(5), change(6))));
+        assertThat(operator.getMockOperatorEvents(), is(emptyList()));
+
+        mockZk.dataResults.put(CHANGES + "/" + change(7), Future.succeededFuture(bytes("{\"version\":2,\"entity_path\":\"topics/baz\"}")));
+        mockZk.triggerChildren(CHANGES, Future.succeededFuture(asList(change(5), change(6), change(7))));
+        assertThat(operator.getMockOperatorEvents(), is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("baz")))));
+
+        watcher.stop();
+        mockZk.triggerChildren(CHANGES, Future.succeededFuture(asList(change(8))));
+        assertThat(mockZk.childrenWatchCount(), is(0));
+    }
+
+    @Test
+    public void testStartWithoutNotifications() {
+        mockZk.childrenResults.put(CHANGES, Future.succeededFuture(emptyList()));
+        mockZk.dataResults.put(CHANGES + "/" + change(0), Future.succeededFuture(bytes("{\"version\":2,\"entity_path\":\"topics/foo\"}")));
+
+        ZkConfigChangesWatcher watcher = new ZkConfigChangesWatcher(operator);
+        watcher.start(mockZk);
+
+        mockZk.triggerChildren(CHANGES, Future.succeededFuture(singletonList(change(0))));
+        assertThat(operator.getMockOperatorEvents(), is(singletonList(new MockTopicOperator.MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")))));
+    }
+
+    /**
+     * Compares the number of ZooKeeper watches, the number of getData calls and the time needed to start watching
+     * 1 000, 10 000 and 50 000 topics with the per-topic watches and with the config change notifications.
+     */
+    @Test
+    public void testStartupWatchCountAndTime() {
+        for (int topicCount : new int[] {1_000, 10_000, 50_000}) {
+            List<String> topics = new ArrayList<>(topicCount);
+            for (int i = 0; i < topicCount; i++) {
+                topics.add("topic-" + i);
+            }
+
+            MockZk perTopicZk = new MockZk();
+            perTopicZk.childrenResult = Future.succeededFuture(topics);
+            perTopicZk.dataResult = Future.succeededFuture(new byte[0]);
+            long start = System.nanoTime();
+            new ZkTopicsWatcher(operator, new TopicConfigsWatcher(operator), new ZkTopicWatcher(operator)).start(perTopicZk);
+            long perTopicMicros = (System.nanoTime() - start) / 1_000;
+
+            MockZk notificationsZk = new MockZk();
+            notificationsZk.childrenResult = Future.succeededFuture(topics);
+            notificationsZk.childrenResults.put(CHANGES, Future.succeededFuture(emptyList()));
+            start = System.nanoTime();
+            new ZkTopicsWatcher(operator, new ZkConfigChangesWatcher(operator)).start(notificationsZk);
+            long notificationsMicros = (System.nanoTime() - start) / 1_000;
+
+            assertThat(perTopicZk.dataWatchCount(), is(2 * topicCount));
+            assertThat(perTopicZk.getDataCount, is(2 * topicCount));
+
+            assertThat(notificationsZk.dataWatchCount(), is(0));
+            assertThat(notificationsZk.childrenWatchCount(), is(2));
+            assertThat("Starting with " + topicCount + " topics using notifications (" + notificationsMicros
+                    + "us) should issue fewer ZooKeeper calls than using per-topic watches (" + perTopicMicros + "us)",
+                    notificationsZk.getDataCount, lessThan(perTopicZk.getDataCount));
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,4 +82,27 @@ public class ZkTopicsWatcherTest {
                 Type.DELETE, new TopicName("bar")))));
         assertThat(topicConfigsWatcher.watching("baz"), is(false));
     }
+
+    @Test
+    public void testTopicAddAndDeleteWithConfigChangeNotifications() {
+        operator.topicCreatedResult = Future.succeededFuture();
+        operator.topicDeletedResult = Future.succeededFuture();
+        mockZk.childrenResult = Future.succeededFuture(asList("foo", "bar"));
+        mockZk.childrenResults.put(ZkConfigChangesWatcher.CONFIG_CHANGES_ZNODE, Future.succeededFuture(emptyList()));
+
+        ZkTopicsWatcher topicsWatcher = new ZkTopicsWatcher(operator, new ZkConfigChangesWatcher(operator));
+        topicsWatcher.start(mockZk);
+        mockZk.triggerChildren(Future.succeededFuture(asList("foo", "baz")));
+
+        assertThat(operator.getMockOperatorEvents(), is(asList(
+                new MockTopicOperator.MockOperatorEvent(Type.DELETE, new TopicName("bar")),
+                new MockTopicOperator.MockOperatorEvent(Type.CREATE, new TopicName("baz")))));
+
+        // No per-topic watches are used
+        assertThat(mockZk.dataWatchCount(), is(0));
+        assertThat(mockZk.childrenWatchCount(), is(2));
+
+        topicsWatcher.stop();
+        assertThat(topicsWatcher.started(), is(false));
+    }
 }
@@ -13,7 +13,9 @@ import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
@@ -58,6 +60,10 @@ public class Main {
                         .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
 
+        // Configure the executor for the blocking operations before any of the operators uses it
+        BlockingExecutor.configure(vertx, BlockingExecutor.DEFAULT_POOL_SIZE, BlockingExecutor.DEFAULT_POOL_SIZE,
+                BlockingExecutor.DEFAULT_POOL_SIZE, false, new MicrometerMetricsProvider());
+
         KubernetesClient client = new DefaultKubernetesClient();
         AdminClientProvider adminClientProvider = new DefaultAdminClientProvider();
 
@@ -7,6 +7,7 @@ package io.strimzi.operator.user;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.AbstractResourceOperator;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,11 +33,17 @@ public class UserOperatorConfig {
     public static final String STRIMZI_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
     public static final String STRIMZI_SCRAM_SHA_PASSWORD_LENGTH = "STRIMZI_SCRAM_SHA_PASSWORD_LENGTH";
     public static final String STRIMZI_MAINTENANCE_TIME_WINDOWS = "STRIMZI_MAINTENANCE_TIME_WINDOWS";
+    public static final String STRIMZI_LIST_PAGE_SIZE = "STRIMZI_LIST_PAGE_SIZE";
+    public static final String STRIMZI_WATCH_EVENTS_QUIET_PERIOD_MS = "STRIMZI_WATCH_EVENTS_QUIET_PERIOD_MS";
+    public static final String STRIMZI_WATCH_EVENTS_MAX_DELAY_MS = "STRIMZI_WATCH_EVENTS_MAX_DELAY_MS";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_SECRET_PREFIX = "";
     public static final int DEFAULT_SCRAM_SHA_PASSWORD_LENGTH = 12;
+    public static final int DEFAULT_LIST_PAGE_SIZE = AbstractResourceOperator.DEFAULT_LIST_PAGE_SIZE;
+    public static final int DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS = 0;
+    public static final int DEFAULT_WATCH_EVENTS_MAX_DELAY_MS = 5_000;
     // Defaults to true for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
 
@@ -55,6 +62,9 @@ public class UserOperatorConfig {
     private final boolean aclsAdminApiSupported;
     private final int scramPasswordLength;
     private final List<String> maintenanceWindows;
+    private final int listPageSize;
+    private final long watchEventsQuietPeriodMs;
+    private final long watchEventsMaxDelayMs;
 
     /**
      * Constructor
@@ -74,6 +84,9 @@ public class UserOperatorConfig {
      * @param clientsCaRenewalDays How long before the certificate expiration should the user certificate be renewed
      * @param scramPasswordLength Length used for the Scram-Sha Password
      * @param maintenanceWindows Lit of maintenance windows
+     * @param listPageSize Number of KafkaUser resources fetched in a single page when listing all users
+     * @param watchEventsQuietPeriodMs Quiet period in milliseconds used to coalesce the watch events for the same KafkaUser
+     * @param watchEventsMaxDelayMs Maximal delay in milliseconds of the reconciliation triggered by coalesced watch events
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -90,7 +103,10 @@ public class UserOperatorConfig {
                               int clientsCaValidityDays,
                               int clientsCaRenewalDays,
                               int scramPasswordLength,
-                              List<String> maintenanceWindows) {
+                              List<String> maintenanceWindows,
+                              int listPageSize,
+                              long watchEventsQuietPeriodMs,
+                              long watchEventsMaxDelayMs) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -106,6 +122,9 @@ public class UserOperatorConfig {
         this.clientsCaRenewalDays = clientsCaRenewalDays;
         this.scramPasswordLength = scramPasswordLength;
         this.maintenanceWindows = maintenanceWindows;
+        this.listPageSize = listPageSize;
+        this.watchEventsQuietPeriodMs = watchEventsQuietPeriodMs;
+        this.watchEventsMaxDelayMs = watchEventsMaxDelayMs;
     }
 
     /**
@@ -178,9 +197,16 @@ public class UserOperatorConfig {
 
         List<String> maintenanceWindows = parseMaintenanceTimeWindows(map.get(UserOperatorConfig.STRIMZI_MAINTENANCE_TIME_WINDOWS));
 
+        int listPageSize = getIntProperty(map, UserOperatorConfig.STRIMZI_LIST_PAGE_SIZE, DEFAULT_LIST_PAGE_SIZE);
+
+        int watchEventsQuietPeriodMs = getIntProperty(map, UserOperatorConfig.STRIMZI_WATCH_EVENTS_QUIET_PERIOD_MS, DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS);
+
+        int watchEventsMaxDelayMs = getIntProperty(map, UserOperatorConfig.STRIMZI_WATCH_EVENTS_MAX_DELAY_MS, DEFAULT_WATCH_EVENTS_MAX_DELAY_MS);
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, euoKeySecretName, caNamespace, secretPrefix,
-                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays, scramPasswordLength, maintenanceWindows);
+                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays, scramPasswordLength, maintenanceWindows, listPageSize,
+                watchEventsQuietPeriodMs, watchEventsMaxDelayMs);
     }
 
     /**
@@ -342,6 +368,27 @@ public class UserOperatorConfig {
         return maintenanceWindows;
     }
 
+    /**
+     * @return  Number of KafkaUser resources fetched in a single page when listing all users
+     */
+    public int getListPageSize() {
+        return listPageSize;
+    }
+
+    /**
+     * @return  Quiet period in milliseconds used to coalesce the watch events for the same KafkaUser (0 means no coalescing)
+     */
+    public long getWatchEventsQuietPeriodMs() {
+        return watchEventsQuietPeriodMs;
+    }
+
+    /**
+     * @return  Maximal delay in milliseconds of the reconciliation triggered by coalesced watch events
+     */
+    public long getWatchEventsMaxDelayMs() {
+        return watchEventsMaxDelayMs;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -359,6 +406,9 @@ public class UserOperatorConfig {
                 ",clientsCaRenewalDays=" + clientsCaRenewalDays +
                 ",scramPasswordLength=" + scramPasswordLength +
                 ",maintenanceWindows=" + maintenanceWindows +
+                ",listPageSize=" + listPageSize +
+                ",watchEventsQuietPeriodMs=" + watchEventsQuietPeriodMs +
+                ",watchEventsMaxDelayMs=" + watchEventsMaxDelayMs +
                 ")";
     }
 }
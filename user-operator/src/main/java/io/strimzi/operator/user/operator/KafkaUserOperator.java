@@ -72,7 +72,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                              QuotasOperator quotasOperator,
                              SimpleAclOperator aclOperations,
                              UserOperatorConfig config) {
-        super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider(), config.getLabels());
+        super(vertx, "KafkaUser", crdOperator, new MicrometerMetricsProvider(), config.getLabels(), config.getListPageSize(),
+                config.getWatchEventsQuietPeriodMs(), config.getWatchEventsMaxDelayMs());
         this.certManager = certManager;
         this.secretOperations = secretOperations;
         this.scramCredentialsOperator = scramCredentialsOperator;
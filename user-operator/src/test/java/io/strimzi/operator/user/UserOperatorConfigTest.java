@@ -154,6 +154,33 @@ public class UserOperatorConfigTest {
         assertThat(config.isAclsAdminApiSupported(), is(UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED));
     }
 
+    @Test
+    public void testListPageSize()    {
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getListPageSize(), is(UserOperatorConfig.DEFAULT_LIST_PAGE_SIZE));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_LIST_PAGE_SIZE, "100");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getListPageSize(), is(100));
+    }
+
+    @Test
+    public void testWatchEventsCoalescing()    {
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getWatchEventsQuietPeriodMs(), is((long) UserOperatorConfig.DEFAULT_WATCH_EVENTS_QUIET_PERIOD_MS));
+        assertThat(config.getWatchEventsMaxDelayMs(), is((long) UserOperatorConfig.DEFAULT_WATCH_EVENTS_MAX_DELAY_MS));
+
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+        envVars.put(UserOperatorConfig.STRIMZI_WATCH_EVENTS_QUIET_PERIOD_MS, "500");
+        envVars.put(UserOperatorConfig.STRIMZI_WATCH_EVENTS_MAX_DELAY_MS, "10000");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getWatchEventsQuietPeriodMs(), is(500L));
+        assertThat(config.getWatchEventsMaxDelayMs(), is(10_000L));
+    }
+
     @Test
     public void testMaintenanceTimeWindows()    {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);